@@ -1,5 +1,6 @@
 plugins {
     id("smithy-java.module-conventions")
+    alias(libs.plugins.jmh)
 }
 
 description = "This module provides AWS event streaming support"
@@ -9,5 +10,6 @@ extra["moduleName"] = "software.amazon.smithy.java.aws.events"
 
 dependencies {
     api(project(":core"))
-    api("software.amazon.eventstream:eventstream:1.0.1")
 }
+
+jmh {}
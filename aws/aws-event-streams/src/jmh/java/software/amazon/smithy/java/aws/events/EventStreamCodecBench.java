@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.events;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures events per second when encoding frames and when decoding a stream of frames split into chunks.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+public class EventStreamCodecBench {
+    private static final int EVENTS = 100;
+
+    @Param({"64", "4096"})
+    private int payloadSize;
+
+    @Param({"1024", "65536"})
+    private int chunkSize;
+
+    private AwsFrameEncoder encoder;
+    private List<AwsEventFrame> frames;
+    private List<ByteBuffer> chunks;
+
+    @Setup
+    public void setup() {
+        encoder = new AwsFrameEncoder();
+        frames = new ArrayList<>(EVENTS);
+        var stream = ByteBuffer.allocate(EVENTS * (payloadSize + 256));
+        for (int i = 0; i < EVENTS; i++) {
+            var headers = new LinkedHashMap<String, HeaderValue>();
+            headers.put(":message-type", HeaderValue.fromString("event"));
+            headers.put(":event-type", HeaderValue.fromString("chunk"));
+            headers.put(":content-type", HeaderValue.fromString("application/json"));
+            headers.put("sequence", HeaderValue.fromInteger(i));
+            var frame = new AwsEventFrame(new Message(headers, new byte[payloadSize]));
+            frames.add(frame);
+            stream.put(encoder.encode(frame));
+        }
+        stream.flip();
+
+        chunks = new ArrayList<>();
+        while (stream.hasRemaining()) {
+            int length = Math.min(chunkSize, stream.remaining());
+            chunks.add(stream.slice(stream.position(), length));
+            stream.position(stream.position() + length);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void encode(Blackhole bh) {
+        for (var frame : frames) {
+            bh.consume(encoder.encode(frame));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void decode(Blackhole bh) {
+        var decoder = new AwsFrameDecoder(frame -> frame);
+        for (var chunk : chunks) {
+            decoder.decode(chunk.duplicate(), bh::consume);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void decodeEventType(Blackhole bh) {
+        var decoder = new AwsFrameDecoder(frame -> frame);
+        for (var chunk : chunks) {
+            decoder.decode(chunk.duplicate(), frame -> bh.consume(frame.unwrap().getHeader(":event-type")));
+        }
+    }
+}
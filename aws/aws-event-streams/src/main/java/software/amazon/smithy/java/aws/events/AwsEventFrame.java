@@ -5,7 +5,6 @@
 
 package software.amazon.smithy.java.aws.events;
 
-import software.amazon.eventstream.Message;
 import software.amazon.smithy.java.core.serde.event.Frame;
 
 public final class AwsEventFrame implements Frame<Message> {
@@ -6,7 +6,6 @@
 package software.amazon.smithy.java.aws.events;
 
 import java.util.function.Supplier;
-import software.amazon.eventstream.Message;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.core.schema.ShapeBuilder;
@@ -51,10 +50,10 @@ public final class AwsEventShapeDecoder<E extends SerializableStruct> implements
     }
 
     private String getEventType(Message message) {
-        return message.getHeaders().get(":event-type").getString();
+        return message.getHeader(":event-type").getString();
     }
 
     private String getMessageType(Message message) {
-        return message.getHeaders().get(":message-type").getString();
+        return message.getHeader(":message-type").getString();
     }
 }
@@ -6,9 +6,9 @@
 package software.amazon.smithy.java.aws.events;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import software.amazon.eventstream.MessageDecoder;
+import java.util.function.Consumer;
 import software.amazon.smithy.java.core.serde.event.FrameDecoder;
 import software.amazon.smithy.java.core.serde.event.FrameTransformer;
 
@@ -22,12 +22,18 @@ public final class AwsFrameDecoder implements FrameDecoder<AwsEventFrame> {
 
     @Override
     public List<AwsEventFrame> decode(ByteBuffer buffer) {
-        decoder.feed(buffer);
-        return decoder.getDecodedMessages()
-                .stream()
-                .map(AwsEventFrame::new)
-                .map(transformer)
-                .filter(Objects::nonNull)
-                .toList();
+        List<AwsEventFrame> frames = new ArrayList<>();
+        decode(buffer, frames::add);
+        return frames;
+    }
+
+    @Override
+    public void decode(ByteBuffer buffer, Consumer<AwsEventFrame> consumer) {
+        decoder.feed(buffer, message -> {
+            var frame = transformer.apply(new AwsEventFrame(message));
+            if (frame != null) {
+                consumer.accept(frame);
+            }
+        });
     }
 }
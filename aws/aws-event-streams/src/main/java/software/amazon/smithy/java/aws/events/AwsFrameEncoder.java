@@ -6,12 +6,16 @@
 package software.amazon.smithy.java.aws.events;
 
 import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
 import software.amazon.smithy.java.core.serde.event.FrameEncoder;
 
 public final class AwsFrameEncoder implements FrameEncoder<AwsEventFrame> {
 
+    // Frames of a stream are encoded one at a time, so the checksum is reused for each frame.
+    private final CRC32 crc = new CRC32();
+
     @Override
     public ByteBuffer encode(AwsEventFrame frame) {
-        return frame.unwrap().toByteBuffer();
+        return frame.unwrap().encode(crc);
     }
 }
@@ -0,0 +1,272 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.events;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The typed value of an event stream message header.
+ */
+public final class HeaderValue {
+
+    /**
+     * The wire type of a header value.
+     */
+    public enum Type {
+        TRUE,
+        FALSE,
+        BYTE,
+        SHORT,
+        INTEGER,
+        LONG,
+        BYTE_ARRAY,
+        STRING,
+        TIMESTAMP,
+        UUID;
+
+        private static final Type[] VALUES = values();
+
+        static boolean isValidId(int id) {
+            return id >= 0 && id < VALUES.length;
+        }
+
+        static Type fromId(int id) {
+            if (!isValidId(id)) {
+                throw new IllegalArgumentException("Unknown event stream header type: " + id);
+            }
+            return VALUES[id];
+        }
+    }
+
+    private static final HeaderValue TRUE = new HeaderValue(Type.TRUE, true);
+    private static final HeaderValue FALSE = new HeaderValue(Type.FALSE, false);
+
+    private final Type type;
+    private final Object value;
+
+    private HeaderValue(Type type, Object value) {
+        this.type = type;
+        this.value = value;
+    }
+
+    public static HeaderValue fromBoolean(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    public static HeaderValue fromByte(byte value) {
+        return new HeaderValue(Type.BYTE, value);
+    }
+
+    public static HeaderValue fromShort(short value) {
+        return new HeaderValue(Type.SHORT, value);
+    }
+
+    public static HeaderValue fromInteger(int value) {
+        return new HeaderValue(Type.INTEGER, value);
+    }
+
+    public static HeaderValue fromLong(long value) {
+        return new HeaderValue(Type.LONG, value);
+    }
+
+    public static HeaderValue fromByteArray(byte[] value) {
+        return new HeaderValue(Type.BYTE_ARRAY, Objects.requireNonNull(value, "value"));
+    }
+
+    public static HeaderValue fromString(String value) {
+        return new HeaderValue(Type.STRING, Objects.requireNonNull(value, "value"));
+    }
+
+    public static HeaderValue fromTimestamp(Instant value) {
+        return new HeaderValue(Type.TIMESTAMP, Objects.requireNonNull(value, "value"));
+    }
+
+    public static HeaderValue fromUuid(UUID value) {
+        return new HeaderValue(Type.UUID, Objects.requireNonNull(value, "value"));
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public boolean getBoolean() {
+        if (type != Type.TRUE && type != Type.FALSE) {
+            throw wrongType(Type.TRUE);
+        }
+        return (Boolean) value;
+    }
+
+    public byte getByte() {
+        return (Byte) expect(Type.BYTE);
+    }
+
+    public short getShort() {
+        return (Short) expect(Type.SHORT);
+    }
+
+    public int getInteger() {
+        return (Integer) expect(Type.INTEGER);
+    }
+
+    public long getLong() {
+        return (Long) expect(Type.LONG);
+    }
+
+    public byte[] getByteArray() {
+        return ((byte[]) expect(Type.BYTE_ARRAY)).clone();
+    }
+
+    public String getString() {
+        return (String) expect(Type.STRING);
+    }
+
+    public Instant getTimestamp() {
+        return (Instant) expect(Type.TIMESTAMP);
+    }
+
+    public UUID getUuid() {
+        return (UUID) expect(Type.UUID);
+    }
+
+    private Object expect(Type expected) {
+        if (type != expected) {
+            throw wrongType(expected);
+        }
+        return value;
+    }
+
+    private IllegalStateException wrongType(Type expected) {
+        return new IllegalStateException("Expected a " + expected + " header value, but found " + type);
+    }
+
+    // Number of bytes used to encode the value, including its type.
+    int encodedLength() {
+        return 1 + switch (type) {
+            case TRUE, FALSE -> 0;
+            case BYTE -> 1;
+            case SHORT -> 2;
+            case INTEGER -> 4;
+            case LONG, TIMESTAMP -> 8;
+            case BYTE_ARRAY -> 2 + ((byte[]) value).length;
+            case STRING -> 2 + Message.utf8Length((String) value);
+            case UUID -> 16;
+        };
+    }
+
+    void encode(ByteBuffer buffer) {
+        buffer.put((byte) type.ordinal());
+        switch (type) {
+            case TRUE, FALSE -> {
+            }
+            case BYTE -> buffer.put((Byte) value);
+            case SHORT -> buffer.putShort((Short) value);
+            case INTEGER -> buffer.putInt((Integer) value);
+            case LONG -> buffer.putLong((Long) value);
+            case TIMESTAMP -> buffer.putLong(((Instant) value).toEpochMilli());
+            case BYTE_ARRAY -> {
+                var bytes = (byte[]) value;
+                checkLength(bytes.length);
+                buffer.putShort((short) bytes.length).put(bytes);
+            }
+            case STRING -> {
+                var string = (String) value;
+                int length = Message.utf8Length(string);
+                checkLength(length);
+                buffer.putShort((short) length);
+                Message.putUtf8(buffer, string, length);
+            }
+            case UUID -> {
+                var uuid = (UUID) value;
+                buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+            }
+        }
+    }
+
+    private static void checkLength(int length) {
+        if (length > 0xFFFF) {
+            throw new IllegalArgumentException("Event stream header values can't exceed 65535 bytes: " + length);
+        }
+    }
+
+    // Decodes the value at the position of the buffer, which starts with the type of the value.
+    static HeaderValue decode(ByteBuffer buffer) {
+        var type = Type.fromId(buffer.get());
+        return switch (type) {
+            case TRUE -> TRUE;
+            case FALSE -> FALSE;
+            case BYTE -> fromByte(buffer.get());
+            case SHORT -> fromShort(buffer.getShort());
+            case INTEGER -> fromInteger(buffer.getInt());
+            case LONG -> fromLong(buffer.getLong());
+            case TIMESTAMP -> fromTimestamp(Instant.ofEpochMilli(buffer.getLong()));
+            case BYTE_ARRAY -> {
+                var bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+                buffer.get(bytes);
+                yield new HeaderValue(Type.BYTE_ARRAY, bytes);
+            }
+            case STRING -> {
+                int length = Short.toUnsignedInt(buffer.getShort());
+                var string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                        StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                yield fromString(string);
+            }
+            case UUID -> fromUuid(new UUID(buffer.getLong(), buffer.getLong()));
+        };
+    }
+
+    // Skips the value at the position of the buffer, which starts with the type of the value.
+    static void skip(ByteBuffer buffer) {
+        var type = Type.fromId(buffer.get());
+        int length = fixedLength(type);
+        if (length == -1) {
+            length = Short.toUnsignedInt(buffer.getShort());
+        }
+        buffer.position(buffer.position() + length);
+    }
+
+    // Number of bytes in a value of the given type, not including its type, or -1 if the value is prefixed by a
+    // two byte length.
+    static int fixedLength(Type type) {
+        return switch (type) {
+            case TRUE, FALSE -> 0;
+            case BYTE -> 1;
+            case SHORT -> 2;
+            case INTEGER -> 4;
+            case LONG, TIMESTAMP -> 8;
+            case BYTE_ARRAY, STRING -> -1;
+            case UUID -> 16;
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (!(o instanceof HeaderValue other) || type != other.type) {
+            return false;
+        } else if (type == Type.BYTE_ARRAY) {
+            return Arrays.equals((byte[]) value, (byte[]) other.value);
+        } else {
+            return value.equals(other.value);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * type.hashCode() + (type == Type.BYTE_ARRAY ? Arrays.hashCode((byte[]) value) : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return type == Type.BYTE_ARRAY ? "byte[" + ((byte[]) value).length + "]" : String.valueOf(value);
+    }
+}
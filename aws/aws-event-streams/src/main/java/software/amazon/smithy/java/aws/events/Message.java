@@ -0,0 +1,228 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.events;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * An event stream message, made up of headers and a payload.
+ *
+ * <p>Messages are encoded as a prelude containing the total and header lengths and a CRC32 checksum of the prelude,
+ * followed by the headers, the payload, and a CRC32 checksum of the entire message.
+ *
+ * <p>Messages decoded from a stream keep their headers in encoded form until they're accessed, so looking up a
+ * header with {@link #getHeader(String)} only decodes the value of that header, and re-encoding the message copies
+ * the encoded headers as is.
+ */
+public final class Message {
+
+    static final int PRELUDE_LENGTH = 12;
+    static final int CHECKSUM_LENGTH = 4;
+    static final int MIN_MESSAGE_LENGTH = PRELUDE_LENGTH + CHECKSUM_LENGTH;
+    static final int MAX_HEADERS_LENGTH = 128 * 1024;
+    static final int MAX_MESSAGE_LENGTH = 16 * 1024 * 1024 + MAX_HEADERS_LENGTH + MIN_MESSAGE_LENGTH;
+
+    private final byte[] encodedHeaders;
+    private final byte[] payload;
+    private Map<String, HeaderValue> headers;
+
+    /**
+     * Create a message.
+     *
+     * @param headers Headers of the message.
+     * @param payload Payload of the message.
+     */
+    public Message(Map<String, HeaderValue> headers, byte[] payload) {
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        this.payload = Objects.requireNonNull(payload, "payload");
+        this.encodedHeaders = null;
+    }
+
+    Message(byte[] encodedHeaders, byte[] payload) {
+        this.encodedHeaders = encodedHeaders;
+        this.payload = payload;
+    }
+
+    /**
+     * Get all the headers of the message, decoding them if needed.
+     *
+     * @return the headers.
+     */
+    public Map<String, HeaderValue> getHeaders() {
+        var result = headers;
+        if (result == null) {
+            var decoded = new LinkedHashMap<String, HeaderValue>();
+            var buffer = ByteBuffer.wrap(encodedHeaders);
+            while (buffer.hasRemaining()) {
+                int nameLength = Byte.toUnsignedInt(buffer.get());
+                var name = new String(encodedHeaders, buffer.position(), nameLength, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + nameLength);
+                decoded.put(name, HeaderValue.decode(buffer));
+            }
+            result = Collections.unmodifiableMap(decoded);
+            headers = result;
+        }
+        return result;
+    }
+
+    /**
+     * Get a header of the message.
+     *
+     * <p>If the headers haven't been decoded, only the value of the requested header is decoded.
+     *
+     * @param name Name of the header.
+     * @return the header value, or null if the message doesn't have the header.
+     */
+    public HeaderValue getHeader(String name) {
+        if (headers != null) {
+            return headers.get(name);
+        } else if (!isAscii(name)) {
+            return getHeaders().get(name);
+        }
+        var buffer = ByteBuffer.wrap(encodedHeaders);
+        while (buffer.hasRemaining()) {
+            int nameLength = Byte.toUnsignedInt(buffer.get());
+            int nameStart = buffer.position();
+            buffer.position(nameStart + nameLength);
+            if (nameMatches(name, nameStart, nameLength)) {
+                return HeaderValue.decode(buffer);
+            }
+            HeaderValue.skip(buffer);
+        }
+        return null;
+    }
+
+    private boolean nameMatches(String name, int start, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (encodedHeaders[start + i] != (byte) name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the payload of the message.
+     *
+     * @return the payload.
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * Encode the message.
+     *
+     * @return the encoded message.
+     */
+    public ByteBuffer toByteBuffer() {
+        return encode(new CRC32());
+    }
+
+    // Encodes the message into a single buffer of exactly the encoded size, reusing the given checksum.
+    ByteBuffer encode(CRC32 crc) {
+        int headersLength = encodedHeaders != null ? encodedHeaders.length : encodedHeadersLength(headers);
+        if (headersLength > MAX_HEADERS_LENGTH) {
+            throw new IllegalArgumentException("Event stream message headers can't exceed " + MAX_HEADERS_LENGTH
+                    + " bytes: " + headersLength);
+        }
+        long totalLength = (long) MIN_MESSAGE_LENGTH + headersLength + payload.length;
+        if (totalLength > MAX_MESSAGE_LENGTH) {
+            throw new IllegalArgumentException("Event stream messages can't exceed " + MAX_MESSAGE_LENGTH
+                    + " bytes: " + totalLength);
+        }
+
+        var buffer = ByteBuffer.allocate((int) totalLength);
+        var array = buffer.array();
+        buffer.putInt((int) totalLength).putInt(headersLength);
+        crc.reset();
+        crc.update(array, 0, 8);
+        buffer.putInt((int) crc.getValue());
+        if (encodedHeaders != null) {
+            buffer.put(encodedHeaders);
+        } else {
+            for (var entry : headers.entrySet()) {
+                var name = entry.getKey();
+                int nameLength = utf8Length(name);
+                buffer.put((byte) nameLength);
+                putUtf8(buffer, name, nameLength);
+                entry.getValue().encode(buffer);
+            }
+        }
+        buffer.put(payload);
+        crc.reset();
+        crc.update(array, 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return buffer.flip();
+    }
+
+    private static int encodedHeadersLength(Map<String, HeaderValue> headers) {
+        int length = 0;
+        for (var entry : headers.entrySet()) {
+            int nameLength = utf8Length(entry.getKey());
+            if (nameLength == 0 || nameLength > 255) {
+                throw new IllegalArgumentException("Event stream header names must be between 1 and 255 bytes: "
+                        + entry.getKey());
+            }
+            length += 1 + nameLength + entry.getValue().encodedLength();
+        }
+        return length;
+    }
+
+    static int utf8Length(String value) {
+        return isAscii(value) ? value.length() : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    // Writes the UTF-8 encoding of a string, given its encoded length.
+    static void putUtf8(ByteBuffer buffer, String value, int utf8Length) {
+        if (utf8Length == value.length()) {
+            for (int i = 0; i < utf8Length; i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+        } else {
+            buffer.put(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Message other
+                && Arrays.equals(payload, other.payload)
+                && getHeaders().equals(other.getHeaders());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getHeaders().hashCode() + Arrays.hashCode(payload);
+    }
+
+    @Override
+    public String toString() {
+        return "Message{headers=" + getHeaders() + ", payload=byte[" + payload.length + "]}";
+    }
+}
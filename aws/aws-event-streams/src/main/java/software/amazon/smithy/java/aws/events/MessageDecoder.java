@@ -0,0 +1,161 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.events;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import software.amazon.smithy.java.core.serde.SerializationException;
+
+/**
+ * Incrementally decodes event stream messages from buffers of bytes.
+ *
+ * <p>Messages that are entirely contained in a buffer are decoded directly from it, copying only their headers and
+ * payload out of the buffer. Only messages that span buffers are first accumulated in a partial message buffer,
+ * which is reused for each message.
+ */
+final class MessageDecoder {
+
+    private static final int INITIAL_PARTIAL_SIZE = 8 * 1024;
+
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer partial = ByteBuffer.allocate(INITIAL_PARTIAL_SIZE);
+
+    /**
+     * Decodes all the complete messages in the buffer, holding on to any trailing partial message.
+     *
+     * @param buffer Bytes to decode.
+     * @param consumer Consumer that receives each decoded message.
+     * @throws SerializationException if a message is malformed.
+     */
+    void feed(ByteBuffer buffer, Consumer<Message> consumer) {
+        while (buffer.hasRemaining()) {
+            if (partial.position() == 0 && buffer.remaining() >= Message.PRELUDE_LENGTH) {
+                int length = readPrelude(buffer, buffer.position());
+                if (buffer.remaining() >= length) {
+                    consumer.accept(decode(buffer, length));
+                    continue;
+                }
+            }
+            if (fillPartial(buffer)) {
+                partial.flip();
+                var message = decode(partial, partial.remaining());
+                if (partial.capacity() > INITIAL_PARTIAL_SIZE) {
+                    // Don't hold on to the memory of unusually large messages.
+                    partial = ByteBuffer.allocate(INITIAL_PARTIAL_SIZE);
+                } else {
+                    partial.clear();
+                }
+                consumer.accept(message);
+            }
+        }
+    }
+
+    // Copies bytes of the current message into the partial buffer, and returns true if the message is complete.
+    private boolean fillPartial(ByteBuffer buffer) {
+        if (partial.position() < Message.PRELUDE_LENGTH) {
+            transfer(buffer, Message.PRELUDE_LENGTH - partial.position());
+            if (partial.position() < Message.PRELUDE_LENGTH) {
+                return false;
+            }
+            int length = readPrelude(partial, 0);
+            if (length > partial.capacity()) {
+                var larger = ByteBuffer.allocate(length);
+                partial.flip();
+                larger.put(partial);
+                partial = larger;
+            }
+            partial.limit(length);
+        }
+        transfer(buffer, partial.remaining());
+        return !partial.hasRemaining();
+    }
+
+    private void transfer(ByteBuffer buffer, int maxBytes) {
+        int count = Math.min(maxBytes, buffer.remaining());
+        partial.put(partial.position(), buffer, buffer.position(), count);
+        partial.position(partial.position() + count);
+        buffer.position(buffer.position() + count);
+    }
+
+    // Validates the prelude that starts at the given offset and returns the total length of the message.
+    private int readPrelude(ByteBuffer buffer, int offset) {
+        int totalLength = buffer.getInt(offset);
+        int headersLength = buffer.getInt(offset + 4);
+        if (totalLength < Message.MIN_MESSAGE_LENGTH || totalLength > Message.MAX_MESSAGE_LENGTH) {
+            throw new SerializationException("Invalid event stream message length: " + Integer.toUnsignedString(
+                    totalLength));
+        } else if (headersLength < 0
+                || headersLength > Message.MAX_HEADERS_LENGTH
+                || headersLength > totalLength - Message.MIN_MESSAGE_LENGTH) {
+            throw new SerializationException("Invalid event stream headers length: " + Integer.toUnsignedString(
+                    headersLength));
+        }
+        checksum(buffer, offset, 8, buffer.getInt(offset + 8), "prelude");
+        return totalLength;
+    }
+
+    // Decodes the message at the position of the buffer, and advances the buffer past the message.
+    private Message decode(ByteBuffer buffer, int length) {
+        int start = buffer.position();
+        int messageChecksumOffset = start + length - Message.CHECKSUM_LENGTH;
+        checksum(buffer, start, length - Message.CHECKSUM_LENGTH, buffer.getInt(messageChecksumOffset), "message");
+        int headersLength = buffer.getInt(start + 4);
+        int payloadOffset = start + Message.PRELUDE_LENGTH + headersLength;
+        var headers = new byte[headersLength];
+        buffer.get(start + Message.PRELUDE_LENGTH, headers);
+        validateHeaders(headers);
+        var payload = new byte[messageChecksumOffset - payloadOffset];
+        buffer.get(payloadOffset, payload);
+        buffer.position(start + length);
+        return new Message(headers, payload);
+    }
+
+    // Checks that the encoded headers are well-formed, so that they can be lazily decoded later without failing.
+    private static void validateHeaders(byte[] headers) {
+        int position = 0;
+        while (position < headers.length) {
+            int nameLength = Byte.toUnsignedInt(headers[position++]);
+            if (nameLength == 0) {
+                throw new SerializationException("Invalid event stream header name length: 0");
+            }
+            // The name must be followed by at least the type of the value.
+            requireHeaderBytes(headers, position, nameLength + 1);
+            position += nameLength;
+            int typeId = headers[position++];
+            if (!HeaderValue.Type.isValidId(typeId)) {
+                throw new SerializationException("Unknown event stream header type: " + typeId);
+            }
+            int valueLength = HeaderValue.fixedLength(HeaderValue.Type.fromId(typeId));
+            if (valueLength == -1) {
+                requireHeaderBytes(headers, position, 2);
+                valueLength = ((headers[position] & 0xFF) << 8) | (headers[position + 1] & 0xFF);
+                position += 2;
+            }
+            requireHeaderBytes(headers, position, valueLength);
+            position += valueLength;
+        }
+    }
+
+    private static void requireHeaderBytes(byte[] headers, int position, int length) {
+        if (length > headers.length - position) {
+            throw new SerializationException("Truncated event stream header at offset " + position);
+        }
+    }
+
+    private void checksum(ByteBuffer buffer, int offset, int length, int expected, String section) {
+        crc.reset();
+        if (buffer.hasArray()) {
+            crc.update(buffer.array(), buffer.arrayOffset() + offset, length);
+        } else {
+            crc.update(buffer.duplicate().limit(offset + length).position(offset));
+        }
+        if ((int) crc.getValue() != expected) {
+            throw new SerializationException("Event stream " + section + " checksum mismatch: expected "
+                    + Integer.toHexString(expected) + " but computed " + Long.toHexString(crc.getValue()));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.events;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static software.amazon.smithy.java.aws.events.MessageTest.decode;
+import static software.amazon.smithy.java.aws.events.MessageTest.messageWithAllHeaderTypes;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.java.core.serde.SerializationException;
+
+public class MessageDecoderTest {
+
+    @Test
+    public void decodesMessagesSplitAtEveryOffset() {
+        var first = messageWithAllHeaderTypes();
+        var second = new Message(Map.of("a", HeaderValue.fromInteger(1)), new byte[] {9});
+        var bytes = concat(first.toByteBuffer(), second.toByteBuffer(), first.toByteBuffer());
+
+        for (int split = 0; split <= bytes.length; split++) {
+            var decoded = decode(
+                    ByteBuffer.wrap(bytes, 0, split).slice(),
+                    ByteBuffer.wrap(bytes, split, bytes.length - split).slice());
+
+            assertThat("split at " + split, decoded, equalTo(List.of(first, second, first)));
+        }
+    }
+
+    @Test
+    public void decodesMessagesFedOneByteAtATime() {
+        var message = messageWithAllHeaderTypes();
+        var bytes = concat(message.toByteBuffer(), message.toByteBuffer());
+        var decoder = new MessageDecoder();
+        List<Message> decoded = new ArrayList<>();
+
+        for (var b : bytes) {
+            decoder.feed(ByteBuffer.wrap(new byte[] {b}), decoded::add);
+        }
+
+        assertThat(decoded, equalTo(List.of(message, message)));
+    }
+
+    @Test
+    public void holdsOnToTruncatedFramesUntilTheyAreComplete() {
+        var message = messageWithAllHeaderTypes();
+        var bytes = concat(message.toByteBuffer());
+        var decoder = new MessageDecoder();
+        List<Message> decoded = new ArrayList<>();
+
+        decoder.feed(ByteBuffer.wrap(bytes, 0, bytes.length - 1), decoded::add);
+        assertThat(decoded, empty());
+
+        decoder.feed(ByteBuffer.wrap(bytes, bytes.length - 1, 1), decoded::add);
+        assertThat(decoded, equalTo(List.of(message)));
+    }
+
+    @Test
+    public void decodesDirectBuffers() {
+        var message = messageWithAllHeaderTypes();
+        var encoded = message.toByteBuffer();
+        var direct = ByteBuffer.allocateDirect(encoded.remaining()).put(encoded).flip();
+
+        assertThat(decode(direct), equalTo(List.of(message)));
+    }
+
+    @Test
+    public void failsOnPreludeChecksumMismatch() {
+        var bytes = concat(messageWithAllHeaderTypes().toByteBuffer());
+        bytes[8] ^= 1;
+
+        var e = assertThrows(SerializationException.class, () -> decode(ByteBuffer.wrap(bytes)));
+        assertThat(e.getMessage(), containsString("prelude checksum mismatch"));
+    }
+
+    @Test
+    public void failsOnMessageChecksumMismatch() {
+        var bytes = concat(messageWithAllHeaderTypes().toByteBuffer());
+        bytes[bytes.length - 5] ^= 1;
+
+        var e = assertThrows(SerializationException.class, () -> decode(ByteBuffer.wrap(bytes)));
+        assertThat(e.getMessage(), containsString("message checksum mismatch"));
+    }
+
+    @Test
+    public void failsOnChecksumMismatchOfMessagesThatSpanBuffers() {
+        var bytes = concat(messageWithAllHeaderTypes().toByteBuffer());
+        bytes[bytes.length - 1] ^= 1;
+
+        var e = assertThrows(SerializationException.class,
+                () -> decode(ByteBuffer.wrap(bytes, 0, 20), ByteBuffer.wrap(bytes, 20, bytes.length - 20)));
+        assertThat(e.getMessage(), containsString("message checksum mismatch"));
+    }
+
+    @Test
+    public void failsOnInvalidLengths() {
+        var tooShort = prelude(Message.MIN_MESSAGE_LENGTH - 1, 0);
+        var headersTooLong = prelude(Message.MIN_MESSAGE_LENGTH + 4, 5);
+
+        var e1 = assertThrows(SerializationException.class, () -> decode(ByteBuffer.wrap(tooShort)));
+        var e2 = assertThrows(SerializationException.class, () -> decode(ByteBuffer.wrap(headersTooLong)));
+        assertThat(e1.getMessage(), containsString("message length"));
+        assertThat(e2.getMessage(), containsString("headers length"));
+    }
+
+    static Stream<Arguments> malformedHeaders() {
+        return Stream.of(
+                Arguments.of("empty name", new byte[] {0, 0}, "name length"),
+                Arguments.of("name past the end", new byte[] {5, 'a', 'b'}, "Truncated"),
+                Arguments.of("missing type", new byte[] {1, 'a'}, "Truncated"),
+                Arguments.of("unknown type", new byte[] {1, 'a', 10}, "Unknown event stream header type: 10"),
+                Arguments.of("negative type", new byte[] {1, 'a', -1}, "Unknown event stream header type: -1"),
+                Arguments.of("truncated integer", new byte[] {1, 'a', 4, 0, 0, 0}, "Truncated"),
+                Arguments.of("truncated string length", new byte[] {1, 'a', 7, 0}, "Truncated"),
+                Arguments.of("truncated string", new byte[] {1, 'a', 7, 0, 3, 'x', 'y'}, "Truncated"),
+                Arguments.of("truncated second header", new byte[] {1, 'a', 0, 1, 'b', 9, 0}, "Truncated"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("malformedHeaders")
+    public void failsOnMalformedHeaders(String description, byte[] headers, String expectedMessage) {
+        var encoded = new Message(headers, "payload".getBytes(StandardCharsets.UTF_8)).encode(new CRC32());
+
+        var e = assertThrows(SerializationException.class, () -> decode(encoded));
+        assertThat(e.getMessage(), containsString(expectedMessage));
+    }
+
+    private static byte[] concat(ByteBuffer... buffers) {
+        int length = 0;
+        for (var buffer : buffers) {
+            length += buffer.remaining();
+        }
+        var result = ByteBuffer.allocate(length);
+        for (var buffer : buffers) {
+            result.put(buffer);
+        }
+        return result.array();
+    }
+
+    // A prelude with a valid checksum, followed by enough bytes to make up the given total length.
+    private static byte[] prelude(int totalLength, int headersLength) {
+        var buffer = ByteBuffer.allocate(Math.max(totalLength, Message.PRELUDE_LENGTH));
+        buffer.putInt(totalLength).putInt(headersLength);
+        var crc = new CRC32();
+        crc.update(buffer.array(), 0, 8);
+        buffer.putInt((int) crc.getValue());
+        return buffer.array();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.events;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class MessageTest {
+
+    static Message messageWithAllHeaderTypes() {
+        Map<String, HeaderValue> headers = new LinkedHashMap<>();
+        headers.put("true", HeaderValue.fromBoolean(true));
+        headers.put("false", HeaderValue.fromBoolean(false));
+        headers.put("byte", HeaderValue.fromByte((byte) -1));
+        headers.put("short", HeaderValue.fromShort((short) 300));
+        headers.put("integer", HeaderValue.fromInteger(-70000));
+        headers.put("long", HeaderValue.fromLong(Long.MAX_VALUE));
+        headers.put("bytes", HeaderValue.fromByteArray(new byte[] {1, 2, 3}));
+        headers.put(":event-type", HeaderValue.fromString("h\u00e9llo"));
+        headers.put("timestamp", HeaderValue.fromTimestamp(Instant.ofEpochMilli(1_700_000_000_123L)));
+        headers.put("uuid", HeaderValue.fromUuid(new UUID(1, 2)));
+        headers.put("\u00fcnicode", HeaderValue.fromString(""));
+        return new Message(headers, "payload".getBytes(StandardCharsets.UTF_8));
+    }
+
+    static List<Message> decode(ByteBuffer... buffers) {
+        var decoder = new MessageDecoder();
+        List<Message> messages = new ArrayList<>();
+        for (var buffer : buffers) {
+            decoder.feed(buffer, messages::add);
+        }
+        return messages;
+    }
+
+    @Test
+    public void roundTripsAllHeaderTypes() {
+        var message = messageWithAllHeaderTypes();
+
+        var decoded = decode(message.toByteBuffer());
+
+        assertThat(decoded, hasSize(1));
+        assertThat(decoded.get(0), equalTo(message));
+        assertThat(decoded.get(0).getHeaders(), equalTo(message.getHeaders()));
+        assertThat(new String(decoded.get(0).getPayload(), StandardCharsets.UTF_8), equalTo("payload"));
+    }
+
+    @Test
+    public void looksUpHeadersWithoutDecodingAllOfThem() {
+        var decoded = decode(messageWithAllHeaderTypes().toByteBuffer()).get(0);
+
+        assertThat(decoded.getHeader(":event-type").getString(), equalTo("h\u00e9llo"));
+        assertThat(decoded.getHeader("uuid").getUuid(), equalTo(new UUID(1, 2)));
+        assertThat(decoded.getHeader("\u00fcnicode").getString(), equalTo(""));
+        assertThat(decoded.getHeader("missing"), nullValue());
+    }
+
+    @Test
+    public void reencodesDecodedMessagesAsIs() {
+        var encoded = messageWithAllHeaderTypes().toByteBuffer();
+
+        var decoded = decode(encoded.duplicate()).get(0);
+
+        assertThat(decoded.toByteBuffer(), equalTo(encoded));
+    }
+
+    @Test
+    public void encodesEmptyMessages() {
+        var message = new Message(Map.of(), new byte[0]);
+        var encoded = message.toByteBuffer();
+
+        assertThat(encoded.remaining(), equalTo(Message.MIN_MESSAGE_LENGTH));
+        assertThat(decode(encoded), equalTo(List.of(message)));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.client.auth.scheme.sigv4;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import software.amazon.smithy.java.aws.auth.api.identity.AwsCredentialsIdentity;
+import software.amazon.smithy.java.context.Context;
+import software.amazon.smithy.java.http.api.HttpRequest;
+import software.amazon.smithy.java.http.api.HttpVersion;
+
+/**
+ * Measures presigned requests per second, presigning requests one at a time and in batches.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+public class SigV4PresignerTrials {
+    private static final int BATCH_SIZE = 100;
+    private static final Duration EXPIRATION = Duration.ofMinutes(15);
+    private static final AwsCredentialsIdentity TEST_IDENTITY = AwsCredentialsIdentity.create(
+            "access-key",
+            "secret-key");
+
+    private static final Context TEST_PROPERTIES;
+    static {
+        var ctx = Context.create();
+        ctx.put(SigV4Settings.SIGNING_NAME, "s3");
+        ctx.put(SigV4Settings.REGION, "us-east-1");
+        ctx.put(SigV4Settings.PAYLOAD_SIGNING_MODE, PayloadSigningMode.UNSIGNED);
+        TEST_PROPERTIES = Context.unmodifiableView(ctx);
+    }
+
+    private SigV4Presigner presigner;
+    private HttpRequest request;
+    private List<HttpRequest> batch;
+
+    @Setup
+    public void setup() {
+        presigner = SigV4Presigner.create();
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(HttpRequest.builder()
+                    .method("GET")
+                    .httpVersion(HttpVersion.HTTP_1_1)
+                    .uri(URI.create("https://bucket.s3.amazonaws.com/objects/key-" + i))
+                    .build());
+        }
+        request = batch.get(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        presigner.close();
+    }
+
+    @Benchmark
+    public HttpRequest presign() {
+        return presigner.presign(request, TEST_IDENTITY, TEST_PROPERTIES, EXPIRATION);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<HttpRequest> presignBatch() {
+        return presigner.presignAll(batch, TEST_IDENTITY, TEST_PROPERTIES, EXPIRATION);
+    }
+}
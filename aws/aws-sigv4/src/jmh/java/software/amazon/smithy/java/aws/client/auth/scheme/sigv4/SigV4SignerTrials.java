@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
@@ -22,6 +23,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import software.amazon.smithy.java.auth.api.Signer;
 import software.amazon.smithy.java.aws.auth.api.identity.AwsCredentialsIdentity;
 import software.amazon.smithy.java.context.Context;
@@ -39,6 +41,10 @@ public class SigV4SignerTrials {
             "access-key",
             "secret-key");
 
+    // Identities used by concurrent signers, so that threads hit different entries of the signing key cache.
+    private static final int CONCURRENT_IDENTITIES = 64;
+    private static final AtomicInteger NEXT_IDENTITY = new AtomicInteger();
+
     private static final Context TEST_PROPERTIES;
     static {
         var ctx = Context.create();
@@ -89,6 +95,7 @@ public class SigV4SignerTrials {
     private boolean skipTest;
     private HttpRequest request;
     private Signer<HttpRequest, AwsCredentialsIdentity> signer;
+    private AwsCredentialsIdentity concurrentIdentity;
 
     @Setup
     public void setup() throws Exception {
@@ -107,6 +114,8 @@ public class SigV4SignerTrials {
 
         request = CASES.get(testName);
         signer = SigV4Signer.create();
+        int identity = NEXT_IDENTITY.getAndIncrement() % CONCURRENT_IDENTITIES;
+        concurrentIdentity = AwsCredentialsIdentity.create("access-key-" + identity, "secret-key-" + identity);
     }
 
     @Benchmark
@@ -118,6 +127,18 @@ public class SigV4SignerTrials {
         }
     }
 
+    @Benchmark
+    @Threads(8)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void signConcurrently() throws IOException, ExecutionException, InterruptedException {
+        if (!skipTest) {
+            signer.sign(request, concurrentIdentity, TEST_PROPERTIES).get();
+        } else {
+            System.out.println("Skipping benchmark on Windows");
+        }
+    }
+
     private static HttpRequest parsePostRequest(
             Map<String, String> queryParameters,
             Map<String, List<String>> headers,
@@ -0,0 +1,269 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.client.auth.scheme.sigv4;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.crypto.Mac;
+import software.amazon.smithy.java.io.datastream.DataStream;
+
+/**
+ * Encodes a payload using {@code aws-chunked} content encoding, signing each chunk as it's read.
+ *
+ * <p>Each chunk is framed as {@code hex(size);chunk-signature=signature\r\n data \r\n}, and the payload ends with an
+ * empty chunk. The signature of each chunk covers the hash of its data and the signature of the previous chunk,
+ * starting from the seed signature of the request. Chunks are signed as the wrapped stream is read, so the payload
+ * is never buffered beyond a single chunk.
+ *
+ * @see <a href="https://docs.aws.amazon.com/AmazonS3/latest/API/sigv4-streaming.html">Signature Calculations for
+ * the Authorization Header: Transferring Payload in Multiple Chunks</a>
+ */
+final class AwsChunkedDataStream implements DataStream {
+
+    static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    static final String STREAMING_PAYLOAD = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD";
+    static final String EMPTY_PAYLOAD_HASH = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+    private static final String CHUNK_ALGORITHM = "AWS4-HMAC-SHA256-PAYLOAD";
+    private static final String CHUNK_SIGNATURE = ";chunk-signature=";
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final DataStream delegate;
+    private final SigningKey signingKey;
+    private final String requestTime;
+    private final String scope;
+    private final String seedSignature;
+    private final int chunkSize;
+    private final long contentLength;
+
+    AwsChunkedDataStream(
+            DataStream delegate,
+            SigningKey signingKey,
+            String requestTime,
+            String scope,
+            String seedSignature,
+            int chunkSize
+    ) {
+        if (!delegate.hasKnownLength()) {
+            throw new IllegalArgumentException("aws-chunked encoding requires a payload with a known length");
+        }
+        this.delegate = delegate;
+        this.signingKey = signingKey;
+        this.requestTime = requestTime;
+        this.scope = scope;
+        this.seedSignature = seedSignature;
+        this.chunkSize = chunkSize;
+        this.contentLength = encodedLength(delegate.contentLength(), chunkSize);
+    }
+
+    /**
+     * Computes the length of a payload after it's encoded with aws-chunked encoding.
+     *
+     * @param decodedLength Length of the payload.
+     * @param chunkSize Size of each chunk, other than the last chunk with data.
+     * @return the encoded length.
+     */
+    static long encodedLength(long decodedLength, int chunkSize) {
+        long length = (decodedLength / chunkSize) * chunkLength(chunkSize);
+        long remainder = decodedLength % chunkSize;
+        if (remainder > 0) {
+            length += chunkLength(remainder);
+        }
+        // The payload ends with an empty chunk.
+        return length + chunkLength(0);
+    }
+
+    private static long chunkLength(long dataLength) {
+        return Long.toHexString(dataLength).length()
+                + CHUNK_SIGNATURE.length()
+                + SIGNATURE_LENGTH
+                + CRLF.length
+                + dataLength
+                + CRLF.length;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public boolean hasKnownLength() {
+        return true;
+    }
+
+    @Override
+    public String contentType() {
+        return delegate.contentType();
+    }
+
+    @Override
+    public boolean isReplayable() {
+        return delegate.isReplayable();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        // Each subscription starts a new signature chain from the seed signature.
+        delegate.subscribe(new ChunkSigningSubscriber(subscriber));
+    }
+
+    /**
+     * Buffers bytes from the wrapped stream into chunks, and emits each signed chunk when downstream requests it.
+     */
+    private final class ChunkSigningSubscriber implements Flow.Subscriber<ByteBuffer>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> downstream;
+        private final ByteBuffer chunk = ByteBuffer.allocate(chunkSize);
+        private final Queue<ByteBuffer> frames = new ConcurrentLinkedQueue<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final MessageDigest sha256Digest;
+        private final Mac sha256Mac;
+        private Flow.Subscription upstream;
+        private String previousSignature = seedSignature;
+        private volatile boolean awaitingUpstream;
+        private volatile boolean upstreamDone;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        private boolean done;
+
+        ChunkSigningSubscriber(Flow.Subscriber<? super ByteBuffer> downstream) {
+            this.downstream = downstream;
+            try {
+                this.sha256Digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException("Unable to create chunk signer", e);
+            }
+            this.sha256Mac = signingKey.newMac();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            awaitingUpstream = false;
+            while (item.hasRemaining()) {
+                int n = Math.min(item.remaining(), chunk.remaining());
+                chunk.put(item.slice(item.position(), n));
+                item.position(item.position() + n);
+                if (!chunk.hasRemaining()) {
+                    frames.add(frame());
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (chunk.position() > 0) {
+                frames.add(frame());
+            }
+            frames.add(frame());
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested demand must be positive: " + n);
+                upstream.cancel();
+                upstreamDone = true;
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstream.cancel();
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (cancelled) {
+                    frames.clear();
+                } else if (error != null) {
+                    frames.clear();
+                    if (!done) {
+                        done = true;
+                        downstream.onError(error);
+                    }
+                } else {
+                    ByteBuffer frame;
+                    while (demand.get() > 0 && (frame = frames.poll()) != null) {
+                        demand.decrementAndGet();
+                        downstream.onNext(frame);
+                    }
+                    if (frames.isEmpty() && !done) {
+                        if (upstreamDone) {
+                            done = true;
+                            downstream.onComplete();
+                        } else if (demand.get() > 0 && !awaitingUpstream) {
+                            awaitingUpstream = true;
+                            upstream.request(1);
+                        }
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        // Signs and frames the buffered chunk, and then clears it for the next chunk.
+        private ByteBuffer frame() {
+            chunk.flip();
+            int length = chunk.remaining();
+            var signature = signChunk(chunk.duplicate());
+            var header = (Integer.toHexString(length) + CHUNK_SIGNATURE + signature).getBytes(StandardCharsets.US_ASCII);
+            var frame = ByteBuffer.allocate(header.length + CRLF.length + length + CRLF.length);
+            frame.put(header).put(CRLF).put(chunk).put(CRLF).flip();
+            chunk.clear();
+            return frame;
+        }
+
+        private String signChunk(ByteBuffer data) {
+            sha256Digest.reset();
+            sha256Digest.update(data);
+            var stringToSign = CHUNK_ALGORITHM + '\n'
+                    + requestTime + '\n'
+                    + scope + '\n'
+                    + previousSignature + '\n'
+                    + EMPTY_PAYLOAD_HASH + '\n'
+                    + HexFormat.of().formatHex(sha256Digest.digest());
+            previousSignature = HexFormat.of()
+                    .formatHex(sha256Mac.doFinal(stringToSign.getBytes(StandardCharsets.UTF_8)));
+            return previousSignature;
+        }
+    }
+}
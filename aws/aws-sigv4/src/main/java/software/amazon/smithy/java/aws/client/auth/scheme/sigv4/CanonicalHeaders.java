@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.client.auth.scheme.sigv4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A reusable set of the headers to sign, keyed by lowercase header name.
+ *
+ * <p>Headers are stored in parallel arrays and sorted through an index array, so a pooled instance can be reused
+ * to sign many requests without allocating a sorted map for each of them.
+ */
+final class CanonicalHeaders {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String[] names = new String[INITIAL_CAPACITY];
+    private List<?>[] values = new List<?>[INITIAL_CAPACITY];
+    private int[] order = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds a header, replacing the values of the header if it was already added.
+     *
+     * @param name Lowercase header name.
+     * @param headerValues Header values.
+     */
+    void put(String name, List<String> headerValues) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                values[i] = headerValues;
+                return;
+            }
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+            order = new int[size * 2];
+        }
+        names[size] = name;
+        values[size] = headerValues;
+        size++;
+    }
+
+    /**
+     * Adds a header, appending its values to the values of the header if it was already added.
+     *
+     * <p>This merges headers whose names only differ by case, which must be signed as a single header.
+     *
+     * @param name Lowercase header name.
+     * @param headerValues Header values.
+     */
+    void add(String name, List<String> headerValues) {
+        var existing = get(name);
+        if (existing == null) {
+            put(name, headerValues);
+        } else {
+            List<String> merged = new ArrayList<>(existing.size() + headerValues.size());
+            merged.addAll(existing);
+            merged.addAll(headerValues);
+            put(name, merged);
+        }
+    }
+
+    /**
+     * @return the values of the header, or null if it wasn't added.
+     */
+    List<String> get(String name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                return values(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sorts the headers by name so that {@link #name} and {@link #sortedValues} return them in canonical order.
+     */
+    void sort() {
+        // Requests rarely have more than a few dozen headers, so an insertion sort is used.
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            int j = i - 1;
+            for (; j >= 0 && names[order[j]].compareTo(names[index]) > 0; j--) {
+                order[j + 1] = order[j];
+            }
+            order[j + 1] = index;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the name of the header at the given position in sorted order.
+     */
+    String name(int position) {
+        return names[order[position]];
+    }
+
+    /**
+     * @return the values of the header at the given position in sorted order.
+     */
+    List<String> sortedValues(int position) {
+        return values(order[position]);
+    }
+
+    /**
+     * Removes all headers, releasing references to them.
+     */
+    void clear() {
+        Arrays.fill(names, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> values(int index) {
+        return (List<String>) values[index];
+    }
+}
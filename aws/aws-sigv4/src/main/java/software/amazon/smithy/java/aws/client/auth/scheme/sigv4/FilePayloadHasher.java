@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.client.auth.scheme.sigv4;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Hashes request payloads that are read from a file without reading the file onto the heap.
+ *
+ * <p>Large files are hashed from memory-mapped regions of the file, and small files are read through a small
+ * buffer. Hashes can optionally be cached by file version (path, size, and last modified time) so that uploading
+ * the same file again doesn't need to read it again. The cache is bounded and has a FIFO eviction policy.
+ */
+final class FilePayloadHasher {
+
+    // Mapping a file has a fixed cost, so smaller files are read instead.
+    private static final long MAP_THRESHOLD = 1024 * 1024;
+    private static final long MAX_REGION_SIZE = 64L * 1024 * 1024;
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+
+    private final LinkedHashMap<FileVersion, String> fifoStore;
+    private final StampedLock lock = new StampedLock();
+
+    FilePayloadHasher(int maxCachedHashes) {
+        if (maxCachedHashes < 1) {
+            throw new IllegalArgumentException("maxCachedHashes " + maxCachedHashes + " must be at least 1");
+        }
+        this.fifoStore = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FileVersion, String> eldest) {
+                return size() > maxCachedHashes;
+            }
+        };
+    }
+
+    /**
+     * Computes the hex-encoded hash of a file.
+     *
+     * @param file File to hash.
+     * @param expectedSize Number of bytes the payload is expected to contain.
+     * @param digest Digest used to compute the hash.
+     * @param useCache Whether to get and store the hash of the current version of the file in the cache.
+     * @return the hash, or null if the file doesn't contain the expected number of bytes.
+     * @throws IOException if the file can't be read.
+     */
+    String hexHash(Path file, long expectedSize, MessageDigest digest, boolean useCache) throws IOException {
+        FileVersion version = null;
+        if (useCache) {
+            version = FileVersion.of(file);
+            if (version.size() != expectedSize) {
+                return null;
+            }
+            var cached = get(version);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        String hash;
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != expectedSize) {
+                return null;
+            }
+            digest.reset();
+            if (expectedSize < MAP_THRESHOLD) {
+                read(channel, expectedSize, digest);
+            } else {
+                map(channel, expectedSize, digest);
+            }
+            hash = HexFormat.of().formatHex(digest.digest());
+        }
+
+        // Only cache the hash if the file didn't change while it was hashed.
+        if (useCache && version.equals(FileVersion.of(file))) {
+            put(version, hash);
+        }
+        return hash;
+    }
+
+    private static void read(FileChannel channel, long size, MessageDigest digest) throws IOException {
+        var buffer = ByteBuffer.allocate((int) Math.min(size, READ_BUFFER_SIZE));
+        long remaining = size;
+        while (remaining > 0) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), remaining));
+            int read = channel.read(buffer);
+            if (read < 0) {
+                throw new IOException("File was truncated while being hashed");
+            }
+            buffer.flip();
+            digest.update(buffer);
+            remaining -= read;
+        }
+    }
+
+    private static void map(FileChannel channel, long size, MessageDigest digest) throws IOException {
+        for (long position = 0; position < size; position += MAX_REGION_SIZE) {
+            long length = Math.min(MAX_REGION_SIZE, size - position);
+            digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+        }
+    }
+
+    private String get(FileVersion version) {
+        long stamp = lock.readLock();
+        try {
+            return fifoStore.get(version);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void put(FileVersion version, String hash) {
+        long stamp = lock.writeLock();
+        try {
+            fifoStore.put(version, hash);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private record FileVersion(Path path, long size, FileTime lastModifiedTime) {
+        static FileVersion of(Path file) throws IOException {
+            var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new FileVersion(file.toAbsolutePath().normalize(), attributes.size(), attributes.lastModifiedTime());
+        }
+    }
+}
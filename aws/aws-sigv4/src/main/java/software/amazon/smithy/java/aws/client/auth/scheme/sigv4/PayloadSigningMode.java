@@ -0,0 +1,36 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.client.auth.scheme.sigv4;
+
+/**
+ * Determines how the payload of a request is included in its SigV4 signature.
+ */
+public enum PayloadSigningMode {
+    /**
+     * Hash the entire payload before the request is sent, and include the hash in the signature.
+     *
+     * <p>This is the default. The payload is hashed incrementally as it's read, but it's read once to compute the
+     * signature and again when the request is sent, so the payload should be replayable.
+     */
+    SIGNED,
+
+    /**
+     * Don't sign the payload, and send {@code UNSIGNED-PAYLOAD} in place of the payload hash.
+     *
+     * <p>The integrity of the payload then relies on TLS, so this mode is only used for HTTPS requests. Requests
+     * sent over plain HTTP fall back to {@link #SIGNED}.
+     */
+    UNSIGNED,
+
+    /**
+     * Send the payload using {@code aws-chunked} content encoding, signing each chunk as it's sent.
+     *
+     * <p>Each chunk signature is derived from the signature of the previous chunk, starting with the signature of
+     * the request, so the payload is never buffered or read twice. This requires a payload with a known length.
+     * Requests with a payload of unknown length fall back to {@link #SIGNED}.
+     */
+    STREAMING
+}
@@ -64,6 +64,14 @@ public final class SigV4AuthScheme implements AuthScheme<HttpRequest, AwsCredent
         if (clock != null) {
             ctx.put(SigV4Settings.CLOCK, clock);
         }
+        var payloadSigningMode = context.get(SigV4Settings.PAYLOAD_SIGNING_MODE);
+        if (payloadSigningMode != null) {
+            ctx.put(SigV4Settings.PAYLOAD_SIGNING_MODE, payloadSigningMode);
+        }
+        var cacheFilePayloadHashes = context.get(SigV4Settings.CACHE_FILE_PAYLOAD_HASHES);
+        if (cacheFilePayloadHashes != null) {
+            ctx.put(SigV4Settings.CACHE_FILE_PAYLOAD_HASHES, cacheFilePayloadHashes);
+        }
         return Context.unmodifiableView(ctx);
     }
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.client.auth.scheme.sigv4;
+
+import java.time.Duration;
+import java.util.List;
+import software.amazon.smithy.java.aws.auth.api.identity.AwsCredentialsIdentity;
+import software.amazon.smithy.java.context.Context;
+import software.amazon.smithy.java.http.api.HttpRequest;
+
+/**
+ * Creates presigned requests using AWS Signature Version 4 query string signing.
+ *
+ * <p>A presigned request carries its signature in the query string of its URI, so the URI can be handed to another
+ * client that sends the request without credentials. Presigning doesn't send any requests.
+ *
+ * <p>The signed headers of a presigned request are the {@code host} header and any headers of the given request, so
+ * the headers of the request must be sent with the presigned URI. Presigning uses the {@link SigV4Settings#REGION},
+ * {@link SigV4Settings#SIGNING_NAME}, {@link SigV4Settings#CLOCK}, and {@link SigV4Settings#PAYLOAD_SIGNING_MODE}
+ * properties. Requests that don't use {@link PayloadSigningMode#UNSIGNED} must have an in-memory payload, and
+ * {@link PayloadSigningMode#STREAMING} isn't supported.
+ *
+ * <p>A presigner holds pooled signing resources until it's closed, and it isn't thread safe. Signing keys are cached
+ * across presigners and signers.
+ * <pre>{@code
+ * try (var presigner = SigV4Presigner.create()) {
+ *     var presigned = presigner.presign(request, credentials, properties, Duration.ofMinutes(15));
+ * }
+ * }</pre>
+ *
+ * @see <a href="https://docs.aws.amazon.com/IAM/latest/UserGuide/create-signed-request.html">Create a signed AWS API
+ * request</a>
+ */
+public final class SigV4Presigner implements AutoCloseable {
+
+    private final SigV4Signer signer;
+
+    private SigV4Presigner() {
+        this.signer = SigV4Signer.create();
+    }
+
+    /**
+     * Create a presigner.
+     *
+     * @return the created presigner.
+     */
+    public static SigV4Presigner create() {
+        return new SigV4Presigner();
+    }
+
+    /**
+     * Presign a request.
+     *
+     * @param request Request to presign.
+     * @param identity Credentials used to sign the request.
+     * @param properties Signing properties.
+     * @param expiration How long the presigned request is valid, from 1 second to 7 days.
+     * @return the request with a presigned URI.
+     * @throws IllegalArgumentException if the expiration or payload of the request can't be presigned.
+     */
+    public HttpRequest presign(
+            HttpRequest request,
+            AwsCredentialsIdentity identity,
+            Context properties,
+            Duration expiration
+    ) {
+        return signer.presign(List.of(request), identity, properties, expiration).get(0);
+    }
+
+    /**
+     * Presign a batch of requests.
+     *
+     * <p>Every request is signed with the same signing time, and the signing key and credential scope are only
+     * computed once for the batch, making this faster than presigning each request separately.
+     *
+     * @param requests Requests to presign.
+     * @param identity Credentials used to sign the requests.
+     * @param properties Signing properties.
+     * @param expiration How long the presigned requests are valid, from 1 second to 7 days.
+     * @return the requests with presigned URIs, in the same order as the given requests.
+     * @throws IllegalArgumentException if the expiration or payload of a request can't be presigned.
+     */
+    public List<HttpRequest> presignAll(
+            List<HttpRequest> requests,
+            AwsCredentialsIdentity identity,
+            Context properties,
+            Duration expiration
+    ) {
+        return signer.presign(requests, identity, properties, expiration);
+    }
+
+    @Override
+    public void close() {
+        signer.close();
+    }
+}
@@ -27,6 +27,14 @@ import software.amazon.smithy.java.context.Context;
  *     <dd>Clock to use to determine the signing instant. If no clock setting is provided then the default system
  *     utc clock is used.
  *     </dd>
+ *     <dt>payloadSigningMode (optional)</dt>
+ *     <dd>How the request payload is signed. Defaults to {@link PayloadSigningMode#SIGNED}, which hashes the entire
+ *     payload before sending the request.
+ *     </dd>
+ *     <dt>cacheFilePayloadHashes (optional)</dt>
+ *     <dd>Whether to cache the hashes of payloads read from files, so that uploading the same version of a file
+ *     again doesn't need to read the file to sign it. Defaults to false.
+ *     </dd>
  * </dl>
  *
  * @implNote To apply this Setting to a client, add the setting to a client plugin that will be applied as a default
@@ -60,4 +68,41 @@ public interface SigV4Settings<B extends ClientSetting<B>> extends ClockSetting<
         }
         return putConfig(SIGNING_NAME, signingName);
     }
+
+    /**
+     * How the payload of a request is signed. For example {@link PayloadSigningMode#STREAMING}.
+     */
+    Context.Key<PayloadSigningMode> PAYLOAD_SIGNING_MODE = Context.key("SigV4 payload signing mode.");
+
+    /**
+     * Set how the payload of a request is signed.
+     *
+     * <p>Large uploads can use {@link PayloadSigningMode#STREAMING} to sign the payload as it's sent, or
+     * {@link PayloadSigningMode#UNSIGNED} to skip hashing the payload of HTTPS requests.
+     *
+     * @param payloadSigningMode payload signing mode.
+     */
+    default B payloadSigningMode(PayloadSigningMode payloadSigningMode) {
+        if (payloadSigningMode == null) {
+            throw new IllegalArgumentException("payloadSigningMode cannot be null");
+        }
+        return putConfig(PAYLOAD_SIGNING_MODE, payloadSigningMode);
+    }
+
+    /**
+     * Whether to cache the payload hashes of files by path, size, and last modified time.
+     */
+    Context.Key<Boolean> CACHE_FILE_PAYLOAD_HASHES = Context.key("Cache the SigV4 payload hashes of files.");
+
+    /**
+     * Cache the payload hashes of files that are uploaded with {@link PayloadSigningMode#SIGNED}.
+     *
+     * <p>A file is considered unchanged if its size and last modified time are the same, so only enable this when
+     * files aren't modified without changing their last modified time.
+     *
+     * @param cacheFilePayloadHashes true to cache the hashes of files.
+     */
+    default B cacheFilePayloadHashes(boolean cacheFilePayloadHashes) {
+        return putConfig(CACHE_FILE_PAYLOAD_HASHES, cacheFilePayloadHashes);
+    }
 }
@@ -5,25 +5,32 @@
 
 package software.amazon.smithy.java.aws.client.auth.scheme.sigv4;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.SortedMap;
-import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import software.amazon.smithy.java.auth.api.Signer;
 import software.amazon.smithy.java.aws.auth.api.identity.AwsCredentialsIdentity;
@@ -45,18 +52,44 @@ final class SigV4Signer implements Signer<HttpRequest, AwsCredentialsIdentity> {
             "x-amzn-trace-id",
             "user-agent",
             "expect");
+    // Query parameters set when presigning a request.
+    private static final Set<String> PRESIGN_PARAMETERS_IN_LOWER_CASE = Set.of(
+            "x-amz-algorithm",
+            "x-amz-credential",
+            "x-amz-date",
+            "x-amz-expires",
+            "x-amz-security-token",
+            "x-amz-signedheaders",
+            "x-amz-signature");
 
     private static final int POOL_SIZE = 32;
     private static final int BUFFER_SIZE = 512;
+    private static final int HASH_LENGTH = 32;
+    private static final Comparator<String[]> QUERY_PARAMETER_ORDER =
+            Comparator.<String[], String>comparing(param -> param[0]).thenComparing(param -> param[1]);
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
     private static final String HMAC_SHA_256 = "HmacSHA256";
     private static final String ALGORITHM = "AWS4-HMAC-SHA256";
     private static final String TERMINATOR = "aws4_request";
     private static final SigningCache SIGNER_CACHE = new SigningCache(300);
+    private static final FilePayloadHasher FILE_PAYLOAD_HASHER = new FilePayloadHasher(1000);
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+    private static final String AWS_CHUNKED = "aws-chunked";
+    private static final Duration MAX_PRESIGN_EXPIRATION = Duration.ofDays(7);
 
     private static final class SigningResources {
         final StringBuilder sb;
         final MessageDigest sha256Digest;
         final Mac sha256Mac;
+        final CanonicalHeaders headers = new CanonicalHeaders();
+        // Holds the UTF-8 encoded contents of sb before they're written to a digest or Mac.
+        byte[] encoded = new byte[BUFFER_SIZE * 3];
+        // Holds SHA-256 hashes and HMACs, and their hex encoding.
+        final byte[] hash = new byte[HASH_LENGTH];
+        final byte[] hex = new byte[HASH_LENGTH * 2];
+        // The key that keyedMac was cloned from. Requests signed with the same key reuse the Mac as is.
+        SigningKey macKey;
+        Mac keyedMac;
 
         SigningResources() {
             this.sb = new StringBuilder(BUFFER_SIZE);
@@ -74,6 +107,7 @@ final class SigV4Signer implements Signer<HttpRequest, AwsCredentialsIdentity> {
 
         void reset() {
             sb.setLength(0);
+            headers.clear();
             sha256Digest.reset();
             sha256Mac.reset();
         }
@@ -106,101 +140,385 @@ final class SigV4Signer implements Signer<HttpRequest, AwsCredentialsIdentity> {
         var region = properties.expect(SigV4Settings.REGION);
         var name = properties.expect(SigV4Settings.SIGNING_NAME);
         var clock = properties.getOrDefault(SigV4Settings.CLOCK, Clock.systemUTC());
+        var payloadSigningMode = resolvePayloadSigningMode(request, properties);
 
-        // TODO: Add support for query signing?
-        // TODO: Support chunk encoding
-        // TODO: support UNSIGNED
-
-        return getPayloadHash(request.body()).thenApply(payloadHash -> {
-            var signedHeaders = createSignedHeaders(
+        return getPayloadHash(request.body(), payloadSigningMode, properties).thenApply(payloadHash -> {
+            var signature = createSignature(
                     request.method(),
                     request.uri(),
                     request.headers(),
+                    request.body(),
                     payloadHash,
+                    payloadSigningMode,
                     region,
                     name,
                     clock.instant(),
                     identity.accessKeyId(),
                     identity.secretAccessKey(),
-                    identity.sessionToken(),
-                    !request.body().hasKnownLength());
-            // Don't let the cached buffers grow too large.
-            var sb = signingResources.sb;
-            if (sb.length() > BUFFER_SIZE) {
-                sb.setLength(BUFFER_SIZE);
-                sb.trimToSize();
+                    identity.sessionToken());
+            resetBuffers();
+            // Only the headers added by the signer are replaced, so the request headers are copied once.
+            var builder = request.toBuilder().withReplacedHeaders(signature.headers());
+            if (payloadSigningMode == PayloadSigningMode.STREAMING) {
+                // The request time starts with the date stamp.
+                var scope = createScope(signature.requestTime().substring(0, 8), region, name, signingResources.sb);
+                builder.body(new AwsChunkedDataStream(
+                        request.body(),
+                        signature.signingKey(),
+                        signature.requestTime(),
+                        scope,
+                        signature.signature(),
+                        AwsChunkedDataStream.DEFAULT_CHUNK_SIZE));
             }
-            sb.setLength(0);
-            return request.toBuilder().headers(HttpHeaders.of(signedHeaders)).build();
+            return builder.build();
         });
     }
 
-    private CompletableFuture<String> getPayloadHash(DataStream dataStream) {
-        return dataStream.asByteBuffer().thenApply(this::hexHash);
+    /**
+     * Presigns requests by adding their signature to the query string of their URI rather than to their headers.
+     *
+     * <p>All the requests are signed with the same credentials, region, service, and signing time, so the signing
+     * key and credential scope are only computed once for the batch.
+     *
+     * @param requests Requests to presign.
+     * @param identity Credentials used to sign the requests.
+     * @param properties Signing properties.
+     * @param expiration How long the presigned requests are valid.
+     * @return the presigned requests, in the same order as the given requests.
+     */
+    List<HttpRequest> presign(
+            List<HttpRequest> requests,
+            AwsCredentialsIdentity identity,
+            Context properties,
+            Duration expiration
+    ) {
+        // X-Amz-Expires is in whole seconds, so anything shorter than a second would expire immediately.
+        if (expiration.toSeconds() < 1 || expiration.compareTo(MAX_PRESIGN_EXPIRATION) > 0) {
+            throw new IllegalArgumentException("Presigned request expiration must be between 1 second and 7 days: "
+                    + expiration);
+        }
+        var region = properties.expect(SigV4Settings.REGION);
+        var name = properties.expect(SigV4Settings.SIGNING_NAME);
+        var clock = properties.getOrDefault(SigV4Settings.CLOCK, Clock.systemUTC());
+        var payloadSigningMode = properties.getOrDefault(
+                SigV4Settings.PAYLOAD_SIGNING_MODE,
+                PayloadSigningMode.SIGNED);
+        if (payloadSigningMode == PayloadSigningMode.STREAMING) {
+            throw new IllegalArgumentException("Presigned requests don't support streaming payload signing");
+        }
+
+        var sb = signingResources.sb;
+        var signingTimestamp = clock.instant();
+        var signingDate = signingTimestamp.atOffset(ZoneOffset.UTC).toLocalDateTime();
+        var requestTime = formatRfc3339(signingDate, sb);
+        var signingKey = deriveSigningKey(identity.secretAccessKey(), requestTime, region, name, signingTimestamp);
+
+        // The query parameters shared by every request, as encoded key-value pairs in canonical order. The
+        // signed headers parameter is set for each request.
+        sb.setLength(0);
+        sb.append(identity.accessKeyId()).append('/');
+        appendScope(signingDate, region, name, sb);
+        var sessionToken = identity.sessionToken();
+        var parameters = new String[sessionToken == null ? 10 : 12];
+        int i = 0;
+        parameters[i++] = "X-Amz-Algorithm";
+        parameters[i++] = ALGORITHM;
+        parameters[i++] = "X-Amz-Credential";
+        parameters[i++] = URLEncoding.encodeUnreserved(sb.toString(), false);
+        parameters[i++] = "X-Amz-Date";
+        parameters[i++] = requestTime;
+        parameters[i++] = "X-Amz-Expires";
+        parameters[i++] = Long.toString(expiration.toSeconds());
+        if (sessionToken != null) {
+            parameters[i++] = "X-Amz-Security-Token";
+            parameters[i++] = URLEncoding.encodeUnreserved(sessionToken, false);
+        }
+        parameters[i++] = "X-Amz-SignedHeaders";
+
+        List<HttpRequest> result = new ArrayList<>(requests.size());
+        for (var request : requests) {
+            // Replace the parameters of a previous presigning rather than adding a second copy of them.
+            var uri = removePresignParameters(request.uri(), sb);
+            var headers = signingResources.headers;
+            headers.clear();
+            for (var entry : request.headers().map().entrySet()) {
+                var headerName = entry.getKey().toLowerCase(Locale.ENGLISH);
+                if (!HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(headerName)) {
+                    headers.add(headerName, entry.getValue());
+                }
+            }
+            var hostHeader = uriUsingStandardPort(uri) ? uri.getHost() + ':' + uri.getPort() : uri.getHost();
+            headers.put("host", List.of(hostHeader));
+            headers.sort();
+
+            sb.setLength(0);
+            appendSignedHeaders(headers, sb);
+            parameters[i] = URLEncoding.encodeUnreserved(sb.toString(), false);
+
+            var payloadHash = getPresignedPayloadHash(request.body(), payloadSigningMode);
+            var canonicalRequestHash = hashCanonicalRequest(
+                    request.method(),
+                    uri,
+                    parameters,
+                    headers,
+                    payloadHash,
+                    sb);
+            var signature = computeSignature(
+                    canonicalRequestHash,
+                    requestTime,
+                    signingDate,
+                    region,
+                    name,
+                    signingKey,
+                    sb);
+            result.add(request.toBuilder().uri(createPresignedUri(uri, parameters, signature, sb)).build());
+        }
+
+        resetBuffers();
+        return result;
+    }
+
+    private void resetBuffers() {
+        // Don't let the cached buffers grow too large.
+        var sb = signingResources.sb;
+        if (sb.length() > BUFFER_SIZE) {
+            sb.setLength(BUFFER_SIZE);
+            sb.trimToSize();
+        }
+        sb.setLength(0);
+        if (signingResources.encoded.length > BUFFER_SIZE * 3) {
+            signingResources.encoded = new byte[BUFFER_SIZE * 3];
+        }
+        signingResources.headers.clear();
+    }
+
+    private String getPresignedPayloadHash(DataStream body, PayloadSigningMode payloadSigningMode) {
+        if (payloadSigningMode == PayloadSigningMode.UNSIGNED) {
+            return UNSIGNED_PAYLOAD;
+        } else if (body.hasKnownLength() && body.contentLength() == 0) {
+            return AwsChunkedDataStream.EMPTY_PAYLOAD_HASH;
+        } else if (body.hasByteBuffer()) {
+            return hexHash(body.waitForByteBuffer());
+        }
+        throw new IllegalArgumentException("Presigning a request with a signed payload requires a payload that is "
+                + "in memory. Use an unsigned payload to presign requests with other payloads.");
+    }
+
+    private static URI removePresignParameters(URI uri, StringBuilder sb) {
+        var query = uri.getRawQuery();
+        if (query == null || !query.toLowerCase(Locale.ENGLISH).contains("x-amz-")) {
+            return uri;
+        }
+        sb.setLength(0);
+        for (var param : query.split("&")) {
+            var separator = param.indexOf('=');
+            var key = separator == -1 ? param : param.substring(0, separator);
+            if (!PRESIGN_PARAMETERS_IN_LOWER_CASE.contains(key.toLowerCase(Locale.ENGLISH))) {
+                if (!sb.isEmpty()) {
+                    sb.append('&');
+                }
+                sb.append(param);
+            }
+        }
+        var remaining = sb.toString();
+        sb.setLength(0);
+        sb.append(uri.getScheme()).append("://").append(uri.getRawAuthority());
+        if (uri.getRawPath() != null) {
+            sb.append(uri.getRawPath());
+        }
+        if (!remaining.isEmpty()) {
+            sb.append('?').append(remaining);
+        }
+        return URI.create(sb.toString());
+    }
+
+    private static URI createPresignedUri(URI uri, String[] parameters, String signature, StringBuilder sb) {
+        sb.setLength(0);
+        sb.append(uri.getScheme()).append("://").append(uri.getRawAuthority());
+        if (uri.getRawPath() != null) {
+            sb.append(uri.getRawPath());
+        }
+        sb.append('?');
+        if (uri.getRawQuery() != null && !uri.getRawQuery().isEmpty()) {
+            sb.append(uri.getRawQuery()).append('&');
+        }
+        for (int i = 0; i < parameters.length; i += 2) {
+            sb.append(parameters[i]).append('=').append(parameters[i + 1]).append('&');
+        }
+        sb.append("X-Amz-Signature=").append(signature);
+        return URI.create(sb.toString());
+    }
+
+    private static PayloadSigningMode resolvePayloadSigningMode(HttpRequest request, Context properties) {
+        var mode = properties.getOrDefault(SigV4Settings.PAYLOAD_SIGNING_MODE, PayloadSigningMode.SIGNED);
+        if (mode == PayloadSigningMode.UNSIGNED && !"https".equalsIgnoreCase(request.uri().getScheme())) {
+            LOGGER.debug("Signing the payload of {} because unsigned payloads require HTTPS", request.uri());
+            return PayloadSigningMode.SIGNED;
+        } else if (mode == PayloadSigningMode.STREAMING && !request.body().hasKnownLength()) {
+            LOGGER.debug("Signing the entire payload because aws-chunked encoding requires a known length");
+            return PayloadSigningMode.SIGNED;
+        }
+        return mode;
+    }
+
+    private CompletableFuture<String> getPayloadHash(
+            DataStream dataStream,
+            PayloadSigningMode payloadSigningMode,
+            Context properties
+    ) {
+        return switch (payloadSigningMode) {
+            case UNSIGNED -> CompletableFuture.completedFuture(UNSIGNED_PAYLOAD);
+            case STREAMING -> CompletableFuture.completedFuture(AwsChunkedDataStream.STREAMING_PAYLOAD);
+            case SIGNED -> getPayloadHash(dataStream, properties);
+        };
+    }
+
+    private CompletableFuture<String> getPayloadHash(DataStream dataStream, Context properties) {
+        if (dataStream.hasKnownLength() && dataStream.contentLength() == 0) {
+            return CompletableFuture.completedFuture(AwsChunkedDataStream.EMPTY_PAYLOAD_HASH);
+        } else if (dataStream.hasByteBuffer()) {
+            return CompletableFuture.completedFuture(hexHash(dataStream.waitForByteBuffer()));
+        } else if (dataStream.file() != null && dataStream.hasKnownLength()) {
+            try {
+                var hash = FILE_PAYLOAD_HASHER.hexHash(
+                        dataStream.file(),
+                        dataStream.contentLength(),
+                        signingResources.sha256Digest,
+                        properties.getOrDefault(SigV4Settings.CACHE_FILE_PAYLOAD_HASHES, false));
+                if (hash != null) {
+                    return CompletableFuture.completedFuture(hash);
+                }
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(new UncheckedIOException(e));
+            }
+        }
+        // Hash the payload as it's read rather than loading the entire payload into memory.
+        var sha256Digest = signingResources.sha256Digest;
+        sha256Digest.reset();
+        var subscriber = new HashingSubscriber(sha256Digest);
+        dataStream.subscribe(subscriber);
+        return subscriber.result;
     }
 
     private String hexHash(ByteBuffer bytes) {
-        return HexFormat.of().formatHex(hash(bytes));
+        var sha256Digest = signingResources.sha256Digest;
+        sha256Digest.reset();
+        sha256Digest.update(bytes);
+        return hex(digest(sha256Digest));
     }
 
-    private Map<String, List<String>> createSignedHeaders(
+    /**
+     * The signature of a request, and the headers the signer adds to the request.
+     */
+    private record Signature(
+            Map<String, List<String>> headers,
+            SigningKey signingKey,
+            String requestTime,
+            String signature) {}
+
+    private Signature createSignature(
             String method,
             URI uri,
             HttpHeaders httpHeaders,
+            DataStream body,
             String payloadHash,
+            PayloadSigningMode payloadSigningMode,
             String regionName,
             String serviceName,
             Instant signingTimestamp,
             String accessKeyId,
             String secretAccessKey,
-            String sessionToken,
-            boolean isStreaming
+            String sessionToken
     ) {
-        var headers = copyHeaders(httpHeaders);
+        var headers = signingResources.headers;
+        headers.clear();
+        // Note: httpHeaders.map _should_ always return lowercase key names.
+        for (var entry : httpHeaders.map().entrySet()) {
+            var name = entry.getKey().toLowerCase(Locale.ENGLISH);
+            if (!HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(name)) {
+                headers.add(name, entry.getValue());
+            }
+        }
+
+        // Headers added by the signer, which replace any headers with the same name in the signed request.
+        Map<String, List<String>> signerHeaders = new HashMap<>();
 
         // AWS4 requires a number of headers to be set before signing including 'Host' and 'X-Amz-Date'
         var hostHeader = uriUsingStandardPort(uri) ? uri.getHost() + ':' + uri.getPort() : uri.getHost();
-        headers.put("host", List.of(hostHeader));
+        putHeader(signerHeaders, "host", List.of(hostHeader));
 
         var sb = signingResources.sb;
         var signingDate = signingTimestamp.atOffset(ZoneOffset.UTC).toLocalDateTime();
-        var dateStamp = formatDate(signingDate, sb);
-        var requestTime = formatRfc3339(signingDate, dateStamp, sb);
-        headers.put("x-amz-date", List.of(requestTime));
+        var requestTime = formatRfc3339(signingDate, sb);
+        putHeader(signerHeaders, "x-amz-date", List.of(requestTime));
 
-        if (isStreaming) {
-            headers.put("x-amz-content-sha256", List.of(payloadHash));
+        if (payloadSigningMode != PayloadSigningMode.SIGNED || !body.hasKnownLength()) {
+            putHeader(signerHeaders, "x-amz-content-sha256", List.of(payloadHash));
+        }
+        if (payloadSigningMode == PayloadSigningMode.STREAMING) {
+            addChunkedEncodingHeaders(signerHeaders, body.contentLength());
         }
         if (sessionToken != null) {
-            headers.put("x-amz-security-token", List.of(sessionToken));
+            putHeader(signerHeaders, "x-amz-security-token", List.of(sessionToken));
         }
 
-        // Determine sorted list of headers to sign
-        var signedHeaders = getSignedHeaders(headers.keySet(), sb);
-
-        // Build canonicalRequest and compute its signature
-        var canonicalRequest = getCanonicalRequest(
-                method,
-                uri,
-                headers,
-                headers.keySet(),
-                signedHeaders,
-                payloadHash,
-                sb);
+        // Sort the headers to sign, and then hash the canonical request and compute its signature
+        headers.sort();
+        var canonicalRequestHash = hashCanonicalRequest(method, uri, null, headers, payloadHash, sb);
 
         var signingKey = deriveSigningKey(
                 secretAccessKey,
-                dateStamp,
+                requestTime,
                 regionName,
                 serviceName,
                 signingTimestamp);
-        var scope = createScope(dateStamp, regionName, serviceName, sb);
-        var signature = computeSignature(canonicalRequest, scope, requestTime, signingKey, sb);
+        var signature = computeSignature(
+                canonicalRequestHash,
+                requestTime,
+                signingDate,
+                regionName,
+                serviceName,
+                signingKey,
+                sb);
 
-        var authorizationHeader = getAuthHeader(accessKeyId, scope, signedHeaders, signature, sb);
-        headers.put("authorization", List.of(authorizationHeader));
+        var authorizationHeader = getAuthHeader(
+                accessKeyId,
+                signingDate,
+                regionName,
+                serviceName,
+                headers,
+                signature,
+                sb);
+        signerHeaders.put("authorization", List.of(authorizationHeader));
+
+        return new Signature(signerHeaders, signingKey, requestTime, signature);
+    }
+
+    // Adds a header to both the signed headers and the headers added to the request.
+    private void putHeader(Map<String, List<String>> signerHeaders, String name, List<String> values) {
+        signingResources.headers.put(name, values);
+        signerHeaders.put(name, values);
+    }
 
-        return headers;
+    private void addChunkedEncodingHeaders(Map<String, List<String>> signerHeaders, long decodedLength) {
+        var headers = signingResources.headers;
+        // aws-chunked must be applied last, so it's listed first.
+        var existingEncodings = headers.get("content-encoding");
+        if (existingEncodings == null) {
+            putHeader(signerHeaders, "content-encoding", List.of(AWS_CHUNKED));
+        } else {
+            var encodings = new ArrayList<String>(existingEncodings.size() + 1);
+            encodings.add(AWS_CHUNKED);
+            encodings.addAll(existingEncodings);
+            putHeader(signerHeaders, "content-encoding", encodings);
+        }
+        putHeader(signerHeaders, "x-amz-decoded-content-length", List.of(Long.toString(decodedLength)));
+        if (headers.get("content-length") != null) {
+            var encodedLength = AwsChunkedDataStream.encodedLength(
+                    decodedLength,
+                    AwsChunkedDataStream.DEFAULT_CHUNK_SIZE);
+            putHeader(signerHeaders, "content-length", List.of(Long.toString(encodedLength)));
+        }
     }
 
     private static String createScope(String dateStamp, String regionName, String serviceName, StringBuilder sb) {
@@ -212,28 +530,31 @@ final class SigV4Signer implements Signer<HttpRequest, AwsCredentialsIdentity> {
         return sb.toString();
     }
 
-    private static Map<String, List<String>> copyHeaders(HttpHeaders httpHeaders) {
-        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        // Note: httpHeaders.map _should_ always return lowercase key names.
-        for (var entry : httpHeaders.map().entrySet()) {
-            headers.put(entry.getKey().toLowerCase(Locale.ENGLISH), entry.getValue());
-        }
-        return headers;
+    // Appends the equivalent of "yyyyMMdd/region/service/aws4_request".
+    private static void appendScope(
+            LocalDateTime date,
+            String regionName,
+            String serviceName,
+            StringBuilder sb
+    ) {
+        appendDate(date, sb);
+        sb.append('/');
+        sb.append(regionName).append('/');
+        sb.append(serviceName).append('/');
+        sb.append(TERMINATOR);
     }
 
-    // Formats the equivalent of "yyyyMMdd".
-    private static String formatDate(LocalDateTime date, StringBuilder sb) {
-        sb.setLength(0);
+    // Appends the equivalent of "yyyyMMdd".
+    private static void appendDate(LocalDateTime date, StringBuilder sb) {
         sb.append(date.getYear());
         appendTwoDigits(date.getMonthValue(), sb);
         appendTwoDigits(date.getDayOfMonth(), sb);
-        return sb.toString();
     }
 
     // Formats the equivalent of "yyyyMMdd'T'HHmmss'Z'".
-    private static String formatRfc3339(LocalDateTime localDate, String dateString, StringBuilder sb) {
+    private static String formatRfc3339(LocalDateTime localDate, StringBuilder sb) {
         sb.setLength(0);
-        sb.append(dateString);
+        appendDate(localDate, sb);
         sb.append('T');
         appendTwoDigits(localDate.getHour(), sb);
         appendTwoDigits(localDate.getMinute(), sb);
@@ -257,22 +578,20 @@ final class SigV4Signer implements Signer<HttpRequest, AwsCredentialsIdentity> {
         };
     }
 
-    private static String getSignedHeaders(Set<String> sortedHeaderKeys, StringBuilder sb) {
-        sb.setLength(0);
-        for (var header : sortedHeaderKeys) {
-            if (!HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(header)) {
-                sb.append(header).append(';');
-            }
+    private static void appendSignedHeaders(CanonicalHeaders headers, StringBuilder sb) {
+        for (int i = 0; i < headers.size(); i++) {
+            sb.append(headers.name(i)).append(';');
         }
         // Remove the trailing ";".
         sb.setLength(sb.length() - 1);
-        return sb.toString();
     }
 
     private static String getAuthHeader(
             String accessKeyId,
-            String scope,
-            String signedHeaderBuilder,
+            LocalDateTime signingDate,
+            String regionName,
+            String serviceName,
+            CanonicalHeaders headers,
             String signature,
             StringBuilder sb
     ) {
@@ -280,36 +599,49 @@ final class SigV4Signer implements Signer<HttpRequest, AwsCredentialsIdentity> {
         sb.append(ALGORITHM)
                 .append(" Credential=")
                 .append(accessKeyId)
-                .append('/')
-                .append(scope)
-                .append(", SignedHeaders=")
-                .append(signedHeaderBuilder)
-                .append(", Signature=")
-                .append(signature);
+                .append('/');
+        appendScope(signingDate, regionName, serviceName, sb);
+        sb.append(", SignedHeaders=");
+        appendSignedHeaders(headers, sb);
+        sb.append(", Signature=").append(signature);
         return sb.toString();
     }
 
-    private byte[] getCanonicalRequest(
+    /**
+     * Writes the canonical request to the pooled digest as it's built, and returns its hash.
+     *
+     * <p>The returned array is reused by the signer, so it's only valid until the next hash is computed.
+     */
+    private byte[] hashCanonicalRequest(
             String method,
             URI uri,
-            Map<String, List<String>> headers,
-            Set<String> sortedHeaderKeys,
-            String signedHeaders,
+            String[] queryParameters,
+            CanonicalHeaders headers,
             String payloadHash,
             StringBuilder sb
     ) {
+        var sha256Digest = signingResources.sha256Digest;
+        sha256Digest.reset();
         sb.setLength(0);
         sb.append(method).append('\n');
         addCanonicalizedResourcePath(uri, sb);
         sb.append('\n');
-        addCanonicalizedQueryString(uri, sb);
+        addCanonicalizedQueryString(uri, queryParameters, sb);
         sb.append('\n');
-        addCanonicalizedHeaderString(headers, sortedHeaderKeys, sb);
+        for (int i = 0; i < headers.size(); i++) {
+            addCanonicalizedHeader(headers.name(i), headers.sortedValues(i), sb);
+            if (sb.length() >= BUFFER_SIZE) {
+                int length = encodeUtf8(sb);
+                sha256Digest.update(signingResources.encoded, 0, length);
+                sb.setLength(0);
+            }
+        }
         sb.append('\n');
-        sb.append(signedHeaders)
-                .append('\n')
-                .append(payloadHash);
-        return sb.toString().getBytes(StandardCharsets.UTF_8);
+        appendSignedHeaders(headers, sb);
+        sb.append('\n').append(payloadHash);
+        int length = encodeUtf8(sb);
+        sha256Digest.update(signingResources.encoded, 0, length);
+        return digest(sha256Digest);
     }
 
     private static void addCanonicalizedResourcePath(URI uri, StringBuilder builder) {
@@ -324,32 +656,43 @@ final class SigV4Signer implements Signer<HttpRequest, AwsCredentialsIdentity> {
         URLEncoding.encodeUnreserved(path, builder, true);
     }
 
-    private static void addCanonicalizedQueryString(URI uri, StringBuilder builder) {
+    // Additional parameters are pairs of keys and values that are already encoded. Parameters are sorted by key and
+    // then by value, and repeated keys are all kept.
+    static void addCanonicalizedQueryString(URI uri, String[] additionalParameters, StringBuilder builder) {
         // Getting the raw query means the keys and values don't need to be encoded again.
         var query = uri.getRawQuery();
-        if (query == null) {
+        if (query == null && additionalParameters == null) {
             return;
         }
 
-        SortedMap<String, String> sorted = new TreeMap<>();
-        var params = query.split("&");
-
-        for (var param : params) {
-            var keyVal = param.split("=");
-            var key = keyVal[0];
-            var encodedKey = URLEncoding.encodeUnreserved(key, false);
-            if (keyVal.length == 2) {
-                var encodedValue = URLEncoding.encodeUnreserved(keyVal[1], false);
-                sorted.put(encodedKey, encodedValue);
-            } else {
-                sorted.put(key, "");
+        List<String[]> sorted = new ArrayList<>();
+        if (query != null) {
+            for (var param : query.split("&")) {
+                if (param.isEmpty()) {
+                    continue;
+                }
+                var separator = param.indexOf('=');
+                var key = separator == -1 ? param : param.substring(0, separator);
+                var value = separator == -1 ? "" : param.substring(separator + 1);
+                var encodedKey = URLEncoding.encodeUnreserved(key, false);
+                var encodedValue = URLEncoding.encodeUnreserved(value, false);
+                sorted.add(new String[] {encodedKey, encodedValue});
+            }
+        }
+        if (additionalParameters != null) {
+            for (int i = 0; i < additionalParameters.length; i += 2) {
+                sorted.add(new String[] {additionalParameters[i], additionalParameters[i + 1]});
             }
         }
+        if (sorted.isEmpty()) {
+            return;
+        }
+        sorted.sort(QUERY_PARAMETER_ORDER);
 
-        for (var entry : sorted.entrySet()) {
-            builder.append(entry.getKey());
+        for (var param : sorted) {
+            builder.append(param[0]);
             builder.append('=');
-            builder.append(entry.getValue());
+            builder.append(param[1]);
             builder.append('&');
         }
 
@@ -357,25 +700,16 @@ final class SigV4Signer implements Signer<HttpRequest, AwsCredentialsIdentity> {
         builder.setLength(builder.length() - 1);
     }
 
-    private static void addCanonicalizedHeaderString(
-            Map<String, List<String>> headers,
-            Set<String> sortedHeaderKeys,
-            StringBuilder builder
-    ) {
-        for (var headerKey : sortedHeaderKeys) {
-            if (HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(headerKey)) {
-                continue;
-            }
-            builder.append(headerKey);
-            builder.append(':');
-            for (String headerValue : headers.get(headerKey)) {
-                addAndTrim(builder, headerValue);
-                builder.append(',');
-            }
-            // Remove the trailing comma.
-            builder.setLength(builder.length() - 1);
-            builder.append('\n');
+    static void addCanonicalizedHeader(String headerKey, List<String> headerValues, StringBuilder builder) {
+        builder.append(headerKey);
+        builder.append(':');
+        for (String headerValue : headerValues) {
+            addAndTrim(builder, headerValue);
+            builder.append(',');
         }
+        // Remove the trailing comma.
+        builder.setLength(builder.length() - 1);
+        builder.append('\n');
     }
 
     private static void addAndTrim(StringBuilder result, String value) {
@@ -430,9 +764,9 @@ final class SigV4Signer implements Signer<HttpRequest, AwsCredentialsIdentity> {
     /**
      * AWS4 uses a series of derived keys, formed by hashing different pieces of data
      */
-    private byte[] deriveSigningKey(
+    private SigningKey deriveSigningKey(
             String secretKey,
-            String dateStamp,
+            String requestTime,
             String regionName,
             String serviceName,
             Instant signingDate
@@ -440,12 +774,14 @@ final class SigV4Signer implements Signer<HttpRequest, AwsCredentialsIdentity> {
         var cacheKey = new SigningCache.CacheKey(secretKey, regionName, serviceName);
         SigningKey signingKey = SIGNER_CACHE.get(cacheKey);
         if (signingKey != null && signingKey.isValidFor(signingDate)) {
-            return signingKey.signingKey();
+            return signingKey;
         }
         LOGGER.trace("Generating new key as signing key could not be found in cache.");
-        byte[] key = newSigningKey(secretKey, dateStamp, regionName, serviceName);
-        SIGNER_CACHE.put(cacheKey, new SigningKey(key, signingDate));
-        return key;
+        // The request time starts with the date stamp.
+        var dateStamp = requestTime.substring(0, 8);
+        signingKey = new SigningKey(newSigningKey(secretKey, dateStamp, regionName, serviceName), signingDate);
+        SIGNER_CACHE.put(cacheKey, signingKey);
+        return signingKey;
     }
 
     private byte[] newSigningKey(
@@ -462,22 +798,42 @@ final class SigV4Signer implements Signer<HttpRequest, AwsCredentialsIdentity> {
     }
 
     private String computeSignature(
-            byte[] canonicalRequest,
-            String scope,
+            byte[] canonicalRequestHash,
             String requestTime,
-            byte[] signingKey,
+            LocalDateTime signingDate,
+            String regionName,
+            String serviceName,
+            SigningKey signingKey,
             StringBuilder sb
     ) {
         sb.setLength(0);
         sb.append(ALGORITHM)
                 .append('\n')
                 .append(requestTime)
-                .append('\n')
-                .append(scope)
-                .append('\n')
-                .append(HexFormat.of().formatHex(hash(canonicalRequest)));
-        var toSign = sb.toString();
-        return HexFormat.of().formatHex(sign(toSign, signingKey));
+                .append('\n');
+        appendScope(signingDate, regionName, serviceName, sb);
+        sb.append('\n');
+        for (var b : canonicalRequestHash) {
+            sb.append((char) HEX_DIGITS[(b >> 4) & 0xF]).append((char) HEX_DIGITS[b & 0xF]);
+        }
+        var mac = macFor(signingKey);
+        int length = encodeUtf8(sb);
+        mac.update(signingResources.encoded, 0, length);
+        try {
+            mac.doFinal(signingResources.hash, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        return hex(signingResources.hash);
+    }
+
+    // Gets a Mac initialized with the signing key, only cloning a new one when the key changes.
+    private Mac macFor(SigningKey signingKey) {
+        if (signingResources.macKey != signingKey) {
+            signingResources.keyedMac = signingKey.newMac();
+            signingResources.macKey = signingKey;
+        }
+        return signingResources.keyedMac;
     }
 
     private byte[] sign(String data, byte[] key) {
@@ -491,17 +847,96 @@ final class SigV4Signer implements Signer<HttpRequest, AwsCredentialsIdentity> {
         }
     }
 
-    private byte[] hash(ByteBuffer data) {
-        var sha256Digest = signingResources.sha256Digest;
-        sha256Digest.reset();
-        sha256Digest.update(data);
-        return sha256Digest.digest();
+    // Completes the digest into the reused hash buffer.
+    private byte[] digest(MessageDigest sha256Digest) {
+        try {
+            sha256Digest.digest(signingResources.hash, 0, HASH_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+        return signingResources.hash;
     }
 
-    private byte[] hash(byte[] data) {
-        var sha256Digest = signingResources.sha256Digest;
-        sha256Digest.reset();
-        sha256Digest.update(data);
-        return sha256Digest.digest();
+    // Hex encodes a hash through the reused hex buffer, so that only the resulting string is allocated.
+    private String hex(byte[] hash) {
+        var hex = signingResources.hex;
+        for (int i = 0; i < HASH_LENGTH; i++) {
+            hex[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xF];
+        }
+        return new String(hex, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Encodes the contents of the builder as UTF-8 into the reused encoding buffer, growing the buffer if needed.
+     *
+     * <p>Unpaired surrogates are replaced with '?', the same as {@link String#getBytes}.
+     *
+     * @return the number of encoded bytes.
+     */
+    private int encodeUtf8(StringBuilder sb) {
+        int length = sb.length();
+        var out = signingResources.encoded;
+        if (out.length < length * 3) {
+            out = new byte[length * 3];
+            signingResources.encoded = out;
+        }
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char c = sb.charAt(i);
+            if (c < 0x80) {
+                out[position++] = (byte) c;
+            } else if (c < 0x800) {
+                out[position++] = (byte) (0xC0 | (c >> 6));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(sb.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, sb.charAt(++i));
+                    out[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    out[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    out[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    out[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    out[position++] = '?';
+                }
+            } else {
+                out[position++] = (byte) (0xE0 | (c >> 12));
+                out[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Updates a digest with each buffer of a payload, and completes with the hex-encoded hash.
+     */
+    private static final class HashingSubscriber implements Flow.Subscriber<ByteBuffer> {
+        private final MessageDigest digest;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+
+        HashingSubscriber(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            digest.update(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(HexFormat.of().formatHex(digest.digest()));
+        }
     }
 }
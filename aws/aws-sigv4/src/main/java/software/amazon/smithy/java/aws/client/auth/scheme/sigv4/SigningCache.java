@@ -5,50 +5,78 @@
 
 package software.amazon.smithy.java.aws.client.auth.scheme.sigv4;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.concurrent.locks.StampedLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A bounded cache for {@link SigningKey}s that has a FIFO eviction policy when the cache is full.
+ *
+ * <p>The cache is split into shards by key. Reads don't take any locks, and each shard tracks the insertion order of
+ * its keys in a lock-free queue so that the oldest key of a full shard is evicted. Small caches use a single shard,
+ * so eviction is exactly FIFO across the whole cache.
  */
 final class SigningCache {
-    private final LinkedHashMap<CacheKey, SigningKey> fifoStore;
-    private final StampedLock lock = new StampedLock();
+
+    private static final int MIN_SHARD_SIZE = 32;
+    private static final int MAX_SHARDS = 16;
+
+    private final Shard[] shards;
+    private final int mask;
 
     SigningCache(int maxSize) {
         if (maxSize < 1) {
             throw new IllegalArgumentException("maxSize " + maxSize + " must be at least 1");
         }
-        this.fifoStore = new LinkedHashMap<>() {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<CacheKey, SigningKey> eldest) {
-                return size() > maxSize;
-            }
-        };
+        int shardCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SHARDS, maxSize / MIN_SHARD_SIZE)));
+        this.shards = new Shard[shardCount];
+        this.mask = shardCount - 1;
+        for (int i = 0; i < shardCount; i++) {
+            // Spread the remainder so the shards add up to exactly maxSize.
+            shards[i] = new Shard(maxSize / shardCount + (i < maxSize % shardCount ? 1 : 0));
+        }
     }
 
     /**
-     * Adds an entry to the cache, evicting the earliest entry if necessary.
+     * Adds an entry to the cache, evicting the earliest entry of its shard if necessary.
      */
     void put(CacheKey key, SigningKey value) {
-        long stamp = lock.writeLock();
-        try {
-            fifoStore.put(key, value);
-        } finally {
-            lock.unlockWrite(stamp);
-        }
+        shard(key).put(key, value);
     }
 
     /**
      * @return Signing key if it exists in the store, otherwise {@code null}.
      */
     SigningKey get(CacheKey key) {
-        long stamp = lock.readLock();
-        try {
-            return fifoStore.get(key);
-        } finally {
-            lock.unlockRead(stamp);
+        return shard(key).store.get(key);
+    }
+
+    private Shard shard(CacheKey key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static final class Shard {
+        private final ConcurrentHashMap<CacheKey, SigningKey> store = new ConcurrentHashMap<>();
+        private final ConcurrentLinkedQueue<CacheKey> insertionOrder = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final int maxSize;
+
+        Shard(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        void put(CacheKey key, SigningKey value) {
+            // Replacing the key of an existing entry doesn't change its position in the eviction order.
+            if (store.put(key, value) == null) {
+                insertionOrder.add(key);
+                if (size.incrementAndGet() > maxSize) {
+                    var eldest = insertionOrder.poll();
+                    if (eldest != null && store.remove(eldest) != null) {
+                        size.decrementAndGet();
+                    }
+                }
+            }
         }
     }
 
@@ -5,19 +5,29 @@
 
 package software.amazon.smithy.java.aws.client.auth.scheme.sigv4;
 
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 
 /**
  * Represents a SigningKey with a creation date to be stored in the {@code SigningCache}.
  *
  * <p>This key is considered valid for the same day on which it was created and is considered invalid for any other
  * day.
+ *
+ * <p>The key also holds a Mac that is initialized with the key the first time it's needed. Signers clone this Mac
+ * rather than initializing a Mac with the key for every request.
  */
 final class SigningKey {
+    private static final String HMAC_SHA_256 = "HmacSHA256";
+
     private final byte[] signingKey;
     private final long date;
+    private volatile Mac prototype;
 
     SigningKey(byte[] signingKey, Instant instant) {
         this.signingKey = Objects.requireNonNull(signingKey, "signingKey must not be null");
@@ -32,6 +42,38 @@ final class SigningKey {
         return date == daysSinceEpoch(other);
     }
 
+    /**
+     * Creates a Mac that is initialized with this key.
+     *
+     * <p>The returned Mac isn't shared, so it can be used by a single thread without synchronization.
+     *
+     * @return the initialized Mac.
+     */
+    Mac newMac() {
+        var mac = prototype;
+        if (mac == null) {
+            // Racing threads may each initialize a prototype, but they're equivalent, so any of them can win.
+            mac = initMac();
+            prototype = mac;
+        }
+        try {
+            return (Mac) mac.clone();
+        } catch (CloneNotSupportedException e) {
+            // Not every provider supports cloning, so fall back to initializing a new Mac.
+            return initMac();
+        }
+    }
+
+    private Mac initMac() {
+        try {
+            var mac = Mac.getInstance(HMAC_SHA_256);
+            mac.init(new SecretKeySpec(signingKey, HMAC_SHA_256));
+            return mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new RuntimeException("Unable to create Mac instance for HmacSHA256", e);
+        }
+    }
+
     private static long daysSinceEpoch(Instant instant) {
         return Instant.EPOCH.until(instant, ChronoUnit.DAYS);
     }
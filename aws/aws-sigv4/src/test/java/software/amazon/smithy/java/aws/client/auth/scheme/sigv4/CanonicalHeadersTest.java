@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.client.auth.scheme.sigv4;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.net.URI;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class CanonicalHeadersTest {
+
+    @Test
+    public void sortsHeadersByName() {
+        var headers = new CanonicalHeaders();
+        headers.put("x-amz-date", List.of("20150830T123600Z"));
+        headers.put("content-type", List.of("text/plain"));
+        headers.put("host", List.of("example.amazonaws.com"));
+        headers.sort();
+
+        assertEquals(3, headers.size());
+        assertEquals("content-type", headers.name(0));
+        assertEquals("host", headers.name(1));
+        assertEquals("x-amz-date", headers.name(2));
+        assertEquals(List.of("example.amazonaws.com"), headers.sortedValues(1));
+    }
+
+    @Test
+    public void putReplacesAndAddMergesValues() {
+        var headers = new CanonicalHeaders();
+        headers.add("x-amz-meta", List.of("a"));
+        headers.add("x-amz-meta", List.of("b", "c"));
+        headers.put("host", List.of("one"));
+        headers.put("host", List.of("two"));
+
+        assertEquals(List.of("a", "b", "c"), headers.get("x-amz-meta"));
+        assertEquals(List.of("two"), headers.get("host"));
+        assertEquals(2, headers.size());
+    }
+
+    @Test
+    public void clearsAndGrowsWhenReused() {
+        var headers = new CanonicalHeaders();
+        for (int i = 0; i < 40; i++) {
+            headers.put("h" + (char) ('z' - i % 26) + i, List.of(Integer.toString(i)));
+        }
+        headers.sort();
+        assertEquals(40, headers.size());
+        for (int i = 1; i < headers.size(); i++) {
+            assertEquals(-1, Integer.signum(headers.name(i - 1).compareTo(headers.name(i))));
+        }
+
+        headers.clear();
+        assertEquals(0, headers.size());
+        assertNull(headers.get("hz0"));
+    }
+
+    @Test
+    public void trimsAndFoldsWhitespaceInValues() {
+        var sb = new StringBuilder();
+        SigV4Signer.addCanonicalizedHeader("my-header", List.of("  a   b \t c  ", "plain", "\t\n x  "), sb);
+
+        assertEquals("my-header:a b c,plain,x\n", sb.toString());
+    }
+
+    @Test
+    public void sortsQueryParametersByKeyThenValue() {
+        var sb = new StringBuilder();
+        SigV4Signer.addCanonicalizedQueryString(URI.create("https://example.com/?b=2&a=z&a=y&c&b=1"), null, sb);
+
+        assertEquals("a=y&a=z&b=1&b=2&c=", sb.toString());
+    }
+
+    @Test
+    public void encodesQueryParameters() {
+        var sb = new StringBuilder();
+        SigV4Signer.addCanonicalizedQueryString(
+                URI.create("https://example.com/?k~e*y=x*y~&k=a=b&k=a!b"),
+                new String[] {"X-Amz-Expires", "60", "k", "c"},
+                sb);
+
+        assertEquals("X-Amz-Expires=60&k=a%21b&k=a%3Db&k=c&k~e%2Ay=x%2Ay~", sb.toString());
+    }
+
+    @Test
+    public void omitsEmptyQueryStrings() {
+        var sb = new StringBuilder();
+        SigV4Signer.addCanonicalizedQueryString(URI.create("https://example.com/"), null, sb);
+        SigV4Signer.addCanonicalizedQueryString(URI.create("https://example.com/?"), null, sb);
+
+        assertEquals("", sb.toString());
+    }
+}
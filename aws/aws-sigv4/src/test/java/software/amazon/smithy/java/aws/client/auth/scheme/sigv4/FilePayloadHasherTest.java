@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.client.auth.scheme.sigv4;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FilePayloadHasherTest {
+
+    // SHA-256 of "hello" and "jello".
+    private static final String HELLO = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+    private static final String JELLO = "187c9bceeb919e1b3e6d20fa50ecabf7d9d50b5343e8f9a3d912abb13929102e";
+
+    @Test
+    void cachesHashesByFileVersion(@TempDir Path dir) throws Exception {
+        var hasher = new FilePayloadHasher(10);
+        var digest = MessageDigest.getInstance("SHA-256");
+        var file = dir.resolve("file.txt");
+        var modified = FileTime.fromMillis(1_000_000);
+        Files.writeString(file, "hello", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, modified);
+
+        assertEquals(HELLO, hasher.hexHash(file, 5, digest, true));
+
+        // The same size and modified time is considered the same version of the file.
+        Files.writeString(file, "jello", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, modified);
+        assertEquals(HELLO, hasher.hexHash(file, 5, digest, true));
+        assertEquals(JELLO, hasher.hexHash(file, 5, digest, false));
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000));
+        assertEquals(JELLO, hasher.hexHash(file, 5, digest, true));
+    }
+
+    @Test
+    void returnsNullWhenSizeIsUnexpected(@TempDir Path dir) throws Exception {
+        var hasher = new FilePayloadHasher(10);
+        var file = Files.writeString(dir.resolve("file.txt"), "hello", StandardCharsets.UTF_8);
+
+        assertNull(hasher.hexHash(file, 4, MessageDigest.getInstance("SHA-256"), false));
+        assertNull(hasher.hexHash(file, 4, MessageDigest.getInstance("SHA-256"), true));
+    }
+}
@@ -5,8 +5,11 @@
 
 package software.amazon.smithy.java.aws.client.auth.scheme.sigv4;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Instant;
 import org.junit.jupiter.api.Test;
@@ -31,4 +34,34 @@ public class SignerCacheTest {
         assertEquals(cache.get(second), value);
         assertNull(cache.get(first));
     }
+
+    @Test
+    void shardedCacheHoldsAtMostMaxEntries() {
+        var cache = new SigningCache(256);
+        var value = new SigningKey("".getBytes(), Instant.EPOCH);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(new SigningCache.CacheKey("secret" + i, "region", "service"), value);
+        }
+
+        int cached = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (cache.get(new SigningCache.CacheKey("secret" + i, "region", "service")) != null) {
+                cached++;
+            }
+        }
+        assertTrue(cached <= 256);
+        // The most recently added key is never the oldest entry in its shard.
+        assertEquals(value, cache.get(new SigningCache.CacheKey("secret999", "region", "service")));
+    }
+
+    @Test
+    void signingKeyCreatesIndependentMacs() {
+        var key = new SigningKey("key".getBytes(), Instant.EPOCH);
+        var first = key.newMac();
+        var second = key.newMac();
+        first.update("partial".getBytes());
+
+        assertNotSame(first, second);
+        assertArrayEquals(key.newMac().doFinal("data".getBytes()), second.doFinal("data".getBytes()));
+    }
 }
@@ -17,6 +17,7 @@ import software.amazon.smithy.java.context.Context;
 import software.amazon.smithy.java.core.schema.ApiOperation;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.core.serde.Codec;
+import software.amazon.smithy.java.core.serde.PayloadReader;
 import software.amazon.smithy.java.core.serde.TypeRegistry;
 import software.amazon.smithy.java.http.api.HttpHeaders;
 import software.amazon.smithy.java.http.api.HttpRequest;
@@ -106,6 +107,6 @@ abstract sealed class AwsJsonProtocol extends HttpClientProtocol permits AwsJson
             return CompletableFuture.completedFuture(codec.deserializeShape(EMPTY_PAYLOAD, builder));
         }
 
-        return content.asByteBuffer().thenApply(bytes -> codec.deserializeShape(bytes, builder));
+        return PayloadReader.read(content, codec, de -> builder.deserialize(de).errorCorrection().build());
     }
 }
@@ -9,7 +9,6 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import java.net.URI;
 import java.net.URLEncoder;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.List;
@@ -77,7 +76,7 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
             // TODO: Handle modeled errors (pending error serialization?)
             LOGGER.error("Job failed: ", e);
         }
-        ProxyResponse response = getResponse(job.response(), proxyRequest.getIsBase64Encoded());
+        ProxyResponse response = ProxyResponse.from(job.response(), proxyRequest.getIsBase64Encoded());
         return response;
     }
 
@@ -148,29 +147,4 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
         HttpJob job = new HttpJob(resolutionResult.operation(), resolutionResult.protocol(), request, response);
         return job;
     }
-
-    private static ProxyResponse getResponse(HttpResponse httpResponse, boolean shouldBase64Encode) {
-        // TODO: Add response headers
-        ProxyResponse.Builder builder = ProxyResponse.builder()
-                .multiValueHeaders(httpResponse.headers().map())
-                .statusCode(httpResponse.getStatusCode());
-
-        DataStream val = httpResponse.getSerializedValue();
-        if (val != null) {
-            ByteBuffer buf = val.waitForByteBuffer();
-            String body;
-            // TODO: handle base64 encoding better
-            if (shouldBase64Encode) {
-                builder.isBase64Encoded(true);
-                // TODO: don't use array(), or determine if we can just *not* use `String` for the body
-                body = Base64.getEncoder().encodeToString(buf.array());
-            } else {
-                body = StandardCharsets.UTF_8.decode(buf).toString();
-            }
-            builder.body(body);
-        }
-
-        ProxyResponse response = builder.build();
-        return response;
-    }
 }
@@ -5,9 +5,14 @@
 
 package software.amazon.smithy.java.aws.integrations.lambda;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import software.amazon.smithy.java.io.ByteBufferUtils;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.server.core.HttpResponse;
 
 /**
  * Represents a Lambda proxy integration response.
@@ -55,6 +60,37 @@ final class ProxyResponse {
         return new Builder();
     }
 
+    /**
+     * Creates a proxy response from a server response.
+     *
+     * @param httpResponse Response to convert.
+     * @param shouldBase64Encode Whether to base64 encode the body.
+     * @return the proxy response.
+     */
+    static ProxyResponse from(HttpResponse httpResponse, boolean shouldBase64Encode) {
+        // TODO: Add response headers
+        Builder builder = builder()
+                .multiValueHeaders(httpResponse.headers().map())
+                .statusCode(httpResponse.getStatusCode());
+
+        DataStream val = httpResponse.getSerializedValue();
+        if (val != null) {
+            ByteBuffer buf = val.waitForByteBuffer();
+            String body;
+            // TODO: handle base64 encoding better
+            if (shouldBase64Encode) {
+                builder.isBase64Encoded(true);
+                // Only encode the remaining bytes, since the buffer's backing array can be larger than its content.
+                body = ByteBufferUtils.base64Encode(buf);
+            } else {
+                body = StandardCharsets.UTF_8.decode(buf).toString();
+            }
+            builder.body(body);
+        }
+
+        return builder.build();
+    }
+
     public static class Builder {
         private Integer statusCode;
         private Map<String, String> headers = Collections.emptyMap();
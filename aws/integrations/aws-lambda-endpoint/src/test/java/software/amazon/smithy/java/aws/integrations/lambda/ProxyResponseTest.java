@@ -0,0 +1,64 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.integrations.lambda;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.io.ByteBufferOutputStream;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.server.core.HttpResponse;
+
+public class ProxyResponseTest {
+
+    @Test
+    public void base64EncodesOnlyTheContentOfTheBody() {
+        // The serialized body is a view of a buffer whose backing array is larger than its content.
+        var response = response("{\"hello\":\"world\"}");
+
+        var proxyResponse = ProxyResponse.from(response, true);
+
+        assertThat(proxyResponse.getStatusCode(), equalTo(200));
+        assertThat(proxyResponse.getIsBase64Encoded(), is(true));
+        var decoded = Base64.getDecoder().decode(proxyResponse.getBody());
+        assertThat(new String(decoded, StandardCharsets.UTF_8), equalTo("{\"hello\":\"world\"}"));
+    }
+
+    @Test
+    public void decodesTheBodyAsText() {
+        var proxyResponse = ProxyResponse.from(response("{\"hello\":\"world\"}"), false);
+
+        assertThat(proxyResponse.getIsBase64Encoded(), nullValue());
+        assertThat(proxyResponse.getBody(), equalTo("{\"hello\":\"world\"}"));
+    }
+
+    @Test
+    public void omitsMissingBodies() {
+        var response = new HttpResponse(HttpHeaders.ofModifiable());
+        response.setStatusCode(204);
+
+        var proxyResponse = ProxyResponse.from(response, true);
+
+        assertThat(proxyResponse.getStatusCode(), equalTo(204));
+        assertThat(proxyResponse.getBody(), nullValue());
+    }
+
+    private static HttpResponse response(String body) {
+        var bytes = body.getBytes(StandardCharsets.UTF_8);
+        var out = new ByteBufferOutputStream(1024);
+        out.write(bytes, 0, bytes.length);
+        var response = new HttpResponse(HttpHeaders.ofModifiable());
+        response.setStatusCode(200);
+        response.setSerializedValue(DataStream.ofByteBuffer(out.toByteBuffer()));
+        return response;
+    }
+}
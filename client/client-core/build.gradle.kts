@@ -1,5 +1,6 @@
 plugins {
     id("smithy-java.module-conventions")
+    alias(libs.plugins.jmh)
 }
 
 description = "This module provides the core client functionality"
@@ -20,3 +21,5 @@ dependencies {
     testImplementation(project(":aws:client:aws-client-restjson"))
     testImplementation(project(":client:client-mock-plugin"))
 }
+
+jmh {}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.core;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.java.context.Context;
+
+/**
+ * Measures the context churn of a client call: copying the client config context into a call context, updating the
+ * call context as the pipeline runs, and merging auth scheme properties with their overrides.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(
+        iterations = 3,
+        time = 3)
+@BenchmarkMode(Mode.AverageTime)
+public class ClientContextBench {
+
+    // Simulates config keys contributed by plugins, protocols, and auth schemes.
+    @SuppressWarnings("unchecked")
+    private static final Context.Key<String>[] CONFIG_KEYS = new Context.Key[64];
+    static {
+        for (int i = 0; i < CONFIG_KEYS.length; i++) {
+            CONFIG_KEYS[i] = Context.key("Config " + i);
+        }
+    }
+
+    @Param({"4", "16", "64"})
+    private int configValues;
+
+    private Context config;
+    private Context signerProperties;
+    private Context signerOverrides;
+
+    @Setup
+    public void setup() {
+        var ctx = Context.create();
+        for (int i = 0; i < configValues; i++) {
+            ctx.put(CONFIG_KEYS[i], "value " + i);
+        }
+        ctx.put(CallContext.API_CALL_TIMEOUT, Duration.ofSeconds(30));
+        ctx.put(CallContext.RETRY_MAX, 3);
+        config = Context.unmodifiableCopy(ctx);
+
+        var signer = Context.create();
+        signer.put(CONFIG_KEYS[0], "service");
+        signer.put(CONFIG_KEYS[1], "us-east-1");
+        signerProperties = Context.unmodifiableView(signer);
+        signerOverrides = Context.empty();
+    }
+
+    @Benchmark
+    public Context copyConfigToCall() {
+        return Context.modifiableCopy(config);
+    }
+
+    @Benchmark
+    public void pipelineContextChurn(Blackhole bh) {
+        var call = Context.modifiableCopy(config);
+        call.put(CallContext.RETRY_ATTEMPT, 1);
+        call.put(CallContext.FEATURE_IDS, new HashSet<>());
+        call.put(CallContext.IDEMPOTENCY_TOKEN, "token");
+        bh.consume(signerProperties.merge(signerOverrides));
+        bh.consume(Context.unmodifiableView(call));
+        call.put(CallContext.RETRY_ATTEMPT, 2);
+        bh.consume(call.get(CallContext.API_CALL_TIMEOUT));
+    }
+}
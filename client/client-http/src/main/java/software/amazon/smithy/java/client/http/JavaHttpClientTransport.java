@@ -8,6 +8,8 @@ package software.amazon.smithy.java.client.http;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
@@ -24,6 +26,7 @@ import software.amazon.smithy.java.http.api.HttpRequest;
 import software.amazon.smithy.java.http.api.HttpResponse;
 import software.amazon.smithy.java.http.api.HttpVersion;
 import software.amazon.smithy.java.io.ByteBufferUtils;
+import software.amazon.smithy.java.io.datastream.DataStream;
 import software.amazon.smithy.java.logging.InternalLogger;
 
 /**
@@ -108,16 +111,19 @@ public class JavaHttpClientTransport implements ClientTransport<HttpRequest, Htt
     }
 
     private java.net.http.HttpRequest createJavaRequest(Context context, HttpRequest request) {
-        java.net.http.HttpRequest.BodyPublisher bodyPublisher;
-        if (request.body().hasKnownLength()) {
-            if (request.body().contentLength() == 0) {
-                bodyPublisher = java.net.http.HttpRequest.BodyPublishers.noBody();
+        BodyPublisher bodyPublisher;
+        var body = request.body();
+        if (body.hasKnownLength()) {
+            var buffers = body.byteBuffers();
+            if (body.contentLength() == 0) {
+                bodyPublisher = BodyPublishers.noBody();
+            } else if (buffers != null) {
+                bodyPublisher = createBufferPublisher(buffers);
             } else {
-                bodyPublisher = java.net.http.HttpRequest.BodyPublishers.ofByteArray(
-                        ByteBufferUtils.getBytes(request.body().waitForByteBuffer()));
+                bodyPublisher = BodyPublishers.ofByteArray(ByteBufferUtils.getBytes(body.waitForByteBuffer()));
             }
         } else {
-            bodyPublisher = java.net.http.HttpRequest.BodyPublishers.fromPublisher(request.body());
+            bodyPublisher = BodyPublishers.fromPublisher(body);
         }
 
         java.net.http.HttpRequest.Builder httpRequestBuilder = java.net.http.HttpRequest.newBuilder()
@@ -141,6 +147,28 @@ public class JavaHttpClientTransport implements ClientTransport<HttpRequest, Htt
         return httpRequestBuilder.build();
     }
 
+    // Sends in-memory buffers without first copying them into one array, concatenating a publisher per buffer.
+    private static BodyPublisher createBufferPublisher(List<ByteBuffer> buffers) {
+        var publishers = new BodyPublisher[buffers.size()];
+        for (int i = 0; i < publishers.length; i++) {
+            var buffer = buffers.get(i);
+            if (buffer.hasArray()) {
+                publishers[i] = BodyPublishers.ofByteArray(
+                        buffer.array(),
+                        buffer.arrayOffset() + buffer.position(),
+                        buffer.remaining());
+            } else {
+                // Direct and mapped buffers are published as is rather than copied onto the heap.
+                publishers[i] = BodyPublishers.fromPublisher(
+                        DataStream.ofByteBuffers(List.of(buffer)),
+                        buffer.remaining());
+            }
+        }
+        return publishers.length == 1
+                ? publishers[0]
+                : BodyPublishers.concat(publishers);
+    }
+
     private CompletableFuture<HttpResponse> sendRequest(java.net.http.HttpRequest request) {
         return client.sendAsync(request, java.net.http.HttpResponse.BodyHandlers.ofPublisher())
                 .thenApply(this::createSmithyResponse)
@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.waiters.jmespath;
+
+import java.util.Objects;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.java.jmespath.CompiledJMESPathExpression;
+import software.amazon.smithy.java.jmespath.JMESPathDocumentQuery;
+import software.amazon.smithy.jmespath.JmespathExpression;
+import software.amazon.smithy.jmespath.ast.FieldExpression;
+import software.amazon.smithy.jmespath.ast.Subexpression;
+
+/**
+ * A compiled JMESPath expression that may have input/output evaluated in Waiters.
+ *
+ * <p>Waiters special-case the `input` and `output` keywords, allowing users to target those
+ * shapes in their JMESPath expressions. The expression is compiled once when the waiter is created
+ * rather than each time it's evaluated.
+ */
+sealed interface InputOutputAwareJMESPathExpression {
+
+    String INPUT_NAME = "input";
+    String OUTPUT_NAME = "output";
+
+    /**
+     * Evaluate the expression.
+     *
+     * @param input Input of the call, or null if not available.
+     * @param output Output of the call.
+     * @return the result of the expression.
+     */
+    Document evaluate(Document input, Document output);
+
+    static InputOutputAwareJMESPathExpression compile(JmespathExpression expression) {
+        if (expression instanceof Subexpression subexpression) {
+            return new Sub(compile(subexpression.getLeft()), JMESPathDocumentQuery.compile(subexpression.getRight()));
+        } else if (expression instanceof FieldExpression field) {
+            if (INPUT_NAME.equals(field.getName())) {
+                return new Input(JMESPathDocumentQuery.compile(field));
+            } else if (OUTPUT_NAME.equals(field.getName())) {
+                return new Output();
+            }
+        }
+        return new Query(JMESPathDocumentQuery.compile(expression));
+    }
+
+    record Query(CompiledJMESPathExpression expression) implements InputOutputAwareJMESPathExpression {
+        @Override
+        public Document evaluate(Document input, Document output) {
+            return expression.query(Objects.requireNonNull(output, "output cannot be null"));
+        }
+    }
+
+    record Input(CompiledJMESPathExpression fallback) implements InputOutputAwareJMESPathExpression {
+        @Override
+        public Document evaluate(Document input, Document output) {
+            // Without an input, "input" is just a member of the output.
+            return input != null ? input : fallback.query(Objects.requireNonNull(output, "output cannot be null"));
+        }
+    }
+
+    record Output() implements InputOutputAwareJMESPathExpression {
+        @Override
+        public Document evaluate(Document input, Document output) {
+            return Objects.requireNonNull(output, "output cannot be null");
+        }
+    }
+
+    record Sub(InputOutputAwareJMESPathExpression left, CompiledJMESPathExpression right)
+            implements InputOutputAwareJMESPathExpression {
+        @Override
+        public Document evaluate(Document input, Document output) {
+            return right.query(left.evaluate(input, output));
+        }
+    }
+}
@@ -7,7 +7,7 @@ package software.amazon.smithy.java.client.waiters.jmespath;
 
 import java.util.function.BiPredicate;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
-import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.java.jmespath.JMESPathDocumentQuery;
 import software.amazon.smithy.jmespath.JmespathExpression;
 
 /**
@@ -16,20 +16,19 @@ import software.amazon.smithy.jmespath.JmespathExpression;
  * <p><strong>Note:</strong>The input shape is optional, but the tested output must be nonnull.
  */
 public final class JMESPathBiPredicate implements BiPredicate<SerializableStruct, SerializableStruct> {
-    private final JmespathExpression expression;
+    private final InputOutputAwareJMESPathExpression expression;
     private final String expected;
     private final Comparator comparator;
 
     public JMESPathBiPredicate(String path, String expected, Comparator comparator) {
-        this.expression = JmespathExpression.parse(path);
+        this.expression = InputOutputAwareJMESPathExpression.compile(JmespathExpression.parse(path));
         this.expected = expected;
         this.comparator = comparator;
     }
 
     @Override
     public boolean test(SerializableStruct input, SerializableStruct output) {
-        var value =
-                expression.accept(new InputOutputAwareJMESPathDocumentVisitor(Document.of(input), Document.of(output)));
+        var value = expression.evaluate(JMESPathDocumentQuery.view(input), JMESPathDocumentQuery.view(output));
         return value != null && comparator.compare(value, expected);
     }
 }
@@ -37,7 +37,7 @@ public class TestWaiterDelegator {
                 Document.of("valve")));
 
         var exp = JmespathExpression.parse(str);
-        var value = exp.accept(new InputOutputAwareJMESPathDocumentVisitor(input, output));
+        var value = InputOutputAwareJMESPathExpression.compile(exp).evaluate(input, output);
 
         if (expected == null) {
             assertNull(value);
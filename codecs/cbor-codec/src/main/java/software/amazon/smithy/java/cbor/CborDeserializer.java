@@ -20,10 +20,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import software.amazon.smithy.java.cbor.CborParser.Token;
+import software.amazon.smithy.java.core.schema.PreludeSchemas;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.serde.SerializationException;
 import software.amazon.smithy.java.core.serde.ShapeDeserializer;
 import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.model.shapes.ShapeType;
 
 final class CborDeserializer implements ShapeDeserializer {
     private static final class Canonicalizer {
@@ -103,6 +105,13 @@ final class CborDeserializer implements ShapeDeserializer {
         parser.advance();
     }
 
+    CborDeserializer(byte[] payload, int off, int limit, CborSettings settings) {
+        this.parser = new CborParser(payload, off, limit);
+        this.settings = settings;
+        this.payload = payload;
+        parser.advance();
+    }
+
     CborDeserializer(ByteBuffer byteBuffer, CborSettings settings) {
         this.settings = settings;
         if (byteBuffer.hasArray()) {
@@ -150,13 +159,15 @@ final class CborDeserializer implements ShapeDeserializer {
         if (token == Token.BYTE_STRING) {
             int pos = parser.getPosition();
             int len = parser.getItemLength();
-            ByteBuffer buffer;
             if (CborParser.isIndefinite(len)) {
-                buffer = ByteBuffer.wrap(readByteString(payload, pos, len));
+                // Indefinite-length byte strings are split into chunks that have to be joined into a new array.
+                return ByteBuffer.wrap(readByteString(payload, pos, len));
+            } else if (settings.zeroCopyBlobs()) {
+                // An array-backed slice rather than a read-only view, so consumers can still use the array.
+                return ByteBuffer.wrap(payload, pos, len).slice();
             } else {
-                buffer = ByteBuffer.wrap(payload, pos, len).slice();
+                return ByteBuffer.wrap(Arrays.copyOfRange(payload, pos, pos + len));
             }
-            return buffer;
         }
         throw badType("blob", token);
     }
@@ -284,6 +295,9 @@ final class CborDeserializer implements ShapeDeserializer {
         if (token != Token.TEXT_STRING) {
             throw badType("string", token);
         }
+        if (schema != null && schema.type() == ShapeType.ENUM && settings.cacheRepeatedStrings()) {
+            return settings.stringCache(schema).read(payload, parser.getPosition(), parser.getItemLength());
+        }
         return CborReadUtil.readTextString(payload, parser.getPosition(), parser.getItemLength());
     }
 
@@ -293,6 +307,11 @@ final class CborDeserializer implements ShapeDeserializer {
         if (token == Token.FINISHED) {
             throw new SerializationException("No CBOR value to read");
         }
+        if (settings.lazyDocuments() && (token == Token.START_ARRAY || token == Token.START_OBJECT)) {
+            int start = parser.getItemStart();
+            parser.skipCollection();
+            return CborDocuments.lazy(payload, start, parser.getLimit(), settings);
+        }
         return switch (token) {
             case Token.POS_INT, Token.NEG_INT -> Document.of(readLong(null));
             case Token.NULL -> null;
@@ -315,6 +334,7 @@ final class CborDeserializer implements ShapeDeserializer {
                 }
             }
             case Token.POS_BIGINT, Token.NEG_BIGINT -> Document.of(readBigInteger(null));
+            case Token.BIG_DECIMAL -> Document.of(readBigDecimal(null));
             case Token.START_ARRAY -> {
                 List<Document> values = new ArrayList<>();
                 for (token = parser.advance(); token != Token.END_ARRAY; token = parser.advance()) {
@@ -329,7 +349,7 @@ final class CborDeserializer implements ShapeDeserializer {
                         throw badType("struct member", token);
                     }
 
-                    var key = CborReadUtil.readTextString(payload, parser.getPosition(), parser.getItemLength());
+                    var key = readKey(settings.stringCache(PreludeSchemas.DOCUMENT));
                     parser.advance();
                     values.put(key, readDocument());
                 }
@@ -344,7 +364,7 @@ final class CborDeserializer implements ShapeDeserializer {
         byte token = parser.currentToken();
         byte actual = (byte) (token ^ Token.TAG_FLAG);
         if (actual <= Token.NEG_INT) {
-            return Instant.ofEpochMilli(readLong("timestamp", token) * 1000);
+            return Instant.ofEpochMilli(readLong("timestamp", actual) * 1000);
         } else if (actual == Token.FLOAT) {
             double d = readDouble("timestamp", actual);
             return Instant.ofEpochMilli(Math.round(d * 1000d));
@@ -430,6 +450,13 @@ final class CborDeserializer implements ShapeDeserializer {
         return canonicalizer;
     }
 
+    private String readKey(CborStringCache cache) {
+        if (cache != null) {
+            return cache.read(payload, parser.getPosition(), parser.getItemLength());
+        }
+        return CborReadUtil.readTextString(payload, parser.getPosition(), parser.getItemLength());
+    }
+
     @Override
     public <T> void readList(Schema schema, T state, ListMemberConsumer<T> consumer) {
         byte token = parser.currentToken();
@@ -454,11 +481,12 @@ final class CborDeserializer implements ShapeDeserializer {
             throw badType("struct", token);
         }
 
+        var keyCache = settings.stringCache(schema);
         for (token = parser.advance(); token != Token.END_OBJECT; token = parser.advance()) {
             if (token != Token.KEY) {
                 throw badType("key", token);
             }
-            var key = CborReadUtil.readTextString(payload, parser.getPosition(), parser.getItemLength());
+            var key = readKey(keyCache);
             parser.advance();
             consumer.accept(state, key, this);
         }
@@ -5,8 +5,15 @@
 
 package software.amazon.smithy.java.cbor;
 
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
+import software.amazon.smithy.java.cbor.CborParser.Token;
 import software.amazon.smithy.java.core.schema.PreludeSchemas;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.serde.ShapeDeserializer;
@@ -21,6 +28,9 @@ import software.amazon.smithy.utils.SmithyInternalApi;
 public final class CborDocuments {
 
     private static final Schema STRING_MAP_KEY;
+    private static final Schema LIST = Schema.listBuilder(PreludeSchemas.DOCUMENT.id())
+            .putMember("member", PreludeSchemas.DOCUMENT)
+            .build();
 
     static {
         var tempSchema = Schema.structureBuilder(PreludeSchemas.DOCUMENT.id())
@@ -35,6 +45,25 @@ public final class CborDocuments {
         return new MapDocument(values, settings);
     }
 
+    /**
+     * Create a document that decodes an encoded CBOR map or array from the payload as it's accessed.
+     *
+     * @param payload Payload that contains the document.
+     * @param start Position of the first byte of the encoded map or array.
+     * @param limit Position where the payload ends.
+     * @param settings Settings used to decode the document.
+     * @return the created document.
+     */
+    static Document lazy(byte[] payload, int start, int limit, CborSettings settings) {
+        int major = (payload[start] & 0xff) >> CborConstants.MAJOR_TYPE_SHIFT;
+        if (major == CborConstants.MAJOR_TYPE_MAP) {
+            return new LazyMapDocument(payload, start, limit, settings);
+        } else if (major == CborConstants.MAJOR_TYPE_ARRAY) {
+            return new LazyListDocument(payload, start, limit, settings);
+        }
+        throw new BadCborException("expected a CBOR map or array at position " + start);
+    }
+
     private static final class MapDocument implements Document {
         private final Map<String, Document> values;
         private final CborSettings settings;
@@ -104,6 +133,235 @@ public final class CborDocuments {
         }
     }
 
+    /**
+     * Offsets of each entry of a lazy document, along with the entries that have been decoded so far.
+     *
+     * @param ordinals Maps each member name to its position in offsets, or null for arrays.
+     * @param offsets Position of the first byte of each entry's value.
+     * @param values Decoded values, or UNDECODED for entries that haven't been accessed.
+     */
+    private record Index(Map<String, Integer> ordinals, int[] offsets, Object[] values) {}
+
+    private static final Object UNDECODED = new Object();
+
+    /**
+     * A map or array document that is backed by the bytes of a CBOR payload.
+     *
+     * <p>Nothing is decoded until the document is accessed. The first access walks the encoded collection once to
+     * find where each entry starts, skipping over the contents of nested collections. Entries are then decoded
+     * individually as they're requested, and nested maps and arrays are themselves lazy.
+     */
+    private abstract static sealed class LazyDocument implements Document permits LazyMapDocument, LazyListDocument {
+        private final byte[] payload;
+        private final int start;
+        private final int limit;
+        final CborSettings settings;
+        private volatile Index index;
+
+        LazyDocument(byte[] payload, int start, int limit, CborSettings settings) {
+            this.payload = payload;
+            this.start = start;
+            this.limit = limit;
+            this.settings = settings;
+        }
+
+        final Index index() {
+            var result = index;
+            if (result == null) {
+                result = createIndex();
+                index = result;
+            }
+            return result;
+        }
+
+        private Index createIndex() {
+            var parser = new CborParser(payload, start, limit);
+            var ordinals = parser.advance() == Token.START_OBJECT ? new LinkedHashMap<String, Integer>() : null;
+            int[] offsets = new int[8];
+            int count = 0;
+            for (byte token = parser.advance();
+                    token != Token.END_ARRAY && token != Token.END_OBJECT;
+                    token = parser.advance()) {
+                String key = null;
+                if (ordinals != null) {
+                    key = CborReadUtil.readTextString(payload, parser.getPosition(), parser.getItemLength());
+                    token = parser.advance();
+                }
+                int offset = parser.getItemStart();
+                if (token == Token.START_ARRAY || token == Token.START_OBJECT) {
+                    parser.skipCollection();
+                }
+                if (ordinals != null) {
+                    // Like a LinkedHashMap, the last duplicate key wins but keeps the position of the first.
+                    var existing = ordinals.putIfAbsent(key, count);
+                    if (existing != null) {
+                        offsets[existing] = offset;
+                        continue;
+                    }
+                }
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, count << 1);
+                }
+                offsets[count++] = offset;
+            }
+            var values = new Object[count];
+            Arrays.fill(values, UNDECODED);
+            return new Index(ordinals, Arrays.copyOf(offsets, count), values);
+        }
+
+        final Document get(Index index, int ordinal) {
+            var value = index.values[ordinal];
+            if (value == UNDECODED) {
+                // Racing threads decode equal values, so there's no need to synchronize.
+                value = decode(index.offsets[ordinal]);
+                index.values[ordinal] = value;
+            }
+            return (Document) value;
+        }
+
+        private Document decode(int offset) {
+            int major = (payload[offset] & 0xff) >> CborConstants.MAJOR_TYPE_SHIFT;
+            if (major == CborConstants.MAJOR_TYPE_MAP || major == CborConstants.MAJOR_TYPE_ARRAY) {
+                return lazy(payload, offset, limit, settings);
+            }
+            return new CborDeserializer(payload, offset, limit, settings).readDocument();
+        }
+
+        @Override
+        public int size() {
+            return index().offsets.length;
+        }
+
+        @Override
+        public ShapeDeserializer createDeserializer() {
+            return new CborDocumentSerializer(settings, this);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return Document.equals(this, obj);
+        }
+    }
+
+    private static final class LazyMapDocument extends LazyDocument {
+        private volatile Map<String, Document> values;
+
+        LazyMapDocument(byte[] payload, int start, int limit, CborSettings settings) {
+            super(payload, start, limit, settings);
+        }
+
+        @Override
+        public ShapeType type() {
+            return ShapeType.MAP;
+        }
+
+        @Override
+        public ShapeId discriminator() {
+            String discriminator = null;
+            var member = getMember("__type");
+            if (member != null && member.type() == ShapeType.STRING) {
+                discriminator = member.asString();
+            }
+            return DocumentDeserializer.parseDiscriminator(discriminator, settings.defaultNamespace());
+        }
+
+        @Override
+        public Map<String, Document> asStringMap() {
+            var result = values;
+            if (result == null) {
+                var index = index();
+                result = new LinkedHashMap<>(index.ordinals.size());
+                for (var entry : index.ordinals.entrySet()) {
+                    result.put(entry.getKey(), get(index, entry.getValue()));
+                }
+                result = Collections.unmodifiableMap(result);
+                values = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Document getMember(String memberName) {
+            var index = index();
+            var ordinal = index.ordinals.get(memberName);
+            return ordinal == null ? null : get(index, ordinal);
+        }
+
+        @Override
+        public Set<String> getMemberNames() {
+            return Collections.unmodifiableSet(index().ordinals.keySet());
+        }
+
+        @Override
+        public void serializeContents(ShapeSerializer serializer) {
+            var members = asStringMap();
+            serializer.writeMap(PreludeSchemas.DOCUMENT, members, members.size(), (stringMap, mapSerializer) -> {
+                for (var e : stringMap.entrySet()) {
+                    mapSerializer.writeEntry(STRING_MAP_KEY, e.getKey(), e.getValue(), Document::serializeContents);
+                }
+            });
+        }
+
+        @Override
+        public int hashCode() {
+            return asStringMap().hashCode();
+        }
+    }
+
+    private static final class LazyListDocument extends LazyDocument {
+        LazyListDocument(byte[] payload, int start, int limit, CborSettings settings) {
+            super(payload, start, limit, settings);
+        }
+
+        @Override
+        public ShapeType type() {
+            return ShapeType.LIST;
+        }
+
+        @Override
+        public List<Document> asList() {
+            return new Elements(index());
+        }
+
+        @Override
+        public void serializeContents(ShapeSerializer serializer) {
+            var elements = asList();
+            serializer.writeList(LIST, elements, elements.size(), (values, ser) -> {
+                for (var element : values) {
+                    if (element == null) {
+                        ser.writeNull(LIST.listMember());
+                    } else {
+                        element.serialize(ser);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public int hashCode() {
+            return asList().hashCode();
+        }
+
+        // An unmodifiable view that decodes each element the first time it's read.
+        private final class Elements extends AbstractList<Document> implements RandomAccess {
+            private final Index index;
+
+            Elements(Index index) {
+                this.index = index;
+            }
+
+            @Override
+            public Document get(int i) {
+                return LazyListDocument.this.get(index, i);
+            }
+
+            @Override
+            public int size() {
+                return index.offsets.length;
+            }
+        }
+    }
+
     /**
      * Customized version of DocumentDeserializer to account for the settings of the CBOR codec.
      */
@@ -151,6 +151,7 @@ public final class CborParser {
     private final byte[] buffer;
     private final int len;
     private int idx;
+    private int itemStart;
     private byte token;
 
     // Definite sizes shrink to zero, indefinite sizes start at -1 and decrement meaninglessly towards Long.MIN_VALUE.
@@ -193,6 +194,26 @@ public final class CborParser {
         return itemLength;
     }
 
+    /**
+     * Gets the position of the first byte that encodes the current data item, including the initial byte of a
+     * collection and any tag that precedes the item.
+     *
+     * <p>Unlike {@link #getPosition()}, this position can be used to create a new parser that starts at the
+     * current data item.
+     *
+     * @return the starting position of the encoded item
+     */
+    int getItemStart() {
+        return itemStart;
+    }
+
+    /**
+     * @return the position where the payload ends
+     */
+    int getLimit() {
+        return len;
+    }
+
     public int collectionSize() {
         long s = currentState >> 2;
         return s >= 0 ? (int) s : -1;
@@ -220,6 +241,26 @@ public final class CborParser {
         return (token = nextToken0());
     }
 
+    /**
+     * Advances from the start of an array or map to its end without decoding any of its contents.
+     *
+     * <p>The current token must be {@link Token#START_ARRAY} or {@link Token#START_OBJECT}. When this method
+     * returns, the current token is the matching {@link Token#END_ARRAY} or {@link Token#END_OBJECT}.
+     */
+    void skipCollection() {
+        int depth = 1;
+        do {
+            byte next = advance();
+            if (next == Token.START_ARRAY || next == Token.START_OBJECT) {
+                depth++;
+            } else if (next == Token.END_ARRAY || next == Token.END_OBJECT) {
+                depth--;
+            } else if (next == Token.FINISHED) {
+                throw new BadCborException("unexpected end of collection");
+            }
+        } while (depth > 0);
+    }
+
     private byte nextToken0() {
         if (inCollection) {
             long state = currentState;
@@ -241,6 +282,9 @@ public final class CborParser {
             return endOfBuffer(i);
         }
 
+        if (!readingTag) {
+            itemStart = i;
+        }
         return dispatch(buffer[i]);
     }
 
@@ -328,7 +372,10 @@ public final class CborParser {
                     throw new BadCborException("malformed -bignum: got " + name(next));
                 return Token.NEG_BIGINT;
             case TAG_DECIMAL:
+                int tagStart = itemStart;
                 tagDecimalFp(next);
+                // The decimal's contents are read as separate items, so restore the start of the tag.
+                itemStart = tagStart;
                 return Token.BIG_DECIMAL;
             default:
                 throw new BadCborException("unsupported tag minor " + minor);
@@ -18,14 +18,21 @@ import static software.amazon.smithy.java.cbor.CborParser.TYPE_TAG;
 import static software.amazon.smithy.java.cbor.CborParser.ZERO_BYTES;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import software.amazon.smithy.utils.SmithyInternalApi;
 
 @SmithyInternalApi
 public final class CborReadUtil {
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+            ByteOrder.LITTLE_ENDIAN);
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
+
     public static int argLength(int minorType) {
         if (minorType <= ZERO_BYTES)
             return 0;
@@ -196,8 +203,44 @@ public final class CborReadUtil {
         if (CborParser.isIndefinite(len)) {
             return new String(readBytesIndefinite(buffer, off, CborParser.itemLength(len)), StandardCharsets.UTF_8);
         } else {
-            return new String(buffer, off, len, StandardCharsets.UTF_8);
+            return readTextStringFinite(buffer, off, len);
+        }
+    }
+
+    private static String readTextStringFinite(byte[] buffer, int off, int len) {
+        if (off + len > buffer.length) {
+            throw new BadCborException("out-of-bounds finite string read operands", true);
+        }
+        // Most strings in a payload (member names, enum values, identifiers) are pure ASCII. Those can be copied
+        // straight into a Latin-1 string without running the UTF-8 decoder.
+        if (isAscii(buffer, off, len)) {
+            return new String(buffer, off, len, StandardCharsets.ISO_8859_1);
+        }
+        return new String(buffer, off, len, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks if a range of bytes is entirely ASCII, testing eight bytes at a time.
+     *
+     * @param buffer the buffer to check
+     * @param off    offset where the range begins
+     * @param len    length of the range
+     * @return true if every byte in the range is ASCII
+     */
+    static boolean isAscii(byte[] buffer, int off, int len) {
+        int end = off + len;
+        int i = off;
+        for (; i + Long.BYTES <= end; i += Long.BYTES) {
+            if (((long) LONG_VIEW.get(buffer, i) & NON_ASCII_MASK) != 0) {
+                return false;
+            }
         }
+        for (; i < end; i++) {
+            if (buffer[i] < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public static byte[] readByteString(byte[] buffer, int off, int len) {
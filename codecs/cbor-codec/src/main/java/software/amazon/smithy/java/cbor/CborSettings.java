@@ -5,8 +5,11 @@
 
 package software.amazon.smithy.java.cbor;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.java.core.schema.Schema;
 
 public final class CborSettings {
     private static final CborSerdeProvider PROVIDER;
@@ -41,10 +44,19 @@ public final class CborSettings {
 
     private final String defaultNamespace;
     private final CborSerdeProvider provider;
+    private final boolean cacheRepeatedStrings;
+    private final boolean zeroCopyBlobs;
+    private final boolean lazyDocuments;
+    private final Map<Schema, CborStringCache> stringCaches;
 
     private CborSettings(Builder builder) {
         this.defaultNamespace = builder.defaultNamespace;
         this.provider = builder.provider;
+        this.cacheRepeatedStrings = builder.cacheRepeatedStrings;
+        this.zeroCopyBlobs = builder.zeroCopyBlobs;
+        this.lazyDocuments = builder.lazyDocuments;
+        // Caches are scoped to these settings, so they're shared only by codecs created from them.
+        this.stringCaches = cacheRepeatedStrings ? new ConcurrentHashMap<>() : null;
     }
 
     public CborSerdeProvider provider() {
@@ -55,6 +67,28 @@ public final class CborSettings {
         return defaultNamespace;
     }
 
+    public boolean cacheRepeatedStrings() {
+        return cacheRepeatedStrings;
+    }
+
+    /**
+     * Get the cache of repeated strings read for the given schema.
+     *
+     * @param schema Enum, map, or document schema that the strings are read for.
+     * @return the cache, or null if repeated strings aren't cached.
+     */
+    CborStringCache stringCache(Schema schema) {
+        return stringCaches == null ? null : stringCaches.computeIfAbsent(schema, s -> new CborStringCache());
+    }
+
+    public boolean zeroCopyBlobs() {
+        return zeroCopyBlobs;
+    }
+
+    public boolean lazyDocuments() {
+        return lazyDocuments;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -62,6 +96,9 @@ public final class CborSettings {
     public static final class Builder {
         private String defaultNamespace;
         private CborSerdeProvider provider = PROVIDER;
+        private boolean cacheRepeatedStrings = false;
+        private boolean zeroCopyBlobs = true;
+        private boolean lazyDocuments = false;
 
         /**
          * Sets the default namespace when attempting to deserialize documents that use a relative shape ID.
@@ -76,6 +113,56 @@ public final class CborSettings {
             return this;
         }
 
+        /**
+         * Whether to reuse previously decoded strings for enum values, map keys, and document keys.
+         *
+         * <p>These values tend to repeat many times within and across payloads, so a small bounded cache per schema
+         * avoids decoding and allocating the same strings over and over. The caches are shared by every deserializer
+         * created with these settings. Payloads with many distinct keys gain little from the cache, so it is
+         * disabled by default.
+         *
+         * @param cacheRepeatedStrings True to cache repeated strings.
+         * @return the builder.
+         */
+        public Builder cacheRepeatedStrings(boolean cacheRepeatedStrings) {
+            this.cacheRepeatedStrings = cacheRepeatedStrings;
+            return this;
+        }
+
+        /**
+         * Whether deserialized blobs are views over the payload rather than copies.
+         *
+         * <p>When enabled, definite-length byte strings are returned as slices of the payload being deserialized,
+         * so large binary values are never copied. The slices are backed by the payload's array, with
+         * {@link java.nio.ByteBuffer#arrayOffset()} pointing at the start of the blob, so writing to a blob writes
+         * to the payload. The payload must not be modified or reused while the deserialized blobs are in use. When
+         * disabled, every blob is copied into its own array. Indefinite-length byte strings are always copied.
+         * Enabled by default.
+         *
+         * @param zeroCopyBlobs True to return blobs that share the payload's memory.
+         * @return the builder.
+         */
+        public Builder zeroCopyBlobs(boolean zeroCopyBlobs) {
+            this.zeroCopyBlobs = zeroCopyBlobs;
+            return this;
+        }
+
+        /**
+         * Whether documents are decoded lazily from the payload as they are accessed.
+         *
+         * <p>When enabled, reading a document that is a map or array only skips over its encoded bytes. The
+         * offsets of its entries are indexed the first time the document is accessed, and each entry is decoded
+         * only when it is requested, so reading a few members of a large document doesn't decode the rest of it.
+         * The payload must not be modified or reused while these documents are in use. Disabled by default.
+         *
+         * @param lazyDocuments True to create documents that are backed by the payload.
+         * @return the builder.
+         */
+        public Builder lazyDocuments(boolean lazyDocuments) {
+            this.lazyDocuments = lazyDocuments;
+            return this;
+        }
+
         /**
          * Uses a custom CBOR serde provider.
          *
@@ -90,6 +177,9 @@ public final class CborSettings {
         public Builder updateBuilder(CborSettings settings) {
             overrideSerdeProvider(settings.provider());
             defaultNamespace(settings.defaultNamespace());
+            cacheRepeatedStrings(settings.cacheRepeatedStrings());
+            zeroCopyBlobs(settings.zeroCopyBlobs());
+            lazyDocuments(settings.lazyDocuments());
             return this;
         }
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.cbor;
+
+import java.util.Arrays;
+
+/**
+ * A small, bounded, direct-mapped cache of decoded CBOR text strings.
+ *
+ * <p>Payloads often repeat the same short strings many times (map keys, enum values, status codes). This cache
+ * returns a previously decoded String when the same UTF-8 bytes are seen again, avoiding both the decode and the
+ * allocation. Each slot holds a single immutable entry. A colliding string only replaces the entry after the slot
+ * has missed {@link #MISSES_BEFORE_REPLACING} times in a row, so payloads with many distinct strings don't allocate
+ * an entry for every miss. Entries are safely published through their final fields, and the miss counters are only
+ * a heuristic, so the cache can be shared across threads without locking.
+ */
+final class CborStringCache {
+
+    private static final int SLOTS = 128;
+    private static final int MAX_CACHED_LENGTH = 64;
+    private static final int MISSES_BEFORE_REPLACING = 8;
+
+    private record Entry(byte[] utf8, String value) {}
+
+    private final Entry[] entries = new Entry[SLOTS];
+    private final byte[] misses = new byte[SLOTS];
+
+    String read(byte[] payload, int off, int len) {
+        if (len > MAX_CACHED_LENGTH || CborParser.isIndefinite(len)) {
+            return CborReadUtil.readTextString(payload, off, len);
+        }
+
+        int slot = hash(payload, off, len) & (SLOTS - 1);
+        var entry = entries[slot];
+        if (entry != null && Arrays.equals(entry.utf8, 0, entry.utf8.length, payload, off, off + len)) {
+            if (misses[slot] != 0) {
+                misses[slot] = 0;
+            }
+            return entry.value;
+        }
+
+        var value = CborReadUtil.readTextString(payload, off, len);
+        if (entry == null || ++misses[slot] >= MISSES_BEFORE_REPLACING) {
+            misses[slot] = 0;
+            entries[slot] = new Entry(Arrays.copyOfRange(payload, off, off + len), value);
+        }
+        return value;
+    }
+
+    private static int hash(byte[] payload, int off, int len) {
+        int h = len;
+        for (int i = off, end = off + len; i < end; i++) {
+            h = 31 * h + payload[i];
+        }
+        return h ^ (h >>> 16);
+    }
+}
@@ -64,6 +64,47 @@ public final class Rpcv2CborCodec implements Codec {
             return this;
         }
 
+        /**
+         * Whether to reuse previously decoded strings for enum values, map keys, and document keys.
+         *
+         * <p>Disabled by default.
+         *
+         * @param cacheRepeatedStrings True to cache repeated strings.
+         * @return the builder.
+         */
+        public Builder cacheRepeatedStrings(boolean cacheRepeatedStrings) {
+            settings().cacheRepeatedStrings(cacheRepeatedStrings);
+            return this;
+        }
+
+        /**
+         * Whether deserialized blobs are views over the payload rather than copies.
+         *
+         * <p>Enabled by default.
+         *
+         * @param zeroCopyBlobs True to return blobs that share the payload's memory.
+         * @return the builder.
+         * @see CborSettings.Builder#zeroCopyBlobs(boolean)
+         */
+        public Builder zeroCopyBlobs(boolean zeroCopyBlobs) {
+            settings().zeroCopyBlobs(zeroCopyBlobs);
+            return this;
+        }
+
+        /**
+         * Whether documents are decoded lazily from the payload as they are accessed.
+         *
+         * <p>Disabled by default.
+         *
+         * @param lazyDocuments True to create documents that are backed by the payload.
+         * @return the builder.
+         * @see CborSettings.Builder#lazyDocuments(boolean)
+         */
+        public Builder lazyDocuments(boolean lazyDocuments) {
+            settings().lazyDocuments(lazyDocuments);
+            return this;
+        }
+
         /**
          * Uses a custom CBOR serde provider.
          *
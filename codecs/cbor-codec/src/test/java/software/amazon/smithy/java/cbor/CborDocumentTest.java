@@ -7,6 +7,7 @@ package software.amazon.smithy.java.cbor;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.comparesEqualTo;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
@@ -21,13 +22,16 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import software.amazon.smithy.java.core.schema.PreludeSchemas;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
@@ -430,4 +434,95 @@ public class CborDocumentTest {
     public void failsToParseRelativeDiscriminatorWithNoDefaultNamespace() {
         toCbor("{\"__type\":\"Foo\"}").readDocument();
     }
+
+    private static Document createNestedDocument() {
+        Map<String, Document> item = new LinkedHashMap<>();
+        item.put("id", Document.of(2));
+        item.put("tags", Document.of(List.of(Document.of("a"), Document.of("b"))));
+
+        Map<String, Document> root = new LinkedHashMap<>();
+        root.put("__type", Document.of("com.example#Foo"));
+        root.put("name", Document.of("hello"));
+        root.put("items", Document.of(List.of(Document.of(Map.of("id", Document.of(1))), Document.of(item))));
+        root.put("timestamp", Document.of(Instant.ofEpochSecond(10)));
+        root.put("big", Document.of(new BigInteger("123456789012345678901234567890")));
+        root.put("empty", Document.of(Map.of()));
+        return Document.of(root);
+    }
+
+    @Test
+    public void lazyDocumentsEqualEagerDocuments() {
+        var tree = createNestedDocument();
+        var eager = toCbor(tree).readDocument();
+        var lazy = toCbor(tree, CborSettings.builder().lazyDocuments(true).build()).readDocument();
+
+        assertThat(lazy, equalTo(eager));
+        assertThat(eager, equalTo(lazy));
+        assertThat(Document.equals(toCbor(lazy).readDocument(), eager), is(true));
+    }
+
+    @Test
+    public void lazyDocumentsDecodeMembersOnDemand() {
+        var settings = CborSettings.builder().lazyDocuments(true).build();
+        var document = toCbor(createNestedDocument(), settings).readDocument();
+
+        assertThat(document.type(), is(ShapeType.MAP));
+        assertThat(document.size(), is(6));
+        assertThat(document.getMemberNames(), contains("__type", "name", "items", "timestamp", "big", "empty"));
+        assertThat(document.discriminator(), equalTo(ShapeId.from("com.example#Foo")));
+        assertThat(document.getMember("name").asString(), equalTo("hello"));
+        assertThat(document.getMember("missing"), nullValue());
+
+        var items = document.getMember("items");
+        assertThat(items.type(), is(ShapeType.LIST));
+        assertThat(items.size(), is(2));
+        assertThat(items.asList().get(1).getMember("id").asInteger(), is(2));
+        assertThat(items.asList().get(1).getMember("tags").asList().get(1).asString(), equalTo("b"));
+        assertThat(document.getMember("timestamp").asTimestamp(), equalTo(Instant.ofEpochSecond(10)));
+        assertThat(document.getMember("big").asBigInteger(),
+                equalTo(new BigInteger("123456789012345678901234567890")));
+        assertThat(document.getMember("empty").size(), is(0));
+        assertThat(document.asStringMap().keySet(), hasSize(6));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void readsTaggedItemsInDocuments(boolean lazyDocuments) {
+        byte[] payload = {
+                (byte) 0xA3,
+                // "t": 1(10), an epoch-seconds timestamp.
+                0x61, 't', (byte) 0xC1, 0x0A,
+                // "d": 4([-2, 256]), the decimal 2.56.
+                0x61, 'd', (byte) 0xC4, (byte) 0x82, 0x21, 0x19, 0x01, 0x00,
+                // "l": [1(10), 5].
+                0x61, 'l', (byte) 0x82, (byte) 0xC1, 0x0A, 0x05
+        };
+        var settings = CborSettings.builder().lazyDocuments(lazyDocuments).build();
+        var document = Rpcv2CborCodec.builder().settings(settings).build().createDeserializer(payload).readDocument();
+
+        assertThat(document.getMember("t").asTimestamp(), equalTo(Instant.ofEpochSecond(10)));
+        assertThat(document.getMember("d").asBigDecimal(), equalTo(new BigDecimal("2.56")));
+        assertThat(document.getMember("l").asList().get(0).asTimestamp(), equalTo(Instant.ofEpochSecond(10)));
+        assertThat(document.getMember("l").asList().get(1).asInteger(), is(5));
+    }
+
+    @Test
+    public void skipsLazyDocumentsWhenReadingCollections() {
+        var listSchema = Schema.listBuilder(ShapeId.from("smithy.example#Documents"))
+                .putMember("member", PreludeSchemas.DOCUMENT)
+                .build();
+        var tree = Document.of(List.of(
+                createNestedDocument(),
+                Document.of(List.of(Document.of(1), Document.of(List.of()))),
+                Document.of("after")));
+        var de = toCbor(tree, CborSettings.builder().lazyDocuments(true).build());
+
+        List<Document> result = new ArrayList<>();
+        de.readList(listSchema, result, (values, d) -> values.add(d.readDocument()));
+
+        assertThat(result, hasSize(3));
+        assertThat(result.get(0).getMember("name").asString(), equalTo("hello"));
+        assertThat(result.get(1).asList().get(0).asInteger(), is(1));
+        assertThat(result.get(2).asString(), equalTo("after"));
+    }
 }
@@ -8,6 +8,9 @@ package software.amazon.smithy.java.cbor;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static software.amazon.smithy.java.cbor.CborReadUtil.readByteString;
@@ -24,10 +27,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import software.amazon.smithy.java.cbor.CborParser.Token;
+import software.amazon.smithy.java.core.schema.PreludeSchemas;
 import software.amazon.smithy.java.core.serde.MapSerializer;
 import software.amazon.smithy.java.core.serde.ShapeSerializer;
 import software.amazon.smithy.java.io.ByteBufferOutputStream;
 import software.amazon.smithy.java.io.ByteBufferUtils;
+import software.amazon.smithy.java.io.datastream.DataStream;
 
 public class CborParserTest {
     private byte[] cbor;
@@ -494,6 +499,62 @@ public class CborParserTest {
         finished();
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"", "a", "status", "exactly8", "a much longer ascii-only string", "caf\u00e9", "0123456\u00ff",
+            "\u65e5\u672c\u8a9e\u0020ascii tail"})
+    public void readsAsciiAndMultiByteTextStrings(String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[utf8.length + 3];
+        System.arraycopy(utf8, 0, padded, 3, utf8.length);
+
+        assertEquals(value, readTextString(utf8, 0, utf8.length));
+        assertEquals(value, readTextString(padded, 3, utf8.length));
+        assertEquals(value.chars().allMatch(c -> c < 0x80), CborReadUtil.isAscii(padded, 3, utf8.length));
+    }
+
+    @Test
+    public void stringCacheReturnsSameInstanceForRepeatedBytes() {
+        var cache = new CborStringCache();
+        byte[] payload = "ACTIVEACTIVEINACTIVE".getBytes(StandardCharsets.UTF_8);
+
+        var first = cache.read(payload, 0, 6);
+        var second = cache.read(payload, 6, 6);
+        var third = cache.read(payload, 12, 8);
+
+        assertEquals("ACTIVE", first);
+        assertSame(first, second);
+        assertEquals("INACTIVE", third);
+    }
+
+    @Test
+    public void stringCachesAreOptInAndScopedToSettings() {
+        var schema = PreludeSchemas.DOCUMENT;
+        var settings = CborSettings.builder().cacheRepeatedStrings(true).build();
+
+        assertNull(CborSettings.defaultSettings().stringCache(schema));
+        assertSame(settings.stringCache(schema), settings.stringCache(schema));
+        assertNotSame(settings.stringCache(schema),
+                CborSettings.builder().cacheRepeatedStrings(true).build().stringCache(schema));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void readsDefiniteLengthBlobs(boolean zeroCopyBlobs) {
+        // A 3-byte string followed by nothing: 0x43 'a' 'b' 'c'.
+        byte[] payload = {0x43, 'a', 'b', 'c'};
+        var settings = CborSettings.builder().zeroCopyBlobs(zeroCopyBlobs).build();
+        var blob = new CborDeserializer(payload, settings).readBlob(PreludeSchemas.BLOB);
+
+        assertArrayEquals("abc".getBytes(StandardCharsets.UTF_8), ByteBufferUtils.getBytes(blob));
+        assertTrue(blob.hasArray());
+        assertEquals(zeroCopyBlobs, blob.array() == payload);
+        assertEquals(3, DataStream.ofByteBuffer(blob).contentLength());
+
+        // Zero-copy blobs are views over the payload, while copied blobs are independent of it.
+        payload[1] = 'z';
+        assertEquals(zeroCopyBlobs ? 'z' : 'a', blob.get(0));
+    }
+
     private void token(byte token) {
         byte next = parser.advance();
         assertEquals(token, next, "expected " + Token.name(token) + " but got " + Token.name(next));
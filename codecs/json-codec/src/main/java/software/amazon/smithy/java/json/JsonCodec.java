@@ -5,6 +5,7 @@
 
 package software.amazon.smithy.java.json;
 
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import software.amazon.smithy.java.core.serde.Codec;
@@ -56,6 +57,11 @@ public final class JsonCodec implements Codec {
         return settings.provider().newDeserializer(source, settings);
     }
 
+    @Override
+    public ShapeDeserializer createDeserializer(InputStream source) {
+        return settings.provider().newDeserializer(source, settings);
+    }
+
     public static final class Builder {
         private final JsonSettings.Builder settingsBuilder = JsonSettings.builder();
 
@@ -164,6 +170,22 @@ public final class JsonCodec implements Codec {
             return this;
         }
 
+        /**
+         * Whether to decode base64 blobs directly from the parser's buffered text into an exactly sized array.
+         *
+         * <p>By default, blobs are decoded by the underlying parser into an intermediate growable buffer and then
+         * copied out. When enabled, plain padded base64 values skip that intermediate buffer, so large binary
+         * values are only materialized once. Values that aren't plain padded base64 are still decoded by the
+         * parser. Default is false.
+         *
+         * @param directBlobDecoding true to decode blobs directly
+         * @return the builder
+         */
+        public Builder directBlobDecoding(boolean directBlobDecoding) {
+            settingsBuilder.directBlobDecoding(directBlobDecoding);
+            return this;
+        }
+
         /**
          * Uses a custom JSON serde provider.
          *
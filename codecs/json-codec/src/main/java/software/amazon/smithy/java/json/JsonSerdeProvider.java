@@ -5,8 +5,11 @@
 
 package software.amazon.smithy.java.json;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import software.amazon.smithy.java.core.serde.SerializationException;
 import software.amazon.smithy.java.core.serde.ShapeDeserializer;
 import software.amazon.smithy.java.core.serde.ShapeSerializer;
 
@@ -20,6 +23,14 @@ public interface JsonSerdeProvider {
 
     ShapeDeserializer newDeserializer(ByteBuffer source, JsonSettings settings);
 
+    default ShapeDeserializer newDeserializer(InputStream source, JsonSettings settings) {
+        try {
+            return newDeserializer(source.readAllBytes(), settings);
+        } catch (IOException e) {
+            throw new SerializationException(e);
+        }
+    }
+
     ShapeSerializer newSerializer(OutputStream sink, JsonSettings settings);
 
 }
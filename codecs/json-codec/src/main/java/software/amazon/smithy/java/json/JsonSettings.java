@@ -45,6 +45,7 @@ public final class JsonSettings {
     private final JsonSerdeProvider provider;
     private final boolean serializeTypeInDocuments;
     private final boolean prettyPrint;
+    private final boolean directBlobDecoding;
 
     private JsonSettings(Builder builder) {
         this.timestampResolver = builder.useTimestampFormat
@@ -58,6 +59,7 @@ public final class JsonSettings {
         this.provider = builder.provider;
         this.serializeTypeInDocuments = builder.serializeTypeInDocuments;
         this.prettyPrint = builder.prettyPrint;
+        this.directBlobDecoding = builder.directBlobDecoding;
     }
 
     /**
@@ -124,6 +126,15 @@ public final class JsonSettings {
         return prettyPrint;
     }
 
+    /**
+     * Whether base64 blobs are decoded directly from the parser's buffered text into an exactly sized array.
+     *
+     * @return true if blobs are decoded directly
+     */
+    public boolean directBlobDecoding() {
+        return directBlobDecoding;
+    }
+
     JsonSerdeProvider provider() {
         return provider;
     }
@@ -140,6 +151,7 @@ public final class JsonSettings {
         }
         builder.serializeTypeInDocuments(serializeTypeInDocuments);
         builder.prettyPrint(prettyPrint);
+        builder.directBlobDecoding(directBlobDecoding);
     }
 
     /**
@@ -165,6 +177,7 @@ public final class JsonSettings {
         private JsonSerdeProvider provider = PROVIDER;
         private boolean serializeTypeInDocuments = true;
         private boolean prettyPrint = false;
+        private boolean directBlobDecoding = false;
 
         private Builder() {}
 
@@ -265,6 +278,22 @@ public final class JsonSettings {
             return this;
         }
 
+        /**
+         * Whether to decode base64 blobs directly from the parser's buffered text into an exactly sized array.
+         *
+         * <p>By default, blobs are decoded by the underlying parser into an intermediate growable buffer and then
+         * copied out. When enabled, plain padded base64 values skip that intermediate buffer, so large binary
+         * values are only materialized once. Values that aren't plain padded base64 are still decoded by the
+         * parser. Default is false.
+         *
+         * @param directBlobDecoding true to decode blobs directly
+         * @return the builder
+         */
+        public Builder directBlobDecoding(boolean directBlobDecoding) {
+            this.directBlobDecoding = directBlobDecoding;
+            return this;
+        }
+
         /**
          * Uses a custom JSON serde provider.
          *
@@ -17,6 +17,7 @@ import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +32,16 @@ import software.amazon.smithy.model.shapes.ShapeType;
 
 final class JacksonJsonDeserializer implements ShapeDeserializer {
 
+    private static final byte[] BASE64_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_VALUES, (byte) -1);
+        var alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_VALUES[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
     private JsonParser parser;
     private final JsonSettings settings;
 
@@ -69,12 +80,65 @@ final class JacksonJsonDeserializer implements ShapeDeserializer {
     @Override
     public ByteBuffer readBlob(Schema schema) {
         try {
+            if (settings.directBlobDecoding() && parser.currentToken() == JsonToken.VALUE_STRING) {
+                var decoded = decodeBase64(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                if (decoded != null) {
+                    return ByteBuffer.wrap(decoded);
+                }
+            }
             return ByteBuffer.wrap(parser.getBinaryValue(Base64Variants.MIME_NO_LINEFEEDS));
         } catch (Exception e) {
             throw new SerializationException(e);
         }
     }
 
+    // Decodes padded base64 straight from the parser's text buffer into an exactly sized array. Returns null for
+    // anything that isn't plain padded base64 (whitespace, invalid characters, etc.) so that Jackson can decode it
+    // or report the error.
+    private static byte[] decodeBase64(char[] chars, int offset, int length) {
+        if ((length & 3) != 0) {
+            return null;
+        }
+        int padding = 0;
+        if (length > 0 && chars[offset + length - 1] == '=') {
+            padding = chars[offset + length - 2] == '=' ? 2 : 1;
+        }
+        byte[] result = new byte[length / 4 * 3 - padding];
+        int out = 0;
+        int end = offset + length - (padding > 0 ? 4 : 0);
+        for (int i = offset; i < end; i += 4) {
+            int bits = (value(chars[i]) << 18) | (value(chars[i + 1]) << 12)
+                    | (value(chars[i + 2]) << 6)
+                    | value(chars[i + 3]);
+            if (bits < 0) {
+                return null;
+            }
+            result[out++] = (byte) (bits >> 16);
+            result[out++] = (byte) (bits >> 8);
+            result[out++] = (byte) bits;
+        }
+        if (padding == 2) {
+            int bits = (value(chars[end]) << 18) | (value(chars[end + 1]) << 12);
+            if (bits < 0) {
+                return null;
+            }
+            result[out] = (byte) (bits >> 16);
+        } else if (padding == 1) {
+            int bits = (value(chars[end]) << 18) | (value(chars[end + 1]) << 12) | (value(chars[end + 2]) << 6);
+            if (bits < 0) {
+                return null;
+            }
+            result[out++] = (byte) (bits >> 16);
+            result[out] = (byte) (bits >> 8);
+        }
+        return result;
+    }
+
+    // Invalid characters map to -1, which makes the combined bits of a quantum negative.
+    private static int value(char c) {
+        return c < 128 ? BASE64_VALUES[c] : -1;
+    }
+
     @Override
     public byte readByte(Schema schema) {
         try {
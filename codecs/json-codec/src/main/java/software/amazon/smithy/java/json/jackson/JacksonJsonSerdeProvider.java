@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonFactoryBuilder;
 import com.fasterxml.jackson.core.StreamReadFeature;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import software.amazon.smithy.java.core.serde.SerializationException;
@@ -65,6 +66,16 @@ public class JacksonJsonSerdeProvider implements JsonSerdeProvider {
         }
     }
 
+    @Override
+    public ShapeDeserializer newDeserializer(InputStream source, JsonSettings settings) {
+        try {
+            // Jackson reads from the stream in small chunks, so the payload is never fully buffered in memory.
+            return new JacksonJsonDeserializer(FACTORY.createParser(source), settings);
+        } catch (IOException e) {
+            throw new SerializationException(e);
+        }
+    }
+
     @Override
     public ShapeSerializer newSerializer(
             OutputStream sink,
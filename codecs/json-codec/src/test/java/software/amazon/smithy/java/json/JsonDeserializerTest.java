@@ -13,6 +13,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -193,6 +194,33 @@ public class JsonDeserializerTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("deserializesBlobDirectlySource")
+    public void deserializesBlobDirectly(String value) {
+        try (var codec = JsonCodec.builder().directBlobDecoding(true).build()) {
+            var expected = value.getBytes(StandardCharsets.UTF_8);
+            var encoded = Base64.getEncoder().encodeToString(expected);
+            var de = codec.createDeserializer(("\"" + encoded + "\"").getBytes(StandardCharsets.UTF_8));
+            assertThat(de.readBlob(PreludeSchemas.BLOB).array(), equalTo(expected));
+        }
+    }
+
+    public static List<String> deserializesBlobDirectlySource() {
+        return List.of("", "f", "fo", "foo", "foob", "fooba", "foobar", "\u00e9\u2603 and some longer text?>~");
+    }
+
+    @Test
+    public void fallsBackWhenBlobIsNotPlainBase64() {
+        try (var codec = JsonCodec.builder().directBlobDecoding(true).build()) {
+            // Jackson's MIME variant tolerates whitespace between quanta.
+            var de = codec.createDeserializer("\"Zm9v Zm9v\"".getBytes(StandardCharsets.UTF_8));
+            assertThat(de.readBlob(PreludeSchemas.BLOB).array(), equalTo("foofoo".getBytes(StandardCharsets.UTF_8)));
+
+            var invalid = codec.createDeserializer("\"Zm9*\"".getBytes(StandardCharsets.UTF_8));
+            Assertions.assertThrows(SerializationException.class, () -> invalid.readBlob(PreludeSchemas.BLOB));
+        }
+    }
+
     @Test
     public void deserializesBoolean() {
         try (var codec = JsonCodec.builder().build()) {
@@ -260,6 +288,21 @@ public class JsonDeserializerTest {
         }
     }
 
+    @Test
+    public void deserializesStructFromInputStream() {
+        var json = "{\"name\":\"Sam\",\"Color\":\"red\"}".getBytes(StandardCharsets.UTF_8);
+        try (var codec = JsonCodec.builder().useJsonName(true).build();
+                var de = codec.createDeserializer(new ByteArrayInputStream(json))) {
+            Map<String, String> members = new LinkedHashMap<>();
+
+            de.readStruct(JsonTestData.BIRD, members, (memberResult, member, deser) -> {
+                memberResult.put(member.memberName(), deser.readString(member));
+            });
+
+            assertThat(members, equalTo(Map.of("name", "Sam", "color", "red")));
+        }
+    }
+
     @Test
     public void deserializesUnion() {
         try (var codec = JsonCodec.builder().useJsonName(true).build()) {
@@ -1,5 +1,6 @@
 plugins {
     id("smithy-java.module-conventions")
+    alias(libs.plugins.jmh)
 }
 
 description = "This module provides XML functionality"
@@ -10,3 +11,5 @@ extra["moduleName"] = "software.amazon.smithy.java.xml"
 dependencies {
     api(project(":core"))
 }
+
+jmh {}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.xml;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.java.core.schema.PreludeSchemas;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.serde.Codec;
+import software.amazon.smithy.java.core.serde.ShapeDeserializer;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeType;
+import software.amazon.smithy.model.traits.XmlFlattenedTrait;
+
+/**
+ * Deserializes an S3 ListObjects-style response where the large list of objects is a flattened member.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(
+        iterations = 2,
+        time = 3)
+@Measurement(
+        iterations = 3,
+        time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class XmlDeserializerBench {
+
+    private static final Schema OBJECT = Schema.structureBuilder(ShapeId.from("smithy.example#Object"))
+            .putMember("Key", PreludeSchemas.STRING)
+            .putMember("LastModified", PreludeSchemas.STRING)
+            .putMember("ETag", PreludeSchemas.STRING)
+            .putMember("Size", PreludeSchemas.LONG)
+            .putMember("StorageClass", PreludeSchemas.STRING)
+            .build();
+
+    private static final Schema OBJECT_LIST = Schema.listBuilder(ShapeId.from("smithy.example#ObjectList"))
+            .putMember("member", OBJECT)
+            .build();
+
+    private static final Schema OUTPUT = Schema.structureBuilder(ShapeId.from("smithy.example#ListBucketResult"))
+            .putMember("Name", PreludeSchemas.STRING)
+            .putMember("Prefix", PreludeSchemas.STRING)
+            .putMember("IsTruncated", PreludeSchemas.BOOLEAN)
+            .putMember("Contents", OBJECT_LIST, new XmlFlattenedTrait())
+            .build();
+
+    @Param({"10", "1000", "10000"})
+    private int objects;
+
+    private Codec codec;
+    private ByteBuffer payload;
+
+    @Setup
+    public void setup() {
+        codec = XmlCodec.builder().build();
+        var xml = new StringBuilder();
+        xml.append("<ListBucketResult><Name>bucket</Name><Prefix></Prefix><IsTruncated>false</IsTruncated>");
+        for (int i = 0; i < objects; i++) {
+            xml.append("<Contents><Key>path/to/object-")
+                    .append(i)
+                    .append("</Key><LastModified>2009-10-12T17:50:30.000Z</LastModified>")
+                    .append("<ETag>fba9dede5f27731c9771645a39863328</ETag><Size>")
+                    .append(i * 31L)
+                    .append("</Size><StorageClass>STANDARD</StorageClass></Contents>");
+        }
+        xml.append("</ListBucketResult>");
+        payload = ByteBuffer.wrap(xml.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public void listObjects(Blackhole bh) {
+        try (var de = codec.createDeserializer(payload.duplicate())) {
+            de.readStruct(OUTPUT, bh, XmlDeserializerBench::readOutputMember);
+        }
+    }
+
+    private static void readOutputMember(Blackhole bh, Schema member, ShapeDeserializer de) {
+        switch (member.memberName()) {
+            case "Contents" -> de.readList(member, bh, (b, item) -> item.readStruct(OBJECT, b, (b2, m, d) -> {
+                if (m.type() == ShapeType.LONG) {
+                    b2.consume(d.readLong(m));
+                } else {
+                    b2.consume(d.readString(m));
+                }
+            }));
+            case "IsTruncated" -> bh.consume(de.readBoolean(member));
+            default -> bh.consume(de.readString(member));
+        }
+    }
+}
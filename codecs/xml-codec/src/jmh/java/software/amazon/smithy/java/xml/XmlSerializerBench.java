@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.xml;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.java.core.schema.PreludeSchemas;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.serde.Codec;
+import software.amazon.smithy.java.core.serde.ShapeSerializer;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.XmlNamespaceTrait;
+
+/**
+ * Serializes an S3 DeleteObjects-style request containing a list of object identifiers.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(
+        iterations = 2,
+        time = 3)
+@Measurement(
+        iterations = 3,
+        time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class XmlSerializerBench {
+
+    private static final Schema OBJECT = Schema.structureBuilder(ShapeId.from("smithy.example#ObjectIdentifier"))
+            .putMember("Key", PreludeSchemas.STRING)
+            .putMember("VersionId", PreludeSchemas.STRING)
+            .build();
+
+    private static final Schema OBJECT_LIST = Schema.listBuilder(ShapeId.from("smithy.example#ObjectList"))
+            .putMember("member", OBJECT)
+            .build();
+
+    private static final Schema DELETE = Schema.structureBuilder(
+            ShapeId.from("smithy.example#Delete"),
+            XmlNamespaceTrait.builder().uri("http://s3.amazonaws.com/doc/2006-03-01/").build())
+            .putMember("Objects", OBJECT_LIST)
+            .putMember("Quiet", PreludeSchemas.BOOLEAN)
+            .build();
+
+    private static final Schema OBJECTS_MEMBER = DELETE.member("Objects");
+    private static final Schema QUIET_MEMBER = DELETE.member("Quiet");
+    private static final Schema KEY_MEMBER = OBJECT.member("Key");
+    private static final Schema VERSION_MEMBER = OBJECT.member("VersionId");
+    private static final String VERSION = "3/L4kqtJlcpXroDTDmJ+rmSpXd3dIbrHY+MTRCxf3vjVBH40Nr8X8gdRQBpUMLUo";
+
+    @Param({"10", "1000"})
+    private int objects;
+
+    @Param({"false", "true"})
+    private boolean writeUtf8Directly;
+
+    private Codec codec;
+    private Delete delete;
+
+    @Setup
+    public void setup() {
+        codec = XmlCodec.builder().writeUtf8Directly(writeUtf8Directly).build();
+        var keys = new String[objects];
+        for (int i = 0; i < objects; i++) {
+            keys[i] = "path/to/object-" + i;
+        }
+        delete = new Delete(keys);
+    }
+
+    @Benchmark
+    public byte[] deleteObjects() {
+        var out = new ByteArrayOutputStream();
+        try (var serializer = codec.createSerializer(out)) {
+            delete.serialize(serializer);
+        }
+        return out.toByteArray();
+    }
+
+    private record Delete(String[] keys) implements SerializableStruct {
+        @Override
+        public Schema schema() {
+            return DELETE;
+        }
+
+        @Override
+        public void serializeMembers(ShapeSerializer serializer) {
+            serializer.writeList(OBJECTS_MEMBER, keys, keys.length, (k, ser) -> {
+                var member = OBJECT_LIST.listMember();
+                for (var key : k) {
+                    ser.writeStruct(member, new ObjectIdentifier(key));
+                }
+            });
+            serializer.writeBoolean(QUIET_MEMBER, true);
+        }
+
+        @Override
+        public <T> T getMemberValue(Schema member) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private record ObjectIdentifier(String key) implements SerializableStruct {
+        @Override
+        public Schema schema() {
+            return OBJECT;
+        }
+
+        @Override
+        public void serializeMembers(ShapeSerializer serializer) {
+            serializer.writeString(KEY_MEMBER, key);
+            serializer.writeString(VERSION_MEMBER, VERSION);
+        }
+
+        @Override
+        public <T> T getMemberValue(Schema member) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -5,9 +5,9 @@
 
 package software.amazon.smithy.java.xml;
 
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
-import javax.xml.stream.XMLEventFactory;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
@@ -26,9 +26,10 @@ public final class XmlCodec implements Codec {
     private final XMLInputFactory xmlInputFactory;
     private final XMLOutputFactory xmlOutputFactory;
     private final XmlInfo xmlInfo = new XmlInfo();
-    private final XMLEventFactory eventFactory = XMLEventFactory.newInstance();
+    private final boolean writeUtf8Directly;
 
     private XmlCodec(Builder builder) {
+        writeUtf8Directly = builder.writeUtf8Directly;
         xmlInputFactory = XMLInputFactory.newInstance();
         xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
         xmlInputFactory.setProperty("javax.xml.stream.isSupportingExternalEntities", false);
@@ -48,8 +49,12 @@ public final class XmlCodec implements Codec {
 
     @Override
     public ShapeSerializer createSerializer(OutputStream sink) {
+        if (writeUtf8Directly) {
+            return new XmlSerializer(new XmlWriter.Utf8Writer(sink), xmlInfo);
+        }
         try {
-            return new XmlSerializer(xmlOutputFactory.createXMLStreamWriter(sink), xmlInfo);
+            var writer = new XmlWriter.StaxWriter(xmlOutputFactory.createXMLStreamWriter(sink));
+            return new XmlSerializer(writer, xmlInfo);
         } catch (XMLStreamException e) {
             throw new RuntimeException(e);
         }
@@ -59,7 +64,17 @@ public final class XmlCodec implements Codec {
     public ShapeDeserializer createDeserializer(ByteBuffer source) {
         try {
             var reader = xmlInputFactory.createXMLStreamReader(ByteBufferUtils.byteBufferInputStream(source));
-            return XmlDeserializer.topLevel(xmlInfo, eventFactory, new XmlReader.StreamReader(reader, xmlInputFactory));
+            return XmlDeserializer.topLevel(xmlInfo, new XmlReader.StreamReader(reader));
+        } catch (XMLStreamException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public ShapeDeserializer createDeserializer(InputStream source) {
+        try {
+            var reader = xmlInputFactory.createXMLStreamReader(source);
+            return XmlDeserializer.topLevel(xmlInfo, new XmlReader.StreamReader(reader));
         } catch (XMLStreamException e) {
             throw new RuntimeException(e);
         }
@@ -70,8 +85,26 @@ public final class XmlCodec implements Codec {
      */
     public static final class Builder {
 
+        private boolean writeUtf8Directly;
+
         private Builder() {}
 
+        /**
+         * Write UTF-8 bytes directly to the output stream rather than going through an XMLStreamWriter.
+         *
+         * <p>Element names, namespace declarations, and attribute names are encoded once per schema and copied
+         * into the output, and only text and attribute values are escaped and encoded as they are written.
+         * The output is the same XML that the XMLStreamWriter produces, without an XML declaration.
+         * Defaults to false.
+         *
+         * @param writeUtf8Directly True to write UTF-8 directly.
+         * @return the builder.
+         */
+        public Builder writeUtf8Directly(boolean writeUtf8Directly) {
+            this.writeUtf8Directly = writeUtf8Directly;
+            return this;
+        }
+
         /**
          * Create the codec and ensure all required settings are present.
          *
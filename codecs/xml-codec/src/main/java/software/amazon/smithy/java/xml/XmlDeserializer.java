@@ -11,7 +11,6 @@ import java.nio.ByteBuffer;
 import java.time.DateTimeException;
 import java.time.Instant;
 import java.util.Base64;
-import javax.xml.stream.XMLEventFactory;
 import javax.xml.stream.XMLStreamException;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.TraitKey;
@@ -26,32 +25,21 @@ final class XmlDeserializer implements ShapeDeserializer {
 
     private final XmlInfo xmlInfo;
     private final XmlReader reader;
-    private final XMLEventFactory eventFactory;
     private final InnerDeserializer innerDeserializer;
     private final boolean isTopLevel;
 
-    static XmlDeserializer topLevel(
-            XmlInfo xmlInfo,
-            XMLEventFactory eventFactory,
-            XmlReader reader
-    ) throws XMLStreamException {
-        return new XmlDeserializer(xmlInfo, eventFactory, reader, true);
+    static XmlDeserializer topLevel(XmlInfo xmlInfo, XmlReader reader) throws XMLStreamException {
+        return new XmlDeserializer(xmlInfo, reader, true);
     }
 
-    static XmlDeserializer flattened(
-            XmlInfo xmlInfo,
-            XMLEventFactory eventFactory,
-            XmlReader reader
-    ) throws XMLStreamException {
-        return new XmlDeserializer(xmlInfo, eventFactory, reader, false);
+    static XmlDeserializer flattened(XmlInfo xmlInfo, XmlReader reader) throws XMLStreamException {
+        return new XmlDeserializer(xmlInfo, reader, false);
     }
 
-    private XmlDeserializer(XmlInfo xmlInfo, XMLEventFactory eventFactory, XmlReader reader, boolean isTopLevel)
-            throws XMLStreamException {
+    private XmlDeserializer(XmlInfo xmlInfo, XmlReader reader, boolean isTopLevel) throws XMLStreamException {
         this.xmlInfo = xmlInfo;
         this.reader = reader;
         this.isTopLevel = isTopLevel;
-        this.eventFactory = eventFactory;
         this.innerDeserializer = new InnerDeserializer();
     }
 
@@ -474,7 +462,6 @@ final class XmlDeserializer implements ShapeDeserializer {
                     if (elementSchema != null) {
                         decoder.readMember(
                                 flattenedState,
-                                eventFactory,
                                 this,
                                 reader,
                                 state,
@@ -488,7 +475,7 @@ final class XmlDeserializer implements ShapeDeserializer {
                     }
                 }
 
-                decoder.finishReadingStruct(flattenedState, eventFactory, xmlInfo, state, consumer);
+                decoder.finishReadingStruct(flattenedState, xmlInfo, state, consumer);
             } catch (XMLStreamException e) {
                 throw error("Failed to read struct", e);
             }
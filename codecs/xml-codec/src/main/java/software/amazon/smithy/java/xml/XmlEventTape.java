@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.xml;
+
+import java.util.Arrays;
+import java.util.Objects;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * A compact, append-only recording of XML events used to replay buffered elements.
+ *
+ * <p>Events are stored in parallel primitive and String arrays rather than as {@code XMLEvent} objects. Only the
+ * data the deserializer needs is kept: the event type, the local name of elements, the text of character events,
+ * attributes of start elements, and the line and column of each event for error messages.
+ */
+final class XmlEventTape {
+
+    private static final int INITIAL_CAPACITY = 32;
+    private static final String[] NO_ATTRIBUTES = new String[0];
+
+    private int size;
+    private int[] types = new int[INITIAL_CAPACITY];
+    private String[] values = new String[INITIAL_CAPACITY];
+    private int[] lines = new int[INITIAL_CAPACITY];
+    private int[] columns = new int[INITIAL_CAPACITY];
+
+    // Attributes are stored as (namespace, local name, value) triples. attributeOffsets[i] is the index of the
+    // first triple of event i, and attributeCounts[i] is the number of triples.
+    private int[] attributeOffsets = new int[INITIAL_CAPACITY];
+    private int[] attributeCounts = new int[INITIAL_CAPACITY];
+    private String[] attributes = NO_ATTRIBUTES;
+    private int attributesSize;
+
+    int size() {
+        return size;
+    }
+
+    int type(int index) {
+        return types[index];
+    }
+
+    String value(int index) {
+        return values[index];
+    }
+
+    Location location(int index) {
+        return new TapeLocation(lines[index], columns[index]);
+    }
+
+    String attributeValue(int index, String namespaceURI, String localName) {
+        int offset = attributeOffsets[index];
+        for (int i = 0; i < attributeCounts[index]; i++) {
+            int pos = offset + i * 3;
+            if (localName.equals(attributes[pos + 1])
+                    && (namespaceURI == null || Objects.equals(namespaceURI, attributes[pos]))) {
+                return attributes[pos + 2];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records a start element with no attributes or location.
+     *
+     * @param localName Local name of the element.
+     */
+    void addStartElement(String localName) {
+        add(XMLStreamConstants.START_ELEMENT, localName, -1, -1);
+    }
+
+    /**
+     * Records the current event of the reader.
+     *
+     * @param reader Reader to record.
+     */
+    void add(XMLStreamReader reader) {
+        int type = reader.getEventType();
+        var location = reader.getLocation();
+        int line = location == null ? -1 : location.getLineNumber();
+        int column = location == null ? -1 : location.getColumnNumber();
+        switch (type) {
+            case XMLStreamConstants.START_ELEMENT -> {
+                int index = add(type, reader.getLocalName(), line, column);
+                int count = reader.getAttributeCount();
+                if (count > 0) {
+                    ensureAttributeCapacity(count);
+                    attributeOffsets[index] = attributesSize;
+                    attributeCounts[index] = count;
+                    for (int i = 0; i < count; i++) {
+                        attributes[attributesSize++] = reader.getAttributeNamespace(i);
+                        attributes[attributesSize++] = reader.getAttributeLocalName(i);
+                        attributes[attributesSize++] = reader.getAttributeValue(i);
+                    }
+                }
+            }
+            case XMLStreamConstants.END_ELEMENT -> add(type, reader.getLocalName(), line, column);
+            case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                add(type, reader.getText(), line, column);
+            default -> add(type, null, line, column);
+        }
+    }
+
+    /**
+     * Copies an event from another tape onto the end of this tape.
+     *
+     * @param other Tape to copy from.
+     * @param index Index of the event to copy.
+     */
+    void add(XmlEventTape other, int index) {
+        int copied = add(other.types[index], other.values[index], other.lines[index], other.columns[index]);
+        int count = other.attributeCounts[index];
+        if (count > 0) {
+            ensureAttributeCapacity(count);
+            attributeOffsets[copied] = attributesSize;
+            attributeCounts[copied] = count;
+            System.arraycopy(other.attributes, other.attributeOffsets[index], attributes, attributesSize, count * 3);
+            attributesSize += count * 3;
+        }
+    }
+
+    private int add(int type, String value, int line, int column) {
+        if (size == types.length) {
+            int capacity = size << 1;
+            types = Arrays.copyOf(types, capacity);
+            values = Arrays.copyOf(values, capacity);
+            lines = Arrays.copyOf(lines, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+            attributeOffsets = Arrays.copyOf(attributeOffsets, capacity);
+            attributeCounts = Arrays.copyOf(attributeCounts, capacity);
+        }
+        int index = size++;
+        types[index] = type;
+        values[index] = value;
+        lines[index] = line;
+        columns[index] = column;
+        return index;
+    }
+
+    private void ensureAttributeCapacity(int count) {
+        int required = attributesSize + count * 3;
+        if (required > attributes.length) {
+            attributes = Arrays.copyOf(attributes, Math.max(required, attributes.length << 1));
+        }
+    }
+
+    private record TapeLocation(int line, int column) implements Location {
+        @Override
+        public int getLineNumber() {
+            return line;
+        }
+
+        @Override
+        public int getColumnNumber() {
+            return column;
+        }
+
+        @Override
+        public int getCharacterOffset() {
+            return -1;
+        }
+
+        @Override
+        public String getPublicId() {
+            return null;
+        }
+
+        @Override
+        public String getSystemId() {
+            return null;
+        }
+    }
+}
@@ -5,17 +5,13 @@
 
 package software.amazon.smithy.java.xml;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import javax.xml.namespace.QName;
-import javax.xml.stream.XMLEventFactory;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.TraitKey;
 import software.amazon.smithy.java.core.serde.ShapeDeserializer;
@@ -30,6 +26,9 @@ final class XmlInfo {
     private final ConcurrentMap<Schema, StructInfo> structInfo = new ConcurrentHashMap<>();
     private final ConcurrentMap<Schema, ListMemberInfo> listInfo = new ConcurrentHashMap<>();
     private final ConcurrentMap<Schema, MapMemberInfo> mapInfo = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Schema, ElementTag> topLevelTags = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Schema, ElementTag> memberTags = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Schema, AttributeTag> attributeTags = new ConcurrentHashMap<>();
 
     StructInfo getStructInfo(Schema schema) {
         return structInfo.computeIfAbsent(schema, StructInfo::new);
@@ -43,6 +42,48 @@ final class XmlInfo {
         return mapInfo.computeIfAbsent(schema, MapMemberInfo::new);
     }
 
+    ElementTag getTopLevelTag(Schema schema) {
+        return topLevelTags.computeIfAbsent(schema, XmlInfo::createTopLevelTag);
+    }
+
+    ElementTag getMemberTag(Schema schema) {
+        return memberTags.computeIfAbsent(schema, XmlInfo::createMemberTag);
+    }
+
+    AttributeTag getAttributeTag(Schema schema) {
+        return attributeTags.computeIfAbsent(schema, s -> new AttributeTag(getMemberXmlName(s)));
+    }
+
+    // Top-level members are things like httpPayload members. They peek-through to the target shape xmlName
+    // and xmlNamespace.
+    private static ElementTag createTopLevelTag(Schema schema) {
+        String xmlName;
+        var trait = schema.getTrait(TraitKey.XML_NAME_TRAIT);
+        if (trait != null) {
+            xmlName = trait.getValue();
+        } else if (schema.isMember()) {
+            xmlName = schema.memberTarget().id().getName();
+        } else {
+            xmlName = schema.id().getName();
+        }
+        return new ElementTag(xmlName, schema.getTrait(TraitKey.XML_NAMESPACE_TRAIT));
+    }
+
+    private static ElementTag createMemberTag(Schema schema) {
+        return new ElementTag(getMemberXmlName(schema), schema.getDirectTrait(TraitKey.XML_NAMESPACE_TRAIT));
+    }
+
+    private static String getMemberXmlName(Schema schema) {
+        var trait = schema.getDirectTrait(TraitKey.XML_NAME_TRAIT);
+        if (trait != null) {
+            return trait.getValue();
+        } else if (schema.isMember()) {
+            return schema.memberName();
+        } else {
+            throw new IllegalArgumentException("Expected member schema in XML serializer, found " + schema);
+        }
+    }
+
     private static String getName(Schema schema) {
         var xmlName = schema.getDirectTrait(TraitKey.XML_NAME_TRAIT);
         if (xmlName != null) {
@@ -99,13 +140,12 @@ final class XmlInfo {
         }
 
         // If the shape has flattened members, then prepare a map to store buffered state.
-        Map<Schema, Deque<XMLEvent>> createFlattenedState() {
+        Map<Schema, XmlEventTape> createFlattenedState() {
             return hasFlattened ? new HashMap<>() : Collections.emptyMap();
         }
 
         <T> void readMember(
-                Map<Schema, Deque<XMLEvent>> flatState,
-                XMLEventFactory eventFactory,
+                Map<Schema, XmlEventTape> flatState,
                 ShapeDeserializer deserializer,
                 XmlReader reader,
                 T state,
@@ -117,48 +157,91 @@ final class XmlInfo {
                 consumer.accept(state, member, deserializer);
             } else {
                 // Events for flattened members need to be buffered to ensure that all flattened members are
-                // deserialized regardless of if they are interspersed with other nodes.
-                var current = flatState.get(member);
-                var buffer = reader.bufferElement(elementName);
+                // deserialized regardless of if they are interspersed with other nodes. Every occurrence of the
+                // member is appended to the same tape so the values can be replayed together.
+                var tape = flatState.get(member);
+                if (tape == null) {
+                    tape = new XmlEventTape();
+                    flatState.put(member, tape);
+                }
 
-                // The just read start event needs to be added back to the event buffer so it can be replayed while
+                // The just read start event needs to be added back to the tape so it can be replayed while
                 // parsing the deferred flattened list values.
-                QName qname = new QName(elementName);
-                StartElement startElement = eventFactory.createStartElement(qname, null, null);
-
-                if (current == null) {
-                    buffer.addFirst(startElement);
-                    flatState.put(member, buffer);
-                } else {
-                    current.add(startElement);
-                    current.addAll(buffer);
-                }
+                tape.addStartElement(elementName);
+                reader.bufferElement(elementName, tape);
             }
         }
 
         <T> void finishReadingStruct(
-                Map<Schema, Deque<XMLEvent>> flatState,
-                XMLEventFactory eventFactory,
+                Map<Schema, XmlEventTape> flatState,
                 XmlInfo decoders,
                 T state,
                 ShapeDeserializer.StructMemberConsumer<T> consumer
         ) throws XMLStreamException {
             for (var entry : flatState.entrySet()) {
                 var schema = entry.getKey();
-                var events = entry.getValue();
+                var tape = entry.getValue();
                 consumer.accept(
                         state,
                         schema,
                         // Use a special flattened deserializer that delegates validation of the encountered element.
-                        XmlDeserializer.flattened(decoders, eventFactory, new XmlReader.BufferedReader(events)));
+                        XmlDeserializer.flattened(decoders, new XmlReader.BufferedReader(tape)));
             }
         }
     }
 
+    /**
+     * The name and namespace of an element along with its precomputed UTF-8 opening and closing tags.
+     */
+    static final class ElementTag {
+        final String name;
+        final XmlNamespaceTrait namespace;
+        // The opening tag and namespace declaration, left unclosed so that attributes can follow: <name xmlns="...".
+        final byte[] open;
+        final byte[] close;
+
+        ElementTag(String name, XmlNamespaceTrait namespace) {
+            this.name = name;
+            this.namespace = namespace;
+            var builder = new StringBuilder(name.length() + 1).append('<').append(name);
+            if (namespace != null) {
+                builder.append(" xmlns");
+                namespace.getPrefix().ifPresent(prefix -> builder.append(':').append(prefix));
+                builder.append("=\"").append(XmlWriter.escape(namespace.getUri(), true)).append('"');
+            }
+            this.open = builder.toString().getBytes(StandardCharsets.UTF_8);
+            this.close = ("</" + name + '>').getBytes(StandardCharsets.UTF_8);
+        }
+
+        // Reuse the precomputed tag when writing the expected schema, and compute one otherwise.
+        ElementTag forSchema(Schema expected, Schema actual) {
+            if (expected == actual) {
+                return this;
+            }
+            var ns = actual.getDirectTrait(TraitKey.XML_NAMESPACE_TRAIT);
+            return ns == namespace ? this : new ElementTag(name, ns);
+        }
+    }
+
+    /**
+     * The name of an attribute along with its precomputed UTF-8 prefix: {@code  name="}.
+     */
+    static final class AttributeTag {
+        final String name;
+        final byte[] open;
+
+        AttributeTag(String name) {
+            this.name = name;
+            this.open = (' ' + name + "=\"").getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
     static final class ListMemberInfo {
         final String xmlName;
         final String memberName;
         final boolean flattened;
+        final Schema itemSchema;
+        final ElementTag itemTag;
 
         ListMemberInfo(Schema schema) {
             if (schema.type() != ShapeType.LIST) {
@@ -178,6 +261,8 @@ final class XmlInfo {
                     memberName = "member";
                 }
             }
+            this.itemSchema = schema.listMember();
+            this.itemTag = new ElementTag(memberName, itemSchema.getDirectTrait(TraitKey.XML_NAMESPACE_TRAIT));
         }
     }
 
@@ -187,6 +272,9 @@ final class XmlInfo {
         final String keyName;
         final String valueName;
         final boolean flattened;
+        final Schema keySchema;
+        final ElementTag entryTag;
+        final ElementTag keyTag;
 
         MapMemberInfo(Schema schema) {
             if (schema.type() != ShapeType.MAP) {
@@ -197,6 +285,9 @@ final class XmlInfo {
             this.entryName = flattened ? xmlName : "entry";
             this.keyName = getName(schema.mapKeyMember());
             this.valueName = getName(schema.mapValueMember());
+            this.keySchema = schema.mapKeyMember();
+            this.entryTag = new ElementTag(entryName, null);
+            this.keyTag = new ElementTag(keyName, keySchema.getDirectTrait(TraitKey.XML_NAMESPACE_TRAIT));
         }
     }
 }
@@ -5,18 +5,10 @@
 
 package software.amazon.smithy.java.xml;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-import javax.xml.namespace.QName;
 import javax.xml.stream.Location;
-import javax.xml.stream.XMLEventReader;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
-import javax.xml.stream.events.Attribute;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
 import software.amazon.smithy.java.core.serde.SerializationException;
 
 sealed abstract class XmlReader implements AutoCloseable {
@@ -28,7 +20,20 @@ sealed abstract class XmlReader implements AutoCloseable {
 
     abstract String getAttributeValue(String namespaceURI, String localName);
 
-    abstract Deque<XMLEvent> bufferElement(String startElementName) throws XMLStreamException;
+    /**
+     * Records the events of the current element onto a tape so that they can be replayed later.
+     *
+     * @param startElementName Name of the element to buffer.
+     * @param tape Tape to append events to.
+     * @throws XMLStreamException if the XML can't be read.
+     */
+    abstract void bufferElement(String startElementName, XmlEventTape tape) throws XMLStreamException;
+
+    final XmlEventTape bufferElement(String startElementName) throws XMLStreamException {
+        var tape = new XmlEventTape();
+        bufferElement(startElementName, tape);
+        return tape;
+    }
 
     protected abstract int getEventType();
 
@@ -107,19 +112,17 @@ sealed abstract class XmlReader implements AutoCloseable {
     @Override
     public final String toString() {
         var location = getLocation();
-        var line = location.getLineNumber();
-        var column = location.getColumnNumber();
+        var line = location == null ? -1 : location.getLineNumber();
+        var column = location == null ? -1 : location.getColumnNumber();
         return "(event: " + getEventType() + ", line: " + line + ", column: " + column + ")";
     }
 
     static final class StreamReader extends XmlReader {
 
         private final XMLStreamReader reader;
-        private final XMLInputFactory factory;
 
-        StreamReader(XMLStreamReader reader, XMLInputFactory factory) throws XMLStreamException {
+        StreamReader(XMLStreamReader reader) throws XMLStreamException {
             this.reader = reader;
-            this.factory = factory;
             // Skip past the start of the document.
             while (canSkipEvent(reader.getEventType()) || reader.isWhiteSpace()) {
                 next();
@@ -162,32 +165,30 @@ sealed abstract class XmlReader implements AutoCloseable {
         }
 
         @Override
-        public Deque<XMLEvent> bufferElement(String startElementName) throws XMLStreamException {
+        public void bufferElement(String startElementName, XmlEventTape tape) throws XMLStreamException {
             nextIfNeeded();
 
-            XMLEventReader eventReader = factory.createXMLEventReader(reader);
-            Deque<XMLEvent> eventBuffer = new ArrayDeque<>();
-
-            // Track the depth of the starting element and push the starting event.
+            // Walk the underlying reader directly and record only what's needed to replay the element. This
+            // avoids creating an XMLEventReader and an XMLEvent object for every event.
             int depth = 0;
-
-            // Process the events and buffer them
-            do {
-                XMLEvent e = eventReader.nextEvent();
-                eventBuffer.add(e);
+            while (true) {
+                tape.add(reader);
+                int event = reader.getEventType();
                 // If we encounter another start element with the same name, increment the depth
-                if (e.isStartElement() && e.asStartElement().getName().getLocalPart().equals(startElementName)) {
+                if (event == XMLStreamConstants.START_ELEMENT && reader.getLocalName().equals(startElementName)) {
                     depth++;
-                }
-                if (e.isEndElement() && e.asEndElement().getName().getLocalPart().equals(startElementName)) {
+                } else if (event == XMLStreamConstants.END_ELEMENT
+                        && reader.getLocalName().equals(startElementName)) {
                     // Break when matching END_ELEMENT at the original depth.
                     if (--depth <= 0) {
                         break;
                     }
                 }
-            } while (true);
-
-            return eventBuffer;
+                if (!reader.hasNext()) {
+                    throw new XMLStreamException("Unexpected end of XML while buffering " + startElementName);
+                }
+                reader.next();
+            }
         }
 
         @Override
@@ -198,14 +199,14 @@ sealed abstract class XmlReader implements AutoCloseable {
 
     static final class BufferedReader extends XmlReader {
 
-        private final Deque<XMLEvent> eventBuffer;
-        private XMLEvent currentEvent;
+        private final XmlEventTape tape;
+        private int position = -1;
 
-        BufferedReader(Deque<XMLEvent> eventBuffer) throws XMLStreamException {
-            this.eventBuffer = eventBuffer;
+        BufferedReader(XmlEventTape tape) throws XMLStreamException {
+            this.tape = tape;
             do {
                 next();
-            } while (currentEvent != null && canSkipEvent(currentEvent.getEventType()));
+            } while (position < tape.size() && canSkipEvent(tape.type(position)));
         }
 
         @Override
@@ -213,66 +214,66 @@ sealed abstract class XmlReader implements AutoCloseable {
 
         @Override
         protected void nextElement() {
-            currentEvent = eventBuffer.poll();
+            if (position < tape.size()) {
+                position++;
+            }
         }
 
         @Override
         protected int getEventType() {
-            return currentEvent != null ? currentEvent.getEventType() : -1;
+            return position < tape.size() ? tape.type(position) : -1;
         }
 
         @Override
         protected boolean hasNext() {
-            return currentEvent != null;
+            return position < tape.size();
         }
 
         @Override
         public Location getLocation() {
-            return currentEvent != null ? currentEvent.getLocation() : null;
+            return position < tape.size() ? tape.location(position) : null;
         }
 
         @Override
         protected String getReaderText() {
-            return currentEvent != null ? currentEvent.asCharacters().getData() : null;
+            return position < tape.size() ? tape.value(position) : null;
         }
 
         @Override
         protected String getStartElementName() {
-            return currentEvent.asStartElement().getName().getLocalPart();
+            return tape.value(position);
         }
 
         @Override
         public String getAttributeValue(String namespaceURI, String localName) {
-            if (currentEvent != null && currentEvent.isStartElement()) {
-                StartElement startElement = currentEvent.asStartElement();
-                QName qName = new QName(namespaceURI, localName);
-                Attribute attribute = startElement.getAttributeByName(qName);
-                if (attribute != null) {
-                    return attribute.getValue();
-                }
+            if (getEventType() == XMLStreamConstants.START_ELEMENT) {
+                return tape.attributeValue(position, namespaceURI, localName);
             }
             return null;
         }
 
         @Override
-        public Deque<XMLEvent> bufferElement(String startElementName) throws XMLStreamException {
+        public void bufferElement(String startElementName, XmlEventTape target) throws XMLStreamException {
             nextIfNeeded();
-            Deque<XMLEvent> bufferedEvents = new ArrayDeque<>();
 
             // Track the depth of nested elements with the same name.
             int depth = 1;
 
-            bufferedEvents.add(currentEvent);
+            target.add(tape, position);
 
             do {
                 next();
-                bufferedEvents.add(currentEvent);
-                if (currentEvent.isStartElement()) {
-                    if (startElementName.equals(currentEvent.asStartElement().getName().getLocalPart())) {
+                if (position >= tape.size()) {
+                    throw new XMLStreamException("Unexpected end of buffered XML while buffering " + startElementName);
+                }
+                target.add(tape, position);
+                int event = tape.type(position);
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if (startElementName.equals(tape.value(position))) {
                         depth++;
                     }
-                } else if (currentEvent.isEndElement()) {
-                    if (startElementName.equals(currentEvent.asEndElement().getName().getLocalPart())) {
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (startElementName.equals(tape.value(position))) {
                         if (--depth <= 0) {
                             break;
                         }
@@ -282,8 +283,6 @@ sealed abstract class XmlReader implements AutoCloseable {
 
             // Move past the buffered element
             next();
-
-            return bufferedEvents;
         }
     }
 
@@ -10,14 +10,11 @@ import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.function.BiConsumer;
-import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamWriter;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.core.schema.TraitKey;
 import software.amazon.smithy.java.core.serde.InterceptingSerializer;
 import software.amazon.smithy.java.core.serde.MapSerializer;
-import software.amazon.smithy.java.core.serde.SerializationException;
 import software.amazon.smithy.java.core.serde.ShapeSerializer;
 import software.amazon.smithy.java.core.serde.SpecificShapeSerializer;
 import software.amazon.smithy.java.core.serde.TimestampFormatter;
@@ -30,14 +27,14 @@ final class XmlSerializer extends InterceptingSerializer {
     private static final TimestampFormatTrait.Format DEFAULT_FORMAT = TimestampFormatTrait.Format.DATE_TIME;
 
     private final XmlInfo xmlInfo;
-    private final XMLStreamWriter writer;
+    private final XmlWriter writer;
     private final NonFlattenedMemberSerializer nonFlattenedMemberSerializer = new NonFlattenedMemberSerializer();
     private final ValueSerializer valueSerializer = new ValueSerializer();
     private final StructMemberSerializer structMemberSerializer = new StructMemberSerializer();
     private final StructAttributeSerializer structAttributeSerializer = new StructAttributeSerializer();
     private final AttributeSerializer attributeSerializer = new AttributeSerializer();
 
-    XmlSerializer(XMLStreamWriter writer, XmlInfo xmlInfo) {
+    XmlSerializer(XmlWriter writer, XmlInfo xmlInfo) {
         this.writer = writer;
         this.xmlInfo = xmlInfo;
     }
@@ -45,40 +42,24 @@ final class XmlSerializer extends InterceptingSerializer {
     // Handles writing top-level shapes that are not members. The element uses xmlName or the shape name.
     @Override
     protected ShapeSerializer before(Schema schema) {
-        try {
-            // Top-level members are things like httpPayload members. They peek-through to the target shape xmlName.
-            String xmlName;
-            var trait = schema.getTrait(TraitKey.XML_NAME_TRAIT);
-            if (trait != null) {
-                xmlName = trait.getValue();
-            } else if (schema.isMember()) {
-                xmlName = schema.memberTarget().id().getName();
-            } else {
-                xmlName = schema.id().getName();
-            }
-
-            writer.writeStartElement(xmlName);
-
-            // Add a namespace if present, and peek-through to the target shape for a namespace when it's a member.
-            var ns = schema.getTrait(TraitKey.XML_NAMESPACE_TRAIT);
-            if (ns != null) {
-                writer.writeNamespace(ns.getPrefix().orElse(null), ns.getUri());
-            }
-
-            return valueSerializer;
-        } catch (XMLStreamException e) {
-            throw new SerializationException(e);
-        }
+        writer.startElement(xmlInfo.getTopLevelTag(schema));
+        return valueSerializer;
     }
 
     // Close the top-level shape element.
     @Override
     protected void after(Schema schema) {
-        try {
-            writer.writeEndElement();
-        } catch (XMLStreamException e) {
-            throw new SerializationException(e);
-        }
+        writer.endElement();
+    }
+
+    @Override
+    public void flush() {
+        writer.flush();
+    }
+
+    @Override
+    public void close() {
+        writer.close();
     }
 
     private static String formatTimestamp(Schema schema, Instant value) {
@@ -119,42 +100,13 @@ final class XmlSerializer extends InterceptingSerializer {
     private final class NonFlattenedMemberSerializer extends InterceptingSerializer {
         @Override
         protected ShapeSerializer before(Schema schema) {
-            try {
-                writeStart(writer, getMemberXmlName(schema), schema);
-                return valueSerializer;
-            } catch (XMLStreamException e) {
-                throw new SerializationException(e);
-            }
+            writer.startElement(xmlInfo.getMemberTag(schema));
+            return valueSerializer;
         }
 
         @Override
         protected void after(Schema schema) {
-            try {
-                writer.writeEndElement();
-            } catch (XMLStreamException e) {
-                throw new SerializationException(e);
-            }
-        }
-    }
-
-    private static void writeStart(XMLStreamWriter writer, String xmlName, Schema schema) throws XMLStreamException {
-        writer.writeStartElement(xmlName);
-
-        // Add a namespace if present.
-        var ns = schema.getDirectTrait(TraitKey.XML_NAMESPACE_TRAIT);
-        if (ns != null) {
-            writer.writeNamespace(ns.getPrefix().orElse(null), ns.getUri());
-        }
-    }
-
-    private static String getMemberXmlName(Schema schema) {
-        var trait = schema.getDirectTrait(TraitKey.XML_NAME_TRAIT);
-        if (trait != null) {
-            return trait.getValue();
-        } else if (schema.isMember()) {
-            return schema.memberName();
-        } else {
-            throw new IllegalArgumentException("Expected member schema in XML serializer, found " + schema);
+            writer.endElement();
         }
     }
 
@@ -254,11 +206,7 @@ final class XmlSerializer extends InterceptingSerializer {
         }
 
         private void write(String value) {
-            try {
-                writer.writeCharacters(value);
-            } catch (XMLStreamException e) {
-                throw new SerializationException(e);
-            }
+            writer.text(value);
         }
     }
 
@@ -325,11 +273,7 @@ final class XmlSerializer extends InterceptingSerializer {
         }
 
         private void write(Schema schema, String value) {
-            try {
-                writer.writeAttribute(getMemberXmlName(schema), value);
-            } catch (XMLStreamException e) {
-                throw new SerializationException(e);
-            }
+            writer.attribute(xmlInfo.getAttributeTag(schema), value);
         }
     }
 
@@ -344,21 +288,13 @@ final class XmlSerializer extends InterceptingSerializer {
 
         @Override
         protected ShapeSerializer before(Schema schema) {
-            try {
-                writeStart(writer, info.memberName, schema);
-                return valueSerializer;
-            } catch (XMLStreamException e) {
-                throw new SerializationException(e);
-            }
+            writer.startElement(info.itemTag.forSchema(info.itemSchema, schema));
+            return valueSerializer;
         }
 
         @Override
         protected void after(Schema schema) {
-            try {
-                writer.writeEndElement();
-            } catch (XMLStreamException e) {
-                throw new SerializationException(e);
-            }
+            writer.endElement();
         }
     }
 
@@ -377,22 +313,18 @@ final class XmlSerializer extends InterceptingSerializer {
                 T state,
                 BiConsumer<T, ShapeSerializer> valueSerializer
         ) {
-            try {
-                // Write the "<entry>" element.
-                writer.writeStartElement(info.entryName);
+            // Write the "<entry>" element.
+            writer.startElement(info.entryTag);
 
-                // Write the "<key>" element.
-                writeStart(writer, info.keyName, keySchema);
-                writer.writeCharacters(key);
-                writer.writeEndElement();
+            // Write the "<key>" element.
+            writer.startElement(info.keyTag.forSchema(info.keySchema, keySchema));
+            writer.text(key);
+            writer.endElement();
 
-                // The <value> element is opened and closed by the nonFlattenedMemberSerializer.
-                valueSerializer.accept(state, nonFlattenedMemberSerializer);
+            // The <value> element is opened and closed by the nonFlattenedMemberSerializer.
+            valueSerializer.accept(state, nonFlattenedMemberSerializer);
 
-                writer.writeEndElement();
-            } catch (XMLStreamException e) {
-                throw new SerializationException(e);
-            }
+            writer.endElement();
         }
     }
 }
@@ -0,0 +1,307 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.xml;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import software.amazon.smithy.java.core.serde.SerializationException;
+
+/**
+ * Writes XML elements, attributes, and text using tags precomputed by {@link XmlInfo}.
+ */
+sealed abstract class XmlWriter {
+
+    abstract void startElement(XmlInfo.ElementTag tag);
+
+    abstract void attribute(XmlInfo.AttributeTag tag, String value);
+
+    abstract void text(String value);
+
+    abstract void endElement();
+
+    abstract void flush();
+
+    /**
+     * Flushes the writer and releases any resources it holds. The writer can't be used after it's closed.
+     */
+    void close() {
+        flush();
+    }
+
+    /**
+     * Escapes a value using the same rules as the JDK's XMLStreamWriter.
+     *
+     * @param value Value to escape.
+     * @param attribute True to also escape double quotes.
+     * @return the escaped value.
+     */
+    static String escape(String value, boolean attribute) {
+        StringBuilder result = null;
+        for (int i = 0; i < value.length(); i++) {
+            var replacement = escapeChar(value.charAt(i), attribute);
+            if (replacement != null) {
+                if (result == null) {
+                    result = new StringBuilder(value.length() + 16).append(value, 0, i);
+                }
+                result.append(replacement);
+            } else if (result != null) {
+                result.append(value.charAt(i));
+            }
+        }
+        return result == null ? value : result.toString();
+    }
+
+    private static String escapeChar(char c, boolean attribute) {
+        return switch (c) {
+            case '<' -> "&lt;";
+            case '>' -> "&gt;";
+            case '&' -> "&amp;";
+            case '"' -> attribute ? "&quot;" : null;
+            default -> null;
+        };
+    }
+
+    /**
+     * Writes through a {@link XMLStreamWriter}.
+     */
+    static final class StaxWriter extends XmlWriter {
+
+        private final XMLStreamWriter writer;
+
+        StaxWriter(XMLStreamWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        void startElement(XmlInfo.ElementTag tag) {
+            try {
+                writer.writeStartElement(tag.name);
+                if (tag.namespace != null) {
+                    writer.writeNamespace(tag.namespace.getPrefix().orElse(null), tag.namespace.getUri());
+                }
+            } catch (XMLStreamException e) {
+                throw new SerializationException(e);
+            }
+        }
+
+        @Override
+        void attribute(XmlInfo.AttributeTag tag, String value) {
+            try {
+                writer.writeAttribute(tag.name, value);
+            } catch (XMLStreamException e) {
+                throw new SerializationException(e);
+            }
+        }
+
+        @Override
+        void text(String value) {
+            try {
+                writer.writeCharacters(value);
+            } catch (XMLStreamException e) {
+                throw new SerializationException(e);
+            }
+        }
+
+        @Override
+        void endElement() {
+            try {
+                writer.writeEndElement();
+            } catch (XMLStreamException e) {
+                throw new SerializationException(e);
+            }
+        }
+
+        @Override
+        void flush() {
+            try {
+                writer.flush();
+            } catch (XMLStreamException e) {
+                throw new SerializationException(e);
+            }
+        }
+    }
+
+    /**
+     * Writes UTF-8 bytes directly into a buffer that is drained into an OutputStream.
+     *
+     * <p>The buffer is taken from a per-thread pool when the writer is created and returned to it when the writer is
+     * closed, so serializing one shape after another on a thread reuses the same buffer. A writer that isn't closed
+     * just leaves its buffer to the garbage collector.
+     *
+     * <p>Opening and closing tags are copied from the bytes precomputed for each schema, so element names and
+     * namespace declarations are never re-encoded. Only text and attribute values are encoded as they are written.
+     */
+    static final class Utf8Writer extends XmlWriter {
+
+        private static final int BUFFER_SIZE = 8192;
+
+        // The longest expansion of a single char: a 6-byte escape sequence like "&quot;".
+        private static final int MAX_CHAR_BYTES = 6;
+
+        // Holds the buffer of the last closed writer on each thread. A writer takes the buffer out of its slot, so
+        // writers that are open at the same time on a thread never share one.
+        private static final ThreadLocal<byte[]> BUFFERS = new ThreadLocal<>();
+
+        private final OutputStream sink;
+        private byte[] buffer;
+        private int position;
+        private byte[][] closeTags = new byte[16][];
+        private int depth;
+        private boolean startTagOpen;
+
+        Utf8Writer(OutputStream sink) {
+            this.sink = sink;
+            var pooled = BUFFERS.get();
+            if (pooled != null) {
+                BUFFERS.set(null);
+                this.buffer = pooled;
+            } else {
+                this.buffer = new byte[BUFFER_SIZE];
+            }
+        }
+
+        @Override
+        void startElement(XmlInfo.ElementTag tag) {
+            closeStartTag();
+            writeBytes(tag.open);
+            if (depth == closeTags.length) {
+                closeTags = Arrays.copyOf(closeTags, depth << 1);
+            }
+            closeTags[depth++] = tag.close;
+            startTagOpen = true;
+        }
+
+        @Override
+        void attribute(XmlInfo.AttributeTag tag, String value) {
+            if (!startTagOpen) {
+                throw new SerializationException("Cannot write attribute " + tag.name + " outside of a start tag");
+            }
+            writeBytes(tag.open);
+            writeEscaped(value, true);
+            writeByte('"');
+        }
+
+        @Override
+        void text(String value) {
+            closeStartTag();
+            writeEscaped(value, false);
+        }
+
+        @Override
+        void endElement() {
+            if (depth == 0) {
+                throw new SerializationException("No open XML element to close");
+            }
+            closeStartTag();
+            writeBytes(closeTags[--depth]);
+        }
+
+        @Override
+        void flush() {
+            try {
+                drain();
+                sink.flush();
+            } catch (IOException e) {
+                throw new SerializationException(e);
+            }
+        }
+
+        @Override
+        void close() {
+            flush();
+            if (buffer != null) {
+                BUFFERS.set(buffer);
+                buffer = null;
+            }
+        }
+
+        private void closeStartTag() {
+            if (startTagOpen) {
+                startTagOpen = false;
+                writeByte('>');
+            }
+        }
+
+        private void writeByte(char c) {
+            if (position == buffer.length) {
+                drainUnchecked();
+            }
+            buffer[position++] = (byte) c;
+        }
+
+        private void writeBytes(byte[] bytes) {
+            if (bytes.length > buffer.length - position) {
+                drainUnchecked();
+                if (bytes.length > buffer.length) {
+                    try {
+                        sink.write(bytes);
+                    } catch (IOException e) {
+                        throw new SerializationException(e);
+                    }
+                    return;
+                }
+            }
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void writeEscaped(String value, boolean attribute) {
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                if (buffer.length - position < MAX_CHAR_BYTES) {
+                    drainUnchecked();
+                }
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    var escaped = escapeChar(c, attribute);
+                    if (escaped == null) {
+                        buffer[position++] = (byte) c;
+                    } else {
+                        for (int j = 0; j < escaped.length(); j++) {
+                            buffer[position++] = (byte) escaped.charAt(j);
+                        }
+                    }
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c)
+                        && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // Unpaired surrogates can't be encoded; replace them like the JDK's UTF-8 encoder does.
+                    buffer[position++] = (byte) '?';
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private void drainUnchecked() {
+            try {
+                drain();
+            } catch (IOException e) {
+                throw new SerializationException(e);
+            }
+        }
+
+        private void drain() throws IOException {
+            if (position > 0) {
+                sink.write(buffer, 0, position);
+                position = 0;
+            }
+        }
+    }
+}
@@ -9,11 +9,15 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import software.amazon.smithy.java.core.schema.PreludeSchemas;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
@@ -24,6 +28,9 @@ import software.amazon.smithy.java.core.serde.ToStringSerializer;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.traits.JsonNameTrait;
 import software.amazon.smithy.model.traits.TimestampFormatTrait;
+import software.amazon.smithy.model.traits.XmlAttributeTrait;
+import software.amazon.smithy.model.traits.XmlNameTrait;
+import software.amazon.smithy.model.traits.XmlNamespaceTrait;
 
 public class XmlCodecTest {
     @Test
@@ -48,9 +55,10 @@ public class XmlCodecTest {
         }
     }
 
-    @Test
-    public void serializesXml() {
-        try (var codec = XmlCodec.builder().build()) {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void serializesXml(boolean writeUtf8Directly) {
+        try (var codec = XmlCodec.builder().writeUtf8Directly(writeUtf8Directly).build()) {
             var builder = new TestPojo.Builder();
             builder.name = "Hello";
             builder.date = Instant.parse("2006-03-01T00:00:00Z");
@@ -65,6 +73,81 @@ public class XmlCodecTest {
         }
     }
 
+    @Test
+    public void utf8WriterMatchesStreamWriter() {
+        var builder = new TestPojo.Builder();
+        builder.name = "a<b & \"c\" > \u00e9\u2603";
+        builder.numbers.addAll(List.of(1, 2));
+        var pojo = builder.build();
+        var attributed = new AttributedStruct("x\"y<z", "inner & text");
+
+        try (var stax = XmlCodec.builder().build(); var utf8 = XmlCodec.builder().writeUtf8Directly(true).build()) {
+            assertThat(utf8.serializeToString(pojo), equalTo(stax.serializeToString(pojo)));
+            assertThat(utf8.serializeToString(attributed), equalTo(stax.serializeToString(attributed)));
+            assertThat(
+                    utf8.serializeToString(attributed),
+                    equalTo("<Attributed xmlns:ex=\"https://example.com?a=1&amp;b=2\" id=\"x&quot;y&lt;z\">"
+                            + "<Value xmlns=\"https://example.com/value\">inner &amp; text</Value></Attributed>"));
+        }
+    }
+
+    @Test
+    public void utf8WritersReuseBuffersSafely() throws Exception {
+        var large = new TestPojo.Builder();
+        large.name = "x".repeat(20_000);
+        var small = new TestPojo.Builder();
+        small.name = "y";
+
+        var largeXml = "<Foo><name>" + large.name + "</name><numbers></numbers></Foo>";
+
+        try (var codec = XmlCodec.builder().writeUtf8Directly(true).build()) {
+            assertThat(codec.serializeToString(large.build()), equalTo(largeXml));
+            assertThat(codec.serializeToString(small.build()), equalTo("<Foo><name>y</name><numbers></numbers></Foo>"));
+
+            // Serializers that are open at the same time on a thread don't share a buffer.
+            var outer = new ByteArrayOutputStream();
+            var inner = new ByteArrayOutputStream();
+            try (var outerSerializer = codec.createSerializer(outer)) {
+                small.build().serialize(outerSerializer);
+                try (var innerSerializer = codec.createSerializer(inner)) {
+                    large.build().serialize(innerSerializer);
+                }
+            }
+            assertThat(outer.toString(StandardCharsets.UTF_8), equalTo("<Foo><name>y</name><numbers></numbers></Foo>"));
+            assertThat(inner.toString(StandardCharsets.UTF_8), equalTo(largeXml));
+        }
+    }
+
+    private record AttributedStruct(String id, String value) implements SerializableStruct {
+
+        private static final Schema SCHEMA = Schema.structureBuilder(
+                ShapeId.from("smithy.example#Attributed"),
+                XmlNamespaceTrait.builder().uri("https://example.com?a=1&b=2").prefix("ex").build())
+                .putMember("id", PreludeSchemas.STRING, new XmlAttributeTrait())
+                .putMember(
+                        "value",
+                        PreludeSchemas.STRING,
+                        new XmlNameTrait("Value"),
+                        XmlNamespaceTrait.builder().uri("https://example.com/value").build())
+                .build();
+
+        @Override
+        public Schema schema() {
+            return SCHEMA;
+        }
+
+        @Override
+        public void serializeMembers(ShapeSerializer serializer) {
+            serializer.writeString(SCHEMA.member("id"), id);
+            serializer.writeString(SCHEMA.member("value"), value);
+        }
+
+        @Override
+        public <T> T getMemberValue(Schema member) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     private static final class TestPojo implements SerializableStruct {
 
         private static final ShapeId ID = ShapeId.from("smithy.example#Foo");
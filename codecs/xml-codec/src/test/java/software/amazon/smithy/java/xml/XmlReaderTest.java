@@ -36,7 +36,7 @@ public class XmlReaderTest {
                 """;
 
         var factory = getFactory();
-        try (var reader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)), factory)) {
+        try (var reader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)))) {
             assertThat(reader.getLocation().getLineNumber(), equalTo(1));
             assertThat(reader.getText(), equalTo(""));
             assertThat(reader.nextMemberElement(), equalTo("foo"));
@@ -67,7 +67,7 @@ public class XmlReaderTest {
         var xml = "<foo/>";
 
         var factory = getFactory();
-        try (var reader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)), factory)) {
+        try (var reader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)))) {
             assertThat(reader.getText(), equalTo(""));
             assertThat(reader.nextMemberElement(), equalTo("foo"));
             assertThat(reader.getText(), equalTo(""));
@@ -80,7 +80,7 @@ public class XmlReaderTest {
     public void getLocationNameFromBufferedReader() throws XMLStreamException {
         var xml = "<foo>hi</foo>";
         var factory = getFactory();
-        var streamReader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)), factory);
+        var streamReader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)));
         var bufferedReader = new XmlReader.BufferedReader(streamReader.bufferElement("foo"));
 
         assertThat(bufferedReader.getLocation().getLineNumber(), equalTo(1));
@@ -91,7 +91,7 @@ public class XmlReaderTest {
     public void convertsStreamReaderToString() throws XMLStreamException {
         var xml = "<foo>hi</foo>";
         var factory = getFactory();
-        var streamReader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)), factory);
+        var streamReader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)));
 
         assertThat(streamReader.toString(), equalTo("(event: 1, line: 1, column: 6)"));
     }
@@ -100,7 +100,7 @@ public class XmlReaderTest {
     public void convertsBufferedReaderToString() throws XMLStreamException {
         var xml = "<foo>hi</foo>";
         var factory = getFactory();
-        var streamReader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)), factory);
+        var streamReader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)));
         var bufferedReader = new XmlReader.BufferedReader(streamReader.bufferElement("foo"));
 
         assertThat(bufferedReader.toString(), equalTo("(event: 1, line: 1, column: 6)"));
@@ -117,9 +117,7 @@ public class XmlReaderTest {
 
         var factory = getFactory();
         try (
-                var r = new XmlReader.StreamReader(
-                        factory.createXMLStreamReader(new StringReader(xml)),
-                        factory);
+                var r = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)));
                 var reader = new XmlReader.BufferedReader(r.bufferElement("foo"))) {
             assertThat(reader.getLocation().getLineNumber(), equalTo(1));
             assertThat(reader.getText(), equalTo(""));
@@ -150,7 +148,7 @@ public class XmlReaderTest {
     public void buffersNestedElementsOfSameName() throws XMLStreamException {
         var xml = "<foo><foo><foo>hi</foo></foo></foo>";
         var factory = getFactory();
-        var streamReader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)), factory);
+        var streamReader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)));
         var bufferedReader = new XmlReader.BufferedReader(streamReader.bufferElement("foo"));
 
         assertThat(bufferedReader.nextMemberElement(), equalTo("foo"));
@@ -166,7 +164,7 @@ public class XmlReaderTest {
     public void canBufferNestedBuffers() throws XMLStreamException {
         var xml = "<foo><foo><foo>hi</foo></foo></foo>";
         var factory = getFactory();
-        var streamReader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)), factory);
+        var streamReader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)));
         var bufferedReader1 = new XmlReader.BufferedReader(streamReader.bufferElement("foo"));
         var bufferedReader2 = new XmlReader.BufferedReader(bufferedReader1.bufferElement("foo"));
 
@@ -183,7 +181,7 @@ public class XmlReaderTest {
     public void canBufferPartOfBuffer() throws XMLStreamException {
         var xml = "<foo><bar>hi</bar><baz>bye</baz></foo>";
         var factory = getFactory();
-        var streamReader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)), factory);
+        var streamReader = new XmlReader.StreamReader(factory.createXMLStreamReader(new StringReader(xml)));
         var bufferedReader1 = new XmlReader.BufferedReader(streamReader.bufferElement("foo"));
 
         assertThat(bufferedReader1.nextMemberElement(), equalTo("foo"));
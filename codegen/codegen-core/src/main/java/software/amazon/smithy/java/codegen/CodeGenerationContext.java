@@ -135,7 +135,11 @@ public class CodeGenerationContext
         this.runtimeTraits = collectRuntimeTraits();
         this.traitInitializers = collectTraitInitializers();
         this.plugin = plugin;
-        this.schemaFieldOrder = new SchemaFieldOrder(directive, schemaPartitionThreshold, symbolProvider);
+        this.schemaFieldOrder = new SchemaFieldOrder(
+                directive,
+                schemaPartitionThreshold,
+                symbolProvider,
+                settings.lazySchemas());
     }
 
     @Override
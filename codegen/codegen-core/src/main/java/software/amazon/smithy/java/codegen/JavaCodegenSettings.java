@@ -49,6 +49,7 @@ public final class JavaCodegenSettings {
     private static final String USE_EXTERNAL_TYPES = "useExternalTypes";
     private static final String RUNTIME_TRAITS = "runtimeTraits";
     private static final String RUNTIME_TRAITS_SELECTOR = "runtimeTraitsSelector";
+    private static final String LAZY_SCHEMAS = "lazySchemas";
     private static final List<String> PROPERTIES = List.of(
             SERVICE,
             NAME,
@@ -64,7 +65,8 @@ public final class JavaCodegenSettings {
             EDITION,
             USE_EXTERNAL_TYPES,
             RUNTIME_TRAITS,
-            RUNTIME_TRAITS_SELECTOR);
+            RUNTIME_TRAITS_SELECTOR,
+            LAZY_SCHEMAS);
 
     private final ShapeId service;
     private final String name;
@@ -82,6 +84,7 @@ public final class JavaCodegenSettings {
     private final boolean useExternalTypes;
     private final List<ShapeId> runtimeTraits;
     private final Selector runtimeTraitsSelector;
+    private final boolean lazySchemas;
     private final Map<String, Set<Symbol>> generatedSymbols = new HashMap<>();
 
     private JavaCodegenSettings(Builder builder) {
@@ -101,6 +104,7 @@ public final class JavaCodegenSettings {
         this.useExternalTypes = builder.useExternalTypes;
         this.runtimeTraits = Collections.unmodifiableList(builder.runtimeTraits);
         this.runtimeTraitsSelector = builder.runtimeTraitsSelector;
+        this.lazySchemas = builder.lazySchemas;
     }
 
     /**
@@ -126,7 +130,8 @@ public final class JavaCodegenSettings {
                 .getStringMember(EDITION, builder::edition)
                 .getBooleanMember(USE_EXTERNAL_TYPES, builder::useExternalTypes)
                 .getArrayMember(RUNTIME_TRAITS, n -> n.expectStringNode().expectShapeId(), builder::runtimeTraits)
-                .getStringMember(RUNTIME_TRAITS_SELECTOR, builder::runtimeTraitsSelector);
+                .getStringMember(RUNTIME_TRAITS_SELECTOR, builder::runtimeTraitsSelector)
+                .getBooleanMember(LAZY_SCHEMAS, builder::lazySchemas);
 
         builder.sourceLocation(settingsNode.getSourceLocation().getFilename());
 
@@ -197,6 +202,10 @@ public final class JavaCodegenSettings {
         return runtimeTraitsSelector;
     }
 
+    public boolean lazySchemas() {
+        return lazySchemas;
+    }
+
     @SmithyInternalApi
     public void addSymbol(Symbol symbol) {
         var symbols = generatedSymbols.computeIfAbsent(symbol.getNamespace(), k -> new HashSet<>());
@@ -256,6 +265,7 @@ public final class JavaCodegenSettings {
         private final List<ShapeId> runtimeTraits = new ArrayList<>();
         private Selector runtimeTraitsSelector;
         private boolean useExternalTypes;
+        private boolean lazySchemas;
 
         public Builder service(String string) {
             this.service = ShapeId.from(string);
@@ -350,6 +360,11 @@ public final class JavaCodegenSettings {
             return this;
         }
 
+        public Builder lazySchemas(boolean lazySchemas) {
+            this.lazySchemas = lazySchemas;
+            return this;
+        }
+
         public Builder runtimeTraits(List<ShapeId> runtimeTraits) {
             this.runtimeTraits.addAll(runtimeTraits);
             return this;
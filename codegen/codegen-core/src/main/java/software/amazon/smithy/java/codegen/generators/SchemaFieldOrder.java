@@ -7,15 +7,20 @@ package software.amazon.smithy.java.codegen.generators;
 
 import static java.util.function.Predicate.not;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.smithy.codegen.core.SymbolProvider;
@@ -25,7 +30,10 @@ import software.amazon.smithy.java.codegen.CodegenUtils;
 import software.amazon.smithy.java.codegen.SymbolProperties;
 import software.amazon.smithy.java.codegen.writer.JavaWriter;
 import software.amazon.smithy.java.core.schema.PreludeSchemas;
+import software.amazon.smithy.model.knowledge.NeighborProviderIndex;
 import software.amazon.smithy.model.loader.Prelude;
+import software.amazon.smithy.model.neighbor.Walker;
+import software.amazon.smithy.model.shapes.OperationShape;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.shapes.ShapeType;
@@ -47,28 +55,101 @@ public final class SchemaFieldOrder {
     private final List<List<SchemaField>> partitions;
     private final Map<ShapeId, SchemaField> reverseMapping;
     private final SymbolProvider symbolProvider;
+    private final Set<String> classNames = new HashSet<>();
 
     public SchemaFieldOrder(Directive<?> directive, long partitionThreshold, SymbolProvider symbolProvider) {
+        this(directive, partitionThreshold, symbolProvider, false);
+    }
+
+    /**
+     * Orders schema fields and assigns them to schema classes.
+     *
+     * <p>When {@code perOperation} is true, shapes that are only reachable from a single operation are placed in
+     * their own classes named after the operation (e.g., {@code SchemasGetItem}). The JVM only initializes a class
+     * the first time it's used, so the schemas of an operation are only built when the operation is first used.
+     * Shapes reachable from more than one operation, recursive shapes, and everything reachable from them, remain
+     * in the shared {@code Schemas} classes. Shared classes therefore never refer to per-operation classes, which
+     * avoids class initialization cycles.
+     *
+     * @param directive Directive used to find the shapes to generate.
+     * @param partitionThreshold Maximum number of fields per class before the fields are split into another class.
+     * @param symbolProvider Symbol provider used to find external types.
+     * @param perOperation Whether to group schemas used by a single operation into a class for that operation.
+     */
+    public SchemaFieldOrder(
+            Directive<?> directive,
+            long partitionThreshold,
+            SymbolProvider symbolProvider,
+            boolean perOperation
+    ) {
+        this.symbolProvider = symbolProvider;
+        var model = directive.model();
         var connectedShapes = new HashSet<>(directive.connectedShapes().values());
-        var index = TopologicalIndex.of(directive.model());
+        var index = TopologicalIndex.of(model);
         var allShapes = Stream.concat(index.getOrderedShapes().stream(), index.getRecursiveShapes().stream())
                 .filter(connectedShapes::contains)
                 .filter(s -> !s.hasTrait(SyntheticTrait.class))
                 .filter(s -> !EXCLUDED_TYPES.contains(s.getType()))
                 .filter(not(Prelude::isPreludeShape))
                 .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Shape> recursiveShapes = new HashSet<>();
+        for (var shape : allShapes) {
+            if (CodegenUtils.recursiveShape(model, shape)) {
+                recursiveShapes.add(shape);
+            }
+        }
+
         List<List<SchemaField>> computedPartitions = new ArrayList<>();
+        if (perOperation) {
+            var owners = findOperationOwners(directive, allShapes, recursiveShapes);
+            Map<OperationShape, List<Shape>> operationShapes = new LinkedHashMap<>();
+            List<Shape> sharedShapes = new ArrayList<>();
+            for (var shape : allShapes) {
+                var owner = owners.get(shape);
+                if (owner == null) {
+                    sharedShapes.add(shape);
+                } else {
+                    operationShapes.computeIfAbsent(owner, o -> new ArrayList<>()).add(shape);
+                }
+            }
+            addPartitions(computedPartitions, "Schemas", sharedShapes, partitionThreshold, recursiveShapes);
+            for (var entry : operationShapes.entrySet()) {
+                var className = "Schemas" + symbolProvider.toSymbol(entry.getKey()).getName();
+                addPartitions(computedPartitions, className, entry.getValue(), partitionThreshold, recursiveShapes);
+            }
+        } else {
+            addPartitions(computedPartitions, "Schemas", allShapes, partitionThreshold, recursiveShapes);
+        }
+
+        computedPartitions.removeIf(List::isEmpty);
+        this.partitions = Collections.unmodifiableList(computedPartitions);
+        Map<ShapeId, SchemaField> map = new HashMap<>();
+        for (var partition : this.partitions) {
+            for (var schemaField : partition) {
+                map.put(schemaField.shape.getId(), schemaField);
+            }
+        }
+        this.reverseMapping = map;
+    }
+
+    private void addPartitions(
+            List<List<SchemaField>> computedPartitions,
+            String baseClassName,
+            Collection<Shape> shapes,
+            long partitionThreshold,
+            Set<Shape> recursiveShapes
+    ) {
         int curIndex = 0;
         var curParition = new ArrayList<SchemaField>();
         var curFieldNames = new HashSet<String>();
         computedPartitions.add(curParition);
         int curClassNumber = 0;
-        String curClassName = "Schemas";
-        for (var shape : allShapes) {
+        String curClassName = reserveClassName(baseClassName);
+        for (var shape : shapes) {
             if (curIndex >= partitionThreshold) {
                 curIndex = 0;
                 curClassNumber++;
-                curClassName = "Schemas" + curClassNumber;
+                curClassName = reserveClassName(baseClassName + curClassNumber);
                 curFieldNames.clear();
                 curParition = new ArrayList<>();
                 computedPartitions.add(curParition);
@@ -77,7 +158,7 @@ public final class SchemaFieldOrder {
             if (curFieldNames.contains(shapeFieldName)) {
                 shapeFieldName = toFullQualifiedSchemaName(shape);
             }
-            boolean isShapeRecursive = CodegenUtils.recursiveShape(directive.model(), shape);
+            boolean isShapeRecursive = recursiveShapes.contains(shape);
             boolean isExternal =
                     symbolProvider.toSymbol(shape).getProperty(SymbolProperties.EXTERNAL_TYPE).orElse(false);
             var shapeField = new SchemaField(shape, shapeFieldName, curClassName, isShapeRecursive, isExternal);
@@ -88,16 +169,72 @@ public final class SchemaFieldOrder {
             }
             curIndex++;
         }
-        computedPartitions.removeIf(List::isEmpty);
-        this.partitions = Collections.unmodifiableList(computedPartitions);
-        Map<ShapeId, SchemaField> map = new HashMap<>();
-        for (var partition : this.partitions) {
-            for (var schemaField : partition) {
-                map.put(schemaField.shape.getId(), schemaField);
+    }
+
+    /**
+     * Reserves a unique schema class name.
+     *
+     * <p>Partition numbers can make class names collide, like the second class of {@code GetItem} and the first
+     * class of {@code GetItem1}. Names that are already taken get a numbered suffix after an underscore.
+     */
+    private String reserveClassName(String name) {
+        var result = name;
+        for (var i = 2; !classNames.add(result); i++) {
+            result = name + "_" + i;
+        }
+        return result;
+    }
+
+    /**
+     * Finds the only operation that uses each shape.
+     *
+     * <p>Shapes without an owner are shared: they're used by more than one operation, aren't used by any operation
+     * (like service errors), are recursive, or are used by a shared shape.
+     */
+    private static Map<Shape, OperationShape> findOperationOwners(
+            Directive<?> directive,
+            Set<Shape> allShapes,
+            Set<Shape> recursiveShapes
+    ) {
+        var model = directive.model();
+        var walker = new Walker(model);
+        Map<Shape, OperationShape> owners = new HashMap<>();
+        Set<Shape> shared = new HashSet<>(recursiveShapes);
+        for (var operation : directive.operations()) {
+            for (var shape : walker.walkShapes(operation)) {
+                if (!allShapes.contains(shape) || shared.contains(shape)) {
+                    continue;
+                }
+                var previous = owners.putIfAbsent(shape, operation);
+                if (previous != null && !previous.equals(operation)) {
+                    owners.remove(shape);
+                    shared.add(shape);
+                }
             }
         }
-        this.reverseMapping = map;
-        this.symbolProvider = symbolProvider;
+
+        for (var shape : allShapes) {
+            if (!owners.containsKey(shape)) {
+                shared.add(shape);
+            }
+        }
+
+        // Everything a shared shape refers to must also be shared, so shared classes never depend on an operation.
+        var neighbors = NeighborProviderIndex.of(model).getProvider();
+        Deque<Shape> queue = new ArrayDeque<>(shared);
+        Set<Shape> visited = new HashSet<>(shared);
+        while (!queue.isEmpty()) {
+            var shape = queue.poll();
+            owners.remove(shape);
+            for (var relationship : neighbors.getNeighbors(shape)) {
+                var neighbor = relationship.getNeighborShape().orElse(null);
+                if (neighbor != null && visited.add(neighbor)) {
+                    queue.add(neighbor);
+                }
+            }
+        }
+
+        return owners;
     }
 
     public SchemaField getSchemaField(ShapeId shape) {
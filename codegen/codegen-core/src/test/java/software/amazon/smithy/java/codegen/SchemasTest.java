@@ -9,12 +9,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.regex.Pattern;
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.build.MockManifest;
 import software.amazon.smithy.build.PluginContext;
 import software.amazon.smithy.java.codegen.utils.TestJavaCodegenPlugin;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 
 public class SchemasTest {
@@ -86,6 +88,154 @@ public class SchemasTest {
         verifySchemaReference("Op104Output", "Schemas2");
     }
 
+    @Test
+    void lazySchemasArePartitionedByOperation() {
+        var model = Model.assembler()
+                .addUnparsedModel("test.smithy", """
+                        $version: "2"
+                        namespace s.j
+
+                        service TestService {
+                            operations: [GetFoo, PutBar]
+                        }
+                        operation GetFoo {
+                            input: GetFooInput,
+                            output: GetFooOutput,
+                        }
+                        operation PutBar {
+                            input: PutBarInput,
+                            output: PutBarOutput,
+                        }
+                        structure GetFooInput {
+                            foo: Foo
+                            shared: Shared
+                        }
+                        structure GetFooOutput {
+                            recursive: Recursive
+                        }
+                        structure PutBarInput {
+                            shared: Shared
+                            tags: TagList
+                        }
+                        structure PutBarOutput {
+                            value: String
+                        }
+                        structure Foo {
+                            value: String
+                        }
+                        structure Shared {
+                            nested: Nested
+                        }
+                        structure Nested {
+                            value: String
+                        }
+                        structure Recursive {
+                            next: Recursive
+                            foo: Bar
+                        }
+                        structure Bar {
+                            value: String
+                        }
+                        list TagList {
+                            member: String
+                        }
+                        """)
+                .disableValidation()
+                .assemble()
+                .unwrap();
+        var context = PluginContext.builder()
+                .fileManifest(manifest)
+                .settings(settings().toBuilder().withMember("lazySchemas", Node.from(true)).build())
+                .model(model)
+                .build();
+        new TestJavaCodegenPlugin().execute(context);
+        var schemaFiles = manifest.getFiles()
+                .stream()
+                .map(Path::getFileName)
+                .map(Path::toString)
+                .filter(s -> s.startsWith("Schema"))
+                .toList();
+
+        assertThat(schemaFiles)
+                .containsExactlyInAnyOrder("Schemas.java", "SchemasGetFoo.java", "SchemasPutBar.java");
+
+        // Shapes only used by one operation are initialized with that operation.
+        verifySchemaReference("GetFooInput", "SchemasGetFoo");
+        verifySchemaReference("Foo", "SchemasGetFoo");
+        verifySchemaReference("PutBarInput", "SchemasPutBar");
+        assertThat(getFileString("SchemasPutBar.java")).contains("static final Schema TAG_LIST");
+
+        // Shared and recursive shapes, and shapes they refer to, stay in the shared class.
+        verifySchemaReference("Shared", "Schemas");
+        verifySchemaReference("Nested", "Schemas");
+        verifySchemaReference("Recursive", "Schemas");
+        verifySchemaReference("Bar", "Schemas");
+        assertThat(getFileString("Schemas.java")).doesNotContain("SchemasGetFoo", "SchemasPutBar");
+    }
+
+    @Test
+    void lazySchemaClassNamesDoNotCollideWithPartitions() {
+        int itemCount = TestJavaCodegen.SCHEMA_PARTITION_THRESHOLD + 5;
+        var smithyDefinition = new StringBuilder("""
+                $version: "2"
+                namespace s.j
+
+                service TestService {
+                    operations: [GetItem, GetItem1]
+                }
+                operation GetItem {
+                    input: GetItemInput
+                }
+                operation GetItem1 {
+                    input: GetItem1Input
+                }
+                structure GetItem1Input {
+                    value: String
+                }
+                structure GetItemInput {
+                """);
+        for (int i = 1; i <= itemCount; i++) {
+            smithyDefinition.append("    member%03d: Item%03d\n".formatted(i, i));
+        }
+        smithyDefinition.append("}\n");
+        for (int i = 1; i <= itemCount; i++) {
+            smithyDefinition.append("""
+                    structure Item%03d {
+                        value: String
+                    }
+                    """.formatted(i));
+        }
+        var model = Model.assembler()
+                .addUnparsedModel("test.smithy", smithyDefinition.toString())
+                .disableValidation()
+                .assemble()
+                .unwrap();
+        var context = PluginContext.builder()
+                .fileManifest(manifest)
+                .settings(settings().toBuilder().withMember("lazySchemas", Node.from(true)).build())
+                .model(model)
+                .build();
+        new TestJavaCodegenPlugin().execute(context);
+        var schemaFiles = manifest.getFiles()
+                .stream()
+                .map(Path::getFileName)
+                .map(Path::toString)
+                .filter(s -> s.startsWith("Schema"))
+                .toList();
+
+        // GetItem is split into two classes, and GetItem1 gets a class of its own.
+        assertThat(schemaFiles)
+                .hasSize(3)
+                .contains("SchemasGetItem.java", "SchemasGetItem1.java");
+        for (var structureName : List.of("GetItemInput", "Item001", "Item%03d".formatted(itemCount), "GetItem1Input")) {
+            var fieldName = CodegenUtils.toUpperSnakeCase(structureName);
+            var matcher = Pattern.compile("\\$SCHEMA = (\\w+)\\." + fieldName + ";")
+                    .matcher(getFileString(structureName + ".java"));
+            assertThat(matcher.find()).isTrue();
+            assertThat(getFileString(matcher.group(1) + ".java")).contains("static final Schema " + fieldName + " ");
+        }
+    }
+
     private void verifySchemaReference(String structureName, String expectedSchema) {
         assertThat(getFileString(structureName + ".java"))
                 .contains("public static final Schema $SCHEMA = %s.%s".formatted(expectedSchema,
@@ -5,72 +5,113 @@
 
 package software.amazon.smithy.java.context;
 
-import java.util.HashMap;
-import java.util.Map;
-
+/**
+ * Stores values in fixed-size slabs indexed by the id of each key.
+ *
+ * <p>The slab table is sized for every key that exists when the context is created, so putting a value never
+ * needs to resize unless keys are created later. Copying a context into another array context clones each of its
+ * slabs rather than putting each value, which makes copying a client's config context into a call context cheap.
+ * Copying only reads the source, so a context can be copied from multiple threads at once.
+ */
 final class ArrayStorageContext implements Context {
 
-    private static final int PADDING = 16;
-    private static final Object[] EMPTY = new Object[0];
-
-    // Stores values of the context with a size equal to the required keyspace + some padding, nulls in unused slots.
-    private Object[] values;
+    private static final int SLAB_BITS = 4;
+    private static final int SLAB_SIZE = 1 << SLAB_BITS;
+    private static final int SLAB_MASK = SLAB_SIZE - 1;
 
-    // Stores keys that exceed Key.MAX_ARRAY_KEY_SPACE in case this context is copied to another context.
-    // This should only happen if an ArrayStorageContext is created before Contexts transition from array to
-    // map-based storage due to subsequent keyspace growth. The first Key.MAX_ARRAY_KEY_SPACE keys in the keyspace are
-    // stored in Key so they don't need to be stored here.
-    private final Map<Integer, Key<?>> keys = new HashMap<>();
+    // Slabs of values, allocated when a value in the slab is first set. Unused slots are null.
+    private Object[][] slabs;
 
     ArrayStorageContext() {
-        // Start with an empty array until the context is modified.
-        this.values = EMPTY;
+        this.slabs = new Object[slabCount(Key.COUNTER.get())][];
+    }
+
+    private static int slabCount(int keys) {
+        return Math.max(1, (keys + SLAB_MASK) >>> SLAB_BITS);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> T get(Key<T> key) {
         int idx = key.id;
-        if (idx >= values.length) {
+        int slab = idx >>> SLAB_BITS;
+        if (slab >= slabs.length) {
             return null;
         }
-        return (T) values[idx];
+        var values = slabs[slab];
+        return values == null ? null : (T) values[idx & SLAB_MASK];
     }
 
     @Override
     public <T> Context put(Key<T> key, T value) {
-        var idx = key.id;
-        if (idx >= values.length) {
-            resize();
-        }
-        this.values[idx] = value;
+        int idx = key.id;
+        writableSlab(idx >>> SLAB_BITS)[idx & SLAB_MASK] = value;
+        return this;
+    }
 
-        // Only store keys when the id of the key exceeds the array index keyspace. This is an edge case due to
-        // a growing keyspace. We need these keys in case Context#copyTo is called.
-        if (idx >= Key.MAX_ARRAY_KEY_SPACE) {
-            keys.put(key.id, key);
+    private Object[] writableSlab(int slab) {
+        if (slab >= slabs.length) {
+            resize(slab + 1);
         }
-
-        return this;
+        var values = slabs[slab];
+        if (values == null) {
+            values = new Object[SLAB_SIZE];
+            slabs[slab] = values;
+        }
+        return values;
     }
 
-    private void resize() {
-        // Pad to allow for new values to be added without needing a resize.
-        int targetSize = Key.COUNTER.get() + PADDING;
-        var newValues = new Object[targetSize];
-        System.arraycopy(values, 0, newValues, 0, values.length);
-        this.values = newValues;
+    private void resize(int minSlabs) {
+        // Keys were created after this context, so grow to cover the current keyspace.
+        int targetSize = Math.max(minSlabs, slabCount(Key.COUNTER.get()));
+        var newSlabs = new Object[targetSize][];
+        System.arraycopy(slabs, 0, newSlabs, 0, slabs.length);
+        slabs = newSlabs;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void copyTo(Context target) {
-        for (var i = 0; i < values.length; i++) {
+        if (target instanceof ArrayStorageContext t) {
+            copyToArrayContext(t);
+        } else {
+            for (int slab = 0; slab < slabs.length; slab++) {
+                var values = slabs[slab];
+                if (values != null) {
+                    copyValues(slab, values, target, false);
+                }
+            }
+        }
+    }
+
+    private void copyToArrayContext(ArrayStorageContext target) {
+        if (target.slabs.length < slabs.length) {
+            target.resize(slabs.length);
+        }
+        for (int slab = 0; slab < slabs.length; slab++) {
+            var values = slabs[slab];
+            if (values == null) {
+                continue;
+            } else if (target.slabs[slab] == null) {
+                // Clone the whole slab, and then only copy values that need independent copies.
+                target.slabs[slab] = values.clone();
+                copyValues(slab, values, target, true);
+            } else {
+                copyValues(slab, values, target, false);
+            }
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static void copyValues(int slab, Object[] values, Context target, boolean onlyCopyableKeys) {
+        var keys = Key.KEYS;
+        int base = slab << SLAB_BITS;
+        for (int i = 0; i < SLAB_SIZE; i++) {
             var v = values[i];
             if (v != null) {
-                // Grab the key from the shared keyspace when possible.
-                var k = i < Key.MAX_ARRAY_KEY_SPACE ? Key.KEYS[i] : keys.get(i);
-                target.put(k, k.copyValue(v));
+                Key k = keys[base + i];
+                if (!onlyCopyableKeys || k.copiesValues) {
+                    target.put(k, k.copyValue(v));
+                }
             }
         }
     }
@@ -5,6 +5,7 @@
 
 package software.amazon.smithy.java.context;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -25,13 +26,9 @@ public sealed interface Context permits ArrayStorageContext, MapStorageContext,
      */
     final class Key<T> {
 
-        static final int MAX_ARRAY_KEY_SPACE = 64;
-
-        // Hold onto keys because they're needed when putting the contents of an array context into a map context.
-        // This could happen if the array context was created before the keyspace grew beyond MAX_ARRAY_KEY_SIZE,
-        // but a map context was created after.
+        // Hold onto keys, indexed by ID, because they're needed when copying the values of a context.
         @SuppressWarnings("rawtypes")
-        static final Key[] KEYS = new Key[MAX_ARRAY_KEY_SPACE];
+        static volatile Key[] KEYS = new Key[64];
 
         // Each created key will get an assigned ID used to index into an array of possible keys.
         static final AtomicInteger COUNTER = new AtomicInteger();
@@ -40,13 +37,28 @@ public sealed interface Context permits ArrayStorageContext, MapStorageContext,
         final int id;
         private final Function<T, T> copyFunction;
 
+        // True if the key has a copy function that creates independent copies of values.
+        final boolean copiesValues;
+
         /**
          * @param name Name of the value.
          */
-        private Key(String name, Function<T, T> copyFunction) {
+        private Key(String name, Function<T, T> copyFunction, boolean copiesValues) {
             this.name = Objects.requireNonNull(name);
             this.id = COUNTER.getAndIncrement();
             this.copyFunction = Objects.requireNonNull(copyFunction);
+            this.copiesValues = copiesValues;
+        }
+
+        @SuppressWarnings("rawtypes")
+        private static synchronized <T> Key<T> register(Key<T> key) {
+            Key[] keys = KEYS;
+            if (key.id >= keys.length) {
+                keys = Arrays.copyOf(keys, Math.max(key.id + 1, keys.length * 2));
+            }
+            keys[key.id] = key;
+            KEYS = keys;
+            return key;
         }
 
         @Override
@@ -73,7 +85,7 @@ public sealed interface Context permits ArrayStorageContext, MapStorageContext,
      * @param <T> Value type associated with the key.
      */
     static <T> Key<T> key(String name) {
-        return key(name, Function.identity());
+        return Key.register(new Key<>(name, Function.identity(), false));
     }
 
     /**
@@ -86,11 +98,7 @@ public sealed interface Context permits ArrayStorageContext, MapStorageContext,
      * @param <T> Value type associated with the key.
      */
     static <T> Key<T> key(String name, Function<T, T> copyFunction) {
-        Key<T> key = new Key<>(name, copyFunction);
-        if (key.id < Key.MAX_ARRAY_KEY_SPACE) {
-            Key.KEYS[key.id] = key;
-        }
-        return key;
+        return Key.register(new Key<>(name, copyFunction, true));
     }
 
     /**
@@ -208,16 +216,15 @@ public sealed interface Context permits ArrayStorageContext, MapStorageContext,
      * @return the created context.
      */
     static Context create() {
-        if (Key.COUNTER.get() >= Key.MAX_ARRAY_KEY_SPACE) {
-            return new MapStorageContext();
-        } else {
-            return new ArrayStorageContext();
-        }
+        return new ArrayStorageContext();
     }
 
     /**
      * Get a modifiable copy of the Context.
      *
+     * <p>Values are copied in blocks rather than one at a time, so copying is cheap even when the context holds
+     * many values. The given context is only read.
+     *
      * @return a modifiable copy of the Context.
      */
     static Context modifiableCopy(Context context) {
@@ -10,7 +10,6 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
-import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
@@ -213,37 +212,55 @@ public class ContextTest {
     }
 
     @Test
-    public void migratesToMapStorage() {
+    public void supportsKeysCreatedAfterContexts() {
         // Doing the thing you should never do in real code.
-        var current = Context.Key.COUNTER.get();
-        assertThat(current, lessThan(Context.Key.MAX_ARRAY_KEY_SPACE));
-
         var arrayContext = Context.create();
-        // Put a key that is in the array key space.
         arrayContext.put(FOO, "hi");
-        assertThat(arrayContext, instanceOf(ArrayStorageContext.class));
 
         List<Context.Key<Integer>> keys = new ArrayList<>();
-        for (var i = current; i < Context.Key.MAX_ARRAY_KEY_SPACE + 1; i++) {
+        for (var i = 0; i < 100; i++) {
             Context.Key<Integer> key = Context.key("foo " + i);
             arrayContext.put(key, i);
             keys.add(key);
         }
 
-        var mapContext = Context.create();
-        assertThat(mapContext, instanceOf(MapStorageContext.class));
-
+        var copy = Context.create();
+        assertThat(copy, instanceOf(ArrayStorageContext.class));
+        arrayContext.copyTo(copy);
+        var mapContext = new MapStorageContext();
         arrayContext.copyTo(mapContext);
 
-        // Array keyspace keys were copied.
+        assertThat(copy.get(FOO), equalTo("hi"));
         assertThat(mapContext.get(FOO), equalTo("hi"));
-
-        for (var k : keys) {
-            // Keys outside the array keyspace were copied.
-            assertThat(mapContext.get(k), not(nullValue()));
+        for (var i = 0; i < keys.size(); i++) {
+            assertThat(copy.get(keys.get(i)), equalTo(i));
+            assertThat(mapContext.get(keys.get(i)), equalTo(i));
         }
     }
 
+    @Test
+    public void copiesAreIndependentOfTheOriginal() {
+        var original = Context.create();
+        original.put(FOO, "hi");
+        original.put(HAPPY_SET, new HashSet<>(Set.of("a")));
+
+        var copy = Context.modifiableCopy(original);
+        var copyOfCopy = Context.modifiableCopy(copy);
+        copy.put(FOO, "bye");
+        copy.get(HAPPY_SET).add("b");
+        original.put(BAR, 1);
+        original.put(FOO, "changed");
+
+        assertThat(original.get(FOO), equalTo("changed"));
+        assertThat(original.get(HAPPY_SET), containsInAnyOrder("a"));
+        assertThat(copy.get(FOO), equalTo("bye"));
+        assertThat(copy.get(HAPPY_SET), containsInAnyOrder("a", "b"));
+        assertThat(copy.get(BAR), nullValue());
+        assertThat(copyOfCopy.get(FOO), equalTo("hi"));
+        assertThat(copyOfCopy.get(HAPPY_SET), containsInAnyOrder("a"));
+        assertThat(copyOfCopy.get(BAR), nullValue());
+    }
+
     @Test
     public void canCopyKeyValues() {
         var ctx = Context.create();
@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.schema;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+import software.amazon.smithy.model.traits.RequiredTrait;
+import software.amazon.smithy.model.traits.SensitiveTrait;
+
+/**
+ * Compares building every schema of a large service on startup with only building the schemas of the operations
+ * that are called, like the per-operation schema classes generated with the {@code lazySchemas} codegen setting.
+ *
+ * <p>Each invocation builds the schemas from scratch, which is what a new process like a short-lived Lambda
+ * function does the first time it creates a client and calls a few operations.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(
+        iterations = 2,
+        time = 3)
+@Measurement(
+        iterations = 3,
+        time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class SchemaStartupBench {
+
+    private static final String NAMESPACE = "smithy.example";
+    private static final int SHARED_SHAPES = 50;
+    private static final int MEMBERS = 10;
+
+    @Param({"100", "1000"})
+    private int operations;
+
+    @Param({"3"})
+    private int invokedOperations;
+
+    @Benchmark
+    public void eager(Blackhole bh) {
+        var shared = buildSharedSchemas();
+        var operationSchemas = new Schema[operations][];
+        for (int i = 0; i < operations; i++) {
+            operationSchemas[i] = buildOperationSchemas(i, shared);
+        }
+        for (int i = 0; i < invokedOperations; i++) {
+            bh.consume(operationSchemas[i]);
+        }
+    }
+
+    @Benchmark
+    public void lazy(Blackhole bh) {
+        var shared = buildSharedSchemas();
+        var operationSchemas = new Schema[operations][];
+        for (int i = 0; i < invokedOperations; i++) {
+            // Operation schemas are only built when the operation is first used.
+            if (operationSchemas[i] == null) {
+                operationSchemas[i] = buildOperationSchemas(i, shared);
+            }
+            bh.consume(operationSchemas[i]);
+        }
+    }
+
+    private static Schema[] buildSharedSchemas() {
+        var shared = new Schema[SHARED_SHAPES];
+        for (int i = 0; i < SHARED_SHAPES; i++) {
+            var id = ShapeId.fromParts(NAMESPACE, "Shared" + i);
+            if (i % 5 == 0) {
+                shared[i] = Schema.structureBuilder(id, new DocumentationTrait("Shared structure"))
+                        .putMember("name", PreludeSchemas.STRING, new RequiredTrait())
+                        .putMember("value", PreludeSchemas.INTEGER)
+                        .build();
+            } else {
+                shared[i] = Schema.createString(id, new SensitiveTrait());
+            }
+        }
+        return shared;
+    }
+
+    // Builds the input, output, and nested shapes only used by an operation.
+    private static Schema[] buildOperationSchemas(int operation, Schema[] shared) {
+        var name = "Operation" + operation;
+        var nested = Schema.structureBuilder(ShapeId.fromParts(NAMESPACE, name + "Nested"))
+                .putMember("a", PreludeSchemas.STRING)
+                .putMember("b", PreludeSchemas.INTEGER, new RequiredTrait())
+                .putMember("c", shared[operation % SHARED_SHAPES])
+                .build();
+        var list = Schema.listBuilder(ShapeId.fromParts(NAMESPACE, name + "List"))
+                .putMember("member", nested)
+                .build();
+        var input = structure(name + "Input", operation, shared, nested, list);
+        var output = structure(name + "Output", operation + 1, shared, nested, list);
+        return new Schema[] {nested, list, input, output};
+    }
+
+    private static Schema structure(String name, int offset, Schema[] shared, Schema nested, Schema list) {
+        var builder = Schema.structureBuilder(ShapeId.fromParts(NAMESPACE, name),
+                new DocumentationTrait("Structure " + name));
+        for (int i = 0; i < MEMBERS; i++) {
+            builder.putMember("member" + i, shared[(offset + i) % SHARED_SHAPES], new DocumentationTrait("Member"));
+        }
+        return builder.putMember("nested", nested)
+                .putMember("list", list)
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -22,7 +23,10 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.traits.DefaultTrait;
 import software.amazon.smithy.model.traits.DeprecatedTrait;
+import software.amazon.smithy.model.traits.DocumentationTrait;
 import software.amazon.smithy.model.traits.ErrorTrait;
 import software.amazon.smithy.model.traits.HttpChecksumRequiredTrait;
 import software.amazon.smithy.model.traits.HttpHeaderTrait;
@@ -31,8 +35,12 @@ import software.amazon.smithy.model.traits.HttpPayloadTrait;
 import software.amazon.smithy.model.traits.HttpPrefixHeadersTrait;
 import software.amazon.smithy.model.traits.HttpQueryParamsTrait;
 import software.amazon.smithy.model.traits.HttpQueryTrait;
+import software.amazon.smithy.model.traits.JsonNameTrait;
+import software.amazon.smithy.model.traits.LengthTrait;
+import software.amazon.smithy.model.traits.RequiredTrait;
 import software.amazon.smithy.model.traits.SensitiveTrait;
 import software.amazon.smithy.model.traits.Trait;
+import software.amazon.smithy.model.traits.XmlNameTrait;
 
 @State(Scope.Benchmark)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -67,6 +75,97 @@ public class TraitMapBench {
         bh.consume(maps[ti].get(keys[idx]));
     }
 
+    /**
+     * Creates the trait maps of a large generated model, like an AWS service with thousands of shapes.
+     *
+     * <p>Run with {@code -prof gc} to compare the memory allocated for the trait maps.
+     */
+    @Benchmark
+    public TraitMap[] createLargeModelTraitMaps(LargeModelState s) {
+        var shapes = s.shapeTraits;
+        var members = s.memberTraits;
+        var result = new TraitMap[shapes.length + members.length];
+        for (int i = 0; i < shapes.length; i++) {
+            result[i] = TraitMap.create(shapes[i]);
+        }
+        for (int i = 0; i < members.length; i++) {
+            var target = result[s.memberTargets[i]];
+            result[shapes.length + i] = target.withMemberTraits(TraitMap.create(members[i]));
+        }
+        return result;
+    }
+
+    @Benchmark
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void getTraitFromLargeModel(Blackhole bh, LargeModelState s) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        TraitMap[] maps = s.maps;
+        TraitKey[] keys = s.traitKeys;
+        bh.consume(maps[random.nextInt(maps.length)].get(keys[random.nextInt(keys.length)]));
+    }
+
+    @State(Scope.Benchmark)
+    public static class LargeModelState {
+        private static final int SHAPES = 5_000;
+        private static final int MEMBERS_PER_SHAPE = 8;
+
+        Trait[][] shapeTraits;
+        Trait[][] memberTraits;
+        int[] memberTargets;
+        TraitMap[] maps;
+
+        @SuppressWarnings("rawtypes")
+        TraitKey[] traitKeys;
+
+        @Setup
+        public void setup() {
+            // Register a realistic number of trait keys so the model's traits have large ids, as they do when many
+            // protocols and plugins are on the classpath.
+            traitKeys = new TraitKey[] {
+                    TraitKey.get(DocumentationTrait.class),
+                    TraitKey.get(RequiredTrait.class),
+                    TraitKey.get(LengthTrait.class),
+                    TraitKey.get(JsonNameTrait.class),
+                    TraitKey.get(XmlNameTrait.class),
+                    TraitKey.get(SensitiveTrait.class),
+                    TraitKey.get(DefaultTrait.class),
+                    TraitKey.get(HttpHeaderTrait.class),
+                    TraitKey.get(HttpQueryTrait.class)
+            };
+
+            var random = new Random(42);
+            var length = LengthTrait.builder().min(1L).max(256L).build();
+            var required = new RequiredTrait();
+            shapeTraits = new Trait[SHAPES][];
+            memberTraits = new Trait[SHAPES * MEMBERS_PER_SHAPE][];
+            memberTargets = new int[memberTraits.length];
+
+            for (int i = 0; i < SHAPES; i++) {
+                shapeTraits[i] = switch (i % 4) {
+                    case 0 -> new Trait[] {new DocumentationTrait("Shape " + i)};
+                    case 1 -> new Trait[] {new DocumentationTrait("Shape " + i), length};
+                    case 2 -> new Trait[] {length};
+                    default -> new Trait[0];
+                };
+                for (int j = 0; j < MEMBERS_PER_SHAPE; j++) {
+                    int member = i * MEMBERS_PER_SHAPE + j;
+                    // Most members target a handful of shared shapes, like strings and timestamps.
+                    memberTargets[member] = random.nextInt(10) < 7 ? random.nextInt(8) : random.nextInt(SHAPES);
+                    memberTraits[member] = switch (random.nextInt(6)) {
+                        case 0 -> new Trait[] {required};
+                        case 1 -> new Trait[] {required, new JsonNameTrait("m" + j)};
+                        case 2 -> new Trait[] {new DocumentationTrait("Member " + j)};
+                        case 3 -> new Trait[] {new HttpHeaderTrait("x-amz-" + j)};
+                        case 4 -> new Trait[] {new DefaultTrait(Node.from(j))};
+                        default -> new Trait[0];
+                    };
+                }
+            }
+
+            maps = new TraitMapBench().createLargeModelTraitMaps(this);
+        }
+    }
+
     @State(Scope.Benchmark)
     public static class TraitState {
         TraitMap[] defaultMaps;
@@ -6,6 +6,7 @@
 package software.amazon.smithy.java.core.validation;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -17,6 +18,7 @@ import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import software.amazon.smithy.java.core.schema.ValidationError;
 import software.amazon.smithy.java.core.schema.Validator;
 import software.amazon.smithy.java.core.testmodels.Person;
@@ -35,13 +37,23 @@ public class ValidatorBench {
     private Person person;
     private ValidatedPojo validatedPojo;
     private UnvalidatedPojo unvalidatedPojo;
+    private ValidatedPojo invalidPojo;
     private PojoWithValidatedCollection pojoWithValidatedCollection;
+    private PojoWithValidatedCollection largePojoWithValidatedCollection;
     private Validator validator;
+    private Validator parallelValidator;
+
+    // A validator shared by every benchmark thread, like the validator of a server or client.
+    @State(Scope.Benchmark)
+    public static class SharedValidator {
+        private final Validator validator = Validator.builder().build();
+    }
 
     @Setup
     public void prepare() {
         validatedPojo = ValidatedPojo.builder().string("hi").integer(1).boxedInteger(2).build();
         person = Person.builder().name("Luka").age(77).favoriteColor("Blue").birthday(Instant.now()).build();
+        invalidPojo = ValidatedPojo.builder().string("").integer(-1).boxedInteger(2).build();
         unvalidatedPojo = UnvalidatedPojo.builder().string("hi").integer(1).boxedInteger(2).build();
 
         pojoWithValidatedCollection = PojoWithValidatedCollection.builder()
@@ -55,7 +67,16 @@ public class ValidatorBench {
                                 "hij",
                                 validatedPojo))
                 .build();
+        List<ValidatedPojo> largeList = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            largeList.add(validatedPojo);
+        }
+        largePojoWithValidatedCollection = PojoWithValidatedCollection.builder()
+                .list(largeList)
+                .map(pojoWithValidatedCollection.map())
+                .build();
         validator = Validator.builder().build();
+        parallelValidator = Validator.builder().parallelValidationThreshold(10_000).build();
     }
 
     @Benchmark
@@ -68,6 +89,17 @@ public class ValidatorBench {
         return validator.validate(unvalidatedPojo);
     }
 
+    @Benchmark
+    public List<ValidationError> invalidPojo() {
+        return validator.validate(invalidPojo);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<ValidationError> sharedValidatorPojoWithValidatedCollections(SharedValidator shared) {
+        return shared.validator.validate(pojoWithValidatedCollection);
+    }
+
     @Benchmark
     public List<ValidationError> person() {
         return validator.validate(person);
@@ -78,6 +110,16 @@ public class ValidatorBench {
         return validator.validate(pojoWithValidatedCollection);
     }
 
+    @Benchmark
+    public List<ValidationError> largePojoWithValidatedCollections() {
+        return validator.validate(largePojoWithValidatedCollection);
+    }
+
+    @Benchmark
+    public List<ValidationError> largePojoWithValidatedCollectionsInParallel() {
+        return parallelValidator.validate(largePojoWithValidatedCollection);
+    }
+
     // Allows for running the profiler in Intellij.
     public static void main(String[] args) {
         ValidatorBench bench = new ValidatorBench();
@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.schema;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Which values of a schema can fail validation, computed once and cached on the schema.
+ *
+ * <p>This only lets the validator skip values that can't produce a validation error, like a structure with no
+ * required members whose members have no constraint traits, or the unconstrained members of a structure. Values
+ * that are visited are still checked trait by trait as they're serialized.
+ *
+ * <p>Lists and maps that aren't sparse are always constrained, since they need to be checked for null elements.
+ * The validator can still skip their elements when the collection is known to contain no nulls.
+ */
+final class ConstraintSummary {
+
+    static final ConstraintSummary CONSTRAINED = new ConstraintSummary(true, null);
+    static final ConstraintSummary UNCONSTRAINED = new ConstraintSummary(false, null);
+
+    /**
+     * True if values of the schema need to be validated.
+     */
+    final boolean constrained;
+
+    /**
+     * For structures, a flag for each member, indexed by member index, that is true if the member needs to be
+     * validated. Unconstrained members only need to be marked as present.
+     */
+    private final boolean[] constrainedMembers;
+
+    private ConstraintSummary(boolean constrained, boolean[] constrainedMembers) {
+        this.constrained = constrained;
+        this.constrainedMembers = constrainedMembers;
+    }
+
+    /**
+     * Check if a structure member needs to be validated.
+     *
+     * @param member Member to check.
+     * @return true if the member must be validated.
+     */
+    boolean isConstrained(Schema member) {
+        var index = member.memberIndex();
+        return constrainedMembers == null || index >= constrainedMembers.length || constrainedMembers[index];
+    }
+
+    static ConstraintSummary of(Schema schema) {
+        return compute(schema, new IdentityHashMap<>());
+    }
+
+    private static ConstraintSummary compute(Schema schema, Map<Schema, Boolean> visiting) {
+        var existing = schema.constraintSummary;
+        if (existing != null) {
+            return existing;
+        } else if (visiting.putIfAbsent(schema, Boolean.TRUE) != null) {
+            // Recursive shapes are conservatively treated as constrained.
+            return CONSTRAINED;
+        }
+
+        var summary = switch (schema.type()) {
+            case BOOLEAN, TIMESTAMP, DOCUMENT -> UNCONSTRAINED;
+            case BYTE, SHORT, INTEGER, LONG, FLOAT, DOUBLE -> of(schema.hasRangeConstraint);
+            case BIG_INTEGER, BIG_DECIMAL -> of(schema.minRangeConstraint != null || schema.maxRangeConstraint != null);
+            case INT_ENUM -> of(!schema.intEnumValues().isEmpty());
+            case STRING, ENUM -> of(schema.stringValidation != ValidatorOfString.NoStringValidation.INSTANCE);
+            case BLOB -> of(hasLengthConstraint(schema));
+            case LIST -> of(hasLengthConstraint(schema)
+                    || schema.uniqueItemsConstraint
+                    // Null values have to be found in collections that aren't sparse.
+                    || !schema.hasTrait(TraitKey.SPARSE_TRAIT)
+                    || compute(schema.listMember(), visiting).constrained);
+            case MAP -> of(hasLengthConstraint(schema)
+                    || !schema.hasTrait(TraitKey.SPARSE_TRAIT)
+                    || compute(schema.mapKeyMember(), visiting).constrained
+                    || compute(schema.mapValueMember(), visiting).constrained);
+            case STRUCTURE -> computeStructure(schema, visiting);
+            // Unions always need to be checked to ensure exactly one member is set.
+            default -> CONSTRAINED;
+        };
+
+        visiting.remove(schema);
+        // Results computed while a recursive schema was assumed to be constrained are still valid, since they err
+        // on the side of validating more.
+        schema.constraintSummary = summary;
+        return summary;
+    }
+
+    private static ConstraintSummary computeStructure(Schema schema, Map<Schema, Boolean> visiting) {
+        var members = schema.members();
+        var constrainedMembers = new boolean[members.size()];
+        var anyConstrained = schema.requiredMemberCount() > 0;
+        for (var member : members) {
+            if (compute(member, visiting).constrained) {
+                anyConstrained = true;
+                if (member.memberIndex() < constrainedMembers.length) {
+                    constrainedMembers[member.memberIndex()] = true;
+                }
+            }
+        }
+        return anyConstrained ? new ConstraintSummary(true, constrainedMembers) : UNCONSTRAINED;
+    }
+
+    private static boolean hasLengthConstraint(Schema schema) {
+        return schema.minLengthConstraint != Long.MIN_VALUE || schema.maxLengthConstraint != Long.MAX_VALUE;
+    }
+
+    private static ConstraintSummary of(boolean constrained) {
+        return constrained ? CONSTRAINED : UNCONSTRAINED;
+    }
+}
@@ -0,0 +1,694 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.schema;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A regular expression matcher that runs in time linear to the length of the input.
+ *
+ * <p>Patterns are compiled to a Thompson NFA, which is simulated using a lazily built DFA. Each DFA state is the set
+ * of NFA states reachable at a position of the input, so matching never backtracks. DFA states and their
+ * transitions for ASCII characters are cached and shared by all threads. If the cache fills up, new states are
+ * computed on the fly and discarded after each call, which is slower but still linear and keeps memory bounded.
+ *
+ * <p>This supports the subset of {@link java.util.regex.Pattern} syntax commonly used in Smithy patterns, with the
+ * same semantics: literals, escapes, {@code .}, character classes, predefined classes like {@code \d}, groups,
+ * alternation, greedy and reluctant quantifiers, {@code ^}, and a trailing {@code $}. {@link #compile} returns
+ * null for anything else so that the caller can fall back to {@link java.util.regex.Pattern}.
+ */
+final class LinearRegexMatcher implements RegexMatcher {
+
+    // Patterns that expand to more NFA states than this (e.g., large counted repetitions) aren't compiled.
+    private static final int MAX_NFA_STATES = 10_000;
+    static final int MAX_DFA_STATES = 1024;
+    private static final int ASCII = 128;
+
+    private static final int CONSUME = 0;
+    private static final int SPLIT = 1;
+    private static final int BEGIN = 2;
+    private static final int END = 3;
+    private static final int MATCH = 4;
+
+    private final String pattern;
+    private final int[] kinds;
+    private final int[] out1;
+    private final int[] out2;
+    private final int[][] ranges;
+    private final int start;
+    private final Map<StateSet, DfaState> cache = new ConcurrentHashMap<>();
+    private final DfaState initial;
+
+    private LinearRegexMatcher(String pattern, Nfa nfa, int start) {
+        this.pattern = pattern;
+        this.kinds = nfa.kinds.stream().mapToInt(Integer::intValue).toArray();
+        this.out1 = nfa.out1.stream().mapToInt(Integer::intValue).toArray();
+        this.out2 = nfa.out2.stream().mapToInt(Integer::intValue).toArray();
+        this.ranges = nfa.ranges.toArray(new int[0][]);
+        this.start = start;
+        this.initial = intern(closure(new int[] {start}, 1, true));
+    }
+
+    /**
+     * Compile a pattern, or return null if the pattern uses syntax that isn't supported.
+     *
+     * @param pattern Pattern to compile.
+     * @return the compiled matcher, or null.
+     */
+    static LinearRegexMatcher compile(String pattern) {
+        try {
+            var node = new Parser(pattern).parse();
+            var nfa = new Nfa();
+            var match = nfa.add(MATCH, -1, -1, null);
+            var start = node.compile(nfa, match);
+            var result = new LinearRegexMatcher(pattern, nfa, start);
+            return result.hasOnlyTrailingEnds() ? result : null;
+        } catch (UnsupportedPatternException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean find(String value) {
+        var state = initial;
+        var length = value.length();
+        var position = 0;
+        while (true) {
+            if (state.match || (state.end && isAtEnd(value, position))) {
+                return true;
+            } else if (position == length) {
+                return false;
+            }
+            int c = value.charAt(position);
+            if (c < ASCII && state.ascii != null) {
+                var next = state.ascii[c];
+                if (next == null) {
+                    next = step(state, c);
+                    // Only link to cached states, so states computed after the cache is full can be collected.
+                    if (next.ascii != null) {
+                        state.ascii[c] = next;
+                    }
+                }
+                state = next;
+                position++;
+            } else {
+                c = value.codePointAt(position);
+                state = step(state, c);
+                position += Character.charCount(c);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    /**
+     * Count the DFA states reachable from the initial state through cached transitions.
+     *
+     * @return the number of linked states.
+     */
+    int linkedStateCount() {
+        Set<DfaState> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        var queue = new ArrayDeque<DfaState>();
+        queue.add(initial);
+        seen.add(initial);
+        while (!queue.isEmpty()) {
+            var ascii = queue.poll().ascii;
+            if (ascii != null) {
+                for (var next : ascii) {
+                    if (next != null && seen.add(next)) {
+                        queue.add(next);
+                    }
+                }
+            }
+        }
+        return seen.size();
+    }
+
+    // Implements the default, non-multiline behavior of $, which matches at the end of input or before a line
+    // terminator at the end of input.
+    private static boolean isAtEnd(String value, int position) {
+        var length = value.length();
+        if (position == length) {
+            return true;
+        } else if (position == length - 2) {
+            return value.charAt(position) == '\r' && value.charAt(position + 1) == '\n';
+        } else if (position == length - 1) {
+            var c = value.charAt(position);
+            if (c == '\n') {
+                return position == 0 || value.charAt(position - 1) != '\r';
+            }
+            return c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
+        return false;
+    }
+
+    // Everything after a $ has to be able to match without consuming input, since $ can only match at the end.
+    private boolean hasOnlyTrailingEnds() {
+        var marks = new boolean[kinds.length];
+        for (var i = 0; i < kinds.length; i++) {
+            if (kinds[i] == END) {
+                Arrays.fill(marks, false);
+                if (!onlyEpsilonsToMatch(out1[i], marks)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean onlyEpsilonsToMatch(int state, boolean[] marks) {
+        if (marks[state]) {
+            return true;
+        }
+        marks[state] = true;
+        return switch (kinds[state]) {
+            case MATCH -> true;
+            case END -> onlyEpsilonsToMatch(out1[state], marks);
+            case SPLIT -> onlyEpsilonsToMatch(out1[state], marks) && onlyEpsilonsToMatch(out2[state], marks);
+            default -> false;
+        };
+    }
+
+    private DfaState step(DfaState state, int c) {
+        var states = state.states;
+        var next = new int[states.length + 1];
+        var count = 0;
+        for (var s : states) {
+            if (kinds[s] == CONSUME && contains(ranges[s], c)) {
+                next[count++] = out1[s];
+            }
+        }
+        // Restart the search at the next position, which makes this a "find" rather than a "match".
+        next[count++] = start;
+        return intern(closure(next, count, false));
+    }
+
+    private static boolean contains(int[] ranges, int c) {
+        for (var i = 0; i < ranges.length; i += 2) {
+            if (c < ranges[i]) {
+                return false;
+            } else if (c <= ranges[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Computes the sorted set of states reachable without consuming input. END states are kept in the set since
+    // they can only be resolved by looking at the input.
+    private int[] closure(int[] roots, int count, boolean atStart) {
+        var marks = new boolean[kinds.length];
+        // Each state has at most two outgoing edges, so it can be pushed at most twice plus once as a root.
+        var stack = new int[kinds.length * 2 + count];
+        var result = new int[kinds.length];
+        var size = 0;
+        var top = 0;
+        for (var i = count - 1; i >= 0; i--) {
+            stack[top++] = roots[i];
+        }
+        while (top > 0) {
+            var s = stack[--top];
+            if (marks[s]) {
+                continue;
+            }
+            marks[s] = true;
+            switch (kinds[s]) {
+                case SPLIT -> {
+                    stack[top++] = out2[s];
+                    stack[top++] = out1[s];
+                }
+                case BEGIN -> {
+                    if (atStart) {
+                        stack[top++] = out1[s];
+                    }
+                }
+                default -> result[size++] = s;
+            }
+        }
+        result = Arrays.copyOf(result, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private DfaState intern(int[] states) {
+        var key = new StateSet(states);
+        var result = cache.get(key);
+        if (result == null) {
+            var cacheable = cache.size() < MAX_DFA_STATES;
+            result = new DfaState(states, kinds, cacheable);
+            if (cacheable) {
+                var existing = cache.putIfAbsent(key, result);
+                if (existing != null) {
+                    result = existing;
+                }
+            }
+        }
+        return result;
+    }
+
+    private record StateSet(int[] states) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StateSet s && Arrays.equals(states, s.states);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(states);
+        }
+    }
+
+    private static final class DfaState {
+        private final int[] states;
+        private final boolean match;
+        private final boolean end;
+        // Transitions are written without synchronization. Racing threads compute equivalent states. States that
+        // aren't cached have no transitions, since they're only used for a single step.
+        private final DfaState[] ascii;
+
+        DfaState(int[] states, int[] kinds, boolean cached) {
+            this.states = states;
+            this.ascii = cached ? new DfaState[ASCII] : null;
+            var hasMatch = false;
+            var hasEnd = false;
+            for (var s : states) {
+                hasMatch |= kinds[s] == MATCH;
+                hasEnd |= kinds[s] == END;
+            }
+            this.match = hasMatch;
+            this.end = hasEnd;
+        }
+    }
+
+    private static final class Nfa {
+        private final List<Integer> kinds = new ArrayList<>();
+        private final List<Integer> out1 = new ArrayList<>();
+        private final List<Integer> out2 = new ArrayList<>();
+        private final List<int[]> ranges = new ArrayList<>();
+
+        int add(int kind, int next, int alternate, int[] ranges) {
+            if (kinds.size() == MAX_NFA_STATES) {
+                throw new UnsupportedPatternException();
+            }
+            kinds.add(kind);
+            out1.add(next);
+            out2.add(alternate);
+            this.ranges.add(ranges);
+            return kinds.size() - 1;
+        }
+
+        void setNext(int state, int next) {
+            out1.set(state, next);
+        }
+    }
+
+    private static final class UnsupportedPatternException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedPatternException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private sealed interface Node {
+        /**
+         * Adds the node to the NFA.
+         *
+         * @param nfa NFA to add to.
+         * @param next State to continue to after the node matches.
+         * @return the state that starts the node.
+         */
+        int compile(Nfa nfa, int next);
+    }
+
+    private record CharClass(int[] ranges) implements Node {
+        @Override
+        public int compile(Nfa nfa, int next) {
+            return nfa.add(CONSUME, next, -1, ranges);
+        }
+    }
+
+    private record Anchor(int kind) implements Node {
+        @Override
+        public int compile(Nfa nfa, int next) {
+            return nfa.add(kind, next, -1, null);
+        }
+    }
+
+    private record Sequence(List<Node> nodes) implements Node {
+        @Override
+        public int compile(Nfa nfa, int next) {
+            for (var i = nodes.size() - 1; i >= 0; i--) {
+                next = nodes.get(i).compile(nfa, next);
+            }
+            return next;
+        }
+    }
+
+    private record Alternation(List<Node> nodes) implements Node {
+        @Override
+        public int compile(Nfa nfa, int next) {
+            var result = nodes.get(nodes.size() - 1).compile(nfa, next);
+            for (var i = nodes.size() - 2; i >= 0; i--) {
+                result = nfa.add(SPLIT, nodes.get(i).compile(nfa, next), result, null);
+            }
+            return result;
+        }
+    }
+
+    private record Repeat(Node node, int min, int max) implements Node {
+        @Override
+        public int compile(Nfa nfa, int next) {
+            int result;
+            if (max == -1) {
+                var loop = nfa.add(SPLIT, -1, next, null);
+                nfa.setNext(loop, node.compile(nfa, loop));
+                result = loop;
+            } else {
+                result = next;
+                for (var i = min; i < max; i++) {
+                    result = nfa.add(SPLIT, node.compile(nfa, result), next, null);
+                }
+            }
+            for (var i = 0; i < min; i++) {
+                result = node.compile(nfa, result);
+            }
+            return result;
+        }
+    }
+
+    private static final class Parser {
+        private static final int MAX_CODE_POINT = Character.MAX_CODE_POINT;
+        // Everything except line terminators: \n, \r, \u0085, \u2028, and \u2029.
+        private static final int[] DOT = {0, '\n' - 1, '\n' + 1, '\r' - 1, '\r' + 1, '\u0084', '\u0086', '\u2027',
+                '\u202A', MAX_CODE_POINT};
+        private static final int[] DIGIT = {'0', '9'};
+        private static final int[] WORD = {'0', '9', 'A', 'Z', '_', '_', 'a', 'z'};
+        private static final int[] SPACE = {'\t', '\r', ' ', ' '};
+
+        private final String pattern;
+        private int position;
+
+        Parser(String pattern) {
+            this.pattern = pattern;
+        }
+
+        Node parse() {
+            var result = parseAlternation();
+            if (position != pattern.length()) {
+                throw new UnsupportedPatternException();
+            }
+            return result;
+        }
+
+        private boolean hasNext() {
+            return position < pattern.length();
+        }
+
+        private int peek() {
+            return pattern.codePointAt(position);
+        }
+
+        private int next() {
+            if (!hasNext()) {
+                throw new UnsupportedPatternException();
+            }
+            var c = pattern.codePointAt(position);
+            position += Character.charCount(c);
+            return c;
+        }
+
+        private boolean consume(char c) {
+            if (hasNext() && pattern.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private Node parseAlternation() {
+            List<Node> alternatives = new ArrayList<>();
+            alternatives.add(parseSequence());
+            while (consume('|')) {
+                alternatives.add(parseSequence());
+            }
+            return alternatives.size() == 1 ? alternatives.get(0) : new Alternation(alternatives);
+        }
+
+        private Node parseSequence() {
+            List<Node> nodes = new ArrayList<>();
+            while (hasNext() && peek() != '|' && peek() != ')') {
+                nodes.add(parseQuantified());
+            }
+            return nodes.size() == 1 ? nodes.get(0) : new Sequence(nodes);
+        }
+
+        private Node parseQuantified() {
+            var atom = parseAtom();
+            if (!hasNext()) {
+                return atom;
+            }
+            int min;
+            int max;
+            switch (peek()) {
+                case '*' -> {
+                    position++;
+                    min = 0;
+                    max = -1;
+                }
+                case '+' -> {
+                    position++;
+                    min = 1;
+                    max = -1;
+                }
+                case '?' -> {
+                    position++;
+                    min = 0;
+                    max = 1;
+                }
+                case '{' -> {
+                    position++;
+                    min = parseNumber();
+                    if (consume(',')) {
+                        max = hasNext() && peek() == '}' ? -1 : parseNumber();
+                    } else {
+                        max = min;
+                    }
+                    if (!consume('}') || (max != -1 && max < min)) {
+                        throw new UnsupportedPatternException();
+                    }
+                }
+                default -> {
+                    return atom;
+                }
+            }
+            if (atom instanceof Anchor || consume('+')) {
+                // Quantified anchors and possessive quantifiers aren't supported.
+                throw new UnsupportedPatternException();
+            }
+            // Reluctant quantifiers find the same matches as greedy ones.
+            consume('?');
+            if (hasNext() && "*+?{".indexOf(peek()) >= 0) {
+                throw new UnsupportedPatternException();
+            }
+            return new Repeat(atom, min, max);
+        }
+
+        private int parseNumber() {
+            var begin = position;
+            while (hasNext() && Character.isDigit(pattern.charAt(position)) && position - begin < 4) {
+                position++;
+            }
+            if (begin == position) {
+                throw new UnsupportedPatternException();
+            }
+            return Integer.parseInt(pattern, begin, position, 10);
+        }
+
+        private Node parseAtom() {
+            var c = next();
+            return switch (c) {
+                case '(' -> {
+                    if (consume('?') && !consume(':')) {
+                        // Lookarounds, named groups, and flags aren't supported.
+                        throw new UnsupportedPatternException();
+                    }
+                    var group = parseAlternation();
+                    if (!consume(')')) {
+                        throw new UnsupportedPatternException();
+                    }
+                    yield group;
+                }
+                case '[' -> new CharClass(parseClass());
+                case '.' -> new CharClass(DOT);
+                case '^' -> new Anchor(BEGIN);
+                case '$' -> new Anchor(END);
+                case '\\' -> new CharClass(parseEscape());
+                case ')', ']', '}', '{', '*', '+', '?' -> throw new UnsupportedPatternException();
+                default -> new CharClass(new int[] {c, c});
+            };
+        }
+
+        // Parses an escape after the backslash, returning its ranges.
+        private int[] parseEscape() {
+            var c = next();
+            return switch (c) {
+                case 'd' -> DIGIT;
+                case 'D' -> complement(DIGIT);
+                case 'w' -> WORD;
+                case 'W' -> complement(WORD);
+                case 's' -> SPACE;
+                case 'S' -> complement(SPACE);
+                case 't' -> single('\t');
+                case 'n' -> single('\n');
+                case 'r' -> single('\r');
+                case 'f' -> single('\f');
+                case 'a' -> single('\u0007');
+                case 'e' -> single('\u001B');
+                case 'x' -> single(parseHex(2));
+                case 'u' -> single(parseHex(4));
+                default -> {
+                    // Any other escaped letter or digit has a special meaning (backreferences, \b, \p, etc.).
+                    if (Character.isLetterOrDigit(c)) {
+                        throw new UnsupportedPatternException();
+                    }
+                    yield single(c);
+                }
+            };
+        }
+
+        private int parseHex(int digits) {
+            if (position + digits > pattern.length()) {
+                throw new UnsupportedPatternException();
+            }
+            var result = 0;
+            for (var i = 0; i < digits; i++) {
+                var digit = Character.digit(pattern.charAt(position++), 16);
+                if (digit < 0) {
+                    throw new UnsupportedPatternException();
+                }
+                result = result * 16 + digit;
+            }
+            // Surrogate escapes can combine with a following escape, so leave them to java.util.regex.
+            if (Character.isSurrogate((char) result)) {
+                throw new UnsupportedPatternException();
+            }
+            return result;
+        }
+
+        private int[] parseClass() {
+            var negated = consume('^');
+            List<int[]> parts = new ArrayList<>();
+            var first = true;
+            var afterRange = false;
+            while (true) {
+                var c = next();
+                if (c == ']' && !first) {
+                    break;
+                } else if (c == '[' || c == ']' || (c == '&' && hasNext() && peek() == '&')) {
+                    // Unions, intersections, and leading brackets aren't supported.
+                    throw new UnsupportedPatternException();
+                } else if (c == '-' && afterRange && hasNext() && peek() != ']') {
+                    // Avoid ambiguous dashes that follow a range or predefined class, like [a-c-e].
+                    throw new UnsupportedPatternException();
+                }
+                first = false;
+                afterRange = true;
+                int low;
+                if (c == '\\') {
+                    var escaped = parseEscape();
+                    if (escaped.length != 2 || escaped[0] != escaped[1]) {
+                        // Predefined classes like \d can't start a range.
+                        parts.add(escaped);
+                        continue;
+                    }
+                    low = escaped[0];
+                } else {
+                    low = c;
+                }
+                var high = low;
+                afterRange = false;
+                if (hasNext() && peek() == '-' && position + 1 < pattern.length()
+                        && pattern.charAt(position + 1) != ']') {
+                    position++;
+                    var end = next();
+                    if (end == '\\') {
+                        var escaped = parseEscape();
+                        if (escaped.length != 2 || escaped[0] != escaped[1]) {
+                            throw new UnsupportedPatternException();
+                        }
+                        end = escaped[0];
+                    } else if (end == '[') {
+                        throw new UnsupportedPatternException();
+                    }
+                    if (end < low) {
+                        throw new UnsupportedPatternException();
+                    }
+                    high = end;
+                    afterRange = true;
+                }
+                parts.add(new int[] {low, high});
+            }
+            var result = normalize(parts);
+            return negated ? complement(result) : result;
+        }
+
+        private static int[] single(int c) {
+            return new int[] {c, c};
+        }
+
+        // Sorts and merges ranges.
+        private static int[] normalize(List<int[]> parts) {
+            List<int[]> pairs = new ArrayList<>();
+            for (var part : parts) {
+                for (var i = 0; i < part.length; i += 2) {
+                    pairs.add(new int[] {part[i], part[i + 1]});
+                }
+            }
+            pairs.sort((a, b) -> Integer.compare(a[0], b[0]));
+            var result = new int[pairs.size() * 2];
+            var size = 0;
+            for (var pair : pairs) {
+                if (size > 0 && pair[0] <= result[size - 1] + 1) {
+                    result[size - 1] = Math.max(result[size - 1], pair[1]);
+                } else {
+                    result[size++] = pair[0];
+                    result[size++] = pair[1];
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        private static int[] complement(int[] ranges) {
+            var result = new int[ranges.length + 2];
+            var size = 0;
+            var next = 0;
+            for (var i = 0; i < ranges.length; i += 2) {
+                if (ranges[i] > next) {
+                    result[size++] = next;
+                    result[size++] = ranges[i] - 1;
+                }
+                next = ranges[i + 1] + 1;
+            }
+            if (next <= MAX_CODE_POINT) {
+                result[size++] = next;
+                result[size++] = MAX_CODE_POINT;
+            }
+            return Arrays.copyOf(result, size);
+        }
+    }
+}
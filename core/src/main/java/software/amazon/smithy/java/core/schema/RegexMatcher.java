@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.schema;
+
+import java.util.regex.Pattern;
+
+/**
+ * Finds matches of a regular expression used by the pattern trait.
+ *
+ * <p>Patterns are compiled with {@link LinearRegexMatcher} when it supports the pattern, which guarantees matching
+ * time that is linear in the length of the input. Patterns that use features it doesn't support, like
+ * backreferences or lookarounds, fall back to {@link java.util.regex.Pattern}.
+ */
+sealed interface RegexMatcher permits LinearRegexMatcher, RegexMatcher.JdkRegexMatcher {
+
+    /**
+     * Check if the pattern matches anywhere in the given value, like {@link java.util.regex.Matcher#find()}.
+     *
+     * @param value Value to check.
+     * @return true if the pattern is found.
+     */
+    boolean find(String value);
+
+    /**
+     * Create a matcher for a pattern using the most efficient engine that supports it.
+     *
+     * @param pattern Pattern to match.
+     * @return the created matcher.
+     */
+    static RegexMatcher of(Pattern pattern) {
+        var linear = pattern.flags() == 0 ? LinearRegexMatcher.compile(pattern.pattern()) : null;
+        return linear != null ? linear : new JdkRegexMatcher(pattern);
+    }
+
+    /**
+     * Matches using {@link java.util.regex.Pattern}, which uses backtracking.
+     *
+     * @param pattern Pattern to match.
+     */
+    record JdkRegexMatcher(Pattern pattern) implements RegexMatcher {
+        @Override
+        public boolean find(String value) {
+            return pattern.matcher(value).find();
+        }
+
+        @Override
+        public String toString() {
+            return pattern.pattern();
+        }
+    }
+}
@@ -57,6 +57,12 @@ public abstract sealed class Schema implements MemberLookup
     final boolean uniqueItemsConstraint;
     final boolean hasRangeConstraint;
 
+    /**
+     * Lazily computed summary of which values of the schema can fail validation. This is computed without locking since the result is immutable and
+     * computing it more than once is harmless.
+     */
+    ConstraintSummary constraintSummary;
+
     private Schema listMember;
     private Schema mapKeyMember;
     private Schema mapValueMember;
@@ -478,6 +484,16 @@ public abstract sealed class Schema implements MemberLookup
         return Collections.emptySet();
     }
 
+    /**
+     * Get the constraint summary of the schema, computing it if necessary.
+     *
+     * @return the constraint summary.
+     */
+    final ConstraintSummary constraintSummary() {
+        var summary = constraintSummary;
+        return summary != null ? summary : ConstraintSummary.of(this);
+    }
+
     /**
      *
      * @return The structure member count that are required by validation.
@@ -6,17 +6,39 @@
 package software.amazon.smithy.java.core.schema;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import software.amazon.smithy.model.traits.Trait;
 
 /**
  * Provides Trait class-based access to traits.
+ *
+ * <p>Traits are stored densely, in order of their {@link TraitKey} id, and found using an index that maps a trait
+ * id to its position. The index only spans the range of ids in the map, so a single trait with a large id doesn't
+ * need a large array. Indexes are shared between maps with the same trait keys, and the merged traits of members
+ * with identical trait sets share the same map.
  */
 final class TraitMap {
 
-    private static final TraitMap EMPTY = new TraitMap(new Trait[0]);
+    private static final TraitMap EMPTY = new TraitMap(0, new char[0], new Trait[0]);
+
+    // Bounds the number of cached layouts and trait maps for applications that create schemas dynamically.
+    private static final int MAX_CACHED = 10_000;
+    private static final Map<Layout, Layout> LAYOUTS = new ConcurrentHashMap<>();
+    private static final Map<TraitMap, TraitMap> INTERNED = new ConcurrentHashMap<>();
+
+    // The smallest trait id in the map.
+    private final int base;
+
+    // Maps (trait id - base) to the position of the trait in values + 1, or 0 if the map doesn't contain the trait.
+    private final char[] index;
+
+    // Traits ordered by id.
     private final Trait[] values;
 
-    private TraitMap(Trait[] values) {
+    private TraitMap(int base, char[] index, Trait[] values) {
+        this.base = base;
+        this.index = index;
         this.values = values;
     }
 
@@ -26,27 +48,60 @@ final class TraitMap {
         }
 
         // The `traits` array is just an array of Traits. We need to ensure an ID is assigned to each trait.
-        // Since we're already doing a pass over the traits, we can also allocate exact-sized storage.
-        var values = new Trait[getLargestTraitId(traits) + 1];
+        var ids = new int[traits.length];
+        var byId = new Trait[traits.length];
+        int size = 0;
         for (Trait trait : traits) {
-            values[TraitKey.get(trait.getClass()).id] = trait;
+            size = insert(ids, byId, size, TraitKey.get(trait.getClass()).id, trait);
         }
 
-        return new TraitMap(values);
+        return create(ids, byId, size, false);
     }
 
-    private static int getLargestTraitId(Trait[] traits) {
-        int largestId = 0;
-        for (Trait trait : traits) {
-            largestId = Math.max(largestId, TraitKey.get(trait.getClass()).id);
+    // Inserts a trait in id order, replacing any trait with the same id, and returns the new size.
+    private static int insert(int[] ids, Trait[] byId, int size, int id, Trait trait) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            byId[position] = trait;
+            return size;
+        }
+        position = -position - 1;
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        System.arraycopy(byId, position, byId, position + 1, size - position);
+        ids[position] = id;
+        byId[position] = trait;
+        return size + 1;
+    }
+
+    private static TraitMap create(int[] ids, Trait[] byId, int size, boolean intern) {
+        if (size != ids.length) {
+            ids = Arrays.copyOf(ids, size);
+            byId = Arrays.copyOf(byId, size);
+        }
+        var layout = Layout.of(ids);
+        var result = new TraitMap(layout.base, layout.index, byId);
+        return intern ? intern(result) : result;
+    }
+
+    private static TraitMap intern(TraitMap map) {
+        var existing = INTERNED.get(map);
+        if (existing != null) {
+            return existing;
+        } else if (INTERNED.size() >= MAX_CACHED) {
+            return map;
         }
-        return largestId;
+        existing = INTERNED.putIfAbsent(map, map);
+        return existing != null ? existing : map;
     }
 
     @SuppressWarnings("unchecked")
     <T extends Trait> T get(TraitKey<T> key) {
-        var idx = key.id;
-        return idx < values.length ? (T) values[idx] : null;
+        var idx = key.id - base;
+        if (idx < 0 || idx >= index.length) {
+            return null;
+        }
+        var position = index[idx];
+        return position == 0 ? null : (T) values[position - 1];
     }
 
     boolean isEmpty() {
@@ -62,16 +117,95 @@ final class TraitMap {
             return this;
         } else if (isEmpty()) {
             return memberTraits;
-        } else {
-            int newSize = Math.max(this.values.length, memberTraits.values.length);
-            var newValues = Arrays.copyOf(this.values, newSize);
-            for (var i = 0; i < memberTraits.values.length; i++) {
-                var v = memberTraits.values[i];
-                if (v != null) {
-                    newValues[i] = memberTraits.values[i];
+        }
+
+        // Merge the two id-ordered arrays, letting member traits take precedence.
+        var ids = new int[values.length + memberTraits.values.length];
+        var byId = new Trait[ids.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < values.length || j < memberTraits.values.length) {
+            int leftId = i < values.length ? id(values[i]) : Integer.MAX_VALUE;
+            int rightId = j < memberTraits.values.length ? id(memberTraits.values[j]) : Integer.MAX_VALUE;
+            if (leftId < rightId) {
+                ids[size] = leftId;
+                byId[size++] = values[i++];
+            } else {
+                if (leftId == rightId) {
+                    i++;
                 }
+                ids[size] = rightId;
+                byId[size++] = memberTraits.values[j++];
             }
-            return new TraitMap(newValues);
+        }
+
+        // Members that target the same shape often have the same member traits, so they can share a map.
+        return create(ids, byId, size, true);
+    }
+
+    private static int id(Trait trait) {
+        return TraitKey.get(trait.getClass()).id;
+    }
+
+    // Maps are only equal when they have the same interned layout and equal traits.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof TraitMap other
+                && index == other.index
+                && base == other.base
+                && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(index) * 31 + Arrays.hashCode(values);
+    }
+
+    /**
+     * The trait ids of a trait map, and the index used to find them.
+     */
+    private static final class Layout {
+        private final int[] ids;
+        private final int base;
+        private final int hash;
+        private char[] index;
+
+        private Layout(int[] ids) {
+            this.ids = ids;
+            this.hash = Arrays.hashCode(ids);
+            this.base = ids[0];
+        }
+
+        static Layout of(int[] ids) {
+            var layout = new Layout(ids);
+            var existing = LAYOUTS.get(layout);
+            if (existing != null) {
+                return existing;
+            }
+            // Only build the index when the layout wasn't already cached.
+            layout.index = new char[ids[ids.length - 1] - layout.base + 1];
+            for (int i = 0; i < ids.length; i++) {
+                layout.index[ids[i] - layout.base] = (char) (i + 1);
+            }
+            if (LAYOUTS.size() >= MAX_CACHED) {
+                return layout;
+            }
+            existing = LAYOUTS.putIfAbsent(layout, layout);
+            return existing != null ? existing : layout;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Layout other && hash == other.hash && Arrays.equals(ids, other.ids);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
     }
 }
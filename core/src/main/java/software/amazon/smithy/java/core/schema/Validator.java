@@ -10,7 +10,12 @@ import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import software.amazon.smithy.java.core.serde.ListSerializer;
 import software.amazon.smithy.java.core.serde.MapSerializer;
@@ -30,15 +35,27 @@ import software.amazon.smithy.model.shapes.ShapeType;
  * }</pre>
  *
  * <p>Validator is thread safe.
+ *
+ * <p>The elements of very large lists and maps of structures can be validated in parallel by setting a
+ * {@link Builder#parallelValidationThreshold(int) parallel validation threshold}. Parallel validation returns the
+ * same errors in the same order as sequential validation.
  */
 public final class Validator {
 
     private final int maxDepth;
     private final int maxAllowedErrors;
+    private final int parallelValidationThreshold;
+    private final ForkJoinPool forkJoinPool;
+
+    // Each thread reuses its validation state across validators. The state is configured with the settings of a
+    // validator for each call and forgets the validator afterward, so threads never keep validators reachable.
+    private static final ThreadLocal<ShapeValidator> POOL = ThreadLocal.withInitial(ShapeValidator::new);
 
     private Validator(Builder builder) {
         this.maxAllowedErrors = builder.maxAllowedErrors;
         this.maxDepth = builder.maxDepth;
+        this.parallelValidationThreshold = builder.parallelValidationThreshold;
+        this.forkJoinPool = builder.forkJoinPool != null ? builder.forkJoinPool : ForkJoinPool.commonPool();
     }
 
     /**
@@ -54,15 +71,29 @@ public final class Validator {
      * Validate a shape and return any encountered errors.
      *
      * @param shape Shape to validate.
-     * @return the validation errors produced by the shape.
+     * @return the validation errors produced by the shape, as a new mutable list.
      */
     public List<ValidationError> validate(SerializableShape shape) {
-        var shapeValidator = new ShapeValidator(maxAllowedErrors, maxDepth);
+        var shapeValidator = POOL.get();
+        if (shapeValidator.inUse) {
+            // Validation was started while validating another shape on this thread, so it can't reuse the state.
+            shapeValidator = new ShapeValidator(this);
+        } else {
+            shapeValidator.configure(this);
+        }
+        shapeValidator.inUse = true;
         try {
-            shape.serialize(shapeValidator);
-            return shapeValidator.errors;
-        } catch (ValidationShortCircuitException ignored) {
-            return shapeValidator.errors;
+            try {
+                shape.serialize(shapeValidator);
+            } catch (ValidationShortCircuitException ignored) {
+                // Stop validating and return the errors found so far.
+            }
+            return shapeValidator.takeErrors();
+        } finally {
+            // Reset even if the shape threw, so its errors and path never leak into the next validation.
+            shapeValidator.reset();
+            shapeValidator.config = null;
+            shapeValidator.inUse = false;
         }
     }
 
@@ -73,6 +104,8 @@ public final class Validator {
 
         private int maxDepth = 100;
         private int maxAllowedErrors = 100;
+        private int parallelValidationThreshold = Integer.MAX_VALUE;
+        private ForkJoinPool forkJoinPool;
 
         private Builder() {}
 
@@ -106,6 +139,36 @@ public final class Validator {
             this.maxAllowedErrors = maxAllowedErrors;
             return this;
         }
+
+        /**
+         * Set the minimum number of elements a list or map must have before its elements are validated in
+         * parallel.
+         *
+         * <p>Only lists and maps of structures or unions are validated in parallel. Parallel validation is disabled
+         * by default.
+         *
+         * @param parallelValidationThreshold Minimum number of elements to validate in parallel.
+         * @return the builder.
+         */
+        public Builder parallelValidationThreshold(int parallelValidationThreshold) {
+            if (parallelValidationThreshold < 1) {
+                throw new IllegalArgumentException(
+                        "parallelValidationThreshold must be greater than 0: " + parallelValidationThreshold);
+            }
+            this.parallelValidationThreshold = parallelValidationThreshold;
+            return this;
+        }
+
+        /**
+         * Set the pool used to validate large collections in parallel.
+         *
+         * @param forkJoinPool Pool to use (default is {@link ForkJoinPool#commonPool()}).
+         * @return the builder.
+         */
+        public Builder forkJoinPool(ForkJoinPool forkJoinPool) {
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
     }
 
     /**
@@ -120,11 +183,13 @@ public final class Validator {
     static final class ShapeValidator implements ShapeSerializer, MapSerializer {
 
         private static final int STARTING_PATH_SIZE = 4;
-        private final int maxAllowedErrors;
-        private final int maxDepth;
+        private Validator config;
+        private int maxAllowedErrors;
+        private int maxDepth;
         private final ListSerializer listValidator;
-        private final List<ValidationError> errors = new ArrayList<>();
+        private List<ValidationError> errors = Collections.emptyList();
         private Object[] path;
+        private boolean inUse;
         private int depth = 0;
 
         /**
@@ -141,30 +206,107 @@ public final class Validator {
          */
         private Schema currentSchema = null;
 
-        private ShapeValidator(int maxAllowedErrors, int maxDepth) {
-            this.maxAllowedErrors = maxAllowedErrors;
-            this.maxDepth = maxDepth;
-
-            // The length of the path will never exceed the current depth + the maxDepth, removing a conditional in
-            // pushPath and ensuring we don't over-allocate. Default to 6 initially, but go lower if maxDepth is lower.
-            this.path = new Object[Math.min(STARTING_PATH_SIZE, maxDepth)];
-
+        private ShapeValidator() {
             // Every list is validated with this serializer. Because it's reused, the element count of the list can't
             // be used. Instead, the number of elements is tracked in the elementCount member of Validator.
             listValidator = new ListSerializer(this, this::betweenListElements);
         }
 
+        private ShapeValidator(Validator config) {
+            this();
+            configure(config);
+        }
+
+        /**
+         * Applies the settings of a validator before validating a shape.
+         *
+         * @param config Validator to take settings from.
+         */
+        private void configure(Validator config) {
+            this.config = config;
+            this.maxAllowedErrors = config.maxAllowedErrors;
+            this.maxDepth = config.maxDepth;
+
+            // The length of the path will never exceed the current depth + the maxDepth, removing a conditional in
+            // pushPath and ensuring we don't over-allocate. Default to 6 initially, but go lower if maxDepth is lower.
+            if (path == null || path.length > maxDepth) {
+                this.path = new Object[Math.min(STARTING_PATH_SIZE, maxDepth)];
+            }
+        }
+
         private void betweenListElements(int ignoredPosition) {
             swapPath(elementCount);
             elementCount++;
         }
 
-        private void resetValidatorState() {
+        /**
+         * Returns the errors that were found and resets the validator so that it can be reused.
+         *
+         * @return the found errors.
+         */
+        private List<ValidationError> takeErrors() {
+            // Errors are only allocated once one is found, but callers always get a list they can modify.
+            var result = errors.isEmpty() ? new ArrayList<ValidationError>() : errors;
+            reset();
+            return result;
+        }
+
+        /**
+         * Resets the validator so that it can be reused, discarding any errors that were found.
+         */
+        private void reset() {
+            if (depth > 0) {
+                Arrays.fill(path, 0, Math.min(depth, path.length), null);
+            }
+            errors = Collections.emptyList();
             elementCount = 0;
             currentSchema = null;
             depth = 0;
         }
 
+        /**
+         * Creates a validator for a subset of the elements of a collection, starting from the current path.
+         *
+         * @param container The list or map being validated.
+         * @return the created validator.
+         */
+        ShapeValidator fork(Schema container) {
+            var result = new ShapeValidator(config);
+            result.path = Arrays.copyOf(path, Math.max(path.length, result.path.length));
+            result.depth = depth;
+            result.currentSchema = container;
+            return result;
+        }
+
+        ForkJoinPool forkJoinPool() {
+            return config.forkJoinPool;
+        }
+
+        List<ValidationError> errors() {
+            return errors;
+        }
+
+        void validateListElement(Schema container, int index, Object value) {
+            swapPath(index);
+            if (value == null) {
+                writeNull(container.listMember());
+            } else {
+                writeStruct(container.listMember(), (SerializableStruct) value);
+            }
+        }
+
+        void validateMapEntry(Schema container, String key, Object value) {
+            path[depth - 2] = key;
+            path[depth - 1] = "key";
+            writeString(container.mapKeyMember(), key);
+            path[depth - 1] = "value";
+            if (value == null) {
+                writeNull(container.mapValueMember());
+            } else {
+                writeStruct(container.mapValueMember(), (SerializableStruct) value);
+            }
+        }
+
         void pushPath(Object pathSegment) {
             // Rather than check if the depth exceeds maxDepth _and_ if depth == path.length, we instead always
             // ensure that the path length never exceeds maxDepth.
@@ -208,6 +350,9 @@ public final class Validator {
         void addError(ValidationError error) {
             if (errors.size() == maxAllowedErrors) {
                 throw new Validator.ValidationShortCircuitException();
+            } else if (errors.isEmpty()) {
+                // Only allocate an error list when validation actually fails.
+                errors = new ArrayList<>();
             }
             errors.add(error);
         }
@@ -220,7 +365,14 @@ public final class Validator {
             currentSchema = schema;
             elementCount = 0; // note that we don't track the count of structure members.
             switch (schema.type()) {
-                case STRUCTURE -> ValidatorOfStruct.validate(this, schema, struct);
+                case STRUCTURE -> {
+                    // Skip structures that can't have validation errors, like those with no required members and
+                    // no constrained members.
+                    var summary = schema.constraintSummary();
+                    if (summary.constrained) {
+                        ValidatorOfStruct.validate(this, schema, struct, summary);
+                    }
+                }
                 case UNION -> ValidatorOfUnion.validate(this, schema, struct);
                 default -> checkType(schema, ShapeType.STRUCTURE); // this is guaranteed to fail type checking.
             }
@@ -249,7 +401,14 @@ public final class Validator {
                     ValidatorOfUniqueItems.validate(schema, state, consumer, this);
                 }
 
-                consumer.accept(state, listValidator);
+                if (canSkipElements(schema, state, schema.listMember().constraintSummary().constrained)) {
+                    elementCount = size;
+                } else if (size >= config.parallelValidationThreshold
+                        && ValidatorOfLargeCollections.validateList(this, schema, state, size, consumer)) {
+                    elementCount = size;
+                } else {
+                    consumer.accept(state, listValidator);
+                }
 
                 popPath();
 
@@ -287,7 +446,16 @@ public final class Validator {
                 // values are validated.
                 pushPath(null);
                 pushPath(null);
-                consumer.accept(state, this);
+                var membersConstrained = schema.mapKeyMember().constraintSummary().constrained
+                        || schema.mapValueMember().constraintSummary().constrained;
+                if (canSkipElements(schema, state, membersConstrained)) {
+                    elementCount = size;
+                } else if (size >= config.parallelValidationThreshold
+                        && ValidatorOfLargeCollections.validateMap(this, schema, state, size, consumer)) {
+                    elementCount = size;
+                } else {
+                    consumer.accept(state, this);
+                }
                 popPath();
                 popPath();
 
@@ -299,6 +467,35 @@ public final class Validator {
             }
         }
 
+        /**
+         * Checks if the elements of a list or map can't produce validation errors, so they don't need to be visited.
+         *
+         * <p>Elements of a sparse collection can be skipped when the element member is unconstrained. Elements of a
+         * collection that isn't sparse can only be skipped if the collection is known to contain no nulls.
+         */
+        private static boolean canSkipElements(Schema container, Object state, boolean membersConstrained) {
+            if (membersConstrained) {
+                return false;
+            } else if (container.hasTrait(TraitKey.SPARSE_TRAIT)) {
+                return true;
+            } else if (state instanceof Collection<?> collection) {
+                return !containsNull(collection);
+            } else if (state instanceof Map<?, ?> map) {
+                return !containsNull(map.values());
+            }
+            return false;
+        }
+
+        // Collection#contains(null) throws for some immutable collections, so nulls are found manually.
+        private static boolean containsNull(Collection<?> values) {
+            for (var value : values) {
+                if (value == null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         private void checkMapLength(Schema schema, int count) {
             // Ensure the map is properly sized.
             if (count < schema.minLengthConstraint) {
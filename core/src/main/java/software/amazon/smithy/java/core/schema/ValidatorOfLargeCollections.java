@@ -0,0 +1,370 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.schema;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import software.amazon.smithy.java.core.serde.MapSerializer;
+import software.amazon.smithy.java.core.serde.ShapeSerializer;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.model.shapes.ShapeType;
+
+/**
+ * Validates the elements of very large lists and maps of structures in parallel.
+ *
+ * <p>Elements are split into contiguous chunks, and each chunk is validated by its own
+ * {@link Validator.ShapeValidator} that starts from a copy of the path of the collection. Errors are merged in
+ * chunk order, so the result is the same as validating the elements sequentially, including where validation
+ * stops once the maximum number of errors is reached.
+ */
+final class ValidatorOfLargeCollections {
+
+    // Don't create chunks smaller than this, since validating a few structures is cheaper than forking a task.
+    private static final int MIN_CHUNK_SIZE = 256;
+
+    private final Validator.ShapeValidator parent;
+    private final Schema container;
+    private final Object[] keys;
+    private final Object[] values;
+    private final List<ValidationError>[] chunkErrors;
+    private final boolean[] chunkShortCircuited;
+
+    // Index of the first chunk that stopped validating. Chunks after it don't need to keep going since their
+    // errors will never be merged.
+    private final AtomicInteger firstShortCircuit = new AtomicInteger(Integer.MAX_VALUE);
+
+    @SuppressWarnings("unchecked")
+    private ValidatorOfLargeCollections(
+            Validator.ShapeValidator parent,
+            Schema container,
+            Object[] keys,
+            Object[] values,
+            int chunks
+    ) {
+        this.parent = parent;
+        this.container = container;
+        this.keys = keys;
+        this.values = values;
+        this.chunkErrors = new List[chunks];
+        this.chunkShortCircuited = new boolean[chunks];
+    }
+
+    /**
+     * Validate the elements of a list in parallel if the list is eligible.
+     *
+     * <p>The list path segment must already be pushed by the caller. Elements are gathered by passing a collector
+     * to the consumer, so they're exactly the values that would be validated sequentially. If the consumer writes
+     * something other than structures, or nulls of a sparse list, nothing is validated and the caller needs to
+     * validate the elements sequentially.
+     *
+     * @param parent Validator that is validating the list.
+     * @param schema Schema of the list.
+     * @param state List state that was given to the validator.
+     * @param size Size of the list.
+     * @param consumer Consumer that writes each element of the list.
+     * @return true if the elements were validated, or false if they need to be validated sequentially.
+     * @param <T> List state type.
+     */
+    static <T> boolean validateList(
+            Validator.ShapeValidator parent,
+            Schema schema,
+            T state,
+            int size,
+            BiConsumer<T, ShapeSerializer> consumer
+    ) {
+        if (!isStructure(schema.listMember())) {
+            return false;
+        }
+        var elements = new ElementCollector(schema, size, false);
+        consumer.accept(state, elements);
+        if (!elements.isComplete(size)) {
+            return false;
+        }
+        new ValidatorOfLargeCollections(parent, schema, null, elements.values(), chunkCount(parent, size)).validate();
+        return true;
+    }
+
+    /**
+     * Validate the entries of a map in parallel if the map is eligible.
+     *
+     * <p>The map key and key/value path segments must already be pushed by the caller. Entries are gathered by
+     * passing a collector to the consumer, with the same fallback rules as
+     * {@link #validateList(Validator.ShapeValidator, Schema, Object, int, BiConsumer)}.
+     *
+     * @param parent Validator that is validating the map.
+     * @param schema Schema of the map.
+     * @param state Map state that was given to the validator.
+     * @param size Size of the map.
+     * @param consumer Consumer that writes each entry of the map.
+     * @return true if the entries were validated, or false if they need to be validated sequentially.
+     * @param <T> Map state type.
+     */
+    static <T> boolean validateMap(
+            Validator.ShapeValidator parent,
+            Schema schema,
+            T state,
+            int size,
+            BiConsumer<T, MapSerializer> consumer
+    ) {
+        if (!isStructure(schema.mapValueMember())) {
+            return false;
+        }
+        var entries = new ElementCollector(schema, size, true);
+        consumer.accept(state, entries);
+        if (!entries.isComplete(size)) {
+            return false;
+        }
+        new ValidatorOfLargeCollections(parent, schema, entries.keys(), entries.values(), chunkCount(parent, size))
+                .validate();
+        return true;
+    }
+
+    private static boolean isStructure(Schema member) {
+        return member.type() == ShapeType.STRUCTURE || member.type() == ShapeType.UNION;
+    }
+
+    private static int chunkCount(Validator.ShapeValidator parent, int size) {
+        int maxChunks = parent.forkJoinPool().getParallelism() * 4;
+        return Math.max(1, Math.min(maxChunks, size / MIN_CHUNK_SIZE));
+    }
+
+    private void validate() {
+        int chunks = chunkErrors.length;
+        List<ChunkTask> tasks = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            tasks.add(new ChunkTask(i));
+        }
+
+        var pool = parent.forkJoinPool();
+        if (ForkJoinTask.inForkJoinPool()) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    ForkJoinTask.invokeAll(tasks);
+                }
+            });
+        }
+
+        // Merge errors in order. Adding them to the parent enforces the max allowed errors exactly as if the
+        // elements were validated sequentially.
+        for (int i = 0; i < chunks; i++) {
+            for (var error : chunkErrors[i]) {
+                parent.addError(error);
+            }
+            if (chunkShortCircuited[i]) {
+                throw new Validator.ValidationShortCircuitException();
+            }
+        }
+    }
+
+    private void validateChunk(int chunk) {
+        int start = (int) ((long) values.length * chunk / chunkErrors.length);
+        int end = (int) ((long) values.length * (chunk + 1) / chunkErrors.length);
+        var validator = parent.fork(container);
+        try {
+            for (int i = start; i < end; i++) {
+                if (firstShortCircuit.get() < chunk) {
+                    break;
+                }
+                if (keys == null) {
+                    validator.validateListElement(container, i, values[i]);
+                } else {
+                    validator.validateMapEntry(container, (String) keys[i], values[i]);
+                }
+            }
+        } catch (Validator.ValidationShortCircuitException e) {
+            chunkShortCircuited[chunk] = true;
+            firstShortCircuit.accumulateAndGet(chunk, Math::min);
+        }
+        var errors = validator.errors();
+        chunkErrors[chunk] = errors.isEmpty() ? Collections.emptyList() : errors;
+    }
+
+    private final class ChunkTask extends RecursiveAction {
+        private final int chunk;
+
+        ChunkTask(int chunk) {
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            validateChunk(chunk);
+        }
+    }
+
+    /**
+     * Collects the structures written for each element of a list or map.
+     *
+     * <p>Anything else marks the collector as unsupported so that the elements are validated sequentially, which
+     * handles nulls and unexpected values exactly as before.
+     */
+    private static final class ElementCollector implements ShapeSerializer, MapSerializer {
+        private final boolean sparse;
+        private final boolean map;
+        private final List<Object> keys;
+        private final List<Object> values;
+        private boolean unsupported;
+
+        ElementCollector(Schema container, int size, boolean map) {
+            this.sparse = container.hasTrait(TraitKey.SPARSE_TRAIT);
+            this.map = map;
+            this.keys = map ? new ArrayList<>(size) : null;
+            this.values = new ArrayList<>(size);
+        }
+
+        boolean isComplete(int size) {
+            return !unsupported && values.size() == size && (keys == null || keys.size() == size);
+        }
+
+        Object[] keys() {
+            return keys.toArray();
+        }
+
+        Object[] values() {
+            return values.toArray();
+        }
+
+        @Override
+        public <T> void writeEntry(
+                Schema keySchema,
+                String key,
+                T state,
+                BiConsumer<T, ShapeSerializer> valueSerializer
+        ) {
+            if (unsupported) {
+                return;
+            }
+            keys.add(key);
+            int before = values.size();
+            valueSerializer.accept(state, this);
+            if (values.size() != before + 1) {
+                unsupported = true;
+            }
+        }
+
+        @Override
+        public void writeStruct(Schema schema, SerializableStruct struct) {
+            addValue(struct);
+        }
+
+        @Override
+        public void writeNull(Schema schema) {
+            if (sparse) {
+                addValue(null);
+            } else {
+                unsupported = true;
+            }
+        }
+
+        private void addValue(Object value) {
+            // Map values have to be written through writeEntry so they're paired with their key.
+            if (map && keys.size() != values.size() + 1) {
+                unsupported = true;
+            } else if (!unsupported) {
+                values.add(value);
+            }
+        }
+
+        @Override
+        public <T> void writeList(Schema schema, T listState, int size, BiConsumer<T, ShapeSerializer> consumer) {
+            unsupported = true;
+        }
+
+        @Override
+        public <T> void writeMap(Schema schema, T mapState, int size, BiConsumer<T, MapSerializer> consumer) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeBoolean(Schema schema, boolean value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeByte(Schema schema, byte value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeShort(Schema schema, short value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeInteger(Schema schema, int value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeLong(Schema schema, long value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeFloat(Schema schema, float value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeDouble(Schema schema, double value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeBigInteger(Schema schema, BigInteger value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeBigDecimal(Schema schema, BigDecimal value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeString(Schema schema, String value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeBlob(Schema schema, ByteBuffer value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeDataStream(Schema schema, DataStream value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeEventStream(Schema schema, Flow.Publisher<? extends SerializableStruct> value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeTimestamp(Schema schema, Instant value) {
+            unsupported = true;
+        }
+
+        @Override
+        public void writeDocument(Schema schema, Document value) {
+            unsupported = true;
+        }
+    }
+}
@@ -69,10 +69,10 @@ abstract sealed class ValidatorOfString permits ValidatorOfString.NoStringValida
 
     static final class PatternStringValidator extends ValidatorOfString {
 
-        private final Pattern pattern;
+        private final RegexMatcher pattern;
 
         PatternStringValidator(Pattern pattern) {
-            this.pattern = pattern;
+            this.pattern = RegexMatcher.of(pattern);
         }
 
         @Override
@@ -80,11 +80,12 @@ abstract sealed class ValidatorOfString permits ValidatorOfString.NoStringValida
             try {
                 // Note: using Matcher#find() here and not Matcher#match() because Smithy expects patterns to be rooted
                 // with ^ and $ to get the same behavior as #match().
-                if (!pattern.matcher(value).find()) {
+                if (!pattern.find(value)) {
                     validator.addError(
                             new ValidationError.PatternValidationFailure(validator.createPath(), value, schema));
                 }
             } catch (StackOverflowError e) {
+                // Only patterns that fall back to java.util.regex can overflow the stack.
                 throw new StackOverflowError(
                         String.format(
                                 "Pattern '%s' is too expensive to evaluate against given input. Please "
@@ -16,20 +16,29 @@ import software.amazon.smithy.java.core.serde.document.Document;
 
 /**
  * Validates structures that have required members and fewer than 64 total members.
+ *
+ * <p>Members that the schema's {@link ConstraintSummary} marks as unconstrained are only tracked for presence.
  */
 final class ValidatorOfStruct implements ShapeSerializer {
 
     private final Validator.ShapeValidator validator;
     private final PresenceTracker structValidator;
+    private final ConstraintSummary summary;
 
-    ValidatorOfStruct(Validator.ShapeValidator validator, PresenceTracker structValidator) {
+    ValidatorOfStruct(Validator.ShapeValidator validator, PresenceTracker structValidator, ConstraintSummary summary) {
         this.validator = validator;
         this.structValidator = structValidator;
+        this.summary = summary;
     }
 
-    static void validate(Validator.ShapeValidator validator, Schema schema, SerializableStruct struct) {
+    static void validate(
+            Validator.ShapeValidator validator,
+            Schema schema,
+            SerializableStruct struct,
+            ConstraintSummary summary
+    ) {
         var tracker = PresenceTracker.of(schema);
-        struct.serializeMembers(new ValidatorOfStruct(validator, tracker));
+        struct.serializeMembers(new ValidatorOfStruct(validator, tracker, summary));
         if (!tracker.allSet()) {
             for (var member : tracker.getMissingMembers()) {
                 validator.addError(
@@ -40,130 +49,130 @@ final class ValidatorOfStruct implements ShapeSerializer {
 
     @Override
     public void writeBoolean(Schema member, boolean value) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeBoolean(member, value);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeBoolean(member, value);
+            validator.popPath();
+        }
     }
 
     @Override
     public void writeByte(Schema member, byte value) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeByte(member, value);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeByte(member, value);
+            validator.popPath();
+        }
     }
 
     @Override
     public void writeShort(Schema member, short value) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeShort(member, value);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeShort(member, value);
+            validator.popPath();
+        }
     }
 
     @Override
     public void writeInteger(Schema member, int value) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeInteger(member, value);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeInteger(member, value);
+            validator.popPath();
+        }
     }
 
     @Override
     public void writeLong(Schema member, long value) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeLong(member, value);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeLong(member, value);
+            validator.popPath();
+        }
     }
 
     @Override
     public void writeFloat(Schema member, float value) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeFloat(member, value);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeFloat(member, value);
+            validator.popPath();
+        }
     }
 
     @Override
     public void writeDouble(Schema member, double value) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeDouble(member, value);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeDouble(member, value);
+            validator.popPath();
+        }
     }
 
     @Override
     public void writeBigInteger(Schema member, BigInteger value) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeBigInteger(member, value);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeBigInteger(member, value);
+            validator.popPath();
+        }
     }
 
     @Override
     public void writeBigDecimal(Schema member, BigDecimal value) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeBigDecimal(member, value);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeBigDecimal(member, value);
+            validator.popPath();
+        }
     }
 
     @Override
     public void writeBlob(Schema member, ByteBuffer value) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeBlob(member, value);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeBlob(member, value);
+            validator.popPath();
+        }
     }
 
     @Override
     public void writeString(Schema member, String value) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeString(member, value);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeString(member, value);
+            validator.popPath();
+        }
     }
 
     @Override
     public void writeTimestamp(Schema member, Instant value) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeTimestamp(member, value);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeTimestamp(member, value);
+            validator.popPath();
+        }
     }
 
     @Override
     public void writeDocument(Schema member, Document value) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeDocument(member, value);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeDocument(member, value);
+            validator.popPath();
+        }
     }
 
     @Override
     public <T> void writeList(Schema member, T state, int size, BiConsumer<T, ShapeSerializer> consumer) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeList(member, state, size, consumer);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeList(member, state, size, consumer);
+            validator.popPath();
+        }
     }
 
     @Override
     public <T> void writeMap(Schema member, T state, int size, BiConsumer<T, MapSerializer> consumer) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeMap(member, state, size, consumer);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeMap(member, state, size, consumer);
+            validator.popPath();
+        }
     }
 
     @Override
     public void writeStruct(Schema member, SerializableStruct struct) {
-        structValidator.setMember(member);
-        validator.pushPath(member.memberName());
-        validator.writeStruct(member, struct);
-        validator.popPath();
+        if (enterMember(member)) {
+            validator.writeStruct(member, struct);
+            validator.popPath();
+        }
     }
 
     @Override
@@ -173,4 +182,13 @@ final class ValidatorOfStruct implements ShapeSerializer {
         validator.writeNull(member);
         validator.popPath();
     }
+
+    private boolean enterMember(Schema member) {
+        structValidator.setMember(member);
+        if (summary.isConstrained(member)) {
+            validator.pushPath(member.memberName());
+            return true;
+        }
+        return false;
+    }
 }
@@ -5,12 +5,14 @@
 
 package software.amazon.smithy.java.core.serde;
 
+import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Flow;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -34,6 +36,7 @@ public abstract class BufferingFlatMapProcessor<I, O> implements
     private final AtomicInteger pendingFlushes = new AtomicInteger();
     private final Flow.Publisher<I> publisher;
     private final BlockingQueue<O> queue = new LinkedBlockingQueue<>();
+    private final Consumer<O> enqueue = queue::add;
 
     private volatile Flow.Subscription upstreamSubscription;
     private volatile Flow.Subscriber<? super O> downstream;
@@ -48,6 +51,18 @@ public abstract class BufferingFlatMapProcessor<I, O> implements
 
     protected abstract Stream<O> map(I item);
 
+    /**
+     * Maps an item to zero or more outputs, passing each output to the given consumer.
+     *
+     * <p>Processors that can produce their outputs without creating a stream can override this method.
+     *
+     * @param item Item to map.
+     * @param consumer Consumer that receives each output.
+     */
+    protected void map(I item, Consumer<O> consumer) {
+        map(item).forEach(consumer);
+    }
+
     @Override
     public final void onSubscribe(Flow.Subscription subscription) {
         upstreamSubscription = subscription;
@@ -65,7 +80,7 @@ public abstract class BufferingFlatMapProcessor<I, O> implements
     @Override
     public final void onNext(I item) {
         try {
-            map(item).forEach(queue::add);
+            map(item, enqueue);
         } catch (Exception e) {
             onError(new SerializationException("Malformed input", e));
             return;
@@ -98,6 +113,19 @@ public abstract class BufferingFlatMapProcessor<I, O> implements
         flush();
     }
 
+    /**
+     * Publishes buffered outputs to the subscriber, up to its outstanding demand.
+     *
+     * <p>Outputs are published automatically when items are received or requested. Subclasses call this when
+     * outputs they held back in {@link #poll(Queue)} are ready to be published. Does nothing until a subscriber
+     * has subscribed.
+     */
+    protected final void flushBuffered() {
+        if (upstreamSubscription != null && downstream != null) {
+            flush();
+        }
+    }
+
     private void flush() {
         if (upstreamSubscription == null || downstream == null) {
             onError(new IllegalStateException("flush() requested before upstream and downstream fully wired."));
@@ -170,6 +198,30 @@ public abstract class BufferingFlatMapProcessor<I, O> implements
         }
     }
 
+    /**
+     * Removes the next output to publish from the queue of buffered outputs.
+     *
+     * <p>Subclasses can override this method to combine several buffered outputs into one, or return null to hold
+     * outputs back. Held outputs are polled again when more items are received or requested, or when
+     * {@link #flushBuffered()} is called, and the processor doesn't complete until the queue is empty. This method
+     * is never called concurrently.
+     *
+     * @param queue Buffered outputs.
+     * @return the output to publish, or null to publish nothing.
+     */
+    protected O poll(Queue<O> queue) {
+        return queue.poll();
+    }
+
+    /**
+     * Check if the upstream publisher has completed or failed.
+     *
+     * @return true if no more items will be received from upstream.
+     */
+    protected final boolean isUpstreamTerminated() {
+        return terminalEvent.get() != null;
+    }
+
     protected void handleError(Throwable error, Flow.Subscriber<? super O> subscriber) {
         subscriber.onError(error);
     }
@@ -202,7 +254,7 @@ public abstract class BufferingFlatMapProcessor<I, O> implements
 
         if (subscriber != null) {
             while (served < outstanding) {
-                O m = queue.poll();
+                O m = poll(queue);
                 if (m == null) {
                     break;
                 }
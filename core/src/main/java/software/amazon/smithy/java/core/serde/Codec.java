@@ -6,6 +6,8 @@
 package software.amazon.smithy.java.core.serde;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -88,6 +90,27 @@ public interface Codec extends AutoCloseable {
      */
     ShapeDeserializer createDeserializer(ByteBuffer source);
 
+    /**
+     * Create a deserializer from this Codec that deserializes a shape from a stream of bytes.
+     *
+     * <p>By default, this method reads the entire stream into memory and delegates to
+     * {@link #createDeserializer(byte[])}. Codecs that can parse incrementally should override this method so that
+     * large payloads don't need to be fully buffered before they are parsed.
+     *
+     * <p>The caller is responsible for closing the given stream once deserialization has completed.
+     *
+     * @param source Source to parse.
+     * @return Returns the created deserializer.
+     * @throws SerializationException if the stream cannot be read.
+     */
+    default ShapeDeserializer createDeserializer(InputStream source) {
+        try {
+            return createDeserializer(source.readAllBytes());
+        } catch (IOException e) {
+            throw new SerializationException(e);
+        }
+    }
+
     /**
      * Helper method to serialize a shape a string.
      *
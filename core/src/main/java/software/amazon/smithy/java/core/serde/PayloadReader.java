@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.serde;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import software.amazon.smithy.java.io.datastream.DataStream;
+
+/**
+ * Deserializes shapes from the payload of a {@link DataStream}.
+ *
+ * <p>Small payloads are read into a single ByteBuffer and deserialized in one shot. Payloads larger than
+ * {@link #STREAMING_THRESHOLD}, or with an unknown length, are parsed incrementally with
+ * {@link Codec#createDeserializer(InputStream)} so the whole payload is never held in memory.
+ *
+ * <p>Parsing from an InputStream blocks while waiting for bytes to arrive, so it can't run on the transport threads
+ * that complete the futures of a DataStream. Incremental parsing runs on an executor supplied by the caller, or by
+ * default on a shared pool of at most {@link #DEFAULT_MAX_BLOCKING_READS} daemon threads. Reads queue when every
+ * thread of the default pool is busy, and idle threads are stopped after a minute.
+ */
+public final class PayloadReader {
+
+    /**
+     * Payloads larger than this, or with an unknown length, are parsed incrementally from an InputStream rather
+     * than first being collected into a single ByteBuffer.
+     */
+    public static final long STREAMING_THRESHOLD = 1024 * 1024;
+
+    /**
+     * Maximum number of threads used by the default executor to parse streamed payloads.
+     */
+    public static final int DEFAULT_MAX_BLOCKING_READS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    // Created on first use, since most payloads are small enough to be parsed without blocking.
+    private static final class DefaultExecutor {
+        private static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            var executor = new ThreadPoolExecutor(
+                    DEFAULT_MAX_BLOCKING_READS,
+                    DEFAULT_MAX_BLOCKING_READS,
+                    60,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    r -> {
+                        var thread = new Thread(r, "smithy-java-payload-reader");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    private PayloadReader() {}
+
+    /**
+     * Deserialize the payload with the given codec, parsing streamed payloads on the default executor.
+     *
+     * @param payload  Payload to read.
+     * @param codec    Codec used to create the deserializer.
+     * @param function Function that deserializes a value using the deserializer.
+     * @return the future result of the function.
+     * @param <T> Value to return.
+     */
+    public static <T> CompletableFuture<T> read(
+            DataStream payload,
+            Codec codec,
+            Function<ShapeDeserializer, T> function
+    ) {
+        return read(payload, codec, DefaultExecutor.INSTANCE, function);
+    }
+
+    /**
+     * Deserialize the payload with the given codec, parsing streamed payloads on the given executor.
+     *
+     * @param payload  Payload to read.
+     * @param codec    Codec used to create the deserializer.
+     * @param executor Executor used to parse payloads that are read incrementally.
+     * @param function Function that deserializes a value using the deserializer.
+     * @return the future result of the function.
+     * @param <T> Value to return.
+     */
+    public static <T> CompletableFuture<T> read(
+            DataStream payload,
+            Codec codec,
+            Executor executor,
+            Function<ShapeDeserializer, T> function
+    ) {
+        return read(payload, codec, executor, false, function);
+    }
+
+    /**
+     * Deserialize the payload with the given codec, skipping it entirely if it's empty, and parsing streamed
+     * payloads on the default executor.
+     *
+     * @param payload  Payload to read.
+     * @param codec    Codec used to create the deserializer.
+     * @param function Function that deserializes a value using the deserializer.
+     * @return the future result of the function, or null if the payload is empty.
+     * @param <T> Value to return.
+     */
+    public static <T> CompletableFuture<T> readIfPresent(
+            DataStream payload,
+            Codec codec,
+            Function<ShapeDeserializer, T> function
+    ) {
+        return readIfPresent(payload, codec, DefaultExecutor.INSTANCE, function);
+    }
+
+    /**
+     * Deserialize the payload with the given codec, skipping it entirely if it's empty, and parsing streamed
+     * payloads on the given executor.
+     *
+     * @param payload  Payload to read.
+     * @param codec    Codec used to create the deserializer.
+     * @param executor Executor used to parse payloads that are read incrementally.
+     * @param function Function that deserializes a value using the deserializer.
+     * @return the future result of the function, or null if the payload is empty.
+     * @param <T> Value to return.
+     */
+    public static <T> CompletableFuture<T> readIfPresent(
+            DataStream payload,
+            Codec codec,
+            Executor executor,
+            Function<ShapeDeserializer, T> function
+    ) {
+        return read(payload, codec, executor, true, function);
+    }
+
+    private static <T> CompletableFuture<T> read(
+            DataStream payload,
+            Codec codec,
+            Executor executor,
+            boolean skipEmpty,
+            Function<ShapeDeserializer, T> function
+    ) {
+        if (payload.hasByteBuffer()
+                || (payload.hasKnownLength() && payload.contentLength() <= STREAMING_THRESHOLD)) {
+            return payload.asByteBuffer().thenApply(bb -> {
+                if (skipEmpty && !bb.hasRemaining()) {
+                    return null;
+                }
+                return function.apply(codec.createDeserializer(bb));
+            });
+        }
+
+        return payload.asInputStream().thenApplyAsync(is -> {
+            try (is) {
+                InputStream in = is;
+                if (skipEmpty) {
+                    var pushback = new PushbackInputStream(is);
+                    int next = pushback.read();
+                    if (next == -1) {
+                        return null;
+                    }
+                    pushback.unread(next);
+                    in = pushback;
+                }
+                return function.apply(codec.createDeserializer(in));
+            } catch (IOException e) {
+                throw new SerializationException("Failed to read payload", e);
+            }
+        }, executor);
+    }
+}
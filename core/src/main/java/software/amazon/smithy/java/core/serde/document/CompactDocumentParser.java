@@ -0,0 +1,293 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.serde.document;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SerializableShape;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.serde.InterceptingSerializer;
+import software.amazon.smithy.java.core.serde.MapSerializer;
+import software.amazon.smithy.java.core.serde.SerializationException;
+import software.amazon.smithy.java.core.serde.ShapeSerializer;
+import software.amazon.smithy.model.shapes.ShapeType;
+
+/**
+ * Converts the Smithy data model into compact, columnar Documents.
+ *
+ * <p>Documents created by {@link DocumentParser} store every value as its own object, and every list, map, and
+ * structure as a Java collection. This parser instead writes the entire tree into a handful of primitive arrays:
+ * numbers and booleans are stored inline, strings and member names are stored as UTF-8 in a single shared buffer
+ * (member names are only stored once), and containers only record where their children are. Documents returned
+ * from the tree are lightweight views that are created when accessed, so large untyped payloads use far less heap
+ * than their equivalent {@link DocumentParser} tree.
+ *
+ * <p>Compact documents support the same API and equality semantics as other documents, but are untyped: values
+ * are serialized using prelude schemas, and only the schema of each structure is retained so that its
+ * discriminator can be resolved.
+ *
+ * <p>A parser creates a single document and can't be reused.
+ */
+public final class CompactDocumentParser implements ShapeSerializer {
+
+    private byte[] types = new byte[16];
+    private long[] values = new long[16];
+    private long[] keys = new long[16];
+    private int size;
+
+    private byte[] strings = new byte[256];
+    private int stringsSize;
+
+    private final List<Object> objects = new ArrayList<>();
+    private final Map<Integer, Schema> schemas = new HashMap<>();
+    private final Map<String, Long> internedKeys = new HashMap<>();
+    private final StructMemberSerializer structMemberSerializer = new StructMemberSerializer();
+
+    private long pendingKey = CompactDocuments.NO_KEY;
+    // The number of containers currently being written.
+    private int depth;
+    private Document result;
+
+    /**
+     * Create a compact document from a shape.
+     *
+     * @param shape Shape to convert.
+     * @return the created document, or null if the shape wrote a null value.
+     */
+    public static Document parse(SerializableShape shape) {
+        var parser = new CompactDocumentParser();
+        shape.serialize(parser);
+        return parser.getResult();
+    }
+
+    /**
+     * Get the parsed document, or null if nothing or a null value was serialized.
+     *
+     * @return the result.
+     */
+    public Document getResult() {
+        if (result == null && size > 0) {
+            var tape = new CompactDocuments.Tape(
+                    Arrays.copyOf(types, size),
+                    Arrays.copyOf(values, size),
+                    Arrays.copyOf(keys, size),
+                    Arrays.copyOf(strings, stringsSize),
+                    objects.toArray(),
+                    schemas.isEmpty() ? Map.of() : Map.copyOf(schemas));
+            result = tape.get(0);
+        }
+        return result;
+    }
+
+    // Appends a node, attaching the member name of the value being written, and returns its index.
+    private int append(byte type, long value) {
+        if (result != null || (size > 0 && depth == 0)) {
+            throw new SerializationException("CompactDocumentParser can only parse a single value");
+        }
+        if (size == types.length) {
+            int capacity = size << 1;
+            types = Arrays.copyOf(types, capacity);
+            values = Arrays.copyOf(values, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+        }
+        types[size] = type;
+        values[size] = value;
+        keys[size] = pendingKey;
+        pendingKey = CompactDocuments.NO_KEY;
+        return size++;
+    }
+
+    private void append(Schema schema, long value) {
+        append((byte) schema.type().ordinal(), value);
+    }
+
+    private void appendObject(ShapeType type, Object value) {
+        objects.add(value);
+        append((byte) type.ordinal(), objects.size() - 1);
+    }
+
+    private long writeUtf8(String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (stringsSize + bytes.length > strings.length) {
+            strings = Arrays.copyOf(strings, Math.max(strings.length << 1, stringsSize + bytes.length));
+        }
+        System.arraycopy(bytes, 0, strings, stringsSize, bytes.length);
+        long packed = ((long) stringsSize << 32) | bytes.length;
+        stringsSize += bytes.length;
+        return packed;
+    }
+
+    private void setKey(String key) {
+        var packed = internedKeys.get(key);
+        if (packed == null) {
+            packed = writeUtf8(key);
+            internedKeys.put(key, packed);
+        }
+        pendingKey = packed;
+    }
+
+    // The pending key is consumed by the first value written after it, so a value that wrote nothing is null.
+    private void appendNullIfKeyUnused() {
+        if (pendingKey != CompactDocuments.NO_KEY) {
+            append(CompactDocuments.NULL, 0);
+        }
+    }
+
+    private int startContainer(ShapeType type) {
+        int node = append((byte) type.ordinal(), 0);
+        depth++;
+        return node;
+    }
+
+    private void endContainer(int node, int childCount) {
+        depth--;
+        values[node] = ((long) childCount << 32) | size;
+    }
+
+    // Counts the direct children of a container by walking the tape that was written after it.
+    private int countChildren(int node) {
+        int count = 0;
+        for (int child = node + 1; child < size; child = CompactDocuments.next(types, values, child)) {
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public void writeStruct(Schema schema, SerializableStruct struct) {
+        var type = schema.type() == ShapeType.UNION ? ShapeType.UNION : ShapeType.STRUCTURE;
+        int node = startContainer(type);
+        if (schema.type() == ShapeType.STRUCTURE || schema.type() == ShapeType.UNION) {
+            schemas.put(node, schema.isMember() ? schema.memberTarget() : schema);
+        }
+        struct.serializeMembers(structMemberSerializer);
+        endContainer(node, countChildren(node));
+    }
+
+    // Records each member name before the member is written, and a null value for members that write nothing.
+    private final class StructMemberSerializer extends InterceptingSerializer {
+        @Override
+        protected ShapeSerializer before(Schema schema) {
+            setKey(schema.memberName());
+            return CompactDocumentParser.this;
+        }
+
+        @Override
+        protected void after(Schema schema) {
+            appendNullIfKeyUnused();
+        }
+    }
+
+    @Override
+    public <T> void writeList(Schema schema, T state, int size, BiConsumer<T, ShapeSerializer> consumer) {
+        int node = startContainer(ShapeType.LIST);
+        consumer.accept(state, this);
+        endContainer(node, countChildren(node));
+    }
+
+    @Override
+    public <T> void writeMap(Schema schema, T state, int size, BiConsumer<T, MapSerializer> consumer) {
+        var keyMember = schema.mapKeyMember();
+        if (keyMember.type() != ShapeType.STRING && keyMember.type() != ShapeType.ENUM) {
+            throw new SerializationException("Unexpected map key schema: " + schema);
+        }
+        int node = startContainer(ShapeType.MAP);
+        consumer.accept(state, new MapSerializer() {
+            @Override
+            public <U> void writeEntry(
+                    Schema keySchema,
+                    String key,
+                    U entryState,
+                    BiConsumer<U, ShapeSerializer> valueSerializer
+            ) {
+                setKey(key);
+                valueSerializer.accept(entryState, CompactDocumentParser.this);
+                appendNullIfKeyUnused();
+            }
+        });
+        endContainer(node, countChildren(node));
+    }
+
+    @Override
+    public void writeBoolean(Schema schema, boolean value) {
+        append(schema, value ? 1 : 0);
+    }
+
+    @Override
+    public void writeByte(Schema schema, byte value) {
+        append(schema, value);
+    }
+
+    @Override
+    public void writeShort(Schema schema, short value) {
+        append(schema, value);
+    }
+
+    @Override
+    public void writeInteger(Schema schema, int value) {
+        append(schema, value);
+    }
+
+    @Override
+    public void writeLong(Schema schema, long value) {
+        append(schema, value);
+    }
+
+    @Override
+    public void writeFloat(Schema schema, float value) {
+        append(schema, Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public void writeDouble(Schema schema, double value) {
+        append(schema, Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public void writeBigInteger(Schema schema, BigInteger value) {
+        appendObject(ShapeType.BIG_INTEGER, value);
+    }
+
+    @Override
+    public void writeBigDecimal(Schema schema, BigDecimal value) {
+        appendObject(ShapeType.BIG_DECIMAL, value);
+    }
+
+    @Override
+    public void writeString(Schema schema, String value) {
+        append(schema, writeUtf8(value));
+    }
+
+    @Override
+    public void writeBlob(Schema schema, ByteBuffer value) {
+        appendObject(ShapeType.BLOB, value);
+    }
+
+    @Override
+    public void writeTimestamp(Schema schema, Instant value) {
+        appendObject(ShapeType.TIMESTAMP, value);
+    }
+
+    @Override
+    public void writeDocument(Schema schema, Document value) {
+        value.serializeContents(this);
+    }
+
+    @Override
+    public void writeNull(Schema schema) {
+        append(CompactDocuments.NULL, 0);
+    }
+}
@@ -0,0 +1,554 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.serde.document;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import software.amazon.smithy.java.core.schema.PreludeSchemas;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.serde.SerializationException;
+import software.amazon.smithy.java.core.serde.ShapeSerializer;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeType;
+
+/**
+ * A compact, columnar representation of a document tree.
+ *
+ * <p>Every value in the tree is a node in a flat {@link Tape}, stored in depth-first order. Each node has a type,
+ * a 64-bit value, and an optional member key. Numbers, booleans, and string offsets are stored directly in the
+ * value column, strings are stored as UTF-8 in a single shared buffer, and containers store their child count and
+ * the index of the node that follows their last descendant. Documents returned from the tape are small views over
+ * a node that are created only when accessed.
+ */
+final class CompactDocuments {
+
+    static final byte NULL = -1;
+    static final long NO_KEY = -1;
+
+    private static final ShapeType[] TYPES = ShapeType.values();
+
+    // Lists and maps with more children than this build an index on first random access.
+    private static final int LINEAR_SCAN_LIMIT = 8;
+
+    private CompactDocuments() {}
+
+    // The index of the node that follows the given node and all of its descendants.
+    static int next(byte[] types, long[] values, int node) {
+        var type = types[node];
+        if (type == NULL) {
+            return node + 1;
+        }
+        return switch (TYPES[type]) {
+            case STRUCTURE, UNION, LIST, SET, MAP -> (int) values[node];
+            default -> node + 1;
+        };
+    }
+
+    /**
+     * The columns that make up a compact document tree.
+     */
+    static final class Tape {
+        final byte[] types;
+        // Bits of primitive values, packed string offset/length, packed container count/end, or an objects index.
+        final long[] values;
+        // Packed offset/length of each node's member name in strings, or NO_KEY.
+        final long[] keys;
+        final byte[] strings;
+        // Values that have no primitive representation: big numbers, blobs, and timestamps.
+        final Object[] objects;
+        // Schemas of structure nodes that were written from a shape rather than from an untyped document.
+        final Map<Integer, Schema> schemas;
+
+        Tape(
+                byte[] types,
+                long[] values,
+                long[] keys,
+                byte[] strings,
+                Object[] objects,
+                Map<Integer, Schema> schemas
+        ) {
+            this.types = types;
+            this.values = values;
+            this.keys = keys;
+            this.strings = strings;
+            this.objects = objects;
+            this.schemas = schemas;
+        }
+
+        Document get(int node) {
+            var type = types[node];
+            if (type == NULL) {
+                return null;
+            }
+            return switch (TYPES[type]) {
+                case STRUCTURE, UNION -> new StructureView(this, node);
+                case LIST, SET, MAP -> new ContainerView(this, node);
+                default -> new ScalarView(this, node);
+            };
+        }
+
+        int next(int node) {
+            return CompactDocuments.next(types, values, node);
+        }
+
+        int childCount(int node) {
+            return (int) (values[node] >>> 32);
+        }
+
+        String string(long packed) {
+            return new String(strings, (int) (packed >>> 32), (int) packed, StandardCharsets.UTF_8);
+        }
+
+        boolean keyEquals(int node, byte[] name) {
+            long packed = keys[node];
+            int offset = (int) (packed >>> 32);
+            return Arrays.equals(strings, offset, offset + (int) packed, name, 0, name.length);
+        }
+    }
+
+    /**
+     * Base class of all views over a node in the tape.
+     */
+    abstract static sealed class View implements Document permits ScalarView, ContainerView {
+        final Tape tape;
+        final int node;
+
+        View(Tape tape, int node) {
+            this.tape = tape;
+            this.node = node;
+        }
+
+        @Override
+        public ShapeType type() {
+            return TYPES[tape.types[node]];
+        }
+
+        // Views only equal other views, just like the records in Documents only equal records of the same type, so
+        // equality stays symmetric. Use Document#equals to compare a view with other kinds of documents.
+        @Override
+        public boolean equals(Object obj) {
+            return obj == this || (obj instanceof View && Document.equals(this, obj));
+        }
+
+        @Override
+        public String toString() {
+            return "CompactDocument[type=" + type() + ", value=" + asObject() + ']';
+        }
+    }
+
+    static final class ScalarView extends View {
+
+        ScalarView(Tape tape, int node) {
+            super(tape, node);
+        }
+
+        private long bits() {
+            return tape.values[node];
+        }
+
+        private Object object() {
+            return tape.objects[(int) bits()];
+        }
+
+        private boolean isFloatingPoint() {
+            var type = type();
+            return type == ShapeType.FLOAT || type == ShapeType.DOUBLE;
+        }
+
+        @Override
+        public boolean asBoolean() {
+            if (type() != ShapeType.BOOLEAN) {
+                return super.asBoolean();
+            }
+            return bits() != 0;
+        }
+
+        @Override
+        public byte asByte() {
+            return (byte) asLong();
+        }
+
+        @Override
+        public short asShort() {
+            return (short) asLong();
+        }
+
+        @Override
+        public int asInteger() {
+            return (int) asLong();
+        }
+
+        @Override
+        public long asLong() {
+            return switch (type()) {
+                case BYTE, SHORT, INTEGER, INT_ENUM, LONG -> bits();
+                case FLOAT, DOUBLE -> (long) Double.longBitsToDouble(bits());
+                case BIG_INTEGER, BIG_DECIMAL -> ((Number) object()).longValue();
+                default -> super.asLong();
+            };
+        }
+
+        @Override
+        public float asFloat() {
+            return (float) asDouble();
+        }
+
+        @Override
+        public double asDouble() {
+            return switch (type()) {
+                case BYTE, SHORT, INTEGER, INT_ENUM, LONG -> bits();
+                case FLOAT, DOUBLE -> Double.longBitsToDouble(bits());
+                case BIG_INTEGER, BIG_DECIMAL -> ((Number) object()).doubleValue();
+                default -> super.asDouble();
+            };
+        }
+
+        @Override
+        public BigInteger asBigInteger() {
+            return switch (type()) {
+                case BIG_INTEGER -> (BigInteger) object();
+                case BIG_DECIMAL -> ((BigDecimal) object()).toBigInteger();
+                default -> BigInteger.valueOf(asLong());
+            };
+        }
+
+        @Override
+        public BigDecimal asBigDecimal() {
+            return switch (type()) {
+                case BIG_DECIMAL -> (BigDecimal) object();
+                case BIG_INTEGER -> new BigDecimal((BigInteger) object());
+                default -> isFloatingPoint() ? BigDecimal.valueOf(asDouble()) : BigDecimal.valueOf(asLong());
+            };
+        }
+
+        @Override
+        public String asString() {
+            var type = type();
+            if (type != ShapeType.STRING && type != ShapeType.ENUM) {
+                return super.asString();
+            }
+            return tape.string(bits());
+        }
+
+        @Override
+        public ByteBuffer asBlob() {
+            if (type() != ShapeType.BLOB) {
+                return super.asBlob();
+            }
+            return ((ByteBuffer) object()).duplicate();
+        }
+
+        @Override
+        public Instant asTimestamp() {
+            if (type() != ShapeType.TIMESTAMP) {
+                return super.asTimestamp();
+            }
+            return (Instant) object();
+        }
+
+        @Override
+        public void serializeContents(ShapeSerializer serializer) {
+            switch (type()) {
+                case BOOLEAN -> serializer.writeBoolean(PreludeSchemas.BOOLEAN, asBoolean());
+                case BYTE -> serializer.writeByte(PreludeSchemas.BYTE, asByte());
+                case SHORT -> serializer.writeShort(PreludeSchemas.SHORT, asShort());
+                case INTEGER, INT_ENUM -> serializer.writeInteger(PreludeSchemas.INTEGER, asInteger());
+                case LONG -> serializer.writeLong(PreludeSchemas.LONG, asLong());
+                case FLOAT -> serializer.writeFloat(PreludeSchemas.FLOAT, asFloat());
+                case DOUBLE -> serializer.writeDouble(PreludeSchemas.DOUBLE, asDouble());
+                case BIG_INTEGER -> serializer.writeBigInteger(PreludeSchemas.BIG_INTEGER, asBigInteger());
+                case BIG_DECIMAL -> serializer.writeBigDecimal(PreludeSchemas.BIG_DECIMAL, asBigDecimal());
+                case STRING, ENUM -> serializer.writeString(PreludeSchemas.STRING, asString());
+                case BLOB -> serializer.writeBlob(PreludeSchemas.BLOB, asBlob());
+                case TIMESTAMP -> serializer.writeTimestamp(PreludeSchemas.TIMESTAMP, asTimestamp());
+                default -> throw new SerializationException("Unexpected compact document type: " + type());
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return switch (type()) {
+                case BOOLEAN -> Boolean.hashCode(asBoolean());
+                case BYTE, SHORT, INTEGER, INT_ENUM, LONG -> Long.hashCode(bits());
+                // Adding 0.0 normalizes -0.0, which is == to 0.0.
+                case FLOAT, DOUBLE -> Double.hashCode(asDouble() + 0.0);
+                case BIG_DECIMAL -> asBigDecimal().stripTrailingZeros().hashCode();
+                case STRING, ENUM -> asString().hashCode();
+                default -> object().hashCode();
+            };
+        }
+    }
+
+    /**
+     * A view over a list, map, structure, or union node.
+     *
+     * <p>The index of each child node is computed on first access and cached by the view, so that random access
+     * into lists and repeated member lookups don't rescan the tape.
+     */
+    static sealed class ContainerView extends View permits StructureView {
+
+        private volatile int[] children;
+        private volatile Map<String, Integer> memberIndex;
+
+        ContainerView(Tape tape, int node) {
+            super(tape, node);
+        }
+
+        private int[] children() {
+            var result = children;
+            if (result == null) {
+                result = new int[tape.childCount(node)];
+                for (int i = 0, child = node + 1; i < result.length; i++) {
+                    result[i] = child;
+                    child = tape.next(child);
+                }
+                children = result;
+            }
+            return result;
+        }
+
+        private boolean isList() {
+            var type = type();
+            return type == ShapeType.LIST || type == ShapeType.SET;
+        }
+
+        @Override
+        public int size() {
+            return tape.childCount(node);
+        }
+
+        @Override
+        public List<Document> asList() {
+            if (!isList()) {
+                return super.asList();
+            }
+            return new AbstractList<>() {
+                @Override
+                public Document get(int index) {
+                    return tape.get(children()[index]);
+                }
+
+                @Override
+                public int size() {
+                    return ContainerView.this.size();
+                }
+            };
+        }
+
+        @Override
+        public Map<String, Document> asStringMap() {
+            if (isList()) {
+                return super.asStringMap();
+            }
+            return new AbstractMap<>() {
+                @Override
+                public Set<Entry<String, Document>> entrySet() {
+                    return new AbstractSet<>() {
+                        @Override
+                        public Iterator<Entry<String, Document>> iterator() {
+                            return new Iterator<>() {
+                                private int position;
+
+                                @Override
+                                public boolean hasNext() {
+                                    return position < ContainerView.this.size();
+                                }
+
+                                @Override
+                                public Entry<String, Document> next() {
+                                    if (!hasNext()) {
+                                        throw new NoSuchElementException();
+                                    }
+                                    var child = children()[position++];
+                                    return new SimpleImmutableEntry<>(tape.string(tape.keys[child]), tape.get(child));
+                                }
+                            };
+                        }
+
+                        @Override
+                        public int size() {
+                            return ContainerView.this.size();
+                        }
+                    };
+                }
+
+                @Override
+                public Document get(Object key) {
+                    return key instanceof String s ? getMember(s) : null;
+                }
+
+                @Override
+                public boolean containsKey(Object key) {
+                    return key instanceof String s && findMember(s) >= 0;
+                }
+
+                @Override
+                public int size() {
+                    return ContainerView.this.size();
+                }
+            };
+        }
+
+        @Override
+        public Document getMember(String memberName) {
+            if (isList()) {
+                return super.getMember(memberName);
+            }
+            var child = findMember(memberName);
+            return child < 0 ? null : tape.get(child);
+        }
+
+        private int findMember(String memberName) {
+            var children = children();
+            if (children.length > LINEAR_SCAN_LIMIT) {
+                var index = memberIndex;
+                if (index == null) {
+                    index = new HashMap<>(children.length * 4 / 3 + 1);
+                    for (var child : children) {
+                        index.putIfAbsent(tape.string(tape.keys[child]), child);
+                    }
+                    memberIndex = index;
+                }
+                return index.getOrDefault(memberName, -1);
+            }
+            var name = memberName.getBytes(StandardCharsets.UTF_8);
+            for (var child : children) {
+                if (tape.keyEquals(child, name)) {
+                    return child;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Set<String> getMemberNames() {
+            if (isList()) {
+                return super.getMemberNames();
+            }
+            Set<String> result = new LinkedHashSet<>();
+            for (var child : children()) {
+                result.add(tape.string(tape.keys[child]));
+            }
+            return result;
+        }
+
+        @Override
+        public void serializeContents(ShapeSerializer serializer) {
+            if (isList()) {
+                serializer.writeList(Documents.LIST_SCHEMA, this, size(), (list, ser) -> {
+                    for (var child : list.children()) {
+                        var value = list.tape.get(child);
+                        if (value == null) {
+                            ser.writeNull(Documents.LIST_SCHEMA.listMember());
+                        } else {
+                            value.serialize(ser);
+                        }
+                    }
+                });
+            } else {
+                serializer.writeMap(Documents.STR_MAP_SCHEMA, this, size(), (map, s) -> {
+                    var keySchema = Documents.STR_MAP_SCHEMA.mapKeyMember();
+                    for (var child : map.children()) {
+                        var key = map.tape.string(map.tape.keys[child]);
+                        s.writeEntry(keySchema, key, map.tape.get(child), ContainerView::serializeValue);
+                    }
+                });
+            }
+        }
+
+        void serializeMembers(ShapeSerializer serializer) {
+            for (var child : children()) {
+                var value = tape.get(child);
+                if (value != null) {
+                    value.serialize(serializer);
+                }
+            }
+        }
+
+        private static void serializeValue(Document value, ShapeSerializer serializer) {
+            if (value == null) {
+                serializer.writeNull(Documents.STR_MAP_SCHEMA.mapValueMember());
+            } else {
+                value.serialize(serializer);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = type().ordinal();
+            if (isList()) {
+                for (var child : children()) {
+                    hash = 31 * hash + Objects.hashCode(tape.get(child));
+                }
+            } else {
+                // Order-independent, like Map#hashCode, because member order doesn't affect equality.
+                for (var child : children()) {
+                    hash += tape.string(tape.keys[child]).hashCode() ^ Objects.hashCode(tape.get(child));
+                }
+            }
+            return hash;
+        }
+    }
+
+    /**
+     * A view over a structure or union node, which is also a {@link SerializableStruct} like other structure
+     * documents.
+     */
+    static final class StructureView extends ContainerView implements SerializableStruct {
+
+        StructureView(Tape tape, int node) {
+            super(tape, node);
+        }
+
+        @Override
+        public Schema schema() {
+            return tape.schemas.getOrDefault(node, PreludeSchemas.DOCUMENT);
+        }
+
+        @Override
+        public ShapeId discriminator() {
+            var schema = tape.schemas.get(node);
+            return schema != null && schema.type() == ShapeType.STRUCTURE ? schema.id() : null;
+        }
+
+        @Override
+        public void serialize(ShapeSerializer serializer) {
+            // De-conflict Document and SerializableStruct default implementations, writing it like any document.
+            serializer.writeDocument(PreludeSchemas.DOCUMENT, this);
+        }
+
+        @Override
+        public void serializeContents(ShapeSerializer serializer) {
+            serializer.writeStruct(schema(), this);
+        }
+
+        @Override
+        public void serializeMembers(ShapeSerializer serializer) {
+            super.serializeMembers(serializer);
+        }
+
+        @Override
+        public <T> T getMemberValue(Schema member) {
+            return DocumentUtils.getMemberValue(this, schema(), member);
+        }
+    }
+}
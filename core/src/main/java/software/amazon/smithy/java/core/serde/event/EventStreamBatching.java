@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.serde.event;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Controls how {@link EventStreamFrameEncodingProcessor} coalesces encoded frames into larger buffers.
+ *
+ * <p>Frames that are waiting for demand from the subscriber are combined into a single buffer of up to
+ * {@link Builder#maxBatchBytes(int) max batch bytes} and {@link Builder#maxBatchEvents(int) max batch events}, so a
+ * slow transport writes many frames at once instead of one frame per write. When a
+ * {@link Builder#linger(Duration) linger time} is set, a batch that isn't full is held for up to that long to give
+ * more frames a chance to join it, trading latency for fewer writes.
+ */
+public final class EventStreamBatching {
+
+    private final int maxBatchBytes;
+    private final int maxBatchEvents;
+    private final Duration linger;
+
+    private EventStreamBatching(Builder builder) {
+        this.maxBatchBytes = builder.maxBatchBytes;
+        this.maxBatchEvents = builder.maxBatchEvents;
+        this.linger = builder.linger;
+    }
+
+    /**
+     * Create a builder responsible for building {@link EventStreamBatching}.
+     *
+     * @return the created builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the maximum number of bytes combined into a single buffer.
+     *
+     * @return the maximum batch size in bytes.
+     */
+    public int maxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    /**
+     * Get the maximum number of frames combined into a single buffer.
+     *
+     * @return the maximum batch size in frames.
+     */
+    public int maxBatchEvents() {
+        return maxBatchEvents;
+    }
+
+    /**
+     * Get how long a batch that isn't full is held before it's published.
+     *
+     * @return the linger time.
+     */
+    public Duration linger() {
+        return linger;
+    }
+
+    /**
+     * Builds {@link EventStreamBatching}.
+     */
+    public static final class Builder {
+
+        private int maxBatchBytes = 64 * 1024;
+        private int maxBatchEvents = 128;
+        private Duration linger = Duration.ZERO;
+
+        private Builder() {}
+
+        /**
+         * Build the batching settings.
+         *
+         * @return the created settings.
+         */
+        public EventStreamBatching build() {
+            return new EventStreamBatching(this);
+        }
+
+        /**
+         * Set the maximum number of bytes to combine into a single buffer.
+         *
+         * <p>Frames larger than this are published on their own.
+         *
+         * @param maxBatchBytes Maximum batch size in bytes (default is 64 KiB).
+         * @return the builder.
+         */
+        public Builder maxBatchBytes(int maxBatchBytes) {
+            if (maxBatchBytes <= 0) {
+                throw new IllegalArgumentException("maxBatchBytes must be positive: " + maxBatchBytes);
+            }
+            this.maxBatchBytes = maxBatchBytes;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of frames to combine into a single buffer.
+         *
+         * @param maxBatchEvents Maximum batch size in frames (default is 128).
+         * @return the builder.
+         */
+        public Builder maxBatchEvents(int maxBatchEvents) {
+            if (maxBatchEvents <= 0) {
+                throw new IllegalArgumentException("maxBatchEvents must be positive: " + maxBatchEvents);
+            }
+            this.maxBatchEvents = maxBatchEvents;
+            return this;
+        }
+
+        /**
+         * Set how long to hold a batch that isn't full before publishing it.
+         *
+         * @param linger Linger time (default is zero, which publishes frames as soon as there's demand).
+         * @return the builder.
+         */
+        public Builder linger(Duration linger) {
+            Objects.requireNonNull(linger, "linger");
+            if (linger.isNegative()) {
+                throw new IllegalArgumentException("linger can't be negative: " + linger);
+            }
+            this.linger = linger;
+            return this;
+        }
+    }
+}
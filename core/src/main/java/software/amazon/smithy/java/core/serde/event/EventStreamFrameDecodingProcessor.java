@@ -7,6 +7,7 @@ package software.amazon.smithy.java.core.serde.event;
 
 import java.nio.ByteBuffer;
 import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.core.serde.BufferingFlatMapProcessor;
@@ -40,4 +41,9 @@ public final class EventStreamFrameDecodingProcessor<F extends Frame<?>>
     protected Stream<SerializableStruct> map(ByteBuffer item) {
         return decoder.decode(item).stream().map(eventDecoder::decode);
     }
+
+    @Override
+    protected void map(ByteBuffer item, Consumer<SerializableStruct> consumer) {
+        decoder.decode(item, frame -> consumer.accept(eventDecoder.decode(frame)));
+    }
 }
@@ -6,7 +6,11 @@
 package software.amazon.smithy.java.core.serde.event;
 
 import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.core.serde.BufferingFlatMapProcessor;
@@ -15,25 +19,75 @@ public final class EventStreamFrameEncodingProcessor<F extends Frame<?>, T exten
         extends BufferingFlatMapProcessor<T, ByteBuffer> {
     private final EventEncoder<F> eventEncoder;
     private final FrameEncoder<F> encoder;
+    private final EventStreamBatching batching;
+    private final long lingerNanos;
+
+    // Only accessed from poll, which is never called concurrently.
+    private boolean lingering;
+    private long lingerGeneration;
+
+    private volatile long expiredGeneration;
+    private volatile boolean flushRequested;
 
     public EventStreamFrameEncodingProcessor(
             Flow.Publisher<T> publisher,
             EventEncoder<F> eventEncoder,
             FrameEncoder<F> encoder
+    ) {
+        this(publisher, eventEncoder, encoder, null);
+    }
+
+    /**
+     * Create a processor that coalesces encoded frames into larger buffers.
+     *
+     * @param publisher Publisher of events to encode.
+     * @param eventEncoder Encoder used to turn events into frames.
+     * @param encoder Encoder used to turn frames into bytes.
+     * @param batching Settings used to combine frames, or null to publish each frame in its own buffer.
+     */
+    public EventStreamFrameEncodingProcessor(
+            Flow.Publisher<T> publisher,
+            EventEncoder<F> eventEncoder,
+            FrameEncoder<F> encoder,
+            EventStreamBatching batching
     ) {
         super(publisher);
         this.eventEncoder = eventEncoder;
         this.encoder = encoder;
+        this.batching = batching;
+        this.lingerNanos = batching == null ? 0 : batching.linger().toNanos();
     }
 
     public static <F extends Frame<?>> EventStreamFrameEncodingProcessor<F, ?> create(
             Flow.Publisher<? extends SerializableStruct> publisher,
             EventEncoderFactory<F> encoderFactory
+    ) {
+        return create(publisher, encoderFactory, null);
+    }
+
+    public static <F extends Frame<?>> EventStreamFrameEncodingProcessor<F, ?> create(
+            Flow.Publisher<? extends SerializableStruct> publisher,
+            EventEncoderFactory<F> encoderFactory,
+            EventStreamBatching batching
     ) {
         return new EventStreamFrameEncodingProcessor<>(
                 publisher,
                 encoderFactory.newEventEncoder(),
-                encoderFactory.newFrameEncoder());
+                encoderFactory.newFrameEncoder(),
+                batching);
+    }
+
+    /**
+     * Publish frames that are held back by the linger time as soon as there's demand for them.
+     *
+     * <p>This is a hint for producers that know no more events will follow for a while. It has no effect when
+     * batching is disabled or no linger time is configured.
+     */
+    public void flushBatch() {
+        if (lingerNanos > 0) {
+            flushRequested = true;
+            flushBuffered();
+        }
     }
 
     @Override
@@ -41,6 +95,74 @@ public final class EventStreamFrameEncodingProcessor<F extends Frame<?>, T exten
         return Stream.of(encoder.encode(eventEncoder.encode(item)));
     }
 
+    @Override
+    protected void map(T item, Consumer<ByteBuffer> consumer) {
+        consumer.accept(encoder.encode(eventEncoder.encode(item)));
+    }
+
+    @Override
+    protected ByteBuffer poll(Queue<ByteBuffer> queue) {
+        if (batching == null) {
+            return queue.poll();
+        }
+
+        // Only this method removes frames, so the frames counted here are the ones polled below.
+        int count = 0;
+        long bytes = 0;
+        boolean full = false;
+        for (var frame : queue) {
+            if (count > 0 && bytes + frame.remaining() > batching.maxBatchBytes()) {
+                full = true;
+                break;
+            }
+            count++;
+            bytes += frame.remaining();
+            if (count == batching.maxBatchEvents() || bytes >= batching.maxBatchBytes()) {
+                full = true;
+                break;
+            }
+        }
+
+        if (count == 0) {
+            return null;
+        } else if (!full && shouldLinger()) {
+            return null;
+        }
+
+        lingering = false;
+        ByteBuffer result;
+        if (count == 1) {
+            result = queue.poll();
+        } else {
+            result = ByteBuffer.allocate((int) bytes);
+            for (int i = 0; i < count; i++) {
+                result.put(queue.poll());
+            }
+            result.flip();
+        }
+        if (queue.isEmpty()) {
+            flushRequested = false;
+        }
+        return result;
+    }
+
+    // Returns true if a batch that isn't full should wait for more frames, scheduling a flush for when it's due.
+    private boolean shouldLinger() {
+        if (lingerNanos == 0 || flushRequested || isUpstreamTerminated()) {
+            return false;
+        } else if (lingering) {
+            return expiredGeneration != lingerGeneration;
+        }
+        lingering = true;
+        long generation = ++lingerGeneration;
+        CompletableFuture.delayedExecutor(lingerNanos, TimeUnit.NANOSECONDS).execute(() -> {
+            // Timers of batches that were already published don't cut later batches short.
+            expiredGeneration = generation;
+            flushBuffered();
+        });
+        return true;
+    }
+
     @Override
     protected void handleError(Throwable error, Flow.Subscriber<? super ByteBuffer> subscriber) {
         subscriber.onNext(encoder.encode(eventEncoder.encodeFailure(error)));
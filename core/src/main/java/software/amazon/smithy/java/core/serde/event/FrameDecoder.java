@@ -7,6 +7,7 @@ package software.amazon.smithy.java.core.serde.event;
 
 import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Decodes frames from bytes.
@@ -19,4 +20,14 @@ public interface FrameDecoder<F extends Frame<?>> {
      * @return all the frames readable from this pass
      */
     List<F> decode(ByteBuffer buffer);
+
+    /**
+     * Decode 0 or more frames from a buffer, passing each frame to a consumer rather than collecting them into a list.
+     *
+     * @param buffer the buffer to attempt to read frames from
+     * @param consumer the consumer that receives each frame
+     */
+    default void decode(ByteBuffer buffer, Consumer<F> consumer) {
+        decode(buffer).forEach(consumer);
+    }
 }
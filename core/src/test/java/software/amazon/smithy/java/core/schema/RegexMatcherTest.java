@@ -0,0 +1,154 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.schema;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class RegexMatcherTest {
+
+    private static final List<String> INPUTS = List.of(
+            "",
+            "a",
+            "b",
+            "ab",
+            "aab",
+            "abb",
+            "abc",
+            "c",
+            "A",
+            "123",
+            "123-4567",
+            "a\n",
+            "a\r\n",
+            "a\r",
+            "\na",
+            "a ",
+            "a\u0085",
+            "foo@bar.com",
+            "my-bucket.name_1",
+            "éé",
+            "😀",
+            "x😀",
+            "  \t",
+            "a b",
+            "$^",
+            "\\",
+            "arn:aws:iam:us-east-1:123456789012:role/foo",
+            "SGVsbG8=");
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                    "",
+                    "a",
+                    "^a",
+                    "a$",
+                    "^a$",
+                    "^[a-z]+$",
+                    "[0-9]+",
+                    "^\\d{3}-\\d{4}$",
+                    "^(ab|a)*c?$",
+                    "(a|b)*abb",
+                    "^[^a]*$",
+                    "^.*$",
+                    "^.$",
+                    "^\\w+@\\w+\\.com$",
+                    "^\\s*$",
+                    "\\S",
+                    "^[\\w.-]+$",
+                    "^(a+)+$",
+                    "^a{2,3}$",
+                    "^a{2,}b$",
+                    "^a{0,2}b$",
+                    "^(?:a|bc){2}$",
+                    "^[a\\-z]$",
+                    "^[-a]$",
+                    "^[a-]$",
+                    "a*?b",
+                    "^a??$",
+                    "^\\u00e9+$",
+                    "^\\x41$",
+                    "[^\\d\\s]",
+                    "^[\\D]+$",
+                    "^$",
+                    "$",
+                    "a|^b",
+                    "(a$|b$)",
+                    "^\\$\\^$",
+                    "^\\\\$",
+                    "^x?.$",
+                    "^(|a)+b",
+                    "^(?:a*)*$",
+                    "^[A-Za-z0-9+/]*={0,2}$",
+                    "^arn:aws:[a-z0-9-]+:[a-z0-9-]*:\\d{12}:.+$"
+            })
+    public void matchesLikeJavaRegex(String regex) {
+        var pattern = Pattern.compile(regex);
+        var matcher = RegexMatcher.of(pattern);
+
+        assertThat(matcher, instanceOf(LinearRegexMatcher.class));
+        for (var input : INPUTS) {
+            assertThat(regex + " on " + input, matcher.find(input), is(pattern.matcher(input).find()));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"(a)\\1", "a(?=b)", "(?i)a", "\\bab", "\\p{L}", "[a&&b]", "a++", "[a-c-e]", "$a"})
+    public void fallsBackToJavaRegex(String regex) {
+        var pattern = Pattern.compile(regex);
+        var matcher = RegexMatcher.of(pattern);
+
+        assertThat(matcher, instanceOf(RegexMatcher.JdkRegexMatcher.class));
+        for (var input : INPUTS) {
+            assertThat(matcher.find(input), is(pattern.matcher(input).find()));
+        }
+    }
+
+    @Test
+    public void fallsBackForPatternsWithFlags() {
+        var matcher = RegexMatcher.of(Pattern.compile("a", Pattern.CASE_INSENSITIVE));
+
+        assertThat(matcher, instanceOf(RegexMatcher.JdkRegexMatcher.class));
+    }
+
+    @Test
+    public void matchesPathologicalPatternsInLinearTime() {
+        var matcher = RegexMatcher.of(Pattern.compile("^(a+)+$"));
+        var input = "a".repeat(100_000) + "!";
+
+        assertFalse(matcher.find(input));
+    }
+
+    @Test
+    public void boundsMemoryWhenTheStateCacheIsFull() {
+        // Finding this pattern needs a DFA state for each combination of the last 12 characters.
+        var pattern = Pattern.compile("a[ab]{11}c");
+        var matcher = (LinearRegexMatcher) RegexMatcher.of(pattern);
+        var random = new Random(0);
+
+        for (var i = 0; i < 20; i++) {
+            var input = new StringBuilder();
+            for (var j = 0; j < 2000; j++) {
+                input.append(random.nextInt(500) == 0 ? 'c' : random.nextBoolean() ? 'a' : 'b');
+            }
+            var value = input.toString();
+            assertThat(matcher.find(value), is(pattern.matcher(value).find()));
+        }
+
+        assertThat(matcher.linkedStateCount(), lessThanOrEqualTo(LinearRegexMatcher.MAX_DFA_STATES));
+    }
+}
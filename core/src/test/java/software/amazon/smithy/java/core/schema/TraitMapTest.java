@@ -71,4 +71,38 @@ public class TraitMapTest {
         assertThat(tm2.get(TraitKey.XML_NAME_TRAIT), instanceOf(XmlNameTrait.class));
         assertThat(tm2.get(TraitKey.DEFAULT_TRAIT), instanceOf(DefaultTrait.class));
     }
+
+    @Test
+    public void memberTraitsSupersedeTargetTraits() {
+        var memberTrait = new XmlNameTrait("member");
+        var tm = TraitMap.create(new XmlNameTrait("target"), new SensitiveTrait());
+        var tm2 = tm.withMemberTraits(TraitMap.create(memberTrait, new RequiredTrait()));
+
+        assertThat(tm2.get(TraitKey.XML_NAME_TRAIT), sameInstance(memberTrait));
+        assertThat(tm2.get(TraitKey.SENSITIVE_TRAIT), instanceOf(SensitiveTrait.class));
+        assertThat(tm2.get(TraitKey.REQUIRED_TRAIT), instanceOf(RequiredTrait.class));
+        assertThat(tm2.get(TraitKey.DEFAULT_TRAIT), is(nullValue()));
+    }
+
+    @Test
+    public void findsTraitsGivenInAnyOrder() {
+        var required = new RequiredTrait();
+        var sensitive = new SensitiveTrait();
+        var tm = TraitMap.create(sensitive, new XmlNameTrait("hi"), required);
+
+        assertThat(tm.get(TraitKey.REQUIRED_TRAIT), sameInstance(required));
+        assertThat(tm.get(TraitKey.SENSITIVE_TRAIT), sameInstance(sensitive));
+        assertThat(tm.get(TraitKey.XML_NAME_TRAIT), instanceOf(XmlNameTrait.class));
+        assertThat(tm.get(TraitKey.DEFAULT_TRAIT), is(nullValue()));
+    }
+
+    @Test
+    public void sharesMergedTraitsOfIdenticalMembers() {
+        var required = new RequiredTrait();
+        var target = TraitMap.create(new SensitiveTrait());
+        var member1 = target.withMemberTraits(TraitMap.create(required));
+        var member2 = target.withMemberTraits(TraitMap.create(required));
+
+        assertThat(member1, sameInstance(member2));
+    }
 }
@@ -17,6 +17,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
@@ -25,6 +26,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -550,6 +552,270 @@ public class ValidatorTest {
         assertThat(errors, empty());
     }
 
+    @Test
+    public void skipsStructuresWithoutConstraints() {
+        Validator validator = Validator.builder().build();
+        Schema schema = Schema.structureBuilder(ShapeId.from("smithy.example#Test"))
+                .putMember("foo", PreludeSchemas.STRING)
+                .putMember("bar", PreludeSchemas.INTEGER)
+                .build();
+        List<String> visited = new ArrayList<>();
+
+        var errors = validator.validate(s -> {
+            s.writeStruct(schema, TestHelper.create(schema, (passedSchema, serializer) -> {
+                visited.add("members");
+            }));
+        });
+
+        assertThat(errors, empty());
+        assertThat(visited, empty());
+        assertFalse(schema.constraintSummary().constrained);
+    }
+
+    @Test
+    public void validatesOnlyConstrainedMembers() {
+        Validator validator = Validator.builder().build();
+        Schema schema = Schema.structureBuilder(ShapeId.from("smithy.example#Test"))
+                .putMember("foo", PreludeSchemas.STRING, LengthTrait.builder().max(2L).build())
+                .putMember("bar", PreludeSchemas.STRING)
+                .build();
+        var summary = schema.constraintSummary();
+
+        assertTrue(summary.constrained);
+        assertTrue(summary.isConstrained(schema.member("foo")));
+        assertFalse(summary.isConstrained(schema.member("bar")));
+
+        var errors = validator.validate(s -> {
+            s.writeStruct(schema, TestHelper.create(schema, (passedSchema, serializer) -> {
+                serializer.writeString(passedSchema.member("foo"), "abc");
+                serializer.writeString(passedSchema.member("bar"), "abc");
+            }));
+        });
+
+        assertThat(errors, hasSize(1));
+        assertThat(errors.get(0).path(), equalTo("/foo"));
+    }
+
+    @Test
+    public void treatsRecursiveStructuresAsConstrained() {
+        var builder = Schema.structureBuilder(ShapeId.from("smithy.example#Recursive"));
+        Schema schema = builder.putMember("next", builder).build();
+
+        assertTrue(schema.constraintSummary().constrained);
+    }
+
+    @Test
+    public void reusesValidatorStateAcrossCalls() {
+        Validator validator = Validator.builder().build();
+        Schema schema = Schema.createString(ShapeId.from("smithy.example#Str"), LengthTrait.builder().max(1L).build());
+
+        var first = validator.validate(ser -> ser.writeString(schema, "Hiii"));
+        var second = validator.validate(ser -> ser.writeString(schema, "H"));
+        var third = validator.validate(ser -> {
+            // Nested validation on the same thread gets its own state.
+            assertThat(validator.validate(nested -> nested.writeString(schema, "Hiii")), hasSize(1));
+            ser.writeString(schema, "Hiii");
+        });
+
+        assertThat(first, hasSize(1));
+        assertThat(second, empty());
+        assertThat(third, hasSize(1));
+        assertThat(third.get(0).path(), equalTo("/"));
+    }
+
+    @Test
+    public void appliesTheSettingsOfEachValidatorSharingAThread() {
+        var schemas = createListSchemas(4);
+        Validator deep = Validator.builder().maxDepth(25).build();
+        Validator shallow = Validator.builder().maxDepth(3).build();
+        SerializableShape nested = s1 -> {
+            s1.writeList(schemas.get(0), null, 1, (v2, s2) -> {
+                s2.writeList(schemas.get(1), null, 1, (v3, s3) -> {
+                    s3.writeList(schemas.get(2), null, 1, (v4, s4) -> {
+                        s4.writeList(schemas.get(3), null, 1, (v5, s5) -> {
+                            s5.writeString(PreludeSchemas.STRING, "Hi");
+                        });
+                    });
+                });
+            });
+        };
+
+        assertThat(deep.validate(nested), empty());
+        assertThat(shallow.validate(nested), hasSize(1));
+        assertThat(deep.validate(nested), empty());
+    }
+
+    @Test
+    public void resetsValidatorStateWhenShapesThrow() {
+        Validator validator = Validator.builder().build();
+        Schema schema = Schema.createString(ShapeId.from("smithy.example#Str"), LengthTrait.builder().max(1L).build());
+        var listSchema = Schema.listBuilder(ShapeId.from("smithy.example#List"))
+                .putMember("member", schema)
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> validator.validate(ser -> {
+            ser.writeList(listSchema, null, 1, (ignored, ls) -> {
+                ls.writeString(listSchema.member("member"), "Hiii");
+                throw new IllegalStateException("boom");
+            });
+        }));
+
+        var errors = validator.validate(ser -> ser.writeString(schema, "Hiii"));
+        assertThat(errors, hasSize(1));
+        assertThat(errors.get(0).path(), equalTo("/"));
+
+        // The errors are always returned in a new list that callers can modify.
+        var empty = validator.validate(ser -> ser.writeString(schema, "H"));
+        empty.add(errors.get(0));
+        assertThat(validator.validate(ser -> ser.writeString(schema, "H")), empty());
+    }
+
+    @Test
+    public void skipsElementsOfSparseListsWithoutConstraints() {
+        Validator validator = Validator.builder().build();
+        var listSchema = Schema.listBuilder(ShapeId.from("smithy.api#Test"), new SparseTrait())
+                .putMember("member", PreludeSchemas.STRING)
+                .build();
+        List<String> visited = new ArrayList<>();
+
+        var errors = validator.validate(s -> {
+            s.writeList(listSchema, listSchema.member("member"), 2, (member, ls) -> {
+                visited.add("elements");
+            });
+        });
+
+        assertThat(errors, empty());
+        assertThat(visited, empty());
+    }
+
+    @Test
+    public void walksListsWithoutConstraintsOnlyWhenTheyContainNull() {
+        Validator validator = Validator.builder().build();
+        var listSchema = Schema.listBuilder(ShapeId.from("smithy.api#Test"))
+                .putMember("member", PreludeSchemas.STRING)
+                .build();
+        List<String> visited = new ArrayList<>();
+        BiConsumer<List<String>, ShapeSerializer> consumer = (values, ls) -> {
+            visited.add("elements");
+            for (var value : values) {
+                if (value == null) {
+                    ls.writeNull(listSchema.member("member"));
+                } else {
+                    ls.writeString(listSchema.member("member"), value);
+                }
+            }
+        };
+
+        var valid = validator.validate(s -> s.writeList(listSchema, List.of("a", "b"), 2, consumer));
+        assertThat(valid, empty());
+        assertThat(visited, empty());
+
+        var invalid = validator.validate(s -> s.writeList(listSchema, Arrays.asList("a", null), 2, consumer));
+        assertThat(invalid, hasSize(1));
+        assertThat(invalid.get(0).path(), equalTo("/1"));
+        assertThat(visited, hasSize(1));
+    }
+
+    @Test
+    public void validatesLargeListsInParallel() {
+        var struct = Schema.structureBuilder(ShapeId.from("smithy.example#Foo"))
+                .putMember("a", PreludeSchemas.STRING, new RequiredTrait())
+                .build();
+        var listSchema = Schema.listBuilder(ShapeId.from("smithy.example#FooList"))
+                .putMember("member", struct)
+                .build();
+        List<SerializableStruct> values = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            boolean valid = i % 97 != 0;
+            values.add(TestHelper.create(struct, (schema, serializer) -> {
+                if (valid) {
+                    serializer.writeString(schema.member("a"), "hi");
+                }
+            }));
+        }
+        Consumer<ShapeSerializer> encoder = s -> s.writeList(listSchema, values, values.size(), (list, ls) -> {
+            for (var value : list) {
+                ls.writeStruct(listSchema.member("member"), value);
+            }
+        });
+
+        var sequential = Validator.builder().maxAllowedErrors(1000).build().validate(encoder::accept);
+        var parallel = Validator.builder()
+                .maxAllowedErrors(1000)
+                .parallelValidationThreshold(10)
+                .build()
+                .validate(encoder::accept);
+
+        assertThat(sequential, hasSize(52));
+        assertThat(parallel, equalTo(sequential));
+        assertThat(parallel.get(1).path(), equalTo("/97"));
+    }
+
+    @Test
+    public void validatesTheElementsWrittenByTheConsumerInParallel() {
+        var struct = Schema.structureBuilder(ShapeId.from("smithy.example#Foo"))
+                .putMember("a", PreludeSchemas.STRING, new RequiredTrait())
+                .build();
+        var listSchema = Schema.listBuilder(ShapeId.from("smithy.example#FooList"))
+                .putMember("member", struct)
+                .build();
+        List<SerializableStruct> values = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            boolean valid = i != 0;
+            values.add(TestHelper.create(struct, (schema, serializer) -> {
+                if (valid) {
+                    serializer.writeString(schema.member("a"), "hi");
+                }
+            }));
+        }
+        // The consumer writes the elements in reverse, so the state itself must not be validated directly.
+        Consumer<ShapeSerializer> encoder = s -> s.writeList(listSchema, values, values.size(), (list, ls) -> {
+            for (int i = list.size() - 1; i >= 0; i--) {
+                ls.writeStruct(listSchema.member("member"), list.get(i));
+            }
+        });
+
+        var sequential = Validator.builder().build().validate(encoder::accept);
+        var parallel = Validator.builder().parallelValidationThreshold(10).build().validate(encoder::accept);
+
+        assertThat(sequential, hasSize(1));
+        assertThat(parallel, equalTo(sequential));
+        assertThat(parallel.get(0).path(), equalTo("/4999"));
+    }
+
+    @Test
+    public void stopsParallelValidationAtMaxErrorsDeterministically() {
+        var struct = Schema.structureBuilder(ShapeId.from("smithy.example#Foo"))
+                .putMember("a", PreludeSchemas.STRING, new RequiredTrait())
+                .build();
+        var mapSchema = Schema.mapBuilder(ShapeId.from("smithy.example#FooMap"))
+                .putMember("key", PreludeSchemas.STRING)
+                .putMember("value", struct)
+                .build();
+        Map<String, SerializableStruct> values = new LinkedHashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            values.put("k" + i, TestHelper.create(struct, (schema, serializer) -> {}));
+        }
+        Consumer<ShapeSerializer> encoder = s -> s.writeMap(mapSchema, values, values.size(), (map, ms) -> {
+            for (var entry : map.entrySet()) {
+                ms.writeEntry(mapSchema.mapKeyMember(), entry.getKey(), entry.getValue(), (value, ser) -> {
+                    ser.writeStruct(mapSchema.mapValueMember(), value);
+                });
+            }
+        });
+
+        var sequential = Validator.builder().maxAllowedErrors(10).build().validate(encoder::accept);
+        var parallel = Validator.builder()
+                .maxAllowedErrors(10)
+                .parallelValidationThreshold(10)
+                .build()
+                .validate(encoder::accept);
+
+        assertThat(sequential, hasSize(10));
+        assertThat(parallel, equalTo(sequential));
+        assertThat(parallel.get(9).path(), equalTo("/k9/value"));
+    }
+
     // To write a null in a list, it has to have the sparse trait.
     @Test
     public void doesNotAllowNullValuesInListByDefault() {
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.serde;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.core.schema.PreludeSchemas;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.io.datastream.DataStream;
+
+public class PayloadReaderTest {
+
+    // Reads the payload as a string, recording which path and thread created the deserializer.
+    private static final Codec CODEC = new Codec() {
+        @Override
+        public ShapeSerializer createSerializer(OutputStream sink) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ShapeDeserializer createDeserializer(ByteBuffer source) {
+            return stringDeserializer("buffer:" + StandardCharsets.UTF_8.decode(source));
+        }
+
+        @Override
+        public ShapeDeserializer createDeserializer(InputStream source) {
+            try {
+                var value = new String(source.readAllBytes(), StandardCharsets.UTF_8);
+                return stringDeserializer("stream:" + Thread.currentThread().getName() + ":" + value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    };
+
+    private static ShapeDeserializer stringDeserializer(String value) {
+        return new SpecificShapeDeserializer() {
+            @Override
+            public String readString(Schema schema) {
+                return value;
+            }
+        };
+    }
+
+    private static String readString(ShapeDeserializer deserializer) {
+        return deserializer.readString(PreludeSchemas.STRING);
+    }
+
+    @Test
+    public void buffersSmallPayloads() {
+        var result = PayloadReader.read(DataStream.ofString("hi"), CODEC, PayloadReaderTest::readString).join();
+
+        assertThat(result, equalTo("buffer:hi"));
+    }
+
+    @Test
+    public void streamsPayloadsOfUnknownLengthOffTheCallingThread() {
+        var payload = DataStream.ofInputStream(new ByteArrayInputStream("hi".getBytes(StandardCharsets.UTF_8)));
+        var result = PayloadReader.read(payload, CODEC, PayloadReaderTest::readString).join();
+
+        assertThat(result, equalTo("stream:smithy-java-payload-reader:hi"));
+    }
+
+    @Test
+    public void streamsPayloadsOnTheSuppliedExecutor() {
+        var executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "custom-reader"));
+        try {
+            var payload = DataStream.ofInputStream(new ByteArrayInputStream("hi".getBytes(StandardCharsets.UTF_8)));
+            var result = PayloadReader.read(payload, CODEC, executor, PayloadReaderTest::readString).join();
+
+            assertThat(result, equalTo("stream:custom-reader:hi"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void skipsEmptyPayloads() {
+        var empty = DataStream.ofInputStream(new ByteArrayInputStream(new byte[0]));
+
+        assertThat(PayloadReader.readIfPresent(empty, CODEC, PayloadReaderTest::readString).join(), nullValue());
+        assertThat(PayloadReader.readIfPresent(DataStream.ofEmpty(), CODEC, PayloadReaderTest::readString).join(),
+                nullValue());
+    }
+}
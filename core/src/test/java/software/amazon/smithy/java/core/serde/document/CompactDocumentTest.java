@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.serde.document;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.core.serde.SerializationException;
+import software.amazon.smithy.model.shapes.ShapeType;
+
+public class CompactDocumentTest {
+
+    private static Document createTree() {
+        Map<String, Document> inner = new LinkedHashMap<>();
+        inner.put("byte", Document.of((byte) 1));
+        inner.put("short", Document.of((short) 2));
+        inner.put("integer", Document.of(3));
+        inner.put("long", Document.of(4L));
+        inner.put("float", Document.of(5.5f));
+        inner.put("double", Document.of(6.25));
+        inner.put("bigInteger", Document.of(new BigInteger("123456789012345678901234567890")));
+        inner.put("bigDecimal", Document.of(new BigDecimal("1.50")));
+        inner.put("blob", Document.of("hi".getBytes(StandardCharsets.UTF_8)));
+        inner.put("timestamp", Document.of(Instant.ofEpochSecond(1000, 5)));
+
+        List<Document> list = new ArrayList<>();
+        list.add(Document.of("a"));
+        list.add(null);
+        list.add(Document.of(List.of(Document.of(true), Document.of(false))));
+        list.add(Document.of("é☃"));
+
+        Map<String, Document> root = new LinkedHashMap<>();
+        root.put("inner", Document.of(inner));
+        root.put("list", Document.of(list));
+        root.put("string", Document.of("hello"));
+        return Document.of(root);
+    }
+
+    @Test
+    public void equalsOriginalDocument() {
+        var original = createTree();
+        var compact = CompactDocumentParser.parse(original);
+
+        var other = CompactDocumentParser.parse(createTree());
+
+        assertThat(Document.equals(original, compact), is(true));
+        assertThat(Document.equals(compact, original), is(true));
+        assertThat(compact.equals(original), is(original.equals(compact)));
+        assertThat(compact.getMember("inner").equals(original.getMember("inner")),
+                is(original.getMember("inner").equals(compact.getMember("inner"))));
+        assertThat(compact, equalTo(other));
+        assertThat(other, equalTo(compact));
+        assertThat(compact.hashCode(), equalTo(other.hashCode()));
+        assertThat(compact.getMember("inner").hashCode(), equalTo(other.getMember("inner").hashCode()));
+        assertThat(compact, not(equalTo(CompactDocumentParser.parse(Document.of(List.of())))));
+    }
+
+    @Test
+    public void readsScalars() {
+        var inner = CompactDocumentParser.parse(createTree()).getMember("inner");
+
+        assertThat(inner.getMember("byte").type(), is(ShapeType.BYTE));
+        assertThat(inner.getMember("byte").asByte(), is((byte) 1));
+        assertThat(inner.getMember("short").asShort(), is((short) 2));
+        assertThat(inner.getMember("integer").asInteger(), is(3));
+        assertThat(inner.getMember("long").asLong(), is(4L));
+        assertThat(inner.getMember("float").type(), is(ShapeType.FLOAT));
+        assertThat(inner.getMember("float").asFloat(), is(5.5f));
+        assertThat(inner.getMember("double").asDouble(), is(6.25));
+        assertThat(inner.getMember("double").asLong(), is(6L));
+        assertThat(
+                inner.getMember("bigInteger").asBigInteger(),
+                equalTo(new BigInteger("123456789012345678901234567890")));
+        assertThat(inner.getMember("bigDecimal").asBigDecimal(), equalTo(new BigDecimal("1.50")));
+        assertThat(inner.getMember("blob").asBlob().remaining(), is(2));
+        assertThat(inner.getMember("timestamp").asTimestamp(), equalTo(Instant.ofEpochSecond(1000, 5)));
+        assertThat(inner.getMember("missing"), nullValue());
+
+        assertThrows(SerializationException.class, () -> inner.getMember("integer").asString());
+    }
+
+    @Test
+    public void readsContainers() {
+        var compact = CompactDocumentParser.parse(createTree());
+        var list = compact.getMember("list");
+
+        assertThat(list.type(), is(ShapeType.LIST));
+        assertThat(list.size(), is(4));
+        assertThat(list.asList().get(0).asString(), equalTo("a"));
+        assertThat(list.asList().get(1), nullValue());
+        assertThat(list.asList().get(2).asList().get(1).asBoolean(), is(false));
+        assertThat(list.asList().get(3).asString(), equalTo("é☃"));
+        assertThat(compact.getMemberNames(), contains("inner", "list", "string"));
+        assertThat(compact.asStringMap().keySet(), contains("inner", "list", "string"));
+        assertThat(compact.getMember("string").asString(), equalTo("hello"));
+    }
+
+    @Test
+    public void indexesLargeMaps() {
+        Map<String, Document> members = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            members.put("key" + i, Document.of(i));
+        }
+        var compact = CompactDocumentParser.parse(Document.of(members));
+
+        assertThat(compact.size(), is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(compact.getMember("key" + i).asInteger(), is(i));
+        }
+        assertThat(compact.asStringMap().containsKey("key99"), is(true));
+        assertThat(compact.getMember("key100"), nullValue());
+    }
+
+    @Test
+    public void hashCodeIgnoresMemberOrder() {
+        Map<String, Document> a = new LinkedHashMap<>();
+        a.put("x", Document.of(1));
+        a.put("y", Document.of(List.of(Document.of("z"))));
+        Map<String, Document> b = new LinkedHashMap<>();
+        b.put("y", Document.of(List.of(Document.of("z"))));
+        b.put("x", Document.of(1));
+
+        var left = CompactDocumentParser.parse(Document.of(a));
+        var right = CompactDocumentParser.parse(Document.of(b));
+
+        assertThat(left, equalTo(right));
+        assertThat(left.hashCode(), equalTo(right.hashCode()));
+    }
+
+    @Test
+    public void serializesContents() {
+        var original = createTree();
+        var roundTripped = Document.of(CompactDocumentParser.parse(original));
+
+        assertThat(Document.equals(original, roundTripped), is(true));
+    }
+
+    @Test
+    public void storesMemberNamesOnce() {
+        List<Document> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rows.add(Document.of(Map.of("identifier", Document.of(i))));
+        }
+        var parser = new CompactDocumentParser();
+        Document.of(rows).serialize(parser);
+        var compact = (CompactDocuments.View) parser.getResult();
+
+        assertThat(compact.tape.strings.length, is("identifier".length()));
+        assertThat(Arrays.equals(compact.tape.strings, "identifier".getBytes(StandardCharsets.UTF_8)), is(true));
+    }
+
+    @Test
+    public void parsesOnlyOneValue() {
+        var parser = new CompactDocumentParser();
+        Document.of(1).serialize(parser);
+
+        assertThrows(SerializationException.class, () -> Document.of(2).serialize(parser));
+    }
+}
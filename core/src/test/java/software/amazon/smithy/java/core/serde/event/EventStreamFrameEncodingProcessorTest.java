@@ -0,0 +1,189 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.serde.event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.schema.Unit;
+
+public class EventStreamFrameEncodingProcessorTest {
+
+    @Test
+    public void publishesEachFrameWithoutBatching() {
+        var upstream = new TestPublisher();
+        var downstream = new TestSubscriber();
+        new EventStreamFrameEncodingProcessor<>(upstream, new TestEventEncoder(), new TestFrameEncoder())
+                .subscribe(downstream);
+
+        downstream.subscription.request(10);
+        upstream.publish(3);
+
+        assertThat(downstream.received, contains("0|", "1|", "2|"));
+    }
+
+    @Test
+    public void combinesFramesThatAreWaitingForDemand() {
+        var upstream = new TestPublisher();
+        var downstream = new TestSubscriber();
+        create(upstream, EventStreamBatching.builder().build()).subscribe(downstream);
+
+        upstream.publish(5);
+        assertThat(downstream.received, empty());
+
+        downstream.subscription.request(1);
+        assertThat(downstream.received, contains("0|1|2|3|4|"));
+    }
+
+    @Test
+    public void limitsTheSizeOfBatches() {
+        var upstream = new TestPublisher();
+        var downstream = new TestSubscriber();
+        create(upstream, EventStreamBatching.builder().maxBatchEvents(3).maxBatchBytes(5).build())
+                .subscribe(downstream);
+
+        upstream.publish(12);
+        downstream.subscription.request(10);
+
+        // Two frames fit in five bytes until the frames get longer.
+        assertThat(downstream.received, contains("0|1|", "2|3|", "4|5|", "6|7|", "8|9|", "10|", "11|"));
+    }
+
+    @Test
+    public void lingersUntilFlushed() {
+        var upstream = new TestPublisher();
+        var downstream = new TestSubscriber();
+        var processor = create(upstream, EventStreamBatching.builder().linger(Duration.ofHours(1)).build());
+        processor.subscribe(downstream);
+
+        downstream.subscription.request(10);
+        upstream.publish(2);
+        assertThat(downstream.received, empty());
+
+        processor.flushBatch();
+        assertThat(downstream.received, contains("0|1|"));
+    }
+
+    @Test
+    public void publishesLingeringFramesOnCompletion() {
+        var upstream = new TestPublisher();
+        var downstream = new TestSubscriber();
+        create(upstream, EventStreamBatching.builder().linger(Duration.ofHours(1)).build()).subscribe(downstream);
+
+        downstream.subscription.request(10);
+        upstream.publish(1);
+        assertThat(downstream.received, empty());
+
+        upstream.subscriber.onComplete();
+        assertThat(downstream.received, contains("0|"));
+        assertThat(downstream.completed, is(true));
+    }
+
+    @Test
+    public void publishesLingeringFramesAfterLingerTime() throws InterruptedException {
+        var upstream = new TestPublisher();
+        var downstream = new TestSubscriber();
+        create(upstream, EventStreamBatching.builder().linger(Duration.ofMillis(10)).build()).subscribe(downstream);
+
+        downstream.subscription.request(10);
+        upstream.publish(2);
+
+        for (int i = 0; i < 500 && downstream.received.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(downstream.received, contains("0|1|"));
+    }
+
+    private static EventStreamFrameEncodingProcessor<TestFrame, SerializableStruct> create(
+            TestPublisher upstream,
+            EventStreamBatching batching
+    ) {
+        return new EventStreamFrameEncodingProcessor<>(
+                upstream,
+                new TestEventEncoder(),
+                new TestFrameEncoder(),
+                batching);
+    }
+
+    private record TestFrame(String unwrap) implements Frame<String> {}
+
+    private static final class TestEventEncoder implements EventEncoder<TestFrame> {
+        private int count;
+
+        @Override
+        public TestFrame encode(SerializableStruct item) {
+            return new TestFrame(count++ + "|");
+        }
+
+        @Override
+        public TestFrame encodeFailure(Throwable exception) {
+            return new TestFrame("error|");
+        }
+    }
+
+    private static final class TestFrameEncoder implements FrameEncoder<TestFrame> {
+        @Override
+        public ByteBuffer encode(TestFrame frame) {
+            return ByteBuffer.wrap(frame.unwrap().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static final class TestPublisher implements Flow.Publisher<SerializableStruct> {
+        private Flow.Subscriber<? super SerializableStruct> subscriber;
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super SerializableStruct> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+        }
+
+        void publish(int count) {
+            for (int i = 0; i < count; i++) {
+                subscriber.onNext(Unit.getInstance());
+            }
+        }
+    }
+
+    private static final class TestSubscriber implements Flow.Subscriber<ByteBuffer> {
+        private final List<String> received = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private volatile boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public synchronized void onNext(ByteBuffer item) {
+            received.add(StandardCharsets.UTF_8.decode(item).toString());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {}
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -5,16 +5,18 @@
 
 package software.amazon.smithy.java.http.binding;
 
-import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
+import java.util.function.Function;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.core.schema.TraitKey;
 import software.amazon.smithy.java.core.serde.Codec;
+import software.amazon.smithy.java.core.serde.PayloadReader;
 import software.amazon.smithy.java.core.serde.SerializationException;
 import software.amazon.smithy.java.core.serde.ShapeDeserializer;
 import software.amazon.smithy.java.core.serde.SpecificShapeDeserializer;
@@ -45,6 +47,7 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
     private final EventDecoderFactory<?> eventDecoderFactory;
     private CompletableFuture<Void> bodyDeserializationCf;
     private final String payloadMediaType;
+    private final Executor payloadReadExecutor;
 
     private HttpBindingDeserializer(Builder builder) {
         this.payloadCodec = Objects.requireNonNull(builder.payloadCodec, "payloadSerializer not set");
@@ -56,6 +59,7 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
         this.responseStatus = builder.responseStatus;
         this.requestPathLabels = builder.requestPathLabels;
         this.payloadMediaType = builder.payloadMediaType;
+        this.payloadReadExecutor = builder.payloadReadExecutor;
     }
 
     static Builder builder() {
@@ -129,12 +133,14 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
                             }
                         });
                     } else if (member.type() == ShapeType.STRUCTURE || member.type() == ShapeType.UNION) {
-                        // Read the payload into a byte buffer to deserialize a shape in the body.
-                        bodyDeserializationCf = bodyAsByteBuffer().thenAccept(bb -> {
-                            if (bb.remaining() > 0) {
-                                structMemberConsumer.accept(state, member, payloadCodec.createDeserializer(bb));
-                            }
-                        }).toCompletableFuture();
+                        // Deserialize a shape from the payload, skipping it entirely if the payload is empty.
+                        Function<ShapeDeserializer, Void> reader = de -> {
+                            structMemberConsumer.accept(state, member, de);
+                            return null;
+                        };
+                        bodyDeserializationCf = payloadReadExecutor == null
+                                ? PayloadReader.readIfPresent(body, payloadCodec, reader)
+                                : PayloadReader.readIfPresent(body, payloadCodec, payloadReadExecutor, reader);
                     } else if (body != null && body.contentLength() > 0) {
                         structMemberConsumer.accept(state, member, new PayloadDeserializer(payloadCodec, body));
                     }
@@ -149,14 +155,17 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
         // Now parse members in the payload of body.
         if (bindingMatcher.hasBody()) {
             validateMediaType();
-            // Need to read the entire payload into a byte buffer to deserialize via a codec.
-            bodyDeserializationCf = bodyAsByteBuffer().thenAccept(bb -> {
-                payloadCodec.createDeserializer(bb).readStruct(schema, bindingMatcher, (body, m, de) -> {
+            Function<ShapeDeserializer, Void> reader = deser -> {
+                deser.readStruct(schema, bindingMatcher, (body, m, de) -> {
                     if (bindingMatcher.match(m) == BindingMatcher.Binding.BODY) {
                         structMemberConsumer.accept(state, m, de);
                     }
                 });
-            });
+                return null;
+            };
+            bodyDeserializationCf = payloadReadExecutor == null
+                    ? PayloadReader.read(body, payloadCodec, reader)
+                    : PayloadReader.read(body, payloadCodec, payloadReadExecutor, reader);
         }
     }
 
@@ -164,11 +173,6 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
         return member.type() == ShapeType.UNION && member.hasTrait(TraitKey.STREAMING_TRAIT);
     }
 
-    // TODO: Should there be a configurable limit on the client/server for how much can be read in memory?
-    private CompletableFuture<ByteBuffer> bodyAsByteBuffer() {
-        return body.asByteBuffer();
-    }
-
     CompletableFuture<Void> completeBodyDeserialization() {
         if (bodyDeserializationCf == null) {
             return CompletableFuture.completedFuture(null);
@@ -197,6 +201,7 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
         private EventDecoderFactory<?> eventDecoderFactory;
         private String payloadMediaType;
         private BindingMatcher bindingMatcher;
+        private Executor payloadReadExecutor;
 
         private Builder() {}
 
@@ -291,5 +296,16 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
             this.bindingMatcher = bindingMatcher;
             return this;
         }
+
+        /**
+         * Set the executor used to parse payloads that are read incrementally.
+         *
+         * @param payloadReadExecutor Executor to use, or null to use the default of {@link PayloadReader}.
+         * @return Returns the builder.
+         */
+        Builder payloadReadExecutor(Executor payloadReadExecutor) {
+            this.payloadReadExecutor = payloadReadExecutor;
+            return this;
+        }
     }
 }
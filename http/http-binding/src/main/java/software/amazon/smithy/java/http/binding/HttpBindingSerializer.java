@@ -5,7 +5,6 @@
 
 package software.amazon.smithy.java.http.binding;
 
-import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -25,6 +24,7 @@ import software.amazon.smithy.java.core.serde.SerializationException;
 import software.amazon.smithy.java.core.serde.ShapeSerializer;
 import software.amazon.smithy.java.core.serde.SpecificShapeSerializer;
 import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.io.ByteBufferOutputStream;
 import software.amazon.smithy.java.io.datastream.DataStream;
 import software.amazon.smithy.java.io.uri.QueryStringBuilder;
 import software.amazon.smithy.java.io.uri.URLEncoding;
@@ -58,7 +58,7 @@ final class HttpBindingSerializer extends SpecificShapeSerializer implements Sha
     private final QueryStringBuilder queryStringParams = new QueryStringBuilder();
 
     private ShapeSerializer shapeBodySerializer;
-    private ByteArrayOutputStream shapeBodyOutput;
+    private ByteBufferOutputStream shapeBodyOutput;
     private DataStream httpPayload;
     private Flow.Publisher<? extends SerializableStruct> eventStream;
     private int responseStatus;
@@ -96,7 +96,7 @@ final class HttpBindingSerializer extends SpecificShapeSerializer implements Sha
         }
 
         if (bindingMatcher.writeBody(omitEmptyPayload)) {
-            shapeBodyOutput = new ByteArrayOutputStream();
+            shapeBodyOutput = new ByteBufferOutputStream();
             shapeBodySerializer = payloadCodec.createSerializer(shapeBodyOutput);
             // Serialize only the body members to the codec.
             SchemaUtils.withFilteredMembers(schema, struct, this::bodyBindingPredicate)
@@ -166,7 +166,8 @@ final class HttpBindingSerializer extends SpecificShapeSerializer implements Sha
         if (httpPayload != null) {
             return httpPayload;
         } else if (shapeBodyOutput != null) {
-            return DataStream.ofBytes(shapeBodyOutput.toByteArray(), payloadMediaType);
+            // Wrap the serialized body rather than copying it into a new array.
+            return DataStream.ofByteBuffer(shapeBodyOutput.toByteBuffer(), payloadMediaType);
         } else {
             return DataStream.ofEmpty();
         }
@@ -8,9 +8,11 @@ package software.amazon.smithy.java.http.binding;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.ShapeBuilder;
 import software.amazon.smithy.java.core.serde.Codec;
+import software.amazon.smithy.java.core.serde.PayloadReader;
 import software.amazon.smithy.java.core.serde.event.EventDecoderFactory;
 import software.amazon.smithy.java.core.serde.event.Frame;
 import software.amazon.smithy.java.http.api.HttpRequest;
@@ -55,6 +57,20 @@ public final class RequestDeserializer {
         return this;
     }
 
+    /**
+     * Set the executor used to parse payloads that are too large to buffer or have an unknown length.
+     *
+     * <p>Parsing these payloads blocks while waiting for more of the body to arrive. If no executor is set, they're
+     * parsed on the bounded default executor of {@link PayloadReader}.
+     *
+     * @param payloadReadExecutor Executor used to parse streamed payloads.
+     * @return Returns the deserializer.
+     */
+    public RequestDeserializer payloadReadExecutor(Executor payloadReadExecutor) {
+        deserBuilder.payloadReadExecutor(payloadReadExecutor);
+        return this;
+    }
+
     /**
      * HTTP request to deserialize.
      *
@@ -15,6 +15,7 @@ import software.amazon.smithy.java.core.schema.SerializableShape;
 import software.amazon.smithy.java.core.schema.TraitKey;
 import software.amazon.smithy.java.core.serde.Codec;
 import software.amazon.smithy.java.core.serde.event.EventEncoderFactory;
+import software.amazon.smithy.java.core.serde.event.EventStreamBatching;
 import software.amazon.smithy.java.core.serde.event.EventStreamFrameEncodingProcessor;
 import software.amazon.smithy.java.core.serde.event.Frame;
 import software.amazon.smithy.java.http.api.HttpRequest;
@@ -31,6 +32,7 @@ public final class RequestSerializer {
     private URI endpoint;
     private SerializableShape shapeValue;
     private EventEncoderFactory<?> eventStreamEncodingFactory;
+    private EventStreamBatching eventStreamBatching;
     private boolean omitEmptyPayload = false;
     private final ConcurrentMap<Schema, BindingMatcher> bindingCache;
 
@@ -106,6 +108,17 @@ public final class RequestSerializer {
         return this;
     }
 
+    /**
+     * Coalesce encoded event stream frames into larger buffers.
+     *
+     * @param eventStreamBatching Batching settings, or null to write each frame in its own buffer.
+     * @return Returns the serializer.
+     */
+    public RequestSerializer eventStreamBatching(EventStreamBatching eventStreamBatching) {
+        this.eventStreamBatching = eventStreamBatching;
+        return this;
+    }
+
     /**
      * Set to true to not serialize any payload when no members are part of the body or bound to the payload.
      *
@@ -159,7 +172,10 @@ public final class RequestSerializer {
 
         var eventStream = serializer.getEventStream();
         if (eventStream != null && operation instanceof InputEventStreamingApiOperation<?, ?, ?>) {
-            builder.body(EventStreamFrameEncodingProcessor.create(eventStream, eventStreamEncodingFactory));
+            builder.body(EventStreamFrameEncodingProcessor.create(
+                    eventStream,
+                    eventStreamEncodingFactory,
+                    eventStreamBatching));
             serializer.setContentType(eventStreamEncodingFactory.contentType());
         } else if (serializer.hasBody()) {
             builder.body(serializer.getBody());
@@ -7,10 +7,12 @@ package software.amazon.smithy.java.http.binding;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import software.amazon.smithy.java.core.error.ModeledException;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.ShapeBuilder;
 import software.amazon.smithy.java.core.serde.Codec;
+import software.amazon.smithy.java.core.serde.PayloadReader;
 import software.amazon.smithy.java.core.serde.event.EventDecoderFactory;
 import software.amazon.smithy.java.core.serde.event.Frame;
 import software.amazon.smithy.java.http.api.HttpResponse;
@@ -56,6 +58,20 @@ public final class ResponseDeserializer {
         return this;
     }
 
+    /**
+     * Set the executor used to parse payloads that are too large to buffer or have an unknown length.
+     *
+     * <p>Parsing these payloads blocks while waiting for more of the body to arrive. If no executor is set, they're
+     * parsed on the bounded default executor of {@link PayloadReader}.
+     *
+     * @param payloadReadExecutor Executor used to parse streamed payloads.
+     * @return Returns the deserializer.
+     */
+    public ResponseDeserializer payloadReadExecutor(Executor payloadReadExecutor) {
+        deserBuilder.payloadReadExecutor(payloadReadExecutor);
+        return this;
+    }
+
     /**
      * HTTP response to deserialize.
      *
@@ -14,6 +14,7 @@ import software.amazon.smithy.java.core.schema.SerializableShape;
 import software.amazon.smithy.java.core.schema.TraitKey;
 import software.amazon.smithy.java.core.serde.Codec;
 import software.amazon.smithy.java.core.serde.event.EventEncoderFactory;
+import software.amazon.smithy.java.core.serde.event.EventStreamBatching;
 import software.amazon.smithy.java.core.serde.event.EventStreamFrameEncodingProcessor;
 import software.amazon.smithy.java.http.api.HttpResponse;
 
@@ -27,6 +28,7 @@ public final class ResponseSerializer {
     private ApiOperation<?, ?> operation;
     private SerializableShape shapeValue;
     private EventEncoderFactory<?> eventEncoderFactory;
+    private EventStreamBatching eventStreamBatching;
     private Schema errorSchema;
     private boolean omitEmptyPayload = false;
     private final ConcurrentMap<Schema, BindingMatcher> bindingCache;
@@ -92,6 +94,17 @@ public final class ResponseSerializer {
         return this;
     }
 
+    /**
+     * Coalesce encoded event stream frames into larger buffers.
+     *
+     * @param eventStreamBatching Batching settings, or null to write each frame in its own buffer.
+     * @return Returns the serializer.
+     */
+    public ResponseSerializer eventStreamBatching(EventStreamBatching eventStreamBatching) {
+        this.eventStreamBatching = eventStreamBatching;
+        return this;
+    }
+
     /**
      * Set to true to not serialize any payload when no members are part of the body or bound to the payload.
      *
@@ -150,7 +163,7 @@ public final class ResponseSerializer {
         var eventStream = serializer.getEventStream();
         if (eventStream != null && operation instanceof OutputEventStreamingApiOperation<?, ?, ?>) {
             builder.body(
-                    EventStreamFrameEncodingProcessor.create(eventStream, eventEncoderFactory));
+                    EventStreamFrameEncodingProcessor.create(eventStream, eventEncoderFactory, eventStreamBatching));
             serializer.setContentType(eventEncoderFactory.contentType());
         } else if (serializer.hasBody()) {
             builder.body(serializer.getBody());
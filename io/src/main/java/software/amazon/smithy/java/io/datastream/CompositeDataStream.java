@@ -0,0 +1,172 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.io.datastream;
+
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.smithy.java.io.ByteBufferUtils;
+
+/**
+ * A DataStream made up of a sequence of buffers, which can be heap, direct, or memory-mapped buffers.
+ *
+ * <p>The buffers are published as is, one buffer per item, and transports can get them from {@link #byteBuffers()}
+ * to write them with a single gathering write. They're only copied into one buffer when a contiguous buffer is
+ * explicitly requested.
+ */
+final class CompositeDataStream implements DataStream {
+
+    private final List<ByteBuffer> buffers;
+    private final String contentType;
+    private final long contentLength;
+
+    CompositeDataStream(List<ByteBuffer> buffers, String contentType) {
+        List<ByteBuffer> copy = new ArrayList<>(buffers.size());
+        long length = 0;
+        for (var buffer : buffers) {
+            if (buffer.hasRemaining()) {
+                copy.add(buffer.duplicate());
+                length += buffer.remaining();
+            }
+        }
+        this.buffers = copy;
+        this.contentType = contentType;
+        this.contentLength = length;
+    }
+
+    @Override
+    public boolean hasByteBuffer() {
+        // Multiple buffers have to be copied to create a contiguous buffer.
+        return buffers.size() <= 1;
+    }
+
+    @Override
+    public ByteBuffer waitForByteBuffer() {
+        if (buffers.isEmpty()) {
+            return ByteBuffer.allocate(0);
+        } else if (buffers.size() == 1) {
+            return buffers.get(0).duplicate();
+        } else if (contentLength > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Buffers are too large to combine into a single buffer: " + contentLength);
+        }
+        var result = ByteBuffer.allocate((int) contentLength);
+        for (var buffer : buffers) {
+            result.put(buffer.duplicate());
+        }
+        return result.flip();
+    }
+
+    @Override
+    public CompletableFuture<ByteBuffer> asByteBuffer() {
+        try {
+            return CompletableFuture.completedFuture(waitForByteBuffer());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public List<ByteBuffer> byteBuffers() {
+        List<ByteBuffer> result = new ArrayList<>(buffers.size());
+        for (var buffer : buffers) {
+            result.add(buffer.duplicate());
+        }
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<InputStream> asInputStream() {
+        List<InputStream> streams = new ArrayList<>(buffers.size());
+        for (var buffer : buffers) {
+            streams.add(ByteBufferUtils.byteBufferInputStream(buffer.duplicate()));
+        }
+        return CompletableFuture.completedFuture(new SequenceInputStream(Collections.enumeration(streams)));
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public String contentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean hasKnownLength() {
+        return true;
+    }
+
+    @Override
+    public boolean isReplayable() {
+        return true;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        var subscription = new BufferSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    // Publishes a duplicate of each buffer as it's requested.
+    private final class BufferSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean done;
+        private int index;
+
+        BufferSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (!done) {
+                    done = true;
+                    subscriber.onError(new IllegalArgumentException("Demand must be positive: " + n));
+                }
+                return;
+            }
+            demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        // Only one thread drains at a time, and requests made from onNext are handled by the loop.
+        void drain() {
+            if (wip.getAndIncrement() > 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (!done && demand.get() > 0 && index < buffers.size()) {
+                    demand.decrementAndGet();
+                    subscriber.onNext(buffers.get(index++).duplicate());
+                }
+                if (!done && index == buffers.size()) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -73,6 +74,32 @@ public interface DataStream extends Flow.Publisher<ByteBuffer> {
         return false;
     }
 
+    /**
+     * Get the file that contains the data of the stream, if the stream reads its data directly from a file.
+     *
+     * <p>This allows consumers to read the file with more efficient APIs, like memory-mapped reads, rather than
+     * subscribing to the stream or reading the entire file onto the heap. Streams that only read a range of a file
+     * return null, since the file contains more than the data of the stream.
+     *
+     * @return the file, or null if the stream isn't backed by an entire file.
+     */
+    default Path file() {
+        return null;
+    }
+
+    /**
+     * Get the in-memory buffers that contain the data of the stream, in order.
+     *
+     * <p>This allows consumers to write the data with a single gathering write (e.g., with a
+     * {@link java.nio.channels.GatheringByteChannel}) rather than copying it into one contiguous buffer. Each call
+     * returns new views of the buffers, so consumers can freely change their positions.
+     *
+     * @return the buffers, or null if the data of the stream isn't readily available in memory.
+     */
+    default List<ByteBuffer> byteBuffers() {
+        return hasByteBuffer() ? List.of(waitForByteBuffer()) : null;
+    }
+
     /**
      * Check if the DataStream can be restarted from the beginning when new subscribers are added or when getting
      * the data as an InputStream or ByteBuffer.
@@ -251,6 +278,32 @@ public interface DataStream extends Flow.Publisher<ByteBuffer> {
         return new ByteBufferDataStream(buffer, contentType);
     }
 
+    /**
+     * Create a DataStream from a sequence of ByteBuffers.
+     *
+     * @param buffers Bytes to read, in order.
+     * @return the created DataStream.
+     */
+    static DataStream ofByteBuffers(List<ByteBuffer> buffers) {
+        return ofByteBuffers(buffers, null);
+    }
+
+    /**
+     * Create a DataStream from a sequence of ByteBuffers.
+     *
+     * <p>The buffers can be heap buffers, direct buffers, or memory-mapped regions of files (e.g., from
+     * {@link #ofMappedFile}). They aren't copied: subscribers receive each buffer as is, and {@link #byteBuffers()}
+     * returns them so that transports can send them with a gathering write. Only the remaining bytes of each buffer
+     * are read, and the positions of the given buffers aren't changed.
+     *
+     * @param buffers     Bytes to read, in order.
+     * @param contentType Content-Type of the data, if known.
+     * @return the created DataStream.
+     */
+    static DataStream ofByteBuffers(List<ByteBuffer> buffers, String contentType) {
+        return new CompositeDataStream(buffers, contentType);
+    }
+
     /**
      * Create a DataStream from a file on disk.
      *
@@ -280,6 +333,60 @@ public interface DataStream extends Flow.Publisher<ByteBuffer> {
         return new FileDataStream(file, contentType);
     }
 
+    /**
+     * Create a DataStream from a range of a file on disk.
+     *
+     * <p>This implementation will attempt to probe the content-type of the file using
+     * {@link Files#probeContentType(Path)}. To avoid this, call {@link #ofFile(Path, long, long, String)} and pass in
+     * a null {@code contentType} argument.
+     *
+     * @param file   File to read.
+     * @param offset Offset of the first byte of the range to read.
+     * @param length Number of bytes to read, or -1 to read to the end of the file.
+     * @return the created DataStream.
+     * @throws IllegalArgumentException if the range isn't within the file.
+     */
+    static DataStream ofFile(Path file, long offset, long length) {
+        try {
+            return ofFile(file, offset, length, Files.probeContentType(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Create a DataStream from a range of a file on disk.
+     *
+     * @param file        File to read.
+     * @param offset      Offset of the first byte of the range to read.
+     * @param length      Number of bytes to read, or -1 to read to the end of the file.
+     * @param contentType Content-Type of the data if known, or null.
+     * @return the created DataStream.
+     * @throws IllegalArgumentException if the range isn't within the file.
+     */
+    static DataStream ofFile(Path file, long offset, long length, String contentType) {
+        return new FileDataStream(file, contentType, offset, length, false, FileDataStream.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Create a DataStream that memory-maps a range of a file on disk.
+     *
+     * <p>{@link #asByteBuffer()} returns a {@link java.nio.MappedByteBuffer} of the range, and subscribers receive
+     * read-only slices of the mapped file of up to {@code chunkSize} bytes, so the data is never copied onto the
+     * heap. This suits large files that are sent as is, like multipart upload parts and ranges of blobs.
+     *
+     * @param file        File to read.
+     * @param offset      Offset of the first byte of the range to read.
+     * @param length      Number of bytes to read, or -1 to read to the end of the file.
+     * @param contentType Content-Type of the data if known, or null.
+     * @param chunkSize   Maximum size of the buffers published to subscribers.
+     * @return the created DataStream.
+     * @throws IllegalArgumentException if the range isn't within the file.
+     */
+    static DataStream ofMappedFile(Path file, long offset, long length, String contentType, int chunkSize) {
+        return new FileDataStream(file, contentType, offset, length, true, chunkSize);
+    }
+
     /**
      * Creates a DataStream that emits data from a {@link Flow.Publisher}.
      *
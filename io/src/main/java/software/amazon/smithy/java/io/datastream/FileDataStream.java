@@ -5,41 +5,122 @@
 
 package software.amazon.smithy.java.io.datastream;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
-import java.net.http.HttpRequest;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.smithy.java.io.ByteBufferUtils;
 
+/**
+ * A DataStream that reads all or part of a file.
+ *
+ * <p>In mapped mode, the file is memory-mapped: {@link #asByteBuffer()} returns a {@link MappedByteBuffer} and
+ * subscribers receive read-only slices of mapped regions, so the data is never copied onto the heap. Otherwise, the
+ * file is read into heap buffers of the chunk size.
+ */
 final class FileDataStream implements DataStream {
 
+    static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
+
+    // Large ranges are mapped in windows so that mapped buffers stay addressable with int positions.
+    private static final long MAX_MAPPED_WINDOW = 1 << 30;
+
     private final Path file;
     private final String contentType;
-    private final HttpRequest.BodyPublisher publisher;
+    private final long offset;
+    private final long length;
+    private final boolean wholeFile;
+    private final boolean mapped;
+    private final int chunkSize;
 
     FileDataStream(Path file, String contentType) {
-        this.file = file;
-        this.contentType = contentType;
+        this(file, contentType, 0, -1, false, DEFAULT_CHUNK_SIZE);
+    }
+
+    FileDataStream(Path file, String contentType, long offset, long length, boolean mapped, int chunkSize) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("File offset must not be negative: " + offset);
+        } else if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
 
+        long size;
         try {
-            // Eagerly create the publisher since it checks for file existence and gets the content-length.
-            publisher = HttpRequest.BodyPublishers.ofFile(file);
+            // Eagerly check that the file exists and get the content-length.
+            size = Files.size(file);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
+
+        if (length < 0) {
+            length = Math.max(0, size - offset);
+        }
+        if (offset + length > size) {
+            throw new IllegalArgumentException("Range of " + length + " bytes at offset " + offset
+                    + " exceeds the size of " + file + ": " + size);
+        }
+
+        this.file = file;
+        this.contentType = contentType;
+        this.offset = offset;
+        this.length = length;
+        this.wholeFile = offset == 0 && length == size;
+        this.mapped = mapped;
+        this.chunkSize = chunkSize;
     }
 
     @Override
     public ByteBuffer waitForByteBuffer() {
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("File range is too large to read into a single buffer: " + length);
+        }
         try {
-            return ByteBuffer.wrap(Files.readAllBytes(file));
+            if (wholeFile && !mapped) {
+                return ByteBuffer.wrap(Files.readAllBytes(file));
+            }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (mapped) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            }
+            var buffer = ByteBuffer.allocate((int) length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of file reading " + file);
+                }
+            }
+            return buffer.flip();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<ByteBuffer> asByteBuffer() {
+        try {
+            return CompletableFuture.completedFuture(waitForByteBuffer());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public Path file() {
+        // Consumers of file() read the whole file, so only expose it when the stream covers the whole file.
+        return wholeFile ? file : null;
     }
 
     @Override
@@ -50,16 +131,24 @@ final class FileDataStream implements DataStream {
     @Override
     public CompletableFuture<InputStream> asInputStream() {
         try {
-            return CompletableFuture.completedFuture(Files.newInputStream(file));
+            if (mapped) {
+                return CompletableFuture.completedFuture(ByteBufferUtils.byteBufferInputStream(waitForByteBuffer()));
+            } else if (wholeFile) {
+                return CompletableFuture.completedFuture(Files.newInputStream(file));
+            }
+            var channel = FileChannel.open(file, StandardOpenOption.READ).position(offset);
+            return CompletableFuture.completedFuture(new RangeInputStream(Channels.newInputStream(channel), length));
         } catch (IOException e) {
             // To match what happens in the publisher.
             return CompletableFuture.failedFuture(new UncheckedIOException(e));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
         }
     }
 
     @Override
     public long contentLength() {
-        return publisher.contentLength();
+        return length;
     }
 
     @Override
@@ -69,6 +158,170 @@ final class FileDataStream implements DataStream {
 
     @Override
     public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
-        publisher.subscribe(subscriber);
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new UncheckedIOException(e));
+            return;
+        }
+        var subscription = new FileSubscription(subscriber, channel);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    // Reads chunks of the range as they're requested, on the thread that requests them.
+    private final class FileSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final FileChannel channel;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean done;
+        private long position;
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        FileSubscription(Flow.Subscriber<? super ByteBuffer> subscriber, FileChannel channel) {
+            this.subscriber = subscriber;
+            this.channel = channel;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                terminate(new IllegalArgumentException("Demand must be positive: " + n));
+                return;
+            }
+            demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            close();
+        }
+
+        // Emits chunks while there is demand. Only one thread drains at a time, and requests made from onNext are
+        // handled by the loop instead of recursing.
+        void drain() {
+            if (wip.getAndIncrement() > 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (!done && demand.get() > 0 && position < length) {
+                    ByteBuffer chunk;
+                    try {
+                        chunk = nextChunk();
+                    } catch (IOException | RuntimeException e) {
+                        terminate(e instanceof IOException io ? new UncheckedIOException(io) : e);
+                        return;
+                    }
+                    demand.decrementAndGet();
+                    subscriber.onNext(chunk);
+                }
+                if (!done && position == length) {
+                    done = true;
+                    close();
+                    subscriber.onComplete();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private ByteBuffer nextChunk() throws IOException {
+            int size = (int) Math.min(chunkSize, length - position);
+            ByteBuffer chunk;
+            if (mapped) {
+                long absolute = offset + position;
+                if (window == null || absolute + size > windowStart + window.capacity()) {
+                    windowStart = absolute;
+                    long windowSize = Math.min(length - position, Math.max(size, MAX_MAPPED_WINDOW));
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize);
+                }
+                chunk = window.slice((int) (absolute - windowStart), size).asReadOnlyBuffer();
+            } else {
+                chunk = ByteBuffer.allocate(size);
+                while (chunk.hasRemaining()) {
+                    if (channel.read(chunk, offset + position + chunk.position()) < 0) {
+                        throw new IOException("Unexpected end of file reading " + file);
+                    }
+                }
+                chunk.flip();
+            }
+            position += size;
+            return chunk;
+        }
+
+        private void terminate(Throwable error) {
+            if (!done) {
+                done = true;
+                close();
+                subscriber.onError(error);
+            }
+        }
+
+        private void close() {
+            window = null;
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Nothing more is read from the channel.
+            }
+        }
+    }
+
+    // Limits an input stream to the length of the range.
+    private static final class RangeInputStream extends FilterInputStream {
+        private long remaining;
+
+        RangeInputStream(InputStream delegate, long length) {
+            super(delegate);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining == 0) {
+                return -1;
+            }
+            int result = super.read();
+            if (result >= 0) {
+                remaining--;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining == 0) {
+                return -1;
+            }
+            int result = super.read(b, off, (int) Math.min(len, remaining));
+            if (result > 0) {
+                remaining -= result;
+            }
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
     }
 }
@@ -7,6 +7,8 @@ package software.amazon.smithy.java.io.datastream;
 
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
 
@@ -54,6 +56,16 @@ final class WrappedDataStream implements DataStream {
         return delegate.hasByteBuffer();
     }
 
+    @Override
+    public Path file() {
+        return delegate.file();
+    }
+
+    @Override
+    public List<ByteBuffer> byteBuffers() {
+        return delegate.byteBuffers();
+    }
+
     @Override
     public boolean isReplayable() {
         return isReplayable;
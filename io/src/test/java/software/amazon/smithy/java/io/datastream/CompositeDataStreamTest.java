@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.io.datastream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CompositeDataStreamTest {
+    @Test
+    public void combinesBuffers() throws Exception {
+        var ds = DataStream.ofByteBuffers(List.of(utf8("Hello"), ByteBuffer.allocate(0), utf8(", world")), "text/foo");
+
+        assertThat(ds.contentLength(), equalTo(12L));
+        assertThat(ds.contentType(), equalTo("text/foo"));
+        assertThat(ds.isReplayable(), is(true));
+        assertThat(ds.hasByteBuffer(), is(false));
+        assertThat(ds.waitForByteBuffer(), equalTo(utf8("Hello, world")));
+        assertThat(ds.asByteBuffer().get(), equalTo(utf8("Hello, world")));
+        assertThat(ds.asInputStream().get().readAllBytes(), equalTo("Hello, world".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void exposesBuffersWithoutCopying() {
+        var direct = ByteBuffer.allocateDirect(3).put("abc".getBytes(StandardCharsets.UTF_8)).flip();
+        var heap = utf8("def");
+        var ds = DataStream.ofByteBuffers(List.of(heap, direct));
+
+        var buffers = ds.byteBuffers();
+        assertThat(buffers.size(), equalTo(2));
+        assertThat(buffers.get(0).array(), is(heap.array()));
+        assertThat(buffers.get(1).isDirect(), is(true));
+
+        // Reading the returned views doesn't consume the data of the stream.
+        buffers.get(0).position(3);
+        assertThat(ds.byteBuffers().get(0).remaining(), equalTo(3));
+        assertThat(heap.remaining(), equalTo(3));
+    }
+
+    @Test
+    public void publishesEachBuffer() throws Exception {
+        var ds = DataStream.ofByteBuffers(List.of(utf8("a"), utf8("bc"), utf8("def")));
+
+        assertThat(subscribe(ds, 1), equalTo(List.of("a", "bc", "def")));
+        assertThat(subscribe(ds, Long.MAX_VALUE), equalTo(List.of("a", "bc", "def")));
+    }
+
+    @Test
+    public void combinesFileRegions(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("data.txt");
+        Files.writeString(file, "0123456789");
+        var region = DataStream.ofMappedFile(file, 2, 4, null, 4).waitForByteBuffer();
+        var ds = DataStream.ofByteBuffers(List.of(utf8("<"), region, utf8(">")));
+
+        assertThat(ds.contentLength(), equalTo(6L));
+        assertThat(ds.waitForByteBuffer(), equalTo(utf8("<2345>")));
+        assertThat(subscribe(ds, 1), equalTo(List.of("<", "2345", ">")));
+    }
+
+    @Test
+    public void singleBuffersAreReadilyAvailable() {
+        assertThat(DataStream.ofByteBuffers(List.of(utf8("a"))).hasByteBuffer(), is(true));
+        assertThat(DataStream.ofBytes("a".getBytes(StandardCharsets.UTF_8)).byteBuffers(), equalTo(List.of(utf8("a"))));
+        assertThat(DataStream.ofByteBuffers(List.of()).contentLength(), equalTo(0L));
+    }
+
+    private static ByteBuffer utf8(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Subscribes to the stream, requesting the given number of buffers at a time from within onNext.
+    private static List<String> subscribe(DataStream ds, long batch) throws Exception {
+        List<String> items = new ArrayList<>();
+        var result = new CompletableFuture<List<String>>();
+        ds.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+            private long outstanding;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                outstanding = batch;
+                subscription.request(batch);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                items.add(StandardCharsets.UTF_8.decode(item).toString());
+                if (--outstanding == 0) {
+                    outstanding = batch;
+                    subscription.request(batch);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(items);
+            }
+        });
+        return result.get();
+    }
+}
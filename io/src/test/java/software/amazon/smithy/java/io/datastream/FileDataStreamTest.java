@@ -7,22 +7,36 @@ package software.amazon.smithy.java.io.datastream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileDataStreamTest {
     @Test
     public void createsFromFile() throws Exception {
-        var ds = DataStream.ofFile(Paths.get(getClass().getResource("test.txt").toURI()));
+        var file = Paths.get(getClass().getResource("test.txt").toURI());
+        var ds = DataStream.ofFile(file);
 
         assertThat(ds.contentLength(), equalTo(6L));
         assertThat(ds.contentType(), equalTo("text/plain"));
         assertThat(ds.asByteBuffer().get(), equalTo(ByteBuffer.wrap("Hello!".getBytes(StandardCharsets.UTF_8))));
         assertThat(ds.isReplayable(), is(true));
+        assertThat(ds.file(), equalTo(file));
     }
 
     @Test
@@ -47,4 +61,113 @@ public class FileDataStreamTest {
 
         assertThat(ds.waitForByteBuffer(), equalTo(ByteBuffer.wrap("Hello!".getBytes(StandardCharsets.UTF_8))));
     }
+
+    @Test
+    public void readsRangesOfFiles() throws Exception {
+        var ds = DataStream.ofFile(Paths.get(getClass().getResource("test.txt").toURI()), 1, 4, "text/foo");
+
+        assertThat(ds.contentLength(), equalTo(4L));
+        assertThat(ds.file(), nullValue());
+        assertThat(ds.waitForByteBuffer(), equalTo(ByteBuffer.wrap("ello".getBytes(StandardCharsets.UTF_8))));
+        assertThat(ds.asInputStream().get().readAllBytes(), equalTo("ello".getBytes(StandardCharsets.UTF_8)));
+        assertThat(subscribe(ds, 1), equalTo(List.of("ello")));
+    }
+
+    @Test
+    public void readsToEndOfFile() throws Exception {
+        var file = Paths.get(getClass().getResource("test.txt").toURI());
+        var ds = DataStream.ofFile(file, 0, -1, null);
+
+        assertThat(ds.contentLength(), equalTo(6L));
+        assertThat(ds.file(), equalTo(file));
+        assertThat(subscribe(ds, 1), equalTo(List.of("Hello!")));
+    }
+
+    @Test
+    public void validatesRanges() throws Exception {
+        var file = Paths.get(getClass().getResource("test.txt").toURI());
+
+        assertThrows(IllegalArgumentException.class, () -> DataStream.ofFile(file, 4, 3, null));
+        assertThrows(IllegalArgumentException.class, () -> DataStream.ofFile(file, -1, 3, null));
+    }
+
+    @Test
+    public void mapsRangesOfFiles(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("data.txt");
+        Files.writeString(file, "0123456789abcdefghij");
+        var ds = DataStream.ofMappedFile(file, 3, 14, null, 4);
+
+        assertThat(ds.contentLength(), equalTo(14L));
+        assertThat(ds.asByteBuffer().get(), instanceOf(MappedByteBuffer.class));
+        assertThat(ds.waitForByteBuffer(), equalTo(ByteBuffer.wrap("3456789abcdefg".getBytes(StandardCharsets.UTF_8))));
+        assertThat(ds.asInputStream().get().readAllBytes(), equalTo("3456789abcdefg".getBytes(StandardCharsets.UTF_8)));
+        assertThat(subscribe(ds, 1), equalTo(List.of("3456", "789a", "bcde", "fg")));
+        assertThat(subscribe(ds, Long.MAX_VALUE), equalTo(List.of("3456", "789a", "bcde", "fg")));
+    }
+
+    @Test
+    public void publishesFilesInChunks(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("data.bin");
+        var data = new byte[100_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        Files.write(file, data);
+
+        var out = new ByteArrayOutputStream();
+        for (var chunk : subscribeBuffers(DataStream.ofFile(file, 10, 90_000, null), 3)) {
+            var bytes = new byte[chunk.remaining()];
+            chunk.get(bytes);
+            out.write(bytes);
+        }
+
+        var expected = new byte[90_000];
+        System.arraycopy(data, 10, expected, 0, expected.length);
+        assertThat(out.toByteArray(), equalTo(expected));
+    }
+
+    private static List<String> subscribe(DataStream ds, long batch) throws Exception {
+        List<String> result = new ArrayList<>();
+        for (var buffer : subscribeBuffers(ds, batch)) {
+            result.add(StandardCharsets.UTF_8.decode(buffer).toString());
+        }
+        return result;
+    }
+
+    // Subscribes to the stream, requesting the given number of buffers at a time from within onNext.
+    private static List<ByteBuffer> subscribeBuffers(DataStream ds, long batch) throws Exception {
+        List<ByteBuffer> buffers = new ArrayList<>();
+        var result = new CompletableFuture<List<ByteBuffer>>();
+        ds.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+            private long outstanding;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                outstanding = batch;
+                subscription.request(batch);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                buffers.add(item);
+                if (--outstanding == 0) {
+                    outstanding = batch;
+                    subscription.request(batch);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(buffers);
+            }
+        });
+        return result.get();
+    }
 }
@@ -1,5 +1,6 @@
 plugins {
     id("smithy-java.module-conventions")
+    alias(libs.plugins.jmh)
 }
 
 description = "This module provides support for Querying documents using JMESPath expressions"
@@ -11,3 +12,5 @@ dependencies {
     api(project(":core"))
     api(libs.smithy.jmespath)
 }
+
+jmh {}
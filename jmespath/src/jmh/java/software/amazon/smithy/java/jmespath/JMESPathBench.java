@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.jmespath;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.jmespath.JmespathExpression;
+
+/**
+ * Evaluates expressions that are typical of waiters and paginators against an EC2 DescribeInstances-style output.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(
+        iterations = 2,
+        time = 3)
+@Measurement(
+        iterations = 3,
+        time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class JMESPathBench {
+
+    @Param({
+            "NextToken",
+            "Table.TableStatus",
+            "Reservations[].Instances[].State.Name",
+            "length(Reservations[].Instances[]) > `0`",
+            "contains(Reservations[].Instances[].State.Name, 'terminated')",
+            "length(Reservations[].Instances[?State.Name == 'pending']) == `0`"
+    })
+    private String expression;
+
+    @Param({"10", "1000"})
+    private int instances;
+
+    private Document document;
+    private JmespathExpression parsed;
+    private CompiledJMESPathExpression compiled;
+
+    @Setup
+    public void setup() {
+        List<Document> reservations = new ArrayList<>();
+        for (int r = 0; r < 10; r++) {
+            List<Document> items = new ArrayList<>();
+            for (int i = 0; i < instances / 10; i++) {
+                items.add(Document.of(Map.of(
+                        "InstanceId",
+                        Document.of("i-" + r + "-" + i),
+                        "State",
+                        Document.of(Map.of("Name", Document.of(i % 7 == 0 ? "pending" : "running"))))));
+            }
+            reservations.add(Document.of(Map.of("Instances", Document.of(items))));
+        }
+        document = Document.of(Map.of(
+                "NextToken",
+                Document.of("token"),
+                "Table",
+                Document.of(Map.of("TableStatus", Document.of("ACTIVE"))),
+                "Reservations",
+                Document.of(reservations)));
+        parsed = JmespathExpression.parse(expression);
+        compiled = JMESPathDocumentQuery.compile(expression);
+    }
+
+    @Benchmark
+    public Document parseAndQuery() {
+        return JMESPathDocumentQuery.compile(JmespathExpression.parse(expression)).query(document);
+    }
+
+    @Benchmark
+    public Document compileAndQuery() {
+        return JMESPathDocumentQuery.query(parsed, document);
+    }
+
+    @Benchmark
+    public Document queryString() {
+        return JMESPathDocumentQuery.query(expression, document);
+    }
+
+    @Benchmark
+    public Document queryCompiled() {
+        return compiled.query(document);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.jmespath;
+
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.jmespath.JmespathExpression;
+
+/**
+ * A JMESPath expression that has been compiled so it can be evaluated repeatedly against documents.
+ *
+ * <p>Compiled expressions are immutable and thread-safe. Create them using
+ * {@link JMESPathDocumentQuery#compile(String)}.
+ */
+public final class CompiledJMESPathExpression {
+
+    private final JmespathExpression expression;
+    private final JMESPathCompiler.Node root;
+
+    CompiledJMESPathExpression(JmespathExpression expression, JMESPathCompiler.Node root) {
+        this.expression = expression;
+        this.root = root;
+    }
+
+    /**
+     * Get the parsed expression that was compiled.
+     *
+     * @return the parsed expression.
+     */
+    public JmespathExpression expression() {
+        return expression;
+    }
+
+    /**
+     * Queries a document using the compiled expression.
+     *
+     * @param document Document to query for data.
+     * @return result of query
+     */
+    public Document query(Document document) {
+        return document == null ? null : root.evaluate(document);
+    }
+
+    /**
+     * Queries a shape using the compiled expression.
+     *
+     * <p>Members of the shape are only read and converted to documents when the expression reaches them.
+     *
+     * @param shape Shape to query for data.
+     * @return result of query
+     * @see JMESPathDocumentQuery#view(SerializableStruct)
+     */
+    public Document query(SerializableStruct shape) {
+        return query(JMESPathDocumentQuery.view(shape));
+    }
+
+    @Override
+    public String toString() {
+        return expression.toString();
+    }
+}
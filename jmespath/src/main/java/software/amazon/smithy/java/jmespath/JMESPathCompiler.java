@@ -0,0 +1,554 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.jmespath;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.jmespath.ExpressionVisitor;
+import software.amazon.smithy.jmespath.JmespathExpression;
+import software.amazon.smithy.jmespath.ast.AndExpression;
+import software.amazon.smithy.jmespath.ast.ComparatorExpression;
+import software.amazon.smithy.jmespath.ast.CurrentExpression;
+import software.amazon.smithy.jmespath.ast.ExpressionTypeExpression;
+import software.amazon.smithy.jmespath.ast.FieldExpression;
+import software.amazon.smithy.jmespath.ast.FilterProjectionExpression;
+import software.amazon.smithy.jmespath.ast.FlattenExpression;
+import software.amazon.smithy.jmespath.ast.FunctionExpression;
+import software.amazon.smithy.jmespath.ast.IndexExpression;
+import software.amazon.smithy.jmespath.ast.LiteralExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectHashExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectListExpression;
+import software.amazon.smithy.jmespath.ast.NotExpression;
+import software.amazon.smithy.jmespath.ast.ObjectProjectionExpression;
+import software.amazon.smithy.jmespath.ast.OrExpression;
+import software.amazon.smithy.jmespath.ast.ProjectionExpression;
+import software.amazon.smithy.jmespath.ast.SliceExpression;
+import software.amazon.smithy.jmespath.ast.Subexpression;
+import software.amazon.smithy.model.shapes.ShapeType;
+
+/**
+ * Lowers a JMESPath expression into a tree of nodes that are specialized for each kind of expression.
+ *
+ * <p>Everything that only depends on the expression, like literal values, functions, and chains of field
+ * accesses, is resolved once when compiling. A node is never evaluated against a null value: querying null always
+ * returns null, so the nodes that can produce a null input for their children (subexpressions and projections)
+ * check for it before evaluating them.
+ */
+final class JMESPathCompiler implements ExpressionVisitor<JMESPathCompiler.Node> {
+
+    static final JMESPathCompiler INSTANCE = new JMESPathCompiler();
+
+    private static final EnumSet<ShapeType> OBJECT_TYPES = EnumSet.of(
+            ShapeType.MAP,
+            ShapeType.STRUCTURE,
+            ShapeType.UNION);
+
+    private static final Document TRUE = Document.of(true);
+    private static final Document FALSE = Document.of(false);
+    private static final Node CURRENT = current -> current;
+
+    /**
+     * A compiled expression.
+     */
+    @FunctionalInterface
+    interface Node {
+        /**
+         * Evaluates the expression.
+         *
+         * @param current Non-null value to evaluate the expression against.
+         * @return the result.
+         */
+        Document evaluate(Document current);
+
+        /**
+         * Evaluates only whether the result of the expression is truthy.
+         *
+         * <p>Projections override this to stop at their first result, since only an empty projection is falsey.
+         *
+         * @param current Non-null value to evaluate the expression against.
+         * @return true if the result is truthy.
+         */
+        default boolean test(Document current) {
+            return JMESPathDocumentUtils.isTruthy(evaluate(current));
+        }
+    }
+
+    private JMESPathCompiler() {}
+
+    Node compile(JmespathExpression expression) {
+        return expression.accept(this);
+    }
+
+    private static Document evaluate(Node node, Document current) {
+        return current == null ? null : node.evaluate(current);
+    }
+
+    private static Document bool(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    @Override
+    public Node visitComparator(ComparatorExpression comparatorExpression) {
+        var left = compile(comparatorExpression.getLeft());
+        var right = compile(comparatorExpression.getRight());
+        return switch (comparatorExpression.getComparator()) {
+            case EQUAL -> current -> bool(Objects.equals(left.evaluate(current), right.evaluate(current)));
+            case NOT_EQUAL -> current -> bool(!Objects.equals(left.evaluate(current), right.evaluate(current)));
+            case LESS_THAN -> ordering(left, right, c -> c < 0);
+            case LESS_THAN_EQUAL -> ordering(left, right, c -> c <= 0);
+            case GREATER_THAN -> ordering(left, right, c -> c > 0);
+            case GREATER_THAN_EQUAL -> ordering(left, right, c -> c >= 0);
+        };
+    }
+
+    // NOTE: Ordering operators >, >=, <, <= are only valid for numbers. All invalid comparisons return null.
+    private static Node ordering(Node left, Node right, IntPredicate predicate) {
+        return current -> {
+            var l = left.evaluate(current);
+            var r = right.evaluate(current);
+            return JMESPathDocumentUtils.isNumericComparison(l, r)
+                    ? bool(predicate.test(Document.compare(l, r)))
+                    : null;
+        };
+    }
+
+    @Override
+    public Node visitCurrentNode(CurrentExpression currentExpression) {
+        return CURRENT;
+    }
+
+    @Override
+    public Node visitExpressionType(ExpressionTypeExpression expressionTypeExpression) {
+        return compile(expressionTypeExpression.getExpression());
+    }
+
+    @Override
+    public Node visitFlatten(FlattenExpression flattenExpression) {
+        var inner = compile(flattenExpression.getExpression());
+        return current -> {
+            var value = inner.evaluate(current);
+            // Only lists can be flattened.
+            if (value == null || value.type() != ShapeType.LIST) {
+                return null;
+            }
+            List<Document> flattened = new ArrayList<>(value.size());
+            for (var val : value.asList()) {
+                if (val != null && val.type() == ShapeType.LIST) {
+                    flattened.addAll(val.asList());
+                } else {
+                    flattened.add(val);
+                }
+            }
+            return Document.of(flattened);
+        };
+    }
+
+    @Override
+    public Node visitFunction(FunctionExpression functionExpression) {
+        var function = JMESPathFunction.from(functionExpression);
+        List<Node> arguments = new ArrayList<>();
+        ExpressionTypeExpression functionReference = null;
+        for (var expr : functionExpression.getArguments()) {
+            // Store up to one function reference for passing to jmespath functions
+            if (expr instanceof ExpressionTypeExpression exprType) {
+                if (functionReference != null) {
+                    throw new IllegalArgumentException("JMESPath functions only support a single function reference");
+                }
+                functionReference = exprType;
+                continue;
+            }
+            arguments.add(compile(expr));
+        }
+        var argumentNodes = arguments.toArray(new Node[0]);
+        var reference = functionReference;
+        return current -> {
+            List<Document> values = new ArrayList<>(argumentNodes.length);
+            for (var argument : argumentNodes) {
+                values.add(argument.evaluate(current));
+            }
+            return function.apply(values, reference);
+        };
+    }
+
+    @Override
+    public Node visitField(FieldExpression fieldExpression) {
+        return new Field(new String[] {fieldExpression.getName()});
+    }
+
+    @Override
+    public Node visitIndex(IndexExpression indexExpression) {
+        var index = indexExpression.getIndex();
+        return current -> {
+            if (current.type() != ShapeType.LIST) {
+                return null;
+            }
+            // Negative indices indicate reverse indexing in JMESPath
+            int size = current.size();
+            int i = index < 0 ? size + index : index;
+            if (size <= i || i < 0) {
+                return null;
+            }
+            return current.asList().get(i);
+        };
+    }
+
+    @Override
+    public Node visitLiteral(LiteralExpression literalExpression) {
+        var value = literal(literalExpression);
+        return current -> value;
+    }
+
+    private static Document literal(LiteralExpression literalExpression) {
+        if (literalExpression.isNumberValue()) {
+            // TODO: Remove this check by correcting behavior in smithy-jmespath to correctly
+            //       handle int vs double
+            var value = literalExpression.expectNumberValue();
+            if (value.doubleValue() == Math.floor(value.doubleValue())) {
+                return Document.ofNumber(value.longValue());
+            }
+        } else if (literalExpression.isArrayValue()) {
+            List<Document> result = new ArrayList<>();
+            for (var item : literalExpression.expectArrayValue()) {
+                result.add(literal(LiteralExpression.from(item)));
+            }
+            return Document.of(result);
+        } else if (literalExpression.isObjectValue()) {
+            var value = literalExpression.expectObjectValue();
+            Map<String, Document> result = new HashMap<>();
+            for (var entry : value.entrySet()) {
+                result.put(entry.getKey(), literal(LiteralExpression.from(entry.getValue())));
+            }
+            return Document.of(result);
+        }
+        return literalExpression.isNullValue() ? null : Document.ofObject(literalExpression.getValue());
+    }
+
+    @Override
+    public Node visitMultiSelectList(MultiSelectListExpression multiSelectListExpression) {
+        var expressions = multiSelectListExpression.getExpressions();
+        if (expressions.isEmpty()) {
+            return current -> null;
+        }
+        var nodes = new Node[expressions.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = compile(expressions.get(i));
+        }
+        return current -> {
+            List<Document> output = new ArrayList<>(nodes.length);
+            for (var node : nodes) {
+                output.add(node.evaluate(current));
+            }
+            return Document.of(output);
+        };
+    }
+
+    @Override
+    public Node visitMultiSelectHash(MultiSelectHashExpression multiSelectHashExpression) {
+        var expressions = multiSelectHashExpression.getExpressions();
+        if (expressions.isEmpty()) {
+            return current -> null;
+        }
+        var keys = new String[expressions.size()];
+        var nodes = new Node[keys.length];
+        int i = 0;
+        for (var entry : expressions.entrySet()) {
+            keys[i] = entry.getKey();
+            nodes[i++] = compile(entry.getValue());
+        }
+        return current -> {
+            Map<String, Document> output = new HashMap<>();
+            for (int j = 0; j < keys.length; j++) {
+                output.put(keys[j], nodes[j].evaluate(current));
+            }
+            return Document.of(output);
+        };
+    }
+
+    @Override
+    public Node visitAnd(AndExpression andExpression) {
+        return new And(compile(andExpression.getLeft()), compile(andExpression.getRight()));
+    }
+
+    @Override
+    public Node visitOr(OrExpression orExpression) {
+        return new Or(compile(orExpression.getLeft()), compile(orExpression.getRight()));
+    }
+
+    @Override
+    public Node visitNot(NotExpression notExpression) {
+        var inner = compile(notExpression.getExpression());
+        return current -> bool(!inner.test(current));
+    }
+
+    @Override
+    public Node visitProjection(ProjectionExpression projectionExpression) {
+        var left = compile(projectionExpression.getLeft());
+        var right = compile(projectionExpression.getRight());
+        return right == CURRENT ? new ListProjection(left) : new Projection(left, right);
+    }
+
+    @Override
+    public Node visitFilterProjection(FilterProjectionExpression filterProjectionExpression) {
+        return new FilterProjection(
+                compile(filterProjectionExpression.getLeft()),
+                compile(filterProjectionExpression.getComparison()),
+                compile(filterProjectionExpression.getRight()));
+    }
+
+    @Override
+    public Node visitObjectProjection(ObjectProjectionExpression objectProjectionExpression) {
+        return new ObjectProjection(
+                compile(objectProjectionExpression.getLeft()),
+                compile(objectProjectionExpression.getRight()));
+    }
+
+    @Override
+    public Node visitSlice(SliceExpression sliceExpression) {
+        int step = sliceExpression.getStep();
+        var startIndex = sliceExpression.getStart();
+        var stopIndex = sliceExpression.getStop();
+        return current -> {
+            List<Document> output = new ArrayList<>();
+            int size = current.size();
+            int start = startIndex.orElseGet(() -> step > 0 ? 0 : size);
+            if (start < 0) {
+                start = size + start;
+            }
+            int stop = stopIndex.orElseGet(() -> step > 0 ? size : 0);
+            if (stop < 0) {
+                stop = size + stop;
+            }
+
+            var docList = current.asList();
+            if (start < stop) {
+                for (int idx = start; idx < stop; idx += step) {
+                    output.add(docList.get(idx));
+                }
+            } else {
+                // List is iterating in reverse
+                for (int idx = start; idx > stop; idx += step) {
+                    output.add(docList.get(idx - 1));
+                }
+            }
+            return Document.of(output);
+        };
+    }
+
+    @Override
+    public Node visitSubexpression(Subexpression subexpression) {
+        var left = compile(subexpression.getLeft());
+        var right = compile(subexpression.getRight());
+        if (left instanceof Field l && right instanceof Field r) {
+            return l.then(r);
+        }
+        return current -> evaluate(right, left.evaluate(current));
+    }
+
+    /**
+     * Gets a chain of members, like "a.b.c", without evaluating each field as a separate subexpression.
+     */
+    private static final class Field implements Node {
+        private final String[] path;
+
+        Field(String[] path) {
+            this.path = path;
+        }
+
+        Field then(Field next) {
+            var combined = new String[path.length + next.path.length];
+            System.arraycopy(path, 0, combined, 0, path.length);
+            System.arraycopy(next.path, 0, combined, path.length, next.path.length);
+            return new Field(combined);
+        }
+
+        @Override
+        public Document evaluate(Document current) {
+            for (var name : path) {
+                if (current == null || !OBJECT_TYPES.contains(current.type())) {
+                    return null;
+                }
+                current = current.getMember(name);
+            }
+            return current;
+        }
+    }
+
+    private record And(Node left, Node right) implements Node {
+        @Override
+        public Document evaluate(Document current) {
+            var l = left.evaluate(current);
+            return JMESPathDocumentUtils.isTruthy(l) ? right.evaluate(current) : l;
+        }
+
+        @Override
+        public boolean test(Document current) {
+            return left.test(current) && right.test(current);
+        }
+    }
+
+    private record Or(Node left, Node right) implements Node {
+        @Override
+        public Document evaluate(Document current) {
+            var l = left.evaluate(current);
+            return JMESPathDocumentUtils.isTruthy(l) ? l : right.evaluate(current);
+        }
+
+        @Override
+        public boolean test(Document current) {
+            return left.test(current) || right.test(current);
+        }
+    }
+
+    /**
+     * A projection whose right side is the current node, like "foo[*]" or "foo[]", which only removes nulls.
+     */
+    private record ListProjection(Node left) implements Node {
+        @Override
+        public Document evaluate(Document current) {
+            var list = left.evaluate(current);
+            if (list == null || list.type() != ShapeType.LIST) {
+                return null;
+            }
+            var elements = list.asList();
+            List<Document> results = null;
+            for (int i = 0; i < elements.size(); i++) {
+                var element = elements.get(i);
+                if (element == null && results == null) {
+                    results = new ArrayList<>(elements.subList(0, i));
+                } else if (element != null && results != null) {
+                    results.add(element);
+                }
+            }
+            // Wrap the existing elements rather than copying them when there are no nulls to remove.
+            return Document.of(results == null ? elements : results);
+        }
+
+        @Override
+        public boolean test(Document current) {
+            var list = left.evaluate(current);
+            if (list == null || list.type() != ShapeType.LIST) {
+                return false;
+            }
+            for (var element : list.asList()) {
+                if (element != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Projection(Node left, Node right) implements Node {
+        @Override
+        public Document evaluate(Document current) {
+            var list = left.evaluate(current);
+            if (list == null || list.type() != ShapeType.LIST) {
+                return null;
+            }
+            var elements = list.asList();
+            List<Document> results = new ArrayList<>(elements.size());
+            for (var element : elements) {
+                var projected = JMESPathCompiler.evaluate(right, element);
+                if (projected != null) {
+                    results.add(projected);
+                }
+            }
+            return Document.of(results);
+        }
+
+        @Override
+        public boolean test(Document current) {
+            var list = left.evaluate(current);
+            if (list == null || list.type() != ShapeType.LIST) {
+                return false;
+            }
+            for (var element : list.asList()) {
+                if (JMESPathCompiler.evaluate(right, element) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record FilterProjection(Node left, Node comparison, Node right) implements Node {
+        @Override
+        public Document evaluate(Document current) {
+            var list = left.evaluate(current);
+            if (list == null || list.type() != ShapeType.LIST) {
+                return null;
+            }
+            List<Document> results = new ArrayList<>();
+            for (var element : list.asList()) {
+                var result = apply(element);
+                if (result != null) {
+                    results.add(result);
+                }
+            }
+            return Document.of(results);
+        }
+
+        @Override
+        public boolean test(Document current) {
+            var list = left.evaluate(current);
+            if (list == null || list.type() != ShapeType.LIST) {
+                return false;
+            }
+            for (var element : list.asList()) {
+                if (apply(element) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Document apply(Document element) {
+            return element != null && comparison.test(element) ? right.evaluate(element) : null;
+        }
+    }
+
+    private record ObjectProjection(Node left, Node right) implements Node {
+        @Override
+        public Document evaluate(Document current) {
+            var object = left.evaluate(current);
+            if (object == null || !OBJECT_TYPES.contains(object.type())) {
+                return null;
+            }
+            List<Document> results = new ArrayList<>();
+            for (var member : object.getMemberNames()) {
+                var memberValue = object.getMember(member);
+                if (memberValue != null) {
+                    var projected = right.evaluate(memberValue);
+                    if (projected != null) {
+                        results.add(projected);
+                    }
+                }
+            }
+            return Document.of(results);
+        }
+
+        @Override
+        public boolean test(Document current) {
+            var object = left.evaluate(current);
+            if (object == null || !OBJECT_TYPES.contains(object.type())) {
+                return false;
+            }
+            for (var member : object.getMemberNames()) {
+                var memberValue = object.getMember(member);
+                if (memberValue != null && right.evaluate(memberValue) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -208,10 +208,11 @@ enum JMESPathFunction {
             if (subject.size() == 0) {
                 return null;
             }
+            var reference = JMESPathDocumentQuery.compile(fnRef);
             Document max = null;
             Document maxValue = null;
             for (var item : subject.asList()) {
-                var value = JMESPathDocumentQuery.query(fnRef, item);
+                var value = reference.query(item);
                 if (max == null || Document.compare(maxValue, value) < 0) {
                     max = item;
                     maxValue = value;
@@ -256,10 +257,11 @@ enum JMESPathFunction {
             if (subject.size() == 0) {
                 return null;
             }
+            var reference = JMESPathDocumentQuery.compile(fnRef);
             Document min = null;
             Document minValue = null;
             for (var item : subject.asList()) {
-                var value = JMESPathDocumentQuery.query(fnRef, item);
+                var value = reference.query(item);
                 if (min == null || Document.compare(minValue, value) > 0) {
                     min = item;
                     minValue = value;
@@ -311,10 +313,10 @@ enum JMESPathFunction {
             if (!subject.type().equals(ShapeType.LIST)) {
                 throw new IllegalArgumentException("`sort_by` only supports arrays");
             }
+            var reference = JMESPathDocumentQuery.compile(fnRef);
             return Document.of(subject.asList()
                     .stream()
-                    .sorted((l, r) -> Document.compare(JMESPathDocumentQuery.query(fnRef, l),
-                            JMESPathDocumentQuery.query(fnRef, r)))
+                    .sorted((l, r) -> Document.compare(reference.query(l), reference.query(r)))
                     .toList());
         }
     },
@@ -0,0 +1,318 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.jmespath;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import software.amazon.smithy.java.core.schema.PreludeSchemas;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SerializableShape;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.serde.ShapeSerializer;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.java.core.serde.document.DocumentParser;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeType;
+
+/**
+ * Documents that are views over typed shapes, so JMESPath expressions can navigate them without converting them.
+ *
+ * <p>Members are read using {@link SerializableStruct#getMemberValue(Schema)}, and a document is only created for
+ * a value when it's accessed. Scalars are converted using the same member schemas as {@link Document#of}, so
+ * they're equal to the documents a full conversion would have created. Unions are the exception: they're converted
+ * in full, since only serializing a union tells which of its members is set.
+ */
+final class TypedDocuments {
+
+    private TypedDocuments() {}
+
+    static Document of(SerializableStruct struct) {
+        if (struct == null) {
+            return null;
+        } else if (struct.schema().type() == ShapeType.UNION) {
+            // Unions return their value for any of their members, so convert them by serializing the active member.
+            return Document.of(struct);
+        }
+        return new StructView(struct);
+    }
+
+    static Document of(Schema schema, Object value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof Document document) {
+            return document;
+        }
+        return switch (schema.type()) {
+            case STRUCTURE, UNION -> of((SerializableStruct) value);
+            case LIST, SET -> new ListView(schema, (List<?>) value);
+            case MAP -> new MapView(schema, (Map<?, ?>) value);
+            default -> scalar(schema, value);
+        };
+    }
+
+    private static Document scalar(Schema schema, Object value) {
+        var parser = new DocumentParser();
+        if (value instanceof String s) {
+            parser.writeString(schema, s);
+        } else if (value instanceof Boolean b) {
+            parser.writeBoolean(schema, b);
+        } else if (value instanceof Byte b) {
+            parser.writeByte(schema, b);
+        } else if (value instanceof Short s) {
+            parser.writeShort(schema, s);
+        } else if (value instanceof Integer i) {
+            parser.writeInteger(schema, i);
+        } else if (value instanceof Long l) {
+            parser.writeLong(schema, l);
+        } else if (value instanceof Float f) {
+            parser.writeFloat(schema, f);
+        } else if (value instanceof Double d) {
+            parser.writeDouble(schema, d);
+        } else if (value instanceof BigInteger b) {
+            parser.writeBigInteger(schema, b);
+        } else if (value instanceof BigDecimal b) {
+            parser.writeBigDecimal(schema, b);
+        } else if (value instanceof ByteBuffer b) {
+            parser.writeBlob(schema, b);
+        } else if (value instanceof Instant i) {
+            parser.writeTimestamp(schema, i);
+        } else if (value instanceof SerializableShape shape) {
+            // Enums and intEnums serialize themselves.
+            shape.serialize(parser);
+        } else {
+            // Values that can't be part of a document, like streaming blobs.
+            return null;
+        }
+        return parser.getResult();
+    }
+
+    private static final class StructView implements Document {
+        private final SerializableStruct struct;
+        private final Schema schema;
+        private volatile Map<String, Document> members;
+
+        StructView(SerializableStruct struct) {
+            this.struct = struct;
+            this.schema = struct.schema();
+        }
+
+        @Override
+        public ShapeType type() {
+            return schema.type();
+        }
+
+        @Override
+        public ShapeId discriminator() {
+            return schema.id();
+        }
+
+        @Override
+        public Document getMember(String memberName) {
+            var member = schema.member(memberName);
+            return member == null ? null : of(member, struct.getMemberValue(member));
+        }
+
+        @Override
+        public Map<String, Document> asStringMap() {
+            var result = members;
+            if (result == null) {
+                result = new LinkedHashMap<>();
+                for (var member : schema.members()) {
+                    var value = of(member, struct.getMemberValue(member));
+                    if (value != null) {
+                        result.put(member.memberName(), value);
+                    }
+                }
+                result = Collections.unmodifiableMap(result);
+                members = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Set<String> getMemberNames() {
+            return asStringMap().keySet();
+        }
+
+        @Override
+        public int size() {
+            return asStringMap().size();
+        }
+
+        @Override
+        public void serializeContents(ShapeSerializer serializer) {
+            struct.serialize(serializer);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return Document.equals(this, obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return asStringMap().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TypedDocument[" + schema.id() + ']';
+        }
+    }
+
+    private static final class ListView implements Document {
+        private final Schema schema;
+        private final List<?> values;
+
+        ListView(Schema schema, List<?> values) {
+            this.schema = schema;
+            this.values = values;
+        }
+
+        @Override
+        public ShapeType type() {
+            return ShapeType.LIST;
+        }
+
+        @Override
+        public List<Document> asList() {
+            return new Elements();
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public void serializeContents(ShapeSerializer serializer) {
+            var elements = asList();
+            serializer.writeList(schema, elements, elements.size(), (list, ser) -> {
+                for (var element : list) {
+                    if (element == null) {
+                        ser.writeNull(schema.listMember());
+                    } else {
+                        element.serialize(ser);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return Document.equals(this, obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return asList().hashCode();
+        }
+
+        // Creates documents for elements only as they're read.
+        private final class Elements extends AbstractList<Document> implements RandomAccess {
+            @Override
+            public Document get(int index) {
+                return of(schema.listMember(), values.get(index));
+            }
+
+            @Override
+            public int size() {
+                return values.size();
+            }
+        }
+    }
+
+    private static final class MapView implements Document {
+        private final Schema schema;
+        private final Map<?, ?> values;
+        private volatile Map<String, Document> entries;
+
+        MapView(Schema schema, Map<?, ?> values) {
+            this.schema = schema;
+            this.values = values;
+        }
+
+        @Override
+        public ShapeType type() {
+            return ShapeType.MAP;
+        }
+
+        @Override
+        public Document getMember(String memberName) {
+            if (schema.mapKeyMember().type() == ShapeType.STRING) {
+                return of(schema.mapValueMember(), values.get(memberName));
+            }
+            return asStringMap().get(memberName);
+        }
+
+        @Override
+        public Map<String, Document> asStringMap() {
+            var result = entries;
+            if (result == null) {
+                result = new LinkedHashMap<>(values.size());
+                for (var entry : values.entrySet()) {
+                    result.put(key(entry.getKey()), of(schema.mapValueMember(), entry.getValue()));
+                }
+                result = Collections.unmodifiableMap(result);
+                entries = result;
+            }
+            return result;
+        }
+
+        private String key(Object key) {
+            if (key instanceof String s) {
+                return s;
+            }
+            return of(schema.mapKeyMember(), key).asString();
+        }
+
+        @Override
+        public Set<String> getMemberNames() {
+            return asStringMap().keySet();
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public void serializeContents(ShapeSerializer serializer) {
+            var map = asStringMap();
+            serializer.writeMap(schema, map, map.size(), (m, mapSerializer) -> {
+                var key = schema.mapKeyMember();
+                for (var entry : m.entrySet()) {
+                    mapSerializer.writeEntry(key, entry.getKey(), entry.getValue(), (value, ser) -> {
+                        if (value == null) {
+                            ser.writeNull(PreludeSchemas.DOCUMENT);
+                        } else {
+                            value.serialize(ser);
+                        }
+                    });
+                }
+            });
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return Document.equals(this, obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return asStringMap().hashCode();
+        }
+    }
+}
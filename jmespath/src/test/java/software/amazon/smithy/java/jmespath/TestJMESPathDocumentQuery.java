@@ -9,14 +9,22 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.java.core.schema.PreludeSchemas;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.serde.ShapeSerializer;
 import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.shapes.ShapeType;
 
 public class TestJMESPathDocumentQuery {
@@ -381,4 +389,193 @@ public class TestJMESPathDocumentQuery {
         var value = JMESPathDocumentQuery.query(str, testDocument);
         assertThat(expected.asList(), containsInAnyOrder(value.asList().toArray()));
     }
+
+    @Test
+    void testCompiledExpressionsAreCached() {
+        var compiled = JMESPathDocumentQuery.compile("Table.TableStatus");
+
+        assertSame(compiled, JMESPathDocumentQuery.compile("Table.TableStatus"));
+        assertEquals(Document.of("ACTIVE"),
+                compiled.query(Document.of(Map.of("Table", Document.of(Map.of("TableStatus", Document.of("ACTIVE")))))));
+        assertNull(compiled.query(Document.of(Map.of("Table", Document.of("ACTIVE")))));
+        assertNull(compiled.query(null));
+    }
+
+    @Test
+    void testCompiledProjectionsRemoveNulls() {
+        List<Document> items = new ArrayList<>();
+        items.add(Document.of(Map.of("id", Document.of(1))));
+        items.add(null);
+        items.add(Document.of(Map.of("other", Document.of(2))));
+        var doc = Document.of(Map.of("items", Document.of(items)));
+
+        assertEquals(List.of(Document.of(1)), JMESPathDocumentQuery.compile("items[*].id").query(doc).asList());
+        assertEquals(2, JMESPathDocumentQuery.compile("items[*]").query(doc).size());
+        assertEquals(Document.of(true), JMESPathDocumentQuery.compile("!items[?id == `2`]").query(doc));
+        assertEquals(Document.of(false), JMESPathDocumentQuery.compile("!items[].other").query(doc));
+    }
+
+    @Test
+    void testQueriesShapesWithoutConversion() {
+        var shape = new Table("ACTIVE", List.of("a", "b"), Map.of("size", 3), new Table("CREATING", null, null, null));
+        var view = JMESPathDocumentQuery.view(shape);
+
+        assertTrue(Document.equals(Document.of(shape), view));
+        assertTrue(Document.equals(view, Document.of(shape)));
+        assertEquals("ACTIVE", JMESPathDocumentQuery.query("status", shape).asString());
+        assertEquals("CREATING", JMESPathDocumentQuery.query("child.status", shape).asString());
+        assertEquals("b", JMESPathDocumentQuery.query("tags[1]", shape).asString());
+        assertEquals(3, JMESPathDocumentQuery.query("attributes.size", shape).asInteger());
+        assertTrue(JMESPathDocumentQuery.query("length(tags) == `2`", shape).asBoolean());
+        assertNull(JMESPathDocumentQuery.query("child.tags", shape));
+        assertNull(JMESPathDocumentQuery.query("missing", shape));
+        assertThat(view.getMemberNames(), containsInAnyOrder("status", "tags", "attributes", "child"));
+        assertThat(view.getMember("child").getMemberNames(), containsInAnyOrder("status"));
+    }
+
+    @Test
+    void testQueriesOnlyTheActiveMemberOfUnions() {
+        var name = new Choice("name", "abc");
+        var count = new Choice("count", 3);
+
+        assertEquals("abc", JMESPathDocumentQuery.query("name", name).asString());
+        assertNull(JMESPathDocumentQuery.query("count", name));
+        assertEquals(3, JMESPathDocumentQuery.query("count", count).asInteger());
+        assertNull(JMESPathDocumentQuery.query("name", count));
+        assertThat(JMESPathDocumentQuery.view(name).getMemberNames(), containsInAnyOrder("name"));
+
+        var holder = new Holder(List.of(name, count));
+        assertEquals(List.of(Document.of("abc")), JMESPathDocumentQuery.query("choices[*].name", holder).asList());
+        assertEquals(List.of(Document.of(3)), JMESPathDocumentQuery.query("choices[*].count", holder).asList());
+        assertTrue(Document.equals(Document.of(holder), JMESPathDocumentQuery.view(holder)));
+    }
+
+    private record Table(String status, List<String> tags, Map<String, Integer> attributes, Table child)
+            implements SerializableStruct {
+
+        private static final Schema TAGS = Schema.listBuilder(ShapeId.from("smithy.example#Tags"))
+                .putMember("member", PreludeSchemas.STRING)
+                .build();
+        private static final Schema ATTRIBUTES = Schema.mapBuilder(ShapeId.from("smithy.example#Attributes"))
+                .putMember("key", PreludeSchemas.STRING)
+                .putMember("value", PreludeSchemas.INTEGER)
+                .build();
+        private static final Schema SCHEMA;
+
+        static {
+            var builder = Schema.structureBuilder(ShapeId.from("smithy.example#Table"));
+            SCHEMA = builder
+                    .putMember("status", PreludeSchemas.STRING)
+                    .putMember("tags", TAGS)
+                    .putMember("attributes", ATTRIBUTES)
+                    .putMember("child", builder)
+                    .build();
+        }
+
+        @Override
+        public Schema schema() {
+            return SCHEMA;
+        }
+
+        @Override
+        public void serializeMembers(ShapeSerializer serializer) {
+            if (status != null) {
+                serializer.writeString(SCHEMA.member("status"), status);
+            }
+            if (tags != null) {
+                serializer.writeList(SCHEMA.member("tags"), tags, tags.size(), (values, ser) -> {
+                    for (var value : values) {
+                        ser.writeString(TAGS.listMember(), value);
+                    }
+                });
+            }
+            if (attributes != null) {
+                serializer.writeMap(SCHEMA.member("attributes"), attributes, attributes.size(), (values, ser) -> {
+                    for (var entry : values.entrySet()) {
+                        ser.writeEntry(ATTRIBUTES.mapKeyMember(), entry.getKey(), entry.getValue(), (v, s) -> {
+                            s.writeInteger(ATTRIBUTES.mapValueMember(), v);
+                        });
+                    }
+                });
+            }
+            if (child != null) {
+                serializer.writeStruct(SCHEMA.member("child"), child);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getMemberValue(Schema member) {
+            return switch (member.memberName()) {
+                case "status" -> (T) status;
+                case "tags" -> (T) tags;
+                case "attributes" -> (T) attributes;
+                case "child" -> (T) child;
+                default -> throw new IllegalArgumentException("Unknown member: " + member);
+            };
+        }
+    }
+
+    // Like generated unions, returns the value of the active member for any member of the union.
+    private record Choice(String memberName, Object value) implements SerializableStruct {
+        private static final Schema SCHEMA = Schema.unionBuilder(ShapeId.from("smithy.example#Choice"))
+                .putMember("name", PreludeSchemas.STRING)
+                .putMember("count", PreludeSchemas.INTEGER)
+                .build();
+
+        @Override
+        public Schema schema() {
+            return SCHEMA;
+        }
+
+        @Override
+        public void serializeMembers(ShapeSerializer serializer) {
+            if (value instanceof String s) {
+                serializer.writeString(SCHEMA.member(memberName), s);
+            } else {
+                serializer.writeInteger(SCHEMA.member(memberName), (Integer) value);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getMemberValue(Schema member) {
+            if (SCHEMA.member(member.memberName()) == null) {
+                throw new IllegalArgumentException("Unknown member: " + member);
+            }
+            return (T) value;
+        }
+    }
+
+    private record Holder(List<Choice> choices) implements SerializableStruct {
+        private static final Schema CHOICES = Schema.listBuilder(ShapeId.from("smithy.example#Choices"))
+                .putMember("member", Choice.SCHEMA)
+                .build();
+        private static final Schema SCHEMA = Schema.structureBuilder(ShapeId.from("smithy.example#Holder"))
+                .putMember("choices", CHOICES)
+                .build();
+
+        @Override
+        public Schema schema() {
+            return SCHEMA;
+        }
+
+        @Override
+        public void serializeMembers(ShapeSerializer serializer) {
+            serializer.writeList(SCHEMA.member("choices"), choices, choices.size(), (values, ser) -> {
+                for (var value : values) {
+                    ser.writeStruct(CHOICES.listMember(), value);
+                }
+            });
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getMemberValue(Schema member) {
+            if (member.memberName().equals("choices")) {
+                return (T) choices;
+            }
+            throw new IllegalArgumentException("Unknown member: " + member);
+        }
+    }
 }
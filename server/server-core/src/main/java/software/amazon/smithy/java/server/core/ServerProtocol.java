@@ -12,6 +12,8 @@ import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.core.serde.SerializationException;
 import software.amazon.smithy.java.framework.model.InternalFailureException;
 import software.amazon.smithy.java.framework.model.MalformedRequestException;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.server.Operation;
 import software.amazon.smithy.java.server.Service;
 import software.amazon.smithy.model.shapes.ShapeId;
 
@@ -32,6 +34,21 @@ public abstract class ServerProtocol {
 
     public abstract CompletableFuture<Void> deserializeInput(Job job);
 
+    /**
+     * Check if the input of an operation is read as it arrives rather than buffered before the job is enqueued.
+     *
+     * <p>When this returns true, the request {@link DataStream} is a publisher of the body with an unknown length
+     * that is fed incrementally by the transport, and {@link #deserializeInput(Job)} is called before the body has
+     * been fully received. Input is buffered by default; protocols that decode their input as it arrives override
+     * this for the operations they stream.
+     *
+     * @param operation Operation to check.
+     * @return true if the input is streamed.
+     */
+    public boolean isStreamingInput(Operation<?, ?> operation) {
+        return false;
+    }
+
     public final CompletableFuture<Void> serializeOutput(Job job, SerializableStruct output) {
         return serializeOutput(job, output, false);
     }
@@ -5,18 +5,23 @@
 
 package software.amazon.smithy.java.server.netty;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
 import java.io.ByteArrayOutputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
 import software.amazon.smithy.java.framework.model.UnknownOperationException;
 import software.amazon.smithy.java.http.api.HttpHeaders;
 import software.amazon.smithy.java.io.datastream.DataStream;
@@ -33,6 +38,8 @@ final class HttpRequestHandler extends ChannelDuplexHandler {
     private final ProtocolResolver resolver;
     private HttpJob job;
     private ByteArrayOutputStream bodyAccumulator;
+    private NettyRequestBodyPublisher bodyPublisher;
+    private NettyResponseBodySubscriber bodySubscriber;
 
     HttpRequestHandler(Orchestrator orchestrator, ProtocolResolver resolver) {
         this.orchestrator = orchestrator;
@@ -57,7 +64,11 @@ final class HttpRequestHandler extends ChannelDuplexHandler {
                         new ServiceProtocolResolutionRequest(uri, requestHeaders, request.context(), request.method()));
                 var response = new HttpResponse(new NettyHttpHeaders());
                 this.job = new HttpJob(resolutionResult.operation(), resolutionResult.protocol(), request, response);
-                this.bodyAccumulator = new ByteArrayOutputStream();
+                if (resolutionResult.protocol().isStreamingInput(resolutionResult.operation())) {
+                    startStreamingRequest(channel, httpRequest);
+                } else {
+                    this.bodyAccumulator = new ByteArrayOutputStream();
+                }
             } catch (UnknownOperationException e) {
                 var response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.NOT_FOUND);
                 ctx.writeAndFlush(response);
@@ -74,6 +85,15 @@ final class HttpRequestHandler extends ChannelDuplexHandler {
             }
 
             boolean isLast = content instanceof LastHttpContent;
+            if (bodyPublisher != null) {
+                bodyPublisher.onContent(content.content());
+                if (isLast) {
+                    bodyPublisher.onComplete();
+                    bodyPublisher = null;
+                }
+                return;
+            }
+
             content.content().readBytes(bodyAccumulator, content.content().readableBytes());
             content.release();
             if (isLast) {
@@ -81,24 +101,70 @@ final class HttpRequestHandler extends ChannelDuplexHandler {
                         .setDataStream(
                                 DataStream.ofBytes(bodyAccumulator.toByteArray(),
                                         job.request().headers().contentType()));
-                orchestrator.enqueue(job).whenCompleteAsync((r, t) -> writeResponse(channel, job), channel.eventLoop());
+                enqueue(channel, job);
             }
 
         }
     }
 
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (bodySubscriber != null) {
+            bodySubscriber.onWritabilityChanged();
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        var closed = new ClosedChannelException();
+        if (bodyPublisher != null) {
+            bodyPublisher.onError(closed);
+            bodyPublisher = null;
+        }
+        if (bodySubscriber != null) {
+            bodySubscriber.abort(closed);
+            bodySubscriber = null;
+        }
+        super.channelInactive(ctx);
+    }
+
+    // Enqueues the job as soon as the headers are read, so the operation can consume the body while it arrives.
+    private void startStreamingRequest(Channel channel, HttpRequest httpRequest) {
+        // Reading is driven by the demand of the body subscriber until the response is written.
+        channel.config().setAutoRead(false);
+        bodyPublisher = new NettyRequestBodyPublisher(channel);
+        long contentLength = HttpUtil.getContentLength(httpRequest, -1L);
+        job.request()
+                .setDataStream(
+                        DataStream.ofPublisher(bodyPublisher, job.request().headers().contentType(), contentLength));
+        enqueue(channel, job);
+    }
+
+    private void enqueue(Channel channel, HttpJob job) {
+        orchestrator.enqueue(job).whenCompleteAsync((r, t) -> writeResponse(channel, job), channel.eventLoop());
+    }
+
     private void reset(Channel channel) {
         this.job = null;
     }
 
     private void writeResponse(Channel channel, HttpJob job) {
         var serializedValue = job.response().getSerializedValue();
+        if (serializedValue != null && !serializedValue.hasKnownLength() && !serializedValue.hasByteBuffer()) {
+            writeStreamingResponse(channel, job, serializedValue);
+            return;
+        } else if (bodyPublisher != null) {
+            // The response doesn't depend on the rest of a streamed request body, so discard it.
+            bodyPublisher.cancel();
+        }
+
         DefaultFullHttpResponse response = null;
         try {
             response = new DefaultFullHttpResponse(
                     HttpVersion.HTTP_1_1,
                     HttpResponseStatus.valueOf(job.response().getStatusCode()),
-                    Unpooled.wrappedBuffer(serializedValue.waitForByteBuffer()));
+                    toByteBuf(serializedValue));
             CorsHeaders.addCorsHeaders(job);
             response.headers().set(((NettyHttpHeaders) job.response().headers()).getNettyHeaders());
             response.headers().set("content-length", serializedValue.contentLength());
@@ -111,5 +177,39 @@ final class HttpRequestHandler extends ChannelDuplexHandler {
                     HttpResponseStatus.INTERNAL_SERVER_ERROR);
         }
         channel.writeAndFlush(response);
+        channel.config().setAutoRead(true);
+    }
+
+    // In-memory buffers are wrapped in a composite buffer rather than copied, so they're sent with a gathering write.
+    private static ByteBuf toByteBuf(DataStream serializedValue) {
+        var buffers = serializedValue.byteBuffers();
+        if (buffers == null) {
+            return Unpooled.wrappedBuffer(serializedValue.waitForByteBuffer());
+        }
+        return Unpooled.wrappedBuffer(buffers.toArray(new ByteBuffer[0]));
+    }
+
+    // Writes the status and headers, then writes the body as chunks as it's published.
+    private void writeStreamingResponse(Channel channel, HttpJob job, DataStream serializedValue) {
+        var response = new DefaultHttpResponse(
+                HttpVersion.HTTP_1_1,
+                HttpResponseStatus.valueOf(job.response().getStatusCode()));
+        CorsHeaders.addCorsHeaders(job);
+        response.headers().set(((NettyHttpHeaders) job.response().headers()).getNettyHeaders());
+        if (serializedValue.contentType() != null) {
+            response.headers().set("content-type", serializedValue.contentType());
+        }
+        HttpUtil.setTransferEncodingChunked(response, true);
+        channel.writeAndFlush(response);
+
+        var subscriber = new NettyResponseBodySubscriber(channel);
+        bodySubscriber = subscriber;
+        subscriber.completion().whenCompleteAsync((r, t) -> {
+            if (bodySubscriber == subscriber) {
+                bodySubscriber = null;
+            }
+            channel.config().setAutoRead(true);
+        }, channel.eventLoop());
+        serializedValue.subscribe(subscriber);
     }
 }
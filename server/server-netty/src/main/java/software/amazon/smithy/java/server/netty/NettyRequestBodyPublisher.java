@@ -0,0 +1,147 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Flow;
+
+/**
+ * Publishes the body of a request as it's read from the channel.
+ *
+ * <p>The channel doesn't read automatically while the body is streamed. More of the body is only read from the
+ * channel when the subscriber has demand that can't be met by buffered content, so a slow subscriber applies
+ * backpressure to the client through TCP flow control. All state is confined to the event loop of the channel.
+ */
+final class NettyRequestBodyPublisher implements Flow.Publisher<ByteBuffer>, Flow.Subscription {
+
+    private final Channel channel;
+    private final Queue<ByteBuffer> buffered = new ArrayDeque<>();
+    private Flow.Subscriber<? super ByteBuffer> subscriber;
+    private long demand;
+    private boolean complete;
+    private Throwable failure;
+    private boolean done;
+
+    NettyRequestBodyPublisher(Channel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        runOnEventLoop(() -> {
+            if (this.subscriber != null) {
+                subscriber.onSubscribe(this);
+                subscriber.onError(new IllegalStateException("Request body can only be subscribed to once"));
+                return;
+            }
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+            drain();
+        });
+    }
+
+    @Override
+    public void request(long n) {
+        runOnEventLoop(() -> {
+            if (done) {
+                return;
+            } else if (n <= 0) {
+                fail(new IllegalArgumentException("Demand must be positive: " + n));
+            } else {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                drain();
+            }
+        });
+    }
+
+    @Override
+    public void cancel() {
+        runOnEventLoop(() -> {
+            done = true;
+            buffered.clear();
+            // Read and discard the rest of the body so the connection can be reused.
+            channel.config().setAutoRead(true);
+        });
+    }
+
+    /**
+     * Buffers content read from the channel, taking ownership of it.
+     *
+     * @param content Content that was read.
+     */
+    void onContent(ByteBuf content) {
+        try {
+            if (!done && content.isReadable()) {
+                var copy = ByteBuffer.allocate(content.readableBytes());
+                content.readBytes(copy);
+                buffered.add(copy.flip());
+            }
+        } finally {
+            content.release();
+        }
+        drain();
+    }
+
+    /**
+     * Signals that the whole body was read.
+     */
+    void onComplete() {
+        complete = true;
+        drain();
+    }
+
+    /**
+     * Signals that the body couldn't be read, for example because the connection was closed.
+     *
+     * @param error Error to signal to the subscriber.
+     */
+    void onError(Throwable error) {
+        if (!complete && failure == null) {
+            failure = error;
+            buffered.clear();
+            drain();
+        }
+    }
+
+    private void drain() {
+        if (done || subscriber == null) {
+            return;
+        }
+        while (demand > 0 && !buffered.isEmpty()) {
+            demand--;
+            subscriber.onNext(buffered.poll());
+            if (done) {
+                return;
+            }
+        }
+        if (failure != null) {
+            fail(failure);
+        } else if (complete && buffered.isEmpty()) {
+            done = true;
+            subscriber.onComplete();
+        } else if (demand > 0 && !complete) {
+            channel.read();
+        }
+    }
+
+    private void fail(Throwable error) {
+        done = true;
+        buffered.clear();
+        subscriber.onError(error);
+    }
+
+    private void runOnEventLoop(Runnable task) {
+        if (channel.eventLoop().inEventLoop()) {
+            task.run();
+        } else {
+            channel.eventLoop().execute(task);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.LastHttpContent;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import software.amazon.smithy.java.logging.InternalLogger;
+
+/**
+ * Writes a response body of unknown length to the channel as it's published, one chunk per buffer.
+ *
+ * <p>Each chunk is flushed as soon as it's written so streamed responses like event streams aren't delayed. One
+ * buffer is requested at a time, and only while the channel is writable, so a slow client applies backpressure to
+ * the publisher. All state is confined to the event loop of the channel.
+ */
+final class NettyResponseBodySubscriber implements Flow.Subscriber<ByteBuffer> {
+
+    private static final InternalLogger LOGGER = InternalLogger.getLogger(NettyResponseBodySubscriber.class);
+
+    private final Channel channel;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private Flow.Subscription subscription;
+    private boolean awaitingItem;
+    private boolean done;
+
+    NettyResponseBodySubscriber(Channel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Get a future that completes when the whole body was written or writing it failed.
+     *
+     * @return the future.
+     */
+    CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        runOnEventLoop(() -> {
+            this.subscription = subscription;
+            if (done) {
+                subscription.cancel();
+            } else {
+                requestIfWritable();
+            }
+        });
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+        runOnEventLoop(() -> {
+            awaitingItem = false;
+            if (done) {
+                return;
+            }
+            channel.writeAndFlush(new DefaultHttpContent(Unpooled.wrappedBuffer(item))).addListener(f -> {
+                if (!f.isSuccess()) {
+                    abort(f.cause());
+                }
+            });
+            requestIfWritable();
+        });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        runOnEventLoop(() -> {
+            if (!done) {
+                // The status and headers were already sent, so the only way to signal the failure is to close the
+                // connection before the last chunk.
+                LOGGER.warn("Failed to stream response body", throwable);
+                abort(throwable);
+            }
+        });
+    }
+
+    @Override
+    public void onComplete() {
+        runOnEventLoop(() -> {
+            if (done) {
+                return;
+            }
+            done = true;
+            channel.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT).addListener(f -> {
+                if (f.isSuccess()) {
+                    completion.complete(null);
+                } else {
+                    completion.completeExceptionally(f.cause());
+                    channel.close();
+                }
+            });
+        });
+    }
+
+    /**
+     * Resumes requesting buffers when the channel becomes writable again.
+     */
+    void onWritabilityChanged() {
+        requestIfWritable();
+    }
+
+    /**
+     * Stops writing the body, for example because the connection was closed.
+     *
+     * @param cause Why writing was stopped.
+     */
+    void abort(Throwable cause) {
+        if (done) {
+            return;
+        }
+        done = true;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        completion.completeExceptionally(cause);
+        channel.close();
+    }
+
+    private void requestIfWritable() {
+        if (!done && !awaitingItem && subscription != null && channel.isWritable()) {
+            awaitingItem = true;
+            subscription.request(1);
+        }
+    }
+
+    private void runOnEventLoop(Runnable task) {
+        if (channel.eventLoop().inEventLoop()) {
+            task.run();
+        } else {
+            channel.eventLoop().execute(task);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.core.schema.ApiOperation;
+import software.amazon.smithy.java.core.schema.ApiService;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.schema.ShapeBuilder;
+import software.amazon.smithy.java.core.serde.TypeRegistry;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.server.Operation;
+import software.amazon.smithy.java.server.Route;
+import software.amazon.smithy.java.server.Service;
+import software.amazon.smithy.java.server.core.Handler;
+import software.amazon.smithy.java.server.core.Job;
+import software.amazon.smithy.java.server.core.ProtocolResolver;
+import software.amazon.smithy.java.server.core.ServerProtocol;
+import software.amazon.smithy.java.server.core.ServerProtocolProvider;
+import software.amazon.smithy.java.server.core.ServiceMatcher;
+import software.amazon.smithy.java.server.core.ServiceProtocolResolutionRequest;
+import software.amazon.smithy.java.server.core.ServiceProtocolResolutionResult;
+import software.amazon.smithy.java.server.core.SingleThreadOrchestrator;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+public class HttpRequestHandlerTest {
+
+    private static final String STREAMING_INPUT = "StreamingInput";
+    private static final String BUFFERED_INPUT = "BufferedInput";
+    private static final String STREAMING_OUTPUT = "StreamingOutput";
+
+    private final BlockingQueue<DataStream> requestBodies = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Object> responses = new LinkedBlockingQueue<>();
+    private EventLoopGroup group;
+    private SingleThreadOrchestrator orchestrator;
+    private Channel server;
+    private Channel client;
+
+    // Echoes the request body, or streams a fixed response body for STREAMING_OUTPUT.
+    private final Handler handler = new Handler() {
+        @Override
+        public CompletableFuture<Void> before(Job job) {
+            var body = job.request().getDataStream();
+            requestBodies.add(body);
+            var response = job.asHttpJob().response();
+            response.setStatusCode(200);
+            if (job.operation().name().equals(STREAMING_OUTPUT)) {
+                response.setSerializedValue(DataStream.ofPublisher(publisherOf("hello ", "world"), "text/plain", -1));
+                return CompletableFuture.completedFuture(null);
+            }
+            return body.asByteBuffer()
+                    .thenAccept(bytes -> response.setSerializedValue(DataStream.ofByteBuffer(bytes, "text/plain")));
+        }
+
+        @Override
+        public CompletableFuture<Void> after(Job job) {
+            return CompletableFuture.completedFuture(null);
+        }
+    };
+
+    @BeforeEach
+    public void setup() throws Exception {
+        group = new DefaultEventLoopGroup(1);
+        orchestrator = new SingleThreadOrchestrator(List.of(handler));
+        var service = new TestService(STREAMING_INPUT, BUFFERED_INPUT, STREAMING_OUTPUT);
+        var resolver = new ProtocolResolver(
+                new ServiceMatcher(List.of(Route.builder().pathPrefix("/").services(List.of(service)).build())));
+
+        server = new ServerBootstrap()
+                .group(group)
+                .channel(LocalServerChannel.class)
+                .childHandler(new ChannelInitializer<LocalChannel>() {
+                    @Override
+                    protected void initChannel(LocalChannel ch) {
+                        ch.pipeline().addLast(new HttpRequestHandler(orchestrator, resolver));
+                    }
+                })
+                .bind(LocalAddress.ANY)
+                .sync()
+                .channel();
+        client = new Bootstrap()
+                .group(group)
+                .channel(LocalChannel.class)
+                .handler(new ChannelInboundHandlerAdapter() {
+                    @Override
+                    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                        responses.add(msg);
+                    }
+                })
+                .connect(server.localAddress())
+                .sync()
+                .channel();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        client.close().sync();
+        server.close().sync();
+        group.shutdownGracefully().sync();
+        orchestrator.shutdown();
+    }
+
+    @Test
+    public void streamsRequestBodiesOfProtocolsThatOptIn() throws Exception {
+        client.writeAndFlush(request(HttpMethod.POST, STREAMING_INPUT));
+
+        // The job is enqueued as soon as the headers are read, before any of the body was sent.
+        var body = requestBodies.poll(5, TimeUnit.SECONDS);
+        assertThat(body, notNullValue());
+        assertThat(body.hasKnownLength(), is(false));
+
+        client.writeAndFlush(new DefaultHttpContent(content("hello ")));
+        client.writeAndFlush(new DefaultLastHttpContent(content("world")));
+
+        var response = (FullHttpResponse) responses.poll(5, TimeUnit.SECONDS);
+        assertThat(response.status(), equalTo(HttpResponseStatus.OK));
+        assertThat(response.content().toString(StandardCharsets.UTF_8), equalTo("hello world"));
+        response.release();
+    }
+
+    @Test
+    public void buffersRequestBodiesByDefault() throws Exception {
+        client.writeAndFlush(request(HttpMethod.POST, BUFFERED_INPUT));
+        client.writeAndFlush(new DefaultHttpContent(content("hello ")));
+
+        assertThat(requestBodies.poll(100, TimeUnit.MILLISECONDS), nullValue());
+
+        client.writeAndFlush(new DefaultLastHttpContent(content("world")));
+
+        var body = requestBodies.poll(5, TimeUnit.SECONDS);
+        assertThat(body, notNullValue());
+        assertThat(body.contentLength(), equalTo(11L));
+        var response = (FullHttpResponse) responses.poll(5, TimeUnit.SECONDS);
+        assertThat(response.content().toString(StandardCharsets.UTF_8), equalTo("hello world"));
+        response.release();
+    }
+
+    @Test
+    public void writesResponseBodiesOfUnknownLengthAsChunks() throws Exception {
+        client.writeAndFlush(request(HttpMethod.GET, STREAMING_OUTPUT));
+        client.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+
+        var response = (HttpResponse) responses.poll(5, TimeUnit.SECONDS);
+        assertThat(response, not(instanceOf(FullHttpResponse.class)));
+        assertThat(response.status(), equalTo(HttpResponseStatus.OK));
+        assertThat(HttpUtil.isTransferEncodingChunked(response), is(true));
+
+        assertThat(readChunk(), equalTo("hello "));
+        assertThat(readChunk(), equalTo("world"));
+        assertThat(responses.poll(5, TimeUnit.SECONDS), instanceOf(LastHttpContent.class));
+    }
+
+    private String readChunk() throws InterruptedException {
+        var chunk = (HttpContent) responses.poll(5, TimeUnit.SECONDS);
+        try {
+            return chunk.content().toString(StandardCharsets.UTF_8);
+        } finally {
+            chunk.release();
+        }
+    }
+
+    private static DefaultHttpRequest request(HttpMethod method, String operation) {
+        return new DefaultHttpRequest(HttpVersion.HTTP_1_1, method, "/" + operation);
+    }
+
+    private static ByteBuf content(String value) {
+        return Unpooled.copiedBuffer(value, StandardCharsets.UTF_8);
+    }
+
+    // Publishes each chunk as it's requested.
+    private static Flow.Publisher<ByteBuffer> publisherOf(String... chunks) {
+        return subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            private int next;
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                for (long i = 0; i < n && next < chunks.length; i++) {
+                    subscriber.onNext(ByteBuffer.wrap(chunks[next++].getBytes(StandardCharsets.UTF_8)));
+                }
+                if (next == chunks.length && !done) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+    }
+
+    public static final class TestProtocolProvider implements ServerProtocolProvider {
+        @Override
+        public ServerProtocol provideProtocolHandler(List<Service> candidateServices) {
+            return new TestProtocol(candidateServices);
+        }
+
+        @Override
+        public ShapeId getProtocolId() {
+            return TestProtocol.ID;
+        }
+
+        @Override
+        public int priority() {
+            return 0;
+        }
+    }
+
+    // Resolves operations by path, and only streams the input of STREAMING_INPUT.
+    private static final class TestProtocol extends ServerProtocol {
+        private static final ShapeId ID = ShapeId.from("smithy.java.server.netty#testProtocol");
+
+        private TestProtocol(List<Service> services) {
+            super(services);
+        }
+
+        @Override
+        public ShapeId getProtocolId() {
+            return ID;
+        }
+
+        @Override
+        public ServiceProtocolResolutionResult resolveOperation(
+                ServiceProtocolResolutionRequest request,
+                List<Service> candidates
+        ) {
+            var service = candidates.get(0);
+            var operation = service.getOperation(request.uri().getPath().substring(1));
+            return operation == null ? null : new ServiceProtocolResolutionResult(service, operation, this);
+        }
+
+        @Override
+        public boolean isStreamingInput(Operation<?, ?> operation) {
+            return operation.name().equals(STREAMING_INPUT);
+        }
+
+        @Override
+        public CompletableFuture<Void> deserializeInput(Job job) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        protected CompletableFuture<Void> serializeOutput(Job job, SerializableStruct output, boolean isError) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static final class TestService implements Service {
+        private final Map<String, Operation<? extends SerializableStruct, ? extends SerializableStruct>> operations =
+                new LinkedHashMap<>();
+
+        private TestService(String... names) {
+            for (var name : names) {
+                operations.put(name, Operation.of(name, (input, context) -> null, new TestApiOperation(), this));
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <I extends SerializableStruct,
+                O extends SerializableStruct> Operation<I, O> getOperation(String operationName) {
+            return (Operation<I, O>) operations.get(operationName);
+        }
+
+        @Override
+        public List<Operation<? extends SerializableStruct, ? extends SerializableStruct>> getAllOperations() {
+            return List.copyOf(operations.values());
+        }
+
+        @Override
+        public Schema schema() {
+            return null;
+        }
+
+        @Override
+        public TypeRegistry typeRegistry() {
+            return null;
+        }
+    }
+
+    private static final class TestApiOperation implements ApiOperation<SerializableStruct, SerializableStruct> {
+        @Override
+        public ShapeBuilder<SerializableStruct> inputBuilder() {
+            return null;
+        }
+
+        @Override
+        public ShapeBuilder<SerializableStruct> outputBuilder() {
+            return null;
+        }
+
+        @Override
+        public Schema schema() {
+            return null;
+        }
+
+        @Override
+        public Schema inputSchema() {
+            return null;
+        }
+
+        @Override
+        public Schema outputSchema() {
+            return null;
+        }
+
+        @Override
+        public TypeRegistry errorRegistry() {
+            return null;
+        }
+
+        @Override
+        public List<ShapeId> effectiveAuthSchemes() {
+            return List.of();
+        }
+
+        @Override
+        public ApiService service() {
+            return null;
+        }
+    }
+}
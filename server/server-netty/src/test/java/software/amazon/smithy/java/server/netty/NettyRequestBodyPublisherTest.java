@@ -0,0 +1,171 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NettyRequestBodyPublisherTest {
+
+    private EmbeddedChannel channel;
+    private NettyRequestBodyPublisher publisher;
+    private int reads;
+
+    @BeforeEach
+    public void setup() {
+        channel = new EmbeddedChannel();
+        channel.config().setAutoRead(false);
+        channel.pipeline().addLast(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void read(ChannelHandlerContext ctx) {
+                reads++;
+                ctx.read();
+            }
+        });
+        publisher = new NettyRequestBodyPublisher(channel);
+    }
+
+    @Test
+    public void deliversBufferedContentOnlyWhenRequested() {
+        var subscriber = new RecordingSubscriber();
+        publisher.onContent(content("a"));
+        publisher.onContent(content("b"));
+        publisher.subscribe(subscriber);
+
+        assertThat(subscriber.items, empty());
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items, contains("a"));
+        assertThat(reads, equalTo(0));
+
+        // Demand that can't be met by buffered content reads more of the body from the channel.
+        subscriber.subscription.request(2);
+        assertThat(subscriber.items, contains("a", "b"));
+        assertThat(reads, equalTo(1));
+
+        publisher.onContent(content("c"));
+        publisher.onComplete();
+        assertThat(subscriber.items, contains("a", "b", "c"));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void completesAfterBufferedContentIsDelivered() {
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        publisher.onContent(content("a"));
+        publisher.onComplete();
+
+        assertThat(subscriber.completed, is(false));
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items, contains("a"));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void propagatesErrors() {
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        var error = new ClosedChannelException();
+        publisher.onError(error);
+
+        assertThat(subscriber.error, sameInstance(error));
+
+        var late = content("a");
+        publisher.onContent(late);
+        assertThat(late.refCnt(), equalTo(0));
+        assertThat(subscriber.items, empty());
+    }
+
+    @Test
+    public void discardsTheRestOfTheBodyWhenCancelled() {
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.cancel();
+
+        assertThat(channel.config().isAutoRead(), is(true));
+
+        var late = content("a");
+        publisher.onContent(late);
+        subscriber.subscription.request(1);
+        assertThat(late.refCnt(), equalTo(0));
+        assertThat(subscriber.items, empty());
+        assertThat(subscriber.completed, is(false));
+    }
+
+    @Test
+    public void rejectsNonPositiveDemand() {
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+    }
+
+    @Test
+    public void canOnlyBeSubscribedToOnce() {
+        var first = new RecordingSubscriber();
+        var second = new RecordingSubscriber();
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+
+        assertThat(first.error, nullValue());
+        assertThat(second.error, instanceOf(IllegalStateException.class));
+    }
+
+    private static ByteBuf content(String value) {
+        return Unpooled.copiedBuffer(value, StandardCharsets.UTF_8);
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<ByteBuffer> {
+        private final List<String> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            items.add(StandardCharsets.UTF_8.decode(item).toString());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
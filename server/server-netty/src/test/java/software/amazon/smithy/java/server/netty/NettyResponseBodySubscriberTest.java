@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.LastHttpContent;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NettyResponseBodySubscriberTest {
+
+    private EmbeddedChannel channel;
+    private NettyResponseBodySubscriber subscriber;
+    private RecordingSubscription subscription;
+
+    @BeforeEach
+    public void setup() {
+        channel = new EmbeddedChannel();
+        subscriber = new NettyResponseBodySubscriber(channel);
+        subscription = new RecordingSubscription();
+    }
+
+    @Test
+    public void writesEachBufferAsAChunk() {
+        subscriber.onSubscribe(subscription);
+        assertThat(subscription.requested, equalTo(1L));
+
+        subscriber.onNext(buffer("a"));
+        HttpContent chunk = channel.readOutbound();
+        assertThat(chunk.content().toString(StandardCharsets.UTF_8), equalTo("a"));
+        assertThat(subscription.requested, equalTo(2L));
+        chunk.release();
+
+        subscriber.onComplete();
+        Object last = channel.readOutbound();
+        assertThat(last, sameInstance(LastHttpContent.EMPTY_LAST_CONTENT));
+        assertThat(subscriber.completion().isDone(), is(true));
+        assertThat(subscriber.completion().isCompletedExceptionally(), is(false));
+    }
+
+    @Test
+    public void onlyRequestsWhileTheChannelIsWritable() {
+        subscriber.onSubscribe(subscription);
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+
+        subscriber.onNext(buffer("a"));
+        assertThat(subscription.requested, equalTo(1L));
+
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, true);
+        subscriber.onWritabilityChanged();
+        assertThat(subscription.requested, equalTo(2L));
+
+        // Only one buffer is requested at a time.
+        subscriber.onWritabilityChanged();
+        assertThat(subscription.requested, equalTo(2L));
+    }
+
+    @Test
+    public void cancelsTheSubscriptionAndClosesTheChannelWhenAborted() {
+        subscriber.onSubscribe(subscription);
+        var cause = new ClosedChannelException();
+        subscriber.abort(cause);
+
+        assertThat(subscription.cancelled, is(true));
+        assertThat(channel.isOpen(), is(false));
+        var e = assertThrows(CompletionException.class, () -> subscriber.completion().join());
+        assertThat(e.getCause(), sameInstance(cause));
+
+        subscriber.onNext(buffer("a"));
+        Object written = channel.readOutbound();
+        assertThat(written, nullValue());
+    }
+
+    @Test
+    public void closesTheChannelWhenThePublisherFails() {
+        subscriber.onSubscribe(subscription);
+        var cause = new IOException("boom");
+        subscriber.onError(cause);
+
+        assertThat(subscription.cancelled, is(true));
+        assertThat(channel.isOpen(), is(false));
+        var e = assertThrows(CompletionException.class, () -> subscriber.completion().join());
+        assertThat(e.getCause(), sameInstance(cause));
+    }
+
+    @Test
+    public void cancelsSubscriptionsThatArriveAfterAborting() {
+        subscriber.abort(new ClosedChannelException());
+        subscriber.onSubscribe(subscription);
+
+        assertThat(subscription.cancelled, is(true));
+        assertThat(subscription.requested, equalTo(0L));
+    }
+
+    private static ByteBuffer buffer(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class RecordingSubscription implements Flow.Subscription {
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}